@@ -0,0 +1,87 @@
+package com.sobunsobun.backend.application;
+
+import com.sobunsobun.backend.domain.SchedulerLock;
+import com.sobunsobun.backend.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스케줄러 다중 인스턴스 실행 잠금 서비스
+ *
+ * scheduler_lock 테이블의 조건부 UPDATE로 작업 이름별 임대를 잡습니다.
+ * Redis 없이 DB만으로 동작하며, 임대 시간 안에 끝나지 않은 작업은 다른 인스턴스가 이어받을 수 있으므로
+ * 임대 시간은 작업 최대 소요 시간보다 넉넉하게 지정해야 합니다.
+ *
+ * 사용:
+ * if (!schedulerLockService.tryLock(NAME, LEASE)) return;
+ * try { ... } finally { schedulerLockService.unlock(NAME); }
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    /** 인스턴스 식별자 (호스트명 + 기동별 난수) */
+    private final String instanceId;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.instanceId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 잠금 획득 시도
+     *
+     * @param name 작업 이름
+     * @param lease 임대 시간
+     * @return 획득하면 true, 다른 인스턴스가 실행 중이면 false
+     */
+    public boolean tryLock(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!schedulerLockRepository.existsById(name)) {
+            try {
+                schedulerLockRepository.saveAndFlush(SchedulerLock.builder()
+                        .name(name)
+                        .lockedUntil(now)
+                        .lockedBy(instanceId)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 먼저 행을 만든 경우 → 아래 조건부 UPDATE로 경쟁
+                log.debug(" [스케줄러 잠금] 잠금 행 동시 생성 - name: {}", name);
+            }
+        }
+
+        boolean acquired = schedulerLockRepository.acquire(name, instanceId, now, now.plus(lease)) == 1;
+        if (!acquired) {
+            log.debug(" [스케줄러 잠금] 다른 인스턴스가 실행 중 - name: {}", name);
+        }
+        return acquired;
+    }
+
+    /**
+     * 잠금 해제
+     */
+    public void unlock(String name) {
+        try {
+            schedulerLockRepository.release(name, instanceId, LocalDateTime.now());
+        } catch (Exception e) {
+            // 해제에 실패해도 임대 시간이 지나면 자동으로 풀림
+            log.warn(" [스케줄러 잠금] 해제 실패 - name: {}, error: {}", name, e.getMessage());
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
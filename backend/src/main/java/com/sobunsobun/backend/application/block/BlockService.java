@@ -3,6 +3,7 @@ package com.sobunsobun.backend.application.block;
 import com.sobunsobun.backend.domain.BlockedUser;
 import com.sobunsobun.backend.domain.User;
 import com.sobunsobun.backend.dto.block.BlockedUserResponse;
+import com.sobunsobun.backend.infrastructure.redis.BlockedUserCache;
 import com.sobunsobun.backend.repository.BlockedUserRepository;
 import com.sobunsobun.backend.repository.user.UserRepository;
 import com.sobunsobun.backend.support.exception.BlockException;
@@ -22,6 +23,7 @@ public class BlockService {
 
     private final BlockedUserRepository blockedUserRepository;
     private final UserRepository userRepository;
+    private final BlockedUserCache blockedUserCache;  // 피드 필터링용 차단 목록 캐시
 
     /**
      * 사용자 차단
@@ -45,6 +47,7 @@ public class BlockService {
             .orElseThrow(UserException::notFound);
 
         blockedUserRepository.save(BlockedUser.of(blocker, blocked));
+        blockedUserCache.invalidate(blockerId);
         log.info("사용자 차단 완료: blockerId={}, blockedId={}", blockerId, blockedId);
     }
 
@@ -60,6 +63,7 @@ public class BlockService {
         }
 
         blockedUserRepository.deleteByBlockerIdAndBlockedId(blockerId, blockedId);
+        blockedUserCache.invalidate(blockerId);
         log.info("차단 취소 완료: blockerId={}, blockedId={}", blockerId, blockedId);
     }
 
@@ -3,6 +3,7 @@ package com.sobunsobun.backend.application.chat;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sobunsobun.backend.application.notification.NotificationService;
+import com.sobunsobun.backend.application.user.UserStatsChangedEvent;
 import com.sobunsobun.backend.domain.User;
 import com.sobunsobun.backend.domain.chat.ChatInvite;
 import com.sobunsobun.backend.domain.chat.ChatMember;
@@ -14,6 +15,7 @@ import com.sobunsobun.backend.dto.chat.ChatInviteCancelResponse;
 import com.sobunsobun.backend.dto.chat.ChatInviteRequest;
 import com.sobunsobun.backend.dto.chat.ChatInviteResponse;
 import com.sobunsobun.backend.dto.chat.InviteCardPayload;
+import com.sobunsobun.backend.infrastructure.redis.ChatMembershipCache;
 import com.sobunsobun.backend.repository.GroupPostRepository;
 import com.sobunsobun.backend.repository.chat.ChatInviteRepository;
 import com.sobunsobun.backend.repository.chat.ChatMemberRepository;
@@ -24,6 +26,7 @@ import com.sobunsobun.backend.support.exception.ErrorCode;
 import com.sobunsobun.backend.support.exception.UserException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,6 +43,7 @@ public class ChatInviteService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMemberRepository chatMemberRepository;
+    private final ChatMembershipCache chatMembershipCache;
     private final ChatInviteRepository chatInviteRepository;
     private final ChatMessageService chatMessageService;
     private final UserRepository userRepository;
@@ -47,6 +51,7 @@ public class ChatInviteService {
     private final SimpMessagingTemplate messagingTemplate;
     private final NotificationService notificationService;
     private final GroupPostRepository groupPostRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 그룹 채팅방 초대 발송
@@ -64,7 +69,7 @@ public class ChatInviteService {
                 .orElseThrow(() -> new ChatException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
         // 2. 요청자가 ACTIVE 멤버인지 확인
-        if (!chatMemberRepository.isActiveMember(roomId, inviterId)) {
+        if (!chatMembershipCache.isActiveMember(roomId, inviterId)) {
             throw new ChatException(ErrorCode.CHAT_MEMBER_NOT_FOUND);
         }
 
@@ -82,7 +87,7 @@ public class ChatInviteService {
         // 5. invitee가 이미 그룹 채팅방 멤버인지 확인 (1:1방이 아닌 GROUP방 기준)
         if (groupPostId != null) {
             boolean alreadyInGroupRoom = chatRoomRepository.findByGroupPostId(groupPostId)
-                    .map(groupRoom -> chatMemberRepository.isActiveMember(groupRoom.getId(), inviteeId))
+                    .map(groupRoom -> chatMembershipCache.isActiveMember(groupRoom.getId(), inviteeId))
                     .orElse(false);
             if (alreadyInGroupRoom) {
                 throw new ChatException(ErrorCode.CHAT_ALREADY_MEMBER);
@@ -186,6 +191,7 @@ public class ChatInviteService {
                                 .build();
                         ChatRoom saved = chatRoomRepository.saveAndFlush(newGroupRoom);
                         chatMemberRepository.saveAndFlush(saved.addMember(inviterUser));
+                        chatMembershipCache.invalidate(saved.getId());
                         return saved;
                     });
 
@@ -193,15 +199,20 @@ public class ChatInviteService {
             ChatRoom groupRoomWithMembers = chatRoomRepository.findByIdWithMembers(groupRoomId)
                     .orElseThrow(() -> new ChatException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
+            // 멤버 변경이 일어나는 트랜잭션이므로 멤버십 캐시 대신 DB로 직접 확인
             // inviter가 그룹방 멤버가 아니면 추가
             Long inviterId = invite.getInviter().getId();
             if (!chatMemberRepository.isActiveMember(groupRoomId, inviterId)) {
                 chatMemberRepository.saveAndFlush(groupRoomWithMembers.addMember(invite.getInviter()));
+                chatMembershipCache.invalidate(groupRoomId);
+                eventPublisher.publishEvent(UserStatsChangedEvent.of(inviterId));
             }
 
             // invitee(수락자)를 그룹방 멤버로 추가
             if (!chatMemberRepository.isActiveMember(groupRoomId, requesterId)) {
                 chatMemberRepository.saveAndFlush(groupRoomWithMembers.addMember(invitee));
+                chatMembershipCache.invalidate(groupRoomId);
+                eventPublisher.publishEvent(UserStatsChangedEvent.of(invitee.getId()));
                 chatMessageService.publishSystemMessage(
                         groupRoomId,
                         invitee,
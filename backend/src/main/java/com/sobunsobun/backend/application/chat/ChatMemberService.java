@@ -1,6 +1,7 @@
 package com.sobunsobun.backend.application.chat;
 
 import com.sobunsobun.backend.application.notification.NotificationService;
+import com.sobunsobun.backend.application.user.UserStatsChangedEvent;
 import com.sobunsobun.backend.domain.GroupPost;
 import com.sobunsobun.backend.domain.SavedPost;
 import com.sobunsobun.backend.domain.SettlementStatus;
@@ -10,6 +11,7 @@ import com.sobunsobun.backend.domain.chat.ChatMessage;
 import com.sobunsobun.backend.domain.chat.ChatMessageType;
 import com.sobunsobun.backend.domain.chat.ChatRoom;
 import com.sobunsobun.backend.dto.chat.KickMemberResponse;
+import com.sobunsobun.backend.infrastructure.redis.ChatMembershipCache;
 import com.sobunsobun.backend.repository.GroupPostRepository;
 import com.sobunsobun.backend.repository.SavedPostRepository;
 import com.sobunsobun.backend.repository.SettlementRepository;
@@ -20,6 +22,7 @@ import com.sobunsobun.backend.support.exception.ChatException;
 import com.sobunsobun.backend.support.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,11 +37,13 @@ public class ChatMemberService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMemberRepository chatMemberRepository;
+    private final ChatMembershipCache chatMembershipCache;
     private final ChatMessageRepository chatMessageRepository;
     private final GroupPostRepository groupPostRepository;
     private final SavedPostRepository savedPostRepository;
     private final NotificationService notificationService;
     private final SettlementRepository settlementRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 방장이 특정 멤버를 강퇴시킵니다.
@@ -85,6 +90,8 @@ public class ChatMemberService {
 
         // 6. chat_member.status를 REVOKED로 변경 (JPA dirty checking으로 자동 저장)
         targetMember.setStatus(ChatMemberStatus.REVOKED);
+        chatMembershipCache.invalidate(roomId);
+        eventPublisher.publishEvent(UserStatsChangedEvent.of(targetUserId));
         String targetNickname = targetMember.getUser().getNickname();
         log.info("[ChatMember] 강퇴 처리 - roomId: {}, targetUserId: {}, nickname: {}",
                 roomId, targetUserId, targetNickname);
@@ -0,0 +1,94 @@
+package com.sobunsobun.backend.application.chat;
+
+import com.sobunsobun.backend.application.SchedulerLockService;
+import com.sobunsobun.backend.repository.chat.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅 메시지 아카이브 스케줄러
+ *
+ * chat.archive.retention-days(기본 180일)가 지난 메시지를 채팅방별 압축 세그먼트로 옮깁니다.
+ * - 매일 새벽 4시 30분에 실행 (탈퇴 사용자 정리 스케줄러 이후)
+ * - 세그먼트 단위로 트랜잭션을 나누어 긴 락을 잡지 않음
+ * - 처리량(메시지/초)과 압축률을 로그로 남김
+ * - scheduler_lock 임대로 여러 인스턴스 중 하나만 실행 (같은 메시지가 중복 세그먼트로 저장되지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchiveScheduler {
+
+    static final String LOCK_NAME = "chat-message-archive";
+    private static final Duration LOCK_LEASE = Duration.ofHours(2);
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveService chatMessageArchiveService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Value("${chat.archive.retention-days:180}")
+    private int retentionDays;
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void archiveOldMessages() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+        try {
+            archive();
+        } catch (Exception e) {
+            log.error(" 채팅 메시지 아카이브 실패 - 오류: {}", e.getMessage(), e);
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+
+    private void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        log.info(" 채팅 메시지 아카이브 시작 - cutoff: {}", cutoff);
+
+        long start = System.currentTimeMillis();
+        List<Long> roomIds = chatMessageRepository.findRoomIdsWithMessagesBefore(cutoff);
+        if (roomIds.isEmpty()) {
+            log.info(" 아카이브 대상 메시지 없음");
+            return;
+        }
+
+        long messageCount = 0;
+        long rawBytes = 0;
+        long compressedBytes = 0;
+        int segmentCount = 0;
+        int failCount = 0;
+
+        for (Long roomId : roomIds) {
+            try {
+                ChatMessageArchiveService.SegmentResult result;
+                do {
+                    result = chatMessageArchiveService.archiveNextSegment(roomId, cutoff);
+                    if (result.messageCount() > 0) {
+                        segmentCount++;
+                        messageCount += result.messageCount();
+                        rawBytes += result.rawSize();
+                        compressedBytes += result.compressedSize();
+                    }
+                } while (result.messageCount() == ChatMessageArchiveService.SEGMENT_SIZE);
+            } catch (Exception e) {
+                failCount++;
+                log.error(" 채팅 메시지 아카이브 실패 - roomId: {}, 오류: {}", roomId, e.getMessage(), e);
+            }
+        }
+
+        long elapsedMs = Math.max(1, System.currentTimeMillis() - start);
+        log.info(" 채팅 메시지 아카이브 완료 - rooms: {}, 실패: {}, segments: {}, messages: {}, {}ms ({} msg/s), 압축: {}B → {}B ({}%)",
+                roomIds.size(), failCount, segmentCount, messageCount, elapsedMs,
+                messageCount * 1000 / elapsedMs,
+                rawBytes, compressedBytes, rawBytes == 0 ? 0 : compressedBytes * 100 / rawBytes);
+    }
+}
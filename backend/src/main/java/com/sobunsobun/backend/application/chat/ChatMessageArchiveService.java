@@ -0,0 +1,269 @@
+package com.sobunsobun.backend.application.chat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sobunsobun.backend.domain.chat.ChatMessage;
+import com.sobunsobun.backend.domain.chat.ChatMessageArchive;
+import com.sobunsobun.backend.domain.chat.ChatMessageType;
+import com.sobunsobun.backend.repository.chat.ChatMessageArchiveRepository;
+import com.sobunsobun.backend.repository.chat.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채팅 메시지 아카이브 서비스
+ *
+ * 보관 기간이 지난 chat_message 행을 채팅방별로 SEGMENT_SIZE개씩 묶어
+ * gzip 압축 JSON 세그먼트(chat_message_archive)로 옮기고, 과거 메시지 조회 시 세그먼트를 풀어 제공합니다.
+ * 아카이브는 채팅방의 가장 오래된 메시지부터 진행하므로
+ * 세그먼트의 메시지는 항상 hot 테이블에 남은 메시지보다 과거입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageArchiveService {
+
+    static final int SEGMENT_SIZE = 1000;
+    private static final int SEGMENT_FETCH_SIZE = 2;
+    private static final int PURGE_ID_PAGE_SIZE = 500;
+
+    private static final ObjectMapper SEGMENT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final TypeReference<List<ArchivedMessage>> SEGMENT_TYPE = new TypeReference<>() {};
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+    /**
+     * 세그먼트에 저장되는 메시지 (ChatMessage 컬럼과 1:1)
+     */
+    public record ArchivedMessage(
+            UUID id,
+            Long senderId,
+            ChatMessageType type,
+            String content,
+            String imageUrl,
+            String cardPayload,
+            Integer readCount,
+            LocalDateTime createdAt
+    ) {
+    }
+
+    /**
+     * 세그먼트 1개 아카이브 결과 (처리량 측정용)
+     */
+    public record SegmentResult(int messageCount, int rawSize, int compressedSize) {
+        static final SegmentResult EMPTY = new SegmentResult(0, 0, 0);
+    }
+
+    /**
+     * 채팅방의 cutoff 이전 메시지 중 가장 오래된 SEGMENT_SIZE개를 세그먼트로 옮깁니다.
+     *
+     * 세그먼트 저장과 hot 테이블 삭제를 한 트랜잭션으로 처리하므로 중간 실패 시 메시지가 유실되거나 중복되지 않습니다.
+     *
+     * @return 옮긴 메시지 수와 압축 전/후 크기 (더 옮길 메시지가 없으면 messageCount=0)
+     */
+    @Transactional
+    public SegmentResult archiveNextSegment(Long roomId, LocalDateTime cutoff) {
+        List<ChatMessage> messages = chatMessageRepository.findOldestMessagesBefore(
+                roomId, cutoff, PageRequest.of(0, SEGMENT_SIZE));
+        if (messages.isEmpty()) {
+            return SegmentResult.EMPTY;
+        }
+
+        List<ArchivedMessage> archived = messages.stream()
+                .map(m -> new ArchivedMessage(
+                        m.getId(),
+                        m.getSender() != null ? m.getSender().getId() : null,
+                        m.getType(),
+                        m.getContent(),
+                        m.getImageUrl(),
+                        m.getCardPayload(),
+                        m.getReadCount(),
+                        m.getCreatedAt()))
+                .toList();
+
+        byte[] raw = serialize(archived);
+        byte[] compressed = gzip(raw);
+
+        chatMessageArchiveRepository.save(ChatMessageArchive.builder()
+                .chatRoomId(roomId)
+                .firstCreatedAt(archived.get(0).createdAt())
+                .lastCreatedAt(archived.get(archived.size() - 1).createdAt())
+                .messageCount(archived.size())
+                .rawSize(raw.length)
+                .payload(compressed)
+                .build());
+
+        chatMessageRepository.deleteAllByIdInBatch(archived.stream().map(ArchivedMessage::id).toList());
+
+        log.debug(" [아카이브] 세그먼트 저장 - roomId: {}, messages: {}, {}B → {}B",
+                roomId, archived.size(), raw.length, compressed.length);
+        return new SegmentResult(archived.size(), raw.length, compressed.length);
+    }
+
+    /**
+     * cursor 이전의 아카이브 메시지를 최신순으로 최대 size개 조회
+     *
+     * @param roomId 채팅방 ID
+     * @param cursor 이 시각 이전 메시지만 조회 (null이면 가장 최근 아카이브부터)
+     * @param size 최대 개수
+     * @return 아카이브 메시지 (내림차순)
+     */
+    @Transactional(readOnly = true)
+    public List<ArchivedMessage> findMessagesBefore(Long roomId, LocalDateTime cursor, int size) {
+        long start = System.nanoTime();
+        List<ArchivedMessage> result = new ArrayList<>(size);
+        int page = 0;
+        int decodedSegments = 0;
+
+        while (result.size() < size) {
+            List<ChatMessageArchive> segments = chatMessageArchiveRepository.findSegmentsBefore(
+                    roomId, cursor, PageRequest.of(page++, SEGMENT_FETCH_SIZE));
+            if (segments.isEmpty()) {
+                break;
+            }
+
+            for (ChatMessageArchive segment : segments) {
+                decodedSegments++;
+                List<ArchivedMessage> messages = new ArrayList<>(deserialize(gunzip(segment.getPayload())));
+                messages.sort(Comparator.comparing(ArchivedMessage::createdAt).reversed());
+                for (ArchivedMessage message : messages) {
+                    if (cursor != null && !message.createdAt().isBefore(cursor)) {
+                        continue;
+                    }
+                    result.add(message);
+                    if (result.size() >= size) {
+                        break;
+                    }
+                }
+                if (result.size() >= size) {
+                    break;
+                }
+            }
+        }
+
+        if (decodedSegments > 0) {
+            log.info(" [아카이브 조회] roomId: {}, segments: {}, messages: {}, {}ms",
+                    roomId, decodedSegments, result.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+        return result;
+    }
+
+    /**
+     * 회원탈퇴 시 아카이브된 메시지에서 해당 사용자가 보낸 메시지 제거
+     *
+     * hot 테이블의 deleteBySenderId와 짝을 이루며, 사용자가 속했던 채팅방의 세그먼트만 다시 씁니다.
+     * 탈퇴 트랜잭션 안에서 실행되므로 세그먼트를 엔티티로 한꺼번에 올리지 않고,
+     * 채팅방별로 ID를 PURGE_ID_PAGE_SIZE개씩 넘기며 payload를 하나씩 읽고 UPDATE / DELETE 쿼리로 바로 씁니다.
+     * 한 번에 메모리에 있는 세그먼트는 1개입니다.
+     *
+     * @param senderId 탈퇴 사용자 ID
+     * @param roomIds 사용자가 속했던 채팅방 ID 목록
+     */
+    @Transactional
+    public void purgeSender(Long senderId, List<Long> roomIds) {
+        int removed = 0;
+        int scanned = 0;
+        for (Long roomId : roomIds) {
+            long afterId = 0L;
+            List<Long> segmentIds;
+            do {
+                segmentIds = chatMessageArchiveRepository.findSegmentIdsAfter(
+                        roomId, afterId, PageRequest.of(0, PURGE_ID_PAGE_SIZE));
+                for (Long segmentId : segmentIds) {
+                    scanned++;
+                    removed += purgeSegment(segmentId, senderId);
+                }
+                if (!segmentIds.isEmpty()) {
+                    afterId = segmentIds.get(segmentIds.size() - 1);
+                }
+            } while (segmentIds.size() == PURGE_ID_PAGE_SIZE);
+        }
+
+        if (removed > 0) {
+            log.info(" [아카이브] 탈퇴 사용자 메시지 제거 - senderId: {}, segments: {}, removed: {}",
+                    senderId, scanned, removed);
+        }
+    }
+
+    /**
+     * 세그먼트 1개에서 해당 사용자 메시지 제거 (남은 메시지가 없으면 세그먼트 삭제)
+     *
+     * @return 제거한 메시지 수
+     */
+    private int purgeSegment(Long segmentId, Long senderId) {
+        List<ArchivedMessage> messages = deserialize(gunzip(chatMessageArchiveRepository.findPayloadById(segmentId)));
+        List<ArchivedMessage> remaining = messages.stream()
+                .filter(m -> !Objects.equals(m.senderId(), senderId))
+                .toList();
+        if (remaining.size() == messages.size()) {
+            return 0;
+        }
+
+        if (remaining.isEmpty()) {
+            chatMessageArchiveRepository.deleteAllByIdInBatch(List.of(segmentId));
+        } else {
+            byte[] raw = serialize(remaining);
+            chatMessageArchiveRepository.rewriteSegment(segmentId, gzip(raw), raw.length, remaining.size(),
+                    remaining.get(0).createdAt(), remaining.get(remaining.size() - 1).createdAt(),
+                    LocalDateTime.now());
+        }
+        return messages.size() - remaining.size();
+    }
+
+    // ── 직렬화 / 압축 ──
+
+    private byte[] serialize(List<ArchivedMessage> messages) {
+        try {
+            return SEGMENT_MAPPER.writeValueAsBytes(messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트 직렬화 실패", e);
+        }
+    }
+
+    private List<ArchivedMessage> deserialize(byte[] raw) {
+        try {
+            return SEGMENT_MAPPER.readValue(raw, SEGMENT_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트 역직렬화 실패", e);
+        }
+    }
+
+    private byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] gunzip(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트 압축 해제 실패", e);
+        }
+    }
+}
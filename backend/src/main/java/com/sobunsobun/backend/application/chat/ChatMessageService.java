@@ -5,8 +5,13 @@ import com.sobunsobun.backend.domain.User;
 import com.sobunsobun.backend.domain.chat.*;
 import com.sobunsobun.backend.dto.chat.ChatListUpdateNotification;
 import com.sobunsobun.backend.dto.chat.ChatMessageDto;
+import com.sobunsobun.backend.dto.chat.ChatMessageSearchResponse;
+import com.sobunsobun.backend.dto.chat.ChatSyncRequest;
+import com.sobunsobun.backend.dto.chat.ChatSyncResponse;
 import com.sobunsobun.backend.dto.chat.LastMessageDto;
 import com.sobunsobun.backend.dto.chat.MessageResponse;
+import com.sobunsobun.backend.dto.chat.PageResponse;
+import com.sobunsobun.backend.infrastructure.redis.ChatMembershipCache;
 import com.sobunsobun.backend.infrastructure.redis.ChatRedisService;
 import com.sobunsobun.backend.infrastructure.redis.RedisPublisher;
 import com.sobunsobun.backend.repository.chat.ChatMessageRepository;
@@ -17,13 +22,29 @@ import com.sobunsobun.backend.support.exception.ChatException;
 import com.sobunsobun.backend.support.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -37,9 +58,24 @@ public class ChatMessageService {
     private final UserRepository userRepository;
     private final RedisPublisher redisPublisher;  // Redis Pub/Sub을 위한 Publisher
     private final ChatRedisService chatRedisService;  // Redis 상태 관리 서비스
+    private final ChatMembershipCache chatMembershipCache;  // 방별 ACTIVE 멤버 ID 캐시
+    private final ChatMessageArchiveService chatMessageArchiveService;  // 보관 기간이 지난 메시지 조회
     private final SimpMessagingTemplate messagingTemplate;  // WebSocket 채팅 목록 알림 발송
     private final NotificationService notificationService;
 
+    private static final int MAX_SEARCH_KEYWORD_LENGTH = 100;
+    private static final int MIN_SEARCH_TERM_LENGTH = 2;
+    private static final int MAX_SEARCH_TERMS = 5;
+
+    private static final int DEFAULT_SYNC_LIMIT_PER_ROOM = 50;
+    private static final int MAX_SYNC_LIMIT_PER_ROOM = 100;
+    private static final int MAX_SYNC_MESSAGES = 500;  // 동기화 요청 1회당 전체 메시지 상한
+    private static final UUID MIN_MESSAGE_ID = new UUID(0L, 0L);
+
+    /** ChatMessageDto.createdAt 형식 (KST, +09:00) */
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
+
     /**
      * 메시지 저장
      *
@@ -62,40 +98,27 @@ public class ChatMessageService {
                     roomId, senderId, type, content != null ? content.length() : 0);
 
             // 1. 채팅방 조회 및 권한 검증
+            // 멤버 그래프(members + user)는 로드하지 않고 채팅방 행만 조회
             log.debug(" [단계1] 채팅방 조회 중... roomId: {}", roomId);
-            ChatRoom chatRoom = chatRoomRepository.findByIdWithMembers(roomId)
+            ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                     .orElseThrow(() -> {
                         log.error(" [단계1 실패] 채팅방을 찾을 수 없음: roomId={}", roomId);
                         return new RuntimeException("Chat room not found: " + roomId);
                     });
             log.debug(" [단계1 성공] 채팅방 조회됨: roomId={}, roomName={}", chatRoom.getId(), chatRoom.getName());
 
-            int memberCount = chatRoom.getMembers() != null ? chatRoom.getMembers().size() : 0;
-            log.debug(" [단계1] 멤버 정보 로드됨: memberCount={}, members={}",
-                    memberCount,
-                    chatRoom.getMembers() != null ?
-                            chatRoom.getMembers().stream()
-                                    .map(m -> m.getUser().getId() + ":" + m.getStatus())
-                                    .toList() : "null");
-
-            // 권한 검증 (메모리 + DB 이중 확인)
-            boolean isMemberInMemory = chatRoom.isMember(senderId);
-            boolean isMemberInDb = chatMemberRepository.isActiveMember(roomId, senderId);
-
-            log.debug(" [권한 검증] userId={}, roomId={}", senderId, roomId);
-            log.debug("   메모리 확인: {}, DB 확인: {}", isMemberInMemory, isMemberInDb);
-
-            if (!isMemberInDb) {
-                log.error(" [권한 검증 실패] userId {}는 roomId {} 멤버가 아님 (DB 확인)", senderId, roomId);
-                // 디버깅 정보 출력
-                if (chatRoom.getMembers() != null) {
-                    log.error("   현재 멤버 목록: {}", chatRoom.getMembers().stream()
-                            .map(m -> "u" + m.getUser().getId() + "(" + m.getStatus() + ")")
-                            .toList());
-                }
+            // 권한 검증: 멤버십 캐시에서 ACTIVE 멤버 ID 집합을 한 번만 조회하여
+            // 권한 검증 / 안 읽은 카운트 / 채팅 목록 업데이트 / FCM 발송에 재사용
+            Set<Long> activeMemberIds = chatMembershipCache.getActiveMemberIds(roomId);
+            log.debug(" [권한 검증] userId={}, roomId={}, activeMemberCount={}",
+                    senderId, roomId, activeMemberIds.size());
+
+            if (!activeMemberIds.contains(senderId)) {
+                log.error(" [권한 검증 실패] userId {}는 roomId {} 멤버가 아님, 현재 ACTIVE 멤버: {}",
+                        senderId, roomId, activeMemberIds);
                 throw new RuntimeException("채팅방에 초대되지 않은 사용자입니다");
             }
-            log.debug(" [권한 검증 성공] userId {}는 roomId {} 멤버임 (DB 확인)", senderId, roomId);
+            log.debug(" [권한 검증 성공] userId {}는 roomId {} 멤버임", senderId, roomId);
 
             // 2. 사용자 조회
             log.debug(" [단계2] 사용자 조회 중... senderId: {}", senderId);
@@ -124,48 +147,15 @@ public class ChatMessageService {
             log.info(" [단계3 성공] 메시지 DB 저장 완료: messageId={}, createdAt={}",
                     savedMessage.getId(), savedMessage.getCreatedAt());
 
-            // 4. 채팅방 메타데이터 업데이트
+            // 4. 채팅방 메타데이터 업데이트 (단일 UPDATE, message_count +1)
             log.debug(" [단계4] 채팅방 메타데이터 업데이트 중...");
-            chatRoom.setLastMessageAt(savedMessage.getCreatedAt());
-            chatRoom.setLastMessagePreview(truncateContent(content));
-            chatRoom.setLastMessageSenderId(senderId);
-
-            log.debug(" [단계4] 채팅방 정보 DB에 저장 중...");
-            chatRoomRepository.save(chatRoom);
-            log.info(" [단계4 성공] 채팅방 메타데이터 업데이트 완료: lastMessageAt={}", chatRoom.getLastMessageAt());
+            chatRoomRepository.updateLastMessage(roomId, savedMessage.getCreatedAt(), truncateContent(content), senderId);
+            log.info(" [단계4 성공] 채팅방 메타데이터 업데이트 완료: lastMessageAt={}", savedMessage.getCreatedAt());
 
             // 5. Redis Pub/Sub을 통해 메시지 발행
             log.debug(" [단계5] Redis 메시지 발행 중...");
             try {
-                // createdAt을 ISO 8601 형식으로 변환 (KST, +09:00)
-                String createdAtIso = savedMessage.getCreatedAt()
-                        .atZone(java.time.ZoneId.of("Asia/Seoul"))
-                        .format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX"));
-
-                ChatMessageDto chatMessageDto = ChatMessageDto.builder()
-                        .type(savedMessage.getType())
-                        .roomId(roomId)
-                        .senderId(senderId)
-                        .senderName(sender.getNickname())
-                        .message(savedMessage.getContent())
-                        .imageUrl(savedMessage.getImageUrl())
-                        .cardPayload(savedMessage.getCardPayload())
-                        .messageId(savedMessage.getId())
-                        .timestamp(System.currentTimeMillis())
-                        // REST API 커서 조회 응답과 동일한 필드 추가
-                        .id(savedMessage.getId().toString())
-                        .nickname(sender.getNickname())
-                        .profileImage(sender.getProfileImageUrl())
-                        .senderProfileImageUrl(sender.getProfileImageUrl())
-                        .userId(senderId)
-                        .content(savedMessage.getContent())
-                        .createdAt(createdAtIso)
-                        .readByMe(false)
-                        .readCount(0)
-                        .settlementId(extractSettlementId(savedMessage))
-                        .inviteId(extractInviteId(savedMessage))
-                        .groupChatRoomId(chatRoom.getId().intValue())
-                        .build();
+                ChatMessageDto chatMessageDto = toChatMessageDto(savedMessage, false);
 
                 redisPublisher.publish(roomId, chatMessageDto);
                 log.info(" [단계5 성공] Redis 메시지 발행 완료: messageId={}", savedMessage.getId());
@@ -177,14 +167,8 @@ public class ChatMessageService {
             // 6. 안 읽은 메시지 카운트 증가 (Redis 사용)
             log.debug(" [단계6] 안 읽은 메시지 카운트 업데이트 중...");
             try {
-                // 방의 모든 ACTIVE 멤버의 ID 조회
-                log.debug(" [단계6-1] 채팅방의 모든 멤버 ID 조회 중... roomId: {}", roomId);
-                List<Long> memberIds = chatMemberRepository.findActiveMemberIdsByRoomId(roomId);
-                log.debug(" [단계6-1] 멤버 조회 완료: memberCount={}", memberIds.size());
-
                 // ChatRedisService를 통해 접속하지 않은 멤버의 카운트 증가
-                log.debug(" [단계6-2] 접속하지 않은 멤버의 미읽음 카운트 증가 중...");
-                chatRedisService.addUnreadMessageCount(roomId, senderId, memberIds);
+                chatRedisService.addUnreadMessageCount(roomId, senderId, activeMemberIds);
                 log.info(" [단계6 성공] 안 읽은 메시지 카운트 업데이트 완료");
             } catch (Exception e) {
                 log.warn(" [단계6 경고] 안 읽은 메시지 카운트 업데이트 실패: {}", e.getMessage());
@@ -194,7 +178,7 @@ public class ChatMessageService {
             // 7. 채팅 목록 실시간 업데이트 발송 (/sub/users/{userId}/chat-rooms)
             log.debug(" [단계7] 채팅 목록 업데이트 WebSocket 발송 중...");
             try {
-                broadcastChatListUpdate(chatRoom, savedMessage);
+                broadcastChatListUpdate(chatRoom, savedMessage, activeMemberIds);
                 log.info(" [단계7 성공] 채팅 목록 업데이트 발송 완료");
             } catch (Exception e) {
                 log.warn(" [단계7 경고] 채팅 목록 업데이트 발송 실패 (메시지 저장은 완료됨): {}", e.getMessage());
@@ -203,7 +187,7 @@ public class ChatMessageService {
             // 8. FCM 푸시 알림 - 현재 방에 없는 멤버에게 발송
             if (type == ChatMessageType.TEXT || type == ChatMessageType.IMAGE) {
                 try {
-                    sendChatPushNotification(chatRoom, sender, content, roomId, type);
+                    sendChatPushNotification(chatRoom, sender, content, roomId, type, activeMemberIds);
                 } catch (Exception e) {
                     log.warn(" [FCM 발송 실패] 메시지 저장은 완료됨: {}", e.getMessage());
                 }
@@ -213,7 +197,7 @@ public class ChatMessageService {
             if (type == ChatMessageType.SETTLEMENT_CARD && chatRoom.getRoomType() == ChatRoomType.GROUP) {
                 log.debug(" [단계8] 참여자 1:1 채팅방에 정산서 전송 중...");
                 try {
-                    broadcastSettlementCardToPrivateRooms(chatRoom, senderId, cardPayload);
+                    broadcastSettlementCardToPrivateRooms(chatRoom, senderId, cardPayload, activeMemberIds);
                     log.info(" [단계8 성공] 참여자 1:1 정산서 전송 완료");
                 } catch (Exception e) {
                     log.warn(" [단계8 경고] 1:1 정산서 전송 실패 (그룹 메시지는 저장됨): {}", e.getMessage());
@@ -336,12 +320,16 @@ public class ChatMessageService {
      * 메시지의 cardPayload에서 settlementId를 추출
      */
     private Integer extractSettlementId(ChatMessage message) {
-        if (message.getCardPayload() == null || message.getCardPayload().isBlank()) {
+        return extractSettlementId(message.getCardPayload());
+    }
+
+    private Integer extractSettlementId(String cardPayload) {
+        if (cardPayload == null || cardPayload.isBlank()) {
             return null;
         }
         try {
             com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            com.fasterxml.jackson.databind.JsonNode node = mapper.readTree(message.getCardPayload());
+            com.fasterxml.jackson.databind.JsonNode node = mapper.readTree(cardPayload);
             if (node.has("settlementId") && !node.get("settlementId").isNull()) {
                 return node.get("settlementId").asInt();
             }
@@ -355,12 +343,16 @@ public class ChatMessageService {
      * 메시지의 cardPayload에서 inviteId를 추출
      */
     private Long extractInviteId(ChatMessage message) {
-        if (message.getCardPayload() == null || message.getCardPayload().isBlank()) {
+        return extractInviteId(message.getCardPayload());
+    }
+
+    private Long extractInviteId(String cardPayload) {
+        if (cardPayload == null || cardPayload.isBlank()) {
             return null;
         }
         try {
             com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            com.fasterxml.jackson.databind.JsonNode node = mapper.readTree(message.getCardPayload());
+            com.fasterxml.jackson.databind.JsonNode node = mapper.readTree(cardPayload);
             if (node.has("inviteId") && !node.get("inviteId").isNull()) {
                 return node.get("inviteId").asLong();
             }
@@ -402,7 +394,7 @@ public class ChatMessageService {
 
             // ① 요청한 사용자가 채팅방의 멤버인지 검증 (Authorization)
             log.debug(" [단계1] 사용자 권한 검증 중... roomId: {}, userId: {}", roomId, userId);
-            boolean isMember = chatMemberRepository.isActiveMember(roomId, userId);
+            boolean isMember = chatMembershipCache.isActiveMember(roomId, userId);
 
             if (!isMember) {
                 log.error(" [권한 검증 실패] userId {}는 roomId {} 멤버가 아님", userId, roomId);
@@ -464,6 +456,21 @@ public class ChatMessageService {
                     })
                     .toList();
 
+            // ③-1 hot 테이블에서 부족한 만큼 아카이브 세그먼트에서 이어서 조회
+            if (messages.size() < size) {
+                LocalDateTime archiveCursor = messages.isEmpty()
+                        ? cursor
+                        : messages.get(messages.size() - 1).getCreatedAt();
+                List<ChatMessageArchiveService.ArchivedMessage> archived =
+                        chatMessageArchiveService.findMessagesBefore(roomId, archiveCursor, size - messages.size());
+                if (!archived.isEmpty()) {
+                    List<MessageResponse> combined = new ArrayList<>(messageResponses);
+                    combined.addAll(toArchivedMessageResponses(roomId, userId, archived));
+                    messageResponses = combined;
+                    log.info(" [단계3-1] 아카이브 메시지 조회 완료: messageCount={}", archived.size());
+                }
+            }
+
             // ④ 클라이언트가 시간순으로 보기 쉽게 오름차순으로 정렬
             log.debug(" [단계4] 메시지를 시간순(오름차순)으로 정렬 중...");
             List<MessageResponse> sortedMessages = messageResponses.stream()
@@ -484,6 +491,337 @@ public class ChatMessageService {
         }
     }
 
+    /**
+     * 채팅방 메시지 전문 검색
+     *
+     * MySQL FULLTEXT(ngram) 인덱스로 TEXT 메시지를 검색합니다.
+     * 각 결과에는 해당 메시지 위치로 이동할 수 있는 jumpCursor가 포함되며,
+     * 커서 기반 메시지 조회 API에 그대로 넘기면 검색된 메시지부터 이전 대화를 불러옵니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 요청 사용자 ID
+     * @param keyword 검색어 (공백으로 구분된 모든 단어를 포함하는 메시지 검색)
+     * @param sortByTime true면 최신순, false면 관련도순
+     * @param page 페이지 번호 (0-indexed)
+     * @param size 페이지 크기
+     * @return 검색 결과 페이지
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ChatMessageSearchResponse> searchMessages(
+            Long roomId,
+            Long userId,
+            String keyword,
+            boolean sortByTime,
+            int page,
+            int size
+    ) {
+        if (!chatMembershipCache.isActiveMember(roomId, userId)) {
+            log.warn(" [메시지 검색 실패] userId {}는 roomId {} 멤버가 아님", userId, roomId);
+            throw new ChatException(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
+        }
+
+        String booleanQuery = toBooleanModeQuery(keyword);
+        long start = System.currentTimeMillis();
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ChatMessage> result = sortByTime
+                ? chatMessageRepository.searchByCreatedAt(roomId, booleanQuery, pageable)
+                : chatMessageRepository.searchByRelevance(roomId, booleanQuery, pageable);
+
+        // readByMe는 요청자의 lastReadAt 하나로 판단하므로 멤버를 한 번만 조회
+        LocalDateTime lastReadAt = chatMemberRepository.findMember(roomId, userId)
+                .map(ChatMember::getLastReadAt)
+                .orElse(null);
+
+        List<ChatMessageSearchResponse> content = result.getContent().stream()
+                .map(message -> ChatMessageSearchResponse.builder()
+                        .message(buildMessageResponse(message, userId,
+                                lastReadAt != null && !lastReadAt.isBefore(message.getCreatedAt())))
+                        .jumpCursor(toJumpCursor(message.getCreatedAt()))
+                        .build())
+                .toList();
+
+        log.info(" [메시지 검색 완료] roomId: {}, query: {}, sort: {}, hits: {}, total: {}, {}ms",
+                roomId, booleanQuery, sortByTime ? "time" : "relevance",
+                content.size(), result.getTotalElements(), System.currentTimeMillis() - start);
+
+        return PageResponse.<ChatMessageSearchResponse>builder()
+                .content(content)
+                .totalElements(result.getTotalElements())
+                .totalPages(result.getTotalPages())
+                .currentPage(result.getNumber())
+                .size(result.getSize())
+                .first(result.isFirst())
+                .last(result.isLast())
+                .build();
+    }
+
+    /**
+     * 사용자 검색어를 FULLTEXT BOOLEAN MODE 검색식으로 변환
+     *
+     * BOOLEAN MODE 연산자(+ - < > ( ) ~ * " @)를 제거하고
+     * ngram 토큰 크기(2)보다 짧은 단어는 인덱스에 걸리지 않으므로 버립니다.
+     * 남은 단어는 모두 포함해야 하는 구문(+"단어")으로 결합합니다.
+     */
+    private String toBooleanModeQuery(String keyword) {
+        if (keyword == null || keyword.isBlank() || keyword.length() > MAX_SEARCH_KEYWORD_LENGTH) {
+            throw new ChatException(ErrorCode.INVALID_SEARCH_QUERY);
+        }
+
+        String query = Arrays.stream(keyword.trim().split("\\s+"))
+                .map(term -> term.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(term -> term.length() >= MIN_SEARCH_TERM_LENGTH)
+                .limit(MAX_SEARCH_TERMS)
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+
+        if (query.isEmpty()) {
+            throw new ChatException(ErrorCode.INVALID_SEARCH_QUERY);
+        }
+        return query;
+    }
+
+    /**
+     * 검색된 메시지를 포함하도록 createdAt보다 1µs 뒤를 커서로 사용
+     * (커서 조회는 createdAt < cursor 조건)
+     */
+    private String toJumpCursor(LocalDateTime createdAt) {
+        return createdAt.plusNanos(1_000).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    /**
+     * 메시지 델타 동기화 (재연결 시)
+     *
+     * 채팅방별 워터마크 (lastCreatedAt, lastMessageId) 이후의 메시지만 ChatMessageDto 형식으로 반환합니다.
+     * 채팅방당 limitPerRoom, 요청 전체 MAX_SYNC_MESSAGES 개로 제한하며,
+     * 제한에 걸린 채팅방은 hasMore=true와 갱신된 워터마크를 돌려주어 이어서 요청하도록 합니다.
+     * 워터마크가 없는 채팅방은 최신 메시지 limitPerRoom 개를 반환합니다.
+     * ACTIVE 멤버가 아닌 채팅방은 응답에서 제외합니다.
+     *
+     * @param userId 요청 사용자 ID
+     * @param request 채팅방별 워터마크
+     * @return 채팅방별 신규 메시지와 갱신된 워터마크
+     */
+    @Transactional(readOnly = true)
+    public ChatSyncResponse syncMessages(Long userId, ChatSyncRequest request) {
+        long start = System.currentTimeMillis();
+        int limitPerRoom = request.getLimitPerRoom() == null
+                ? DEFAULT_SYNC_LIMIT_PER_ROOM
+                : Math.max(1, Math.min(request.getLimitPerRoom(), MAX_SYNC_LIMIT_PER_ROOM));
+
+        // 멤버십과 lastReadAt(readByMe 계산용)을 한 번의 조회로 가져옴
+        Map<Long, LocalDateTime> lastReadAtByRoomId = new HashMap<>();
+        for (ChatMember member : chatMemberRepository.findChatRoomsByUserId(userId)) {
+            lastReadAtByRoomId.put(member.getChatRoom().getId(), member.getLastReadAt());
+        }
+
+        int remaining = MAX_SYNC_MESSAGES;
+        int totalMessages = 0;
+        boolean anyHasMore = false;
+        List<ChatSyncResponse.RoomSync> roomSyncs = new ArrayList<>();
+
+        for (ChatSyncRequest.RoomWatermark watermark : request.getRooms()) {
+            Long roomId = watermark.getRoomId();
+            if (!lastReadAtByRoomId.containsKey(roomId)) {
+                log.warn(" [메시지 동기화] 멤버가 아닌 채팅방 제외 - roomId: {}, userId: {}", roomId, userId);
+                continue;
+            }
+
+            LocalDateTime watermarkCreatedAt = parseWatermarkCreatedAt(watermark.getLastCreatedAt());
+            int fetchSize = Math.min(limitPerRoom, remaining);
+            if (fetchSize == 0) {
+                // 요청 전체 한도 소진: 워터마크를 그대로 돌려주고 다음 요청에서 이어서 동기화
+                roomSyncs.add(ChatSyncResponse.RoomSync.builder()
+                        .roomId(roomId)
+                        .messages(List.of())
+                        .lastCreatedAt(watermark.getLastCreatedAt())
+                        .lastMessageId(watermark.getLastMessageId())
+                        .hasMore(true)
+                        .build());
+                anyHasMore = true;
+                continue;
+            }
+
+            List<ChatMessage> messages;
+            boolean hasMore;
+            if (watermarkCreatedAt == null) {
+                List<ChatMessage> latest = chatMessageRepository.findMessagesByRoomIdBeforeCursorOrderByCreatedAtDesc(
+                        roomId, null, PageRequest.of(0, fetchSize));
+                messages = new ArrayList<>(latest);
+                Collections.reverse(messages);
+                hasMore = false;
+            } else {
+                // 한 건 더 조회하여 남은 메시지 여부 판단
+                List<ChatMessage> fetched = chatMessageRepository.findMessagesAfterWatermark(
+                        roomId, watermarkCreatedAt, parseWatermarkMessageId(watermark.getLastMessageId()),
+                        PageRequest.of(0, fetchSize + 1));
+                hasMore = fetched.size() > fetchSize;
+                messages = hasMore ? fetched.subList(0, fetchSize) : fetched;
+            }
+
+            LocalDateTime lastReadAt = lastReadAtByRoomId.get(roomId);
+            List<ChatMessageDto> dtos = messages.stream()
+                    .map(message -> toChatMessageDto(message,
+                            lastReadAt != null && !lastReadAt.isBefore(message.getCreatedAt())))
+                    .toList();
+
+            String lastCreatedAt = watermark.getLastCreatedAt();
+            String lastMessageId = watermark.getLastMessageId();
+            if (!messages.isEmpty()) {
+                ChatMessage last = messages.get(messages.size() - 1);
+                lastCreatedAt = last.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                lastMessageId = last.getId().toString();
+            }
+
+            roomSyncs.add(ChatSyncResponse.RoomSync.builder()
+                    .roomId(roomId)
+                    .messages(dtos)
+                    .lastCreatedAt(lastCreatedAt)
+                    .lastMessageId(lastMessageId)
+                    .hasMore(hasMore)
+                    .build());
+
+            remaining -= messages.size();
+            totalMessages += messages.size();
+            anyHasMore |= hasMore;
+        }
+
+        log.info(" [메시지 동기화 완료] userId: {}, rooms: {}, messages: {}, hasMore: {}, {}ms",
+                userId, roomSyncs.size(), totalMessages, anyHasMore, System.currentTimeMillis() - start);
+
+        return ChatSyncResponse.builder()
+                .rooms(roomSyncs)
+                .hasMore(anyHasMore)
+                .build();
+    }
+
+    /**
+     * 워터마크 생성 시간 파싱
+     *
+     * 동기화 응답의 워터마크(ISO_LOCAL_DATE_TIME)와
+     * STOMP 메시지의 createdAt(KST 오프셋 포함) 형식을 모두 허용합니다.
+     */
+    private LocalDateTime parseWatermarkCreatedAt(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value)
+                    .atZoneSameInstant(KST)
+                    .toLocalDateTime();
+        } catch (DateTimeParseException ignored) {
+            // 오프셋 없는 형식
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ChatException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    /**
+     * 워터마크 메시지 ID 파싱 (없으면 같은 시각의 모든 메시지보다 앞서는 최솟값)
+     */
+    private UUID parseWatermarkMessageId(String value) {
+        if (value == null || value.isBlank()) {
+            return MIN_MESSAGE_ID;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new ChatException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    /**
+     * ChatMessage → ChatMessageDto (STOMP 브로드캐스트 / 델타 동기화 응답 공용)
+     */
+    private ChatMessageDto toChatMessageDto(ChatMessage message, boolean readByMe) {
+        String createdAtIso = message.getCreatedAt().atZone(KST).format(CREATED_AT_FORMAT);
+
+        Long senderId = null;
+        String senderName = "알 수 없음";
+        String profileImage = null;
+        if (message.getSender() != null) {
+            senderId = message.getSender().getId();
+            senderName = message.getSender().getNickname();
+            profileImage = message.getSender().getProfileImageUrl();
+        }
+
+        return ChatMessageDto.builder()
+                .type(message.getType())
+                .roomId(message.getChatRoom().getId())
+                .senderId(senderId)
+                .senderName(senderName)
+                .message(message.getContent())
+                .imageUrl(message.getImageUrl())
+                .cardPayload(message.getCardPayload())
+                .messageId(message.getId())
+                .timestamp(message.getCreatedAt().atZone(KST).toInstant().toEpochMilli())
+                .id(message.getId().toString())
+                .nickname(senderName)
+                .profileImage(profileImage)
+                .senderProfileImageUrl(profileImage)
+                .userId(senderId)
+                .content(message.getContent())
+                .createdAt(createdAtIso)
+                .readByMe(readByMe)
+                .readCount(message.getReadCount())
+                .settlementId(extractSettlementId(message))
+                .inviteId(extractInviteId(message))
+                .groupChatRoomId(message.getChatRoom().getId().intValue())
+                .build();
+    }
+
+    /**
+     * 아카이브 메시지 → MessageResponse (발신자는 한 번의 IN 조회로 로드)
+     *
+     * readByMe는 hot 메시지 조회와 같은 기준(본인 메시지이거나 readCount > 0)을 사용합니다.
+     */
+    private List<MessageResponse> toArchivedMessageResponses(
+            Long roomId,
+            Long userId,
+            List<ChatMessageArchiveService.ArchivedMessage> archived
+    ) {
+        Set<Long> senderIds = archived.stream()
+                .map(ChatMessageArchiveService.ArchivedMessage::senderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, User> senders = userRepository.findAllById(senderIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+
+        return archived.stream()
+                .map(message -> {
+                    User sender = message.senderId() != null ? senders.get(message.senderId()) : null;
+                    String senderName = sender != null ? sender.getNickname() : "알 수 없음";
+                    String profileImage = sender != null ? sender.getProfileImageUrl() : null;
+                    boolean readByMe = sender != null && (sender.getId().equals(userId)
+                            || (message.readCount() != null && message.readCount() > 0));
+
+                    return MessageResponse.builder()
+                            .id(message.id())
+                            .roomId(roomId)
+                            .senderId(message.senderId())
+                            .userId(message.senderId())
+                            .senderName(senderName)
+                            .nickname(senderName)
+                            .senderProfileImageUrl(profileImage)
+                            .profileImage(profileImage)
+                            .type(message.type().toString())
+                            .content(message.content())
+                            .imageUrl(message.imageUrl())
+                            .cardPayload(message.cardPayload())
+                            .readCount(message.readCount())
+                            .createdAt(message.createdAt())
+                            .readByMe(readByMe)
+                            .settlementId(extractSettlementId(message.cardPayload()))
+                            .inviteId(extractInviteId(message.cardPayload()))
+                            .groupChatRoomId(roomId.intValue())
+                            .build();
+                })
+                .toList();
+    }
+
     /**
      * 특정 메시지 읽음 처리 (PATCH /api/messages/{id}/read)
      *
@@ -511,7 +849,7 @@ public class ChatMessageService {
         Long roomId = message.getChatRoom().getId();
 
         // 2. 채팅방 멤버 확인
-        if (!chatMemberRepository.isActiveMember(roomId, userId)) {
+        if (!chatMembershipCache.isActiveMember(roomId, userId)) {
             log.error(" [읽음 처리 실패] 채팅방 접근 권한 없음 - roomId: {}, userId: {}", roomId, userId);
             throw new ChatException(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
@@ -606,7 +944,7 @@ public class ChatMessageService {
         try {
             log.info(" [시스템 메시지 발행] roomId: {}, userId: {}, type: {}", roomId, user.getId(), type);
 
-            ChatRoom chatRoom = chatRoomRepository.findByIdWithMembers(roomId)
+            ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                     .orElseThrow(() -> new RuntimeException("Chat room not found: " + roomId));
 
             // 메시지 저장
@@ -620,37 +958,12 @@ public class ChatMessageService {
 
             ChatMessage savedMessage = chatMessageRepository.save(message);
 
-            // 채팅방 메타데이터 업데이트
-            chatRoom.setLastMessageAt(savedMessage.getCreatedAt());
-            chatRoom.setLastMessagePreview(content);
-            chatRoom.setLastMessageSenderId(user.getId());
-            chatRoomRepository.save(chatRoom);
+            // 채팅방 메타데이터 업데이트 (단일 UPDATE, message_count +1)
+            chatRoomRepository.updateLastMessage(roomId, savedMessage.getCreatedAt(), content, user.getId());
 
             // Redis Pub/Sub 발행
             try {
-                String createdAtIso = savedMessage.getCreatedAt()
-                        .atZone(java.time.ZoneId.of("Asia/Seoul"))
-                        .format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX"));
-
-                ChatMessageDto dto = ChatMessageDto.builder()
-                        .type(type)
-                        .roomId(roomId)
-                        .senderId(user.getId())
-                        .senderName(user.getNickname())
-                        .nickname(user.getNickname())
-                        .profileImage(user.getProfileImageUrl())
-                        .senderProfileImageUrl(user.getProfileImageUrl())
-                        .userId(user.getId())
-                        .message(content)
-                        .content(content)
-                        .messageId(savedMessage.getId())
-                        .id(savedMessage.getId().toString())
-                        .createdAt(createdAtIso)
-                        .timestamp(System.currentTimeMillis())
-                        .readByMe(false)
-                        .readCount(0)
-                        .groupChatRoomId(roomId.intValue())
-                        .build();
+                ChatMessageDto dto = toChatMessageDto(savedMessage, false);
 
                 redisPublisher.publish(roomId, dto);
                 log.info(" [시스템 메시지 발행 완료] roomId: {}, type: {}, messageId: {}",
@@ -659,9 +972,10 @@ public class ChatMessageService {
                 log.warn(" [시스템 메시지 Redis 발행 실패] DB 저장은 완료됨: {}", e.getMessage());
             }
 
-            // 채팅 목록 실시간 업데이트 발송
+            // 채팅 목록 실시간 업데이트 발송 (입장/퇴장 반영 후의 ACTIVE 멤버 기준)
             try {
-                broadcastChatListUpdate(chatRoom, savedMessage);
+                List<Long> activeMemberIds = chatMemberRepository.findActiveMemberIdsByRoomId(roomId);
+                broadcastChatListUpdate(chatRoom, savedMessage, activeMemberIds);
             } catch (Exception e) {
                 log.warn(" [시스템 메시지 채팅 목록 업데이트 실패]: {}", e.getMessage());
             }
@@ -679,9 +993,9 @@ public class ChatMessageService {
      * GROUP 채팅방에 정산서 발송 시 호출.
      * 재귀 방지: 1:1 방(ONE_TO_ONE)에 저장할 때는 이 메서드가 호출되지 않음.
      */
-    private void broadcastSettlementCardToPrivateRooms(ChatRoom groupRoom, Long ownerId, String cardPayload) {
+    private void broadcastSettlementCardToPrivateRooms(ChatRoom groupRoom, Long ownerId, String cardPayload,
+                                                       Collection<Long> memberIds) {
         Long groupPostId = groupRoom.getGroupPost() != null ? groupRoom.getGroupPost().getId() : null;
-        List<Long> memberIds = chatMemberRepository.findActiveMemberIdsByRoomId(groupRoom.getId());
 
         for (Long memberId : memberIds) {
             if (memberId.equals(ownerId)) continue; // 방장 본인 제외
@@ -717,30 +1031,31 @@ public class ChatMessageService {
      * - GROUP: 방 이름 사용, profileImageUrl = null
      * - unreadCount: Redis Hash에서 조회 (Cache Miss 시 DB Write-through)
      * - lastMessageAt: ISO-8601 KST 문자열
+     *
+     * 멤버 그래프를 로드하지 않도록 ACTIVE 멤버 ID 목록을 받아 처리하며,
+     * 상대방 정보가 필요한 ONE_TO_ONE 방에서만 User를 조회한다.
      */
-    private void broadcastChatListUpdate(ChatRoom chatRoom, ChatMessage savedMessage) {
-        List<ChatMember> activeMembers = chatRoom.getMembers().stream()
-                .filter(m -> m.getStatus() == ChatMemberStatus.ACTIVE)
-                .toList();
-
+    private void broadcastChatListUpdate(ChatRoom chatRoom, ChatMessage savedMessage, Collection<Long> activeMemberIds) {
         LastMessageDto lastMessageDto = LastMessageDto.from(savedMessage);
 
-        for (ChatMember member : activeMembers) {
-            Long memberId = member.getUser().getId();
+        List<User> oneToOneUsers = chatRoom.getRoomType() == ChatRoomType.ONE_TO_ONE
+                ? userRepository.findAllById(activeMemberIds)
+                : List.of();
 
+        for (Long memberId : activeMemberIds) {
             // 멤버별 roomName, profileImageUrl 결정
             String roomName;
             String profileImageUrl;
 
             if (chatRoom.getRoomType() == ChatRoomType.ONE_TO_ONE) {
                 // 1:1: 이 멤버 기준으로 상대방 정보 사용
-                ChatMember other = activeMembers.stream()
-                        .filter(m -> !m.getUser().getId().equals(memberId))
+                User other = oneToOneUsers.stream()
+                        .filter(u -> !u.getId().equals(memberId))
                         .findFirst()
                         .orElse(null);
                 if (other != null) {
-                    roomName       = other.getUser().getNickname();
-                    profileImageUrl = other.getUser().getProfileImageUrl();
+                    roomName       = other.getNickname();
+                    profileImageUrl = other.getProfileImageUrl();
                 } else {
                     roomName       = chatRoom.getName();
                     profileImageUrl = null;
@@ -890,8 +1205,8 @@ public class ChatMessageService {
      * - 발신자 제외
      * - 현재 해당 방에 접속 중인 멤버 제외 (active_room 기반)
      */
-    private void sendChatPushNotification(ChatRoom chatRoom, User sender, String content, Long roomId, ChatMessageType type) {
-        List<Long> memberIds = chatMemberRepository.findActiveMemberIdsByRoomId(roomId);
+    private void sendChatPushNotification(ChatRoom chatRoom, User sender, String content, Long roomId,
+                                          ChatMessageType type, Collection<Long> memberIds) {
         String notifTitle = "새 메시지";
         String notifBody = sender.getNickname() + ": " + (content != null ? truncateContent(content) : "");
         Map<String, String> data = Map.of(
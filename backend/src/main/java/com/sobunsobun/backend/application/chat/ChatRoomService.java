@@ -1,6 +1,7 @@
 package com.sobunsobun.backend.application.chat;
 
 import com.sobunsobun.backend.application.notification.NotificationService;
+import com.sobunsobun.backend.application.user.UserStatsChangedEvent;
 import com.sobunsobun.backend.domain.GroupPost;
 import com.sobunsobun.backend.domain.SavedPost;
 import com.sobunsobun.backend.domain.SettlementStatus;
@@ -16,6 +17,7 @@ import com.sobunsobun.backend.dto.chat.ChatRoomListResponseDto;
 import com.sobunsobun.backend.dto.chat.ChatRoomResponse;
 import com.sobunsobun.backend.dto.chat.CreateChatRoomResponse;
 import com.sobunsobun.backend.dto.chat.LastMessageDto;
+import com.sobunsobun.backend.infrastructure.redis.ChatMembershipCache;
 import com.sobunsobun.backend.infrastructure.redis.ChatRedisService;
 import com.sobunsobun.backend.repository.GroupPostRepository;
 import com.sobunsobun.backend.repository.MannerReviewRepository;
@@ -32,6 +34,7 @@ import com.sobunsobun.backend.repository.user.UserRepository;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,11 +57,13 @@ public class ChatRoomService {
     private final UserRepository userRepository;
     private final GroupPostRepository groupPostRepository;
     private final ChatRedisService chatRedisService;
+    private final ChatMembershipCache chatMembershipCache;
     private final ChatMessageService chatMessageService;
     private final SettlementRepository settlementRepository;
     private final MannerReviewRepository mannerReviewRepository;
     private final SavedPostRepository savedPostRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 채팅방 목록 조회
@@ -296,6 +301,7 @@ public class ChatRoomService {
             // 멤버 저장
             chatMemberRepository.saveAndFlush(member1);
             chatMemberRepository.saveAndFlush(member2);
+            chatMembershipCache.invalidate(savedRoom.getId());
             log.info(" [단계7 완료] ChatMember DB 저장됨");
 
             // WebSocket으로 멤버 양쪽에 새 채팅방 알림 발송
@@ -345,6 +351,8 @@ public class ChatRoomService {
             // 명시적 저장
             log.info(" ChatMember 저장 중...");
             chatMemberRepository.saveAndFlush(newMember);
+            chatMembershipCache.invalidate(roomId);
+            eventPublisher.publishEvent(UserStatsChangedEvent.of(userId));
 
             log.info(" 멤버 추가 완료 - roomId: {}, userId: {}, memberId: {}",
                     roomId, userId, newMember.getId());
@@ -485,6 +493,7 @@ public class ChatRoomService {
             log.debug(" [단계5] ChatMember DB 저장 중...");
             chatMemberRepository.saveAndFlush(member1);
             chatMemberRepository.saveAndFlush(member2);
+            chatMembershipCache.invalidate(savedRoom.getId());
             log.info(" [단계5 완료] ChatMember DB 저장됨");
 
             // WebSocket으로 멤버 양쪽에 새 채팅방 알림 발송
@@ -573,6 +582,8 @@ public class ChatRoomService {
                             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다 (userId: " + userId + ")"));
                     ChatMember newMember = room.addMember(user);
                     chatMemberRepository.saveAndFlush(newMember);
+                    chatMembershipCache.invalidate(room.getId());
+                    eventPublisher.publishEvent(UserStatsChangedEvent.of(userId));
 
                     // ENTER 시스템 메시지 발행
                     chatMessageService.publishSystemMessage(
@@ -649,6 +660,7 @@ public class ChatRoomService {
                         }
                         ChatMember newMember = savedRoom.addMember(memberUser);
                         chatMemberRepository.saveAndFlush(newMember);
+                        eventPublisher.publishEvent(UserStatsChangedEvent.of(memberId));
                         addedMemberCount++;
                         log.debug("   멤버 추가됨: userId={}, nickname={}", memberId, memberUser.getNickname());
                     } catch (Exception e) {
@@ -657,6 +669,7 @@ public class ChatRoomService {
                 }
                 log.info(" [단계7 완료] 총 {} 명 멤버 추가됨", addedMemberCount);
             }
+            chatMembershipCache.invalidate(savedRoom.getId());
 
             // WebSocket으로 모든 멤버에게 새 채팅방 알림 발송
             chatMessageService.broadcastNewRoomNotification(savedRoom);
@@ -727,6 +740,8 @@ public class ChatRoomService {
 
             ChatMember newMember = chatRoom.addMember(targetUser);
             chatMemberRepository.saveAndFlush(newMember);
+            chatMembershipCache.invalidate(roomId);
+            eventPublisher.publishEvent(UserStatsChangedEvent.of(targetUserId));
 
             // ENTER 시스템 메시지 발행
             chatMessageService.publishSystemMessage(
@@ -782,6 +797,7 @@ public class ChatRoomService {
 
             chatRoom.removeMember(userId);
             chatRoomRepository.save(chatRoom);
+            chatMembershipCache.invalidate(roomId);
 
             // 단체 채팅만 LEAVE 시스템 메시지 발행
             if (chatRoom.getRoomType() == ChatRoomType.GROUP) {
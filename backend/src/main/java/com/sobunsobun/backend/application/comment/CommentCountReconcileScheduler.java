@@ -0,0 +1,57 @@
+package com.sobunsobun.backend.application.comment;
+
+import com.sobunsobun.backend.application.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 댓글 수 정합성 점검 스케줄러
+ *
+ * 댓글 작성 / 삭제 시 증감으로 유지되는 comment_count가 실제 댓글 수와 어긋난 행을 보정합니다.
+ * - 매일 새벽 4시 15분에 실행 (추천어 통계 재집계 이후)
+ * - ID 범위(1,000건) 단위 트랜잭션으로 게시글 → 사용자 순서로 점검
+ * - scheduler_lock 임대로 여러 인스턴스 중 하나만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconcileScheduler {
+
+    static final String LOCK_NAME = "comment-count-reconcile";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(30);
+
+    private final CommentCountReconcileService reconcileService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Scheduled(cron = "0 15 4 * * *")
+    public void reconcileCommentCounts() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int repairedPosts = 0;
+        int repairedUsers = 0;
+        try {
+            long maxPostId = reconcileService.maxPostId();
+            for (long fromId = 0; fromId < maxPostId; fromId += CommentCountReconcileService.RANGE_SIZE) {
+                repairedPosts += reconcileService.repairPostRange(fromId);
+            }
+            long maxUserId = reconcileService.maxUserId();
+            for (long fromId = 0; fromId < maxUserId; fromId += CommentCountReconcileService.RANGE_SIZE) {
+                repairedUsers += reconcileService.repairUserRange(fromId);
+            }
+            log.info(" 댓글 수 정합성 점검 완료 - 보정 게시글: {}, 보정 사용자: {}, {}ms",
+                    repairedPosts, repairedUsers, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error(" 댓글 수 정합성 점검 실패 - 보정 게시글: {}, 보정 사용자: {}, 오류: {}",
+                    repairedPosts, repairedUsers, e.getMessage(), e);
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+}
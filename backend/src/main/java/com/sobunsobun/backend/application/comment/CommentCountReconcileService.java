@@ -0,0 +1,51 @@
+package com.sobunsobun.backend.application.comment;
+
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 댓글 수 정합성 보정 서비스
+ *
+ * group_post.comment_count / users.comment_count를 comment 테이블 기준 실제 개수와 비교하여
+ * 다른 행만 보정합니다. ID 범위 하나를 하나의 트랜잭션으로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentCountReconcileService {
+
+    public static final int RANGE_SIZE = 1_000;
+
+    private final GroupPostRepository groupPostRepository;
+    private final UserRepository userRepository;
+
+    public long maxPostId() {
+        return groupPostRepository.findMaxId();
+    }
+
+    public long maxUserId() {
+        return userRepository.findMaxId();
+    }
+
+    /**
+     * 게시글 ID 범위 (fromId, fromId + RANGE_SIZE] 보정
+     *
+     * @return 보정한 게시글 수
+     */
+    @Transactional
+    public int repairPostRange(long fromId) {
+        return groupPostRepository.repairCommentCounts(fromId, fromId + RANGE_SIZE);
+    }
+
+    /**
+     * 사용자 ID 범위 (fromId, fromId + RANGE_SIZE] 보정
+     *
+     * @return 보정한 사용자 수
+     */
+    @Transactional
+    public int repairUserRange(long fromId) {
+        return userRepository.repairCommentCounts(fromId, fromId + RANGE_SIZE);
+    }
+}
@@ -0,0 +1,49 @@
+package com.sobunsobun.backend.application.comment;
+
+import com.sobunsobun.backend.support.exception.CommentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 / 대댓글 목록 커서
+ *
+ * 마지막으로 내려준 댓글의 (createdAt, ID)를 담으며, 다음 페이지는 그 뒤(오래된순)부터 조회합니다.
+ * 클라이언트에는 "작성일시|ID"를 URL-safe Base64로 인코딩한 불투명 문자열로 전달합니다.
+ *
+ * @param createdAt 마지막 댓글 작성 일시
+ * @param id 마지막 댓글 ID (작성 일시가 같을 때의 순서 기준)
+ */
+public record CommentCursor(LocalDateTime createdAt, Long id) {
+
+    /** 첫 페이지 커서 (가장 과거) */
+    static final CommentCursor FIRST = new CommentCursor(LocalDateTime.of(1000, 1, 1, 0, 0), 0L);
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 인코딩된 커서 (null 또는 빈 값이면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지면 FIRST
+     */
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new CommentCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw CommentException.badRequest("유효하지 않은 cursor입니다.");
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.sobunsobun.backend.domain.CommentReport;
 import com.sobunsobun.backend.domain.ReportStatus;
 import com.sobunsobun.backend.domain.User;
 import com.sobunsobun.backend.dto.comment.CommentReportDto;
+import com.sobunsobun.backend.dto.report.ReportStatusCount;
 import com.sobunsobun.backend.repository.CommentReportRepository;
 import com.sobunsobun.backend.repository.CommentRepository;
 import com.sobunsobun.backend.repository.user.UserRepository;
@@ -14,12 +15,19 @@ import com.sobunsobun.backend.support.exception.UserException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -83,14 +91,56 @@ public class CommentReportService {
 
     @Transactional(readOnly = true)
     public Page<CommentReportDto.ListResponse> getReportsByStatus(ReportStatus status, Pageable pageable) {
-        // 상태별 조회 (필요시 repository에 메서드 추가)
-        throw new UnsupportedOperationException("상태별 조회는 추후 구현");
+        return commentReportRepository.findByStatusOrderByCreatedAtDesc(status, pageable)
+                .map(this::convertToListResponse);
     }
 
     @Transactional(readOnly = true)
     public Page<CommentReportDto.ListResponse> getCommentReports(Long commentId, Pageable pageable) {
-        // 댓글별 조회 (필요시 repository에 메서드 추가)
-        throw new UnsupportedOperationException("댓글별 조회는 추후 구현");
+        return commentReportRepository.findByCommentIdOrderByCreatedAtDesc(commentId, pageable)
+                .map(this::convertToListResponse);
+    }
+
+    /**
+     * 처리 대기열 조회 (관리자)
+     * PENDING → REVIEWING, 같은 상태 안에서는 오래된 신고부터 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public Page<CommentReportDto.ListResponse> getModerationQueue(Pageable pageable) {
+        Page<Long> ids = commentReportRepository.findQueueIds(ReportStatus.MODERATION_QUEUE, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<Long, CommentReport> reports = commentReportRepository.findAllWithUserAndCommentByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(CommentReport::getId, Function.identity()));
+        List<CommentReportDto.ListResponse> content = ids.getContent().stream()
+                .map(reports::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToListResponse)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    /**
+     * 댓글별 신고 통계 (상태별 개수를 GROUP BY 한 번으로 집계)
+     */
+    @Transactional(readOnly = true)
+    public CommentReportDto.StatisticsResponse getCommentReportStatistics(Long commentId) {
+        Map<ReportStatus, Long> counts = new EnumMap<>(ReportStatus.class);
+        long totalReports = 0;
+        for (ReportStatusCount statusCount : commentReportRepository.countByCommentIdGroupByStatus(commentId)) {
+            counts.put(statusCount.status(), statusCount.count());
+            totalReports += statusCount.count();
+        }
+
+        return CommentReportDto.StatisticsResponse.builder()
+                .commentId(commentId)
+                .totalReports(totalReports)
+                .pendingReports(counts.getOrDefault(ReportStatus.PENDING, 0L))
+                .reviewingReports(counts.getOrDefault(ReportStatus.REVIEWING, 0L))
+                .resolvedReports(counts.getOrDefault(ReportStatus.RESOLVED, 0L))
+                .build();
     }
 
     public CommentReportDto.Response updateReportStatus(Long reportId, Long adminId, CommentReportDto.UpdateStatusRequest request) {
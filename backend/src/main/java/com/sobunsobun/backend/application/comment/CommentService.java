@@ -4,25 +4,32 @@ import com.sobunsobun.backend.application.notification.NotificationService;
 import com.sobunsobun.backend.domain.Comment;
 import com.sobunsobun.backend.domain.GroupPost;
 import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.comment.CommentReplyCount;
 import com.sobunsobun.backend.dto.comment.CommentResponse;
+import com.sobunsobun.backend.dto.comment.CommentRow;
+import com.sobunsobun.backend.dto.comment.PostCommentCount;
 import com.sobunsobun.backend.dto.comment.CreateCommentRequest;
 import com.sobunsobun.backend.dto.comment.UpdateCommentRequest;
-import com.sobunsobun.backend.repository.BlockedUserRepository;
+import com.sobunsobun.backend.dto.common.CursorPageResponse;
+import com.sobunsobun.backend.infrastructure.redis.BlockedUserCache;
 import com.sobunsobun.backend.repository.CommentRepository;
 import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
 import com.sobunsobun.backend.support.exception.CommentException;
 import com.sobunsobun.backend.support.exception.PostException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * 댓글 비즈니스 로직 서비스
@@ -35,9 +42,13 @@ import java.util.stream.Collectors;
 public class CommentService {
     private final CommentRepository commentRepository;
     private final GroupPostRepository postRepository;
-    private final BlockedUserRepository blockedUserRepository;
+    private final UserRepository userRepository;
+    private final BlockedUserCache blockedUserCache;
     private final NotificationService notificationService;
 
+    /** NOT IN 조건용 자리 표시 ID (차단 목록이 비었을 때, IDENTITY는 1부터 시작) */
+    private static final List<Long> NO_EXCLUDED_USERS = List.of(0L);
+
     /**
      * 댓글 생성
      *
@@ -89,6 +100,8 @@ public class CommentService {
             .build();
 
         Comment savedComment = commentRepository.save(comment);
+        postRepository.addCommentCount(postId, 1);
+        userRepository.addCommentCount(user.getId(), 1);
         log.info("댓글 생성 완료 - commentId: {}", savedComment.getId());
 
         // FCM 알림: 게시글 작성자에게 댓글 알림 (본인 댓글 제외)
@@ -133,6 +146,9 @@ public class CommentService {
      * 부모 댓글 → 대댓글 구조로 반환. 오래된순 정렬.
      * viewerId가 null이면 비로그인 상태 → 차단 필터 미적용
      *
+     * 스레드 전체를 작성자 컬럼과 함께 한 번의 쿼리로 평면 조회한 뒤 ID 맵으로 트리를 구성하므로,
+     * 댓글 수와 무관하게 쿼리 수가 일정합니다. (삭제된 부모 댓글의 대댓글은 표시하지 않음)
+     *
      * @param postId 게시글 ID
      * @param viewerId 조회자 ID (nullable)
      * @return 댓글 목록 (트리 구조)
@@ -145,20 +161,155 @@ public class CommentService {
             throw PostException.notFound();
         }
 
-        // 차단 유저 ID Set (대댓글 필터링에 사용)
-        Set<Long> blockedIds = (viewerId != null)
-                ? new HashSet<>(blockedUserRepository.findBlockedIdsByBlockerId(viewerId))
-                : Collections.emptySet();
+        // 차단 유저 ID Set (부모 댓글 / 대댓글 필터링에 사용)
+        Set<Long> blockedIds = blockedUserCache.getBlockedIds(viewerId);
+
+        List<CommentRow> rows = commentRepository.findActiveThreadByPostId(postId);
+
+        // 1. 부모 댓글 (오래된순 유지)
+        Map<Long, CommentResponse> parents = new LinkedHashMap<>();
+        for (CommentRow row : rows) {
+            if (row.parentCommentId() == null && !blockedIds.contains(row.userId())) {
+                parents.put(row.id(), CommentResponse.from(row));
+            }
+        }
 
-        // 부모 댓글 조회: 로그인 시 차단 유저 제외
-        List<Comment> parentComments = (viewerId != null)
-                ? commentRepository.findActiveParentCommentsByPostIdExcludingBlocked(postId, viewerId)
-                : commentRepository.findActiveParentCommentsByPostId(postId);
+        // 2. 대댓글을 부모 댓글에 연결 (부모가 삭제·차단된 대댓글은 제외)
+        for (CommentRow row : rows) {
+            if (row.parentCommentId() == null || blockedIds.contains(row.userId())) {
+                continue;
+            }
+            CommentResponse parent = parents.get(row.parentCommentId());
+            if (parent != null) {
+                parent.getChildComments().add(CommentResponse.from(row));
+            }
+        }
 
-        // 대댓글도 blockedIds 기준으로 필터링하여 DTO 변환
-        return parentComments.stream()
-            .map(parent -> CommentResponse.fromWithChildren(parent, blockedIds))
-            .collect(Collectors.toList());
+        return new ArrayList<>(parents.values());
+    }
+
+    /**
+     * 게시글 댓글 페이지 조회 (부모 댓글 keyset 페이징, 부모마다 대댓글 앞쪽 일부 포함)
+     *
+     * 쿼리 수는 페이지 크기와 무관하게 일정합니다.
+     * (부모 댓글 페이지 / 대댓글 미리보기 ID / 대댓글 행 / 부모별 대댓글 수)
+     * 미리보기 이후 대댓글은 각 부모 댓글의 replyCursor로 getReplies에서 이어서 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param viewerId 조회자 ID (nullable)
+     * @param cursor 이전 응답의 cursor.next (첫 페이지는 null)
+     * @param size 부모 댓글 페이지 크기
+     * @param replyLimit 부모 댓글마다 포함할 대댓글 수 (0이면 미포함)
+     * @return 부모 댓글 커서 페이지
+     * @throws PostException 게시글을 찾을 수 없는 경우
+     */
+    public CursorPageResponse<CommentResponse> getCommentPage(Long postId, Long viewerId,
+                                                              String cursor, int size, int replyLimit) {
+        log.debug("게시글 댓글 페이지 조회 - postId: {}, viewerId: {}, size: {}, replyLimit: {}",
+                postId, viewerId, size, replyLimit);
+
+        if (!postRepository.existsById(postId)) {
+            throw PostException.notFound();
+        }
+
+        CommentCursor commentCursor = CommentCursor.decode(cursor);
+        Collection<Long> excludedUserIds = excludedUserIds(viewerId);
+
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단
+        List<CommentRow> parentRows = commentRepository.findActiveParentCommentRowsAfter(postId, excludedUserIds,
+                commentCursor.createdAt(), commentCursor.id(), PageRequest.of(0, size + 1));
+        boolean hasNext = parentRows.size() > size;
+        if (hasNext) {
+            parentRows = parentRows.subList(0, size);
+        }
+
+        Map<Long, CommentResponse> parents = new LinkedHashMap<>();
+        for (CommentRow row : parentRows) {
+            parents.put(row.id(), CommentResponse.from(row));
+        }
+
+        if (!parents.isEmpty()) {
+            Set<Long> parentIds = parents.keySet();
+            for (CommentReplyCount replyCount : commentRepository.countActiveRepliesByParentIds(parentIds, excludedUserIds)) {
+                parents.get(replyCount.parentCommentId()).setReplyCount(replyCount.count());
+            }
+
+            if (replyLimit > 0) {
+                List<Long> previewIds = commentRepository.findReplyPreviewIds(parentIds, excludedUserIds, replyLimit);
+                if (!previewIds.isEmpty()) {
+                    for (CommentRow row : commentRepository.findRowsByIdIn(previewIds)) {
+                        parents.get(row.parentCommentId()).getChildComments().add(CommentResponse.from(row));
+                    }
+                }
+            }
+
+            for (CommentResponse parent : parents.values()) {
+                if (parent.getReplyCount() == null) {
+                    parent.setReplyCount(0L);
+                }
+                List<CommentResponse> replies = parent.getChildComments();
+                if (parent.getReplyCount() > replies.size()) {
+                    parent.setReplyCursor(replies.isEmpty()
+                            ? CommentCursor.FIRST.encode()
+                            : toCursor(replies.get(replies.size() - 1)).encode());
+                }
+            }
+        }
+
+        String nextCursor = hasNext ? toCursor(parents.get(parentRows.get(parentRows.size() - 1).id())).encode() : null;
+        return CursorPageResponse.<CommentResponse>builder()
+                .content(new ArrayList<>(parents.values()))
+                .cursor(CursorPageResponse.CursorInfo.builder()
+                        .next(nextCursor)
+                        .hasNext(hasNext)
+                        .build())
+                .build();
+    }
+
+    /**
+     * 대댓글 더보기 (keyset 페이징, 오래된순)
+     *
+     * @param parentCommentId 부모 댓글 ID
+     * @param viewerId 조회자 ID (nullable)
+     * @param cursor 부모 댓글의 replyCursor 또는 이전 응답의 cursor.next
+     * @param size 페이지 크기
+     * @return 대댓글 커서 페이지
+     * @throws CommentException 부모 댓글을 찾을 수 없거나 대댓글인 경우
+     */
+    public CursorPageResponse<CommentResponse> getReplies(Long parentCommentId, Long viewerId, String cursor, int size) {
+        log.debug("대댓글 조회 - parentCommentId: {}, viewerId: {}, size: {}", parentCommentId, viewerId, size);
+
+        Comment parent = commentRepository.findById(parentCommentId)
+            .orElseThrow(CommentException::notFound);
+        if (parent.getParentComment() != null) {
+            throw CommentException.badRequest("대댓글에는 대댓글이 없습니다.");
+        }
+
+        CommentCursor commentCursor = CommentCursor.decode(cursor);
+        List<CommentRow> rows = commentRepository.findActiveReplyRowsAfter(parentCommentId, excludedUserIds(viewerId),
+                commentCursor.createdAt(), commentCursor.id(), PageRequest.of(0, size + 1));
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        List<CommentResponse> replies = rows.stream().map(CommentResponse::from).toList();
+        return CursorPageResponse.<CommentResponse>builder()
+                .content(replies)
+                .cursor(CursorPageResponse.CursorInfo.builder()
+                        .next(hasNext ? toCursor(replies.get(replies.size() - 1)).encode() : null)
+                        .hasNext(hasNext)
+                        .build())
+                .build();
+    }
+
+    private Collection<Long> excludedUserIds(Long viewerId) {
+        Set<Long> blockedIds = blockedUserCache.getBlockedIds(viewerId);
+        return blockedIds.isEmpty() ? NO_EXCLUDED_USERS : blockedIds;
+    }
+
+    private static CommentCursor toCursor(CommentResponse comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getId());
     }
 
     /**
@@ -273,28 +424,55 @@ public class CommentService {
         comment.setContent("삭제된 댓글입니다");
 
         commentRepository.save(comment);
+        postRepository.addCommentCount(comment.getPost().getId(), -1);
+        userRepository.addCommentCount(comment.getUser().getId(), -1);
 
         log.info("댓글 삭제 완료 - commentId: {}, deleted: true, edited: false", commentId);
     }
 
     /**
-     * 게시글의 활성 댓글 개수 조회
+     * 게시글의 활성 댓글 개수 조회 (group_post.comment_count)
      *
      * @param postId 게시글 ID
      * @return 댓글 개수
      */
     public long getCommentCountByPostId(Long postId) {
-        return commentRepository.countActiveCommentsByPostId(postId);
+        return postRepository.findCommentCountById(postId).orElse(0);
+    }
+
+    /**
+     * 여러 게시글의 활성 댓글 개수 한 번에 조회 (group_post.comment_count)
+     * 존재하지 않는 게시글 ID는 결과에서 제외됩니다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID → 댓글 개수 (요청 순서 유지)
+     */
+    public Map<Long, Long> getCommentCountsByPostIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> found = new HashMap<>();
+        for (PostCommentCount count : postRepository.findCommentCountsByIdIn(postIds)) {
+            found.put(count.postId(), count.commentCount().longValue());
+        }
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (Long postId : postIds) {
+            Long count = found.get(postId);
+            if (count != null) {
+                counts.put(postId, count);
+            }
+        }
+        return counts;
     }
 
     /**
-     * 사용자가 작성한 활성 댓글 개수
+     * 사용자가 작성한 활성 댓글 개수 (users.comment_count)
      *
      * @param userId 사용자 ID
      * @return 댓글 개수
      */
     public long getCommentCountByUserId(Long userId) {
-        return commentRepository.countActiveCommentsByUserId(userId);
+        return userRepository.findCommentCountById(userId).orElse(0);
     }
 }
 
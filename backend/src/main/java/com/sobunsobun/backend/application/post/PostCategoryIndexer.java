@@ -0,0 +1,112 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostCategory;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.PostCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시글 카테고리 인덱스(post_category) 관리
+ *
+ * group_post.categories 문자열을 카테고리 코드 단위 행으로 펼쳐 저장하고,
+ * 게시글의 상태·마감일 변경을 post_category에 반영합니다.
+ * 게시글의 categories / status / deadline_at을 바꾸는 모든 곳에서 호출해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCategoryIndexer {
+
+    private final PostCategoryRepository postCategoryRepository;
+    private final GroupPostRepository groupPostRepository;
+
+    /**
+     * categories 문자열을 카테고리 코드 목록으로 분리
+     * 예: "01" → [01], "01,03" → [01, 03]
+     */
+    public static List<String> parseCategories(String categories) {
+        if (categories == null || categories.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(categories.split("[^0-9A-Za-z]+"))
+                .filter(code -> !code.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 게시글의 카테고리 매핑을 현재 상태로 다시 생성
+     * 생성, 카테고리·마감일 수정 시 호출
+     */
+    @Transactional
+    public void reindex(GroupPost post) {
+        postCategoryRepository.deleteByPostId(post.getId());
+
+        List<PostCategory> entries = parseCategories(post.getCategories()).stream()
+                .map(category -> PostCategory.builder()
+                        .post(post)
+                        .category(category)
+                        .status(post.getStatus())
+                        .createdAt(post.getCreatedAt())
+                        .deadlineAt(post.getDeadlineAt())
+                        .build())
+                .toList();
+        postCategoryRepository.saveAll(entries);
+
+        log.debug("카테고리 인덱스 갱신 - 게시글 ID: {}, 카테고리: {}", post.getId(), entries.size());
+    }
+
+    /**
+     * 카테고리 인덱스가 없는 게시글을 id 순으로 size개 색인 (백필용)
+     *
+     * @param lastId 이전 청크의 마지막 게시글 ID (처음에는 0)
+     * @param size 청크 크기
+     * @return 이번 청크의 마지막 게시글 ID, 더 이상 대상이 없으면 null
+     */
+    @Transactional
+    public Long backfillChunk(Long lastId, int size) {
+        List<GroupPost> posts = groupPostRepository.findPostsWithoutCategoryIndex(lastId, PageRequest.of(0, size));
+        if (posts.isEmpty()) {
+            return null;
+        }
+        posts.forEach(this::reindex);
+        return posts.get(posts.size() - 1).getId();
+    }
+
+    /**
+     * 게시글 상태 변경 반영
+     */
+    @Transactional
+    public void updateStatus(Long postId, PostStatus status) {
+        postCategoryRepository.updateStatusByPostId(postId, status);
+    }
+
+    /**
+     * 여러 게시글 상태 일괄 변경 반영
+     */
+    @Transactional
+    public void updateStatus(Collection<Long> postIds, PostStatus status) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        postCategoryRepository.updateStatusByPostIds(postIds, status);
+    }
+
+    /**
+     * 게시글 삭제 전 카테고리 매핑 삭제
+     */
+    @Transactional
+    public void remove(Long postId) {
+        postCategoryRepository.deleteByPostId(postId);
+    }
+}
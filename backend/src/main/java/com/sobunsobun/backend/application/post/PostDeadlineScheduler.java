@@ -0,0 +1,63 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.application.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 자동 마감 스케줄러
+ *
+ * 마감 시간(deadline_at)이 지난 OPEN 게시글을 CLOSED로 변경합니다.
+ * - 1분마다 실행, 청크(500건) 단위 트랜잭션으로 대상이 없을 때까지 반복
+ * - scheduler_lock 임대로 여러 인스턴스 중 하나만 실행
+ * - 처리량(게시글/초)을 로그로 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDeadlineScheduler {
+
+    static final String LOCK_NAME = "post-deadline-close";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+
+    private final PostDeadlineService postDeadlineService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void closeExpiredPosts() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        int closedCount = 0;
+        int chunkCount = 0;
+        try {
+            int closed;
+            do {
+                closed = postDeadlineService.closeExpiredChunk(now);
+                closedCount += closed;
+                if (closed > 0) {
+                    chunkCount++;
+                }
+            } while (closed == PostDeadlineService.CHUNK_SIZE);
+        } catch (Exception e) {
+            log.error(" 게시글 자동 마감 실패 - 처리: {}건, 오류: {}", closedCount, e.getMessage(), e);
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+
+        if (closedCount > 0) {
+            long elapsedMs = Math.max(1, System.currentTimeMillis() - start);
+            log.info(" 게시글 자동 마감 완료 - posts: {}, chunks: {}, {}ms ({} posts/s)",
+                    closedCount, chunkCount, elapsedMs, closedCount * 1000L / elapsedMs);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.application.search.SearchTermIndexer;
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마감 시간이 지난 게시글 자동 마감 서비스
+ *
+ * 청크 하나를 하나의 트랜잭션으로 처리합니다.
+ * 1. 마감일이 지난 OPEN 게시글을 마감일 순으로 size개 조회 (행 잠금)
+ * 2. 추천 검색어 통계 차감
+ * 3. group_post / post_category 상태를 CLOSED로 일괄 UPDATE
+ * 4. 커밋 후 처리를 위한 PostsClosedEvent 발행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostDeadlineService {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private final GroupPostRepository groupPostRepository;
+    private final PostCategoryIndexer postCategoryIndexer;
+    private final SearchTermIndexer searchTermIndexer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 마감일이 지난 OPEN 게시글 한 청크를 CLOSED로 변경
+     *
+     * @param now 기준 시각
+     * @return 마감 처리한 게시글 수 (CHUNK_SIZE보다 작으면 남은 대상 없음)
+     */
+    @Transactional
+    public int closeExpiredChunk(LocalDateTime now) {
+        List<GroupPost> expired = groupPostRepository.findByStatusAndDeadlineAtBeforeOrderByDeadlineAtAsc(
+                PostStatus.OPEN, now, PageRequest.of(0, CHUNK_SIZE));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> postIds = expired.stream().map(GroupPost::getId).toList();
+        searchTermIndexer.removeAll(expired);
+
+        int updated = groupPostRepository.updateStatusByIdIn(postIds, PostStatus.OPEN, PostStatus.CLOSED, now);
+        postCategoryIndexer.updateStatus(postIds, PostStatus.CLOSED);
+
+        eventPublisher.publishEvent(new PostsClosedEvent(postIds));
+        log.debug("마감 청크 처리 - 대상: {}, 변경: {}", postIds.size(), updated);
+        return postIds.size();
+    }
+}
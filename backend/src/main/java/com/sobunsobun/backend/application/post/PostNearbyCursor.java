@@ -0,0 +1,45 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.support.exception.PostException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 주변 게시글 커서
+ *
+ * 마지막으로 내려준 게시글의 거리(미터)와 ID를 담으며,
+ * 다음 페이지는 (거리, ID) 기준으로 그 뒤부터 조회합니다.
+ * 클라이언트에는 "거리|ID"를 URL-safe Base64로 인코딩한 불투명 문자열로 전달합니다.
+ *
+ * @param distance 마지막 게시글까지의 거리 (미터)
+ * @param id 마지막 게시글 ID (거리가 같을 때의 순서 기준)
+ */
+public record PostNearbyCursor(double distance, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = distance + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 인코딩된 커서 (null 또는 빈 값이면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지면 null
+     */
+    public static PostNearbyCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new PostNearbyCursor(
+                    Double.parseDouble(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw PostException.badRequest("유효하지 않은 cursor입니다.");
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.sobunsobun.backend.domain.PostReport;
 import com.sobunsobun.backend.domain.ReportStatus;
 import com.sobunsobun.backend.domain.User;
 import com.sobunsobun.backend.dto.post.PostReportDto;
+import com.sobunsobun.backend.dto.report.ReportStatusCount;
 import com.sobunsobun.backend.repository.GroupPostRepository;
 import com.sobunsobun.backend.repository.PostReportRepository;
 import com.sobunsobun.backend.repository.user.UserRepository;
@@ -14,12 +15,19 @@ import com.sobunsobun.backend.support.exception.UserException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 게시글 신고 서비스
@@ -105,19 +113,34 @@ public class PostReportService {
     }
 
     /**
-     * 특정 게시글의 모든 신고 조회
+     * 처리 대기열 조회 (관리자)
+     * PENDING → REVIEWING, 같은 상태 안에서는 오래된 신고부터 조회합니다.
+     * 정렬 / 페이징은 (status, created_at) 인덱스에서 ID만으로 처리하고, 해당 페이지의 신고만 신고자 / 게시글과 함께 읽습니다.
      */
     @Transactional(readOnly = true)
-    public Page<PostReportDto.ListResponse> getPostReports(Long postId, Pageable pageable) {
-        java.util.List<PostReportDto.ListResponse> content = postReportRepository.findByPostIdOrderByCreatedAtDesc(postId)
-                .stream()
+    public Page<PostReportDto.ListResponse> getModerationQueue(Pageable pageable) {
+        Page<Long> ids = postReportRepository.findQueueIds(ReportStatus.MODERATION_QUEUE, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<Long, PostReport> reports = postReportRepository.findAllWithUserAndPostByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(PostReport::getId, Function.identity()));
+        List<PostReportDto.ListResponse> content = ids.getContent().stream()
+                .map(reports::get)
+                .filter(Objects::nonNull)
                 .map(this::convertToListResponse)
-                .skip(pageable.getOffset())
-                .limit(pageable.getPageSize())
                 .toList();
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
 
-        long total = postReportRepository.countByPostId(postId);
-        return new org.springframework.data.domain.PageImpl<>(content, pageable, total);
+    /**
+     * 특정 게시글의 신고 목록 조회 (DB 페이징)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostReportDto.ListResponse> getPostReports(Long postId, Pageable pageable) {
+        return postReportRepository.findByPostIdOrderByCreatedAtDesc(postId, pageable)
+                .map(this::convertToListResponse);
     }
 
     /**
@@ -154,20 +177,23 @@ public class PostReportService {
 
     /**
      * 게시글별 신고 통계
+     * 상태별 개수를 GROUP BY 한 번으로 집계
      */
     @Transactional(readOnly = true)
     public PostReportDto.StatisticsResponse getPostReportStatistics(Long postId) {
-        long totalReports = postReportRepository.countByPostId(postId);
-        long pendingReports = postReportRepository.countByPostIdAndStatus(postId, ReportStatus.PENDING);
-        long reviewingReports = postReportRepository.countByPostIdAndStatus(postId, ReportStatus.REVIEWING);
-        long resolvedReports = postReportRepository.countByPostIdAndStatus(postId, ReportStatus.RESOLVED);
+        Map<ReportStatus, Long> counts = new EnumMap<>(ReportStatus.class);
+        long totalReports = 0;
+        for (ReportStatusCount statusCount : postReportRepository.countByPostIdGroupByStatus(postId)) {
+            counts.put(statusCount.status(), statusCount.count());
+            totalReports += statusCount.count();
+        }
 
         return PostReportDto.StatisticsResponse.builder()
                 .postId(postId)
                 .totalReports(totalReports)
-                .pendingReports(pendingReports)
-                .reviewingReports(reviewingReports)
-                .resolvedReports(resolvedReports)
+                .pendingReports(counts.getOrDefault(ReportStatus.PENDING, 0L))
+                .reviewingReports(counts.getOrDefault(ReportStatus.REVIEWING, 0L))
+                .resolvedReports(counts.getOrDefault(ReportStatus.RESOLVED, 0L))
                 .build();
     }
 
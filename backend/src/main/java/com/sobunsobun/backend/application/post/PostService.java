@@ -1,25 +1,42 @@
 package com.sobunsobun.backend.application.post;
 
+import com.sobunsobun.backend.application.search.SearchTermIndexer;
 import com.sobunsobun.backend.application.settleup.SettlementService;
+import com.sobunsobun.backend.application.user.UserStatsChangedEvent;
 import com.sobunsobun.backend.domain.GroupPost;
 import com.sobunsobun.backend.domain.PostStatus;
 import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.common.CursorPageResponse;
 import com.sobunsobun.backend.dto.post.*;
+import com.sobunsobun.backend.infrastructure.redis.BlockedUserCache;
+import com.sobunsobun.backend.infrastructure.redis.PostFeedCache;
+import com.sobunsobun.backend.infrastructure.redis.UserProfileCache;
 import com.sobunsobun.backend.repository.GroupPostRepository;
 import com.sobunsobun.backend.repository.SavedPostRepository;
 import com.sobunsobun.backend.repository.user.UserRepository;
 import com.sobunsobun.backend.support.exception.PostException;
 import com.sobunsobun.backend.support.exception.UserException;
+import com.sobunsobun.backend.support.util.GeoHashUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 공동구매 게시글 비즈니스 로직 서비스
@@ -39,6 +56,25 @@ public class PostService {
     private final UserRepository userRepository;
     private final SettlementService settlementService;
     private final SavedPostRepository savedPostRepository;
+    private final PostCategoryIndexer postCategoryIndexer;
+    private final SearchTermIndexer searchTermIndexer;
+    private final BlockedUserCache blockedUserCache;  // 로그인 사용자 피드의 차단 유저 필터
+    private final PostFeedCache postFeedCache;        // 공개 피드 앞쪽 페이지 캐시
+    private final UserProfileCache userProfileCache;  // 다른 사용자 프로필 캐시
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 피드 첫 페이지 커서 (최신순: 가장 미래, 마감임박순: 가장 과거) */
+    private static final LocalDateTime FEED_MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final LocalDateTime FEED_MIN_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    /** 차단 유저 게시글이 몰려 있을 때 한 요청에서 추가 조회하는 최대 횟수 */
+    private static final int FEED_MAX_FETCH_ROUNDS = 5;
+
+    /** 제외할 작성자가 없을 때 NOT IN 조건에 넘기는 목록 (존재하지 않는 사용자 ID) */
+    private static final List<Long> NO_EXCLUDED_OWNERS = List.of(0L);
+
+    /** 주변 게시글 조회 최대 반경 (미터) */
+    public static final int NEARBY_MAX_RADIUS_METERS = 20_000;
 
     /**
      * 게시글 생성
@@ -87,9 +123,15 @@ public class PostService {
                 .maxMembers(request.getMaxMembers())
                 .status(PostStatus.OPEN)
                 .build();
+        applyLocation(post, request.getLatitude(), request.getLongitude());
 
         // 4. 저장
         GroupPost savedPost = postRepository.save(post);
+        postCategoryIndexer.reindex(savedPost);
+        searchTermIndexer.add(savedPost);
+        postFeedCache.invalidateAll();
+        userProfileCache.invalidate(userId);
+        eventPublisher.publishEvent(UserStatsChangedEvent.of(userId));
         log.info("[사용자 작동] 게시글 생성 완료 - 게시글 ID: {}, 사용자 ID: {}", savedPost.getId(), userId);
 
         // 5. 정산 자동 생성 (같은 트랜잭션 안에서 PENDING 상태로 생성)
@@ -134,23 +176,18 @@ public class PostService {
         log.info("전체 게시글 목록 조회 - viewerId: {}, 페이지: {}, 크기: {}, 정렬: {}", viewerId, page, size, sort);
 
         boolean isDeadline = "deadline".equalsIgnoreCase(sort);
-        Pageable pageable = PageRequest.of(page, size);
-        Page<GroupPost> postPage;
-        if (isDeadline) {
-            postPage = (viewerId != null)
-                    ? postRepository.findAllExcludingBlockedOrderByDeadline(viewerId, pageable)
-                    : postRepository.findAllByStatusNotOrderByDeadlineAtAsc(PostStatus.CANCELLED, pageable);
-        } else {
-            pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-            postPage = (viewerId != null)
-                    ? postRepository.findAllExcludingBlocked(viewerId, pageable)
-                    : postRepository.findAllByStatusNotOrderByCreatedAtDesc(PostStatus.CANCELLED, pageable);
-        }
-
-        log.info("DB 조회 결과 - 전체 게시글 수: {}, 현재 페이지 게시글 수: {}, 총 페이지: {}",
-                 postPage.getTotalElements(), postPage.getNumberOfElements(), postPage.getTotalPages());
-
-        return convertToListResponse(postPage);
+        String cacheKey = PostFeedCache.key("all", isDeadline ? "deadline" : "latest", page, size);
+        return withEngagement(viewerId, cachedFeed(viewerId, page, cacheKey, () -> {
+            Page<PostSummary> postPage = findExcludingBlocked(viewerId, page, size,
+                    (excludedOwnerIds, pageable) -> isDeadline
+                            ? postRepository.findAllByStatusNotOrderByDeadlineAtAsc(PostStatus.CANCELLED, excludedOwnerIds, pageable)
+                            : postRepository.findAllByStatusNotOrderByCreatedAtDesc(PostStatus.CANCELLED, excludedOwnerIds, pageable));
+
+            log.info("DB 조회 결과 - 전체 게시글 수: {}, 현재 페이지 게시글 수: {}, 총 페이지: {}",
+                     postPage.getTotalElements(), postPage.getNumberOfElements(), postPage.getTotalPages());
+
+            return convertSummariesToListResponse(postPage);
+        }));
     }
 
     /**
@@ -170,12 +207,12 @@ public class PostService {
             if (postStatus == PostStatus.CANCELLED) {
                 throw PostException.invalidStatus("올바른 상태를 입력하세요 (OPEN, CLOSED, PROCESSING, COMPLETED)");
             }
-            Pageable pageable = PageRequest.of(page, size);
-            Page<GroupPost> postPage = (viewerId != null)
-                    ? postRepository.findByStatusExcludingBlocked(viewerId, postStatus, pageable)
-                    : postRepository.findByStatusOrderByDeadlineAtAsc(postStatus, pageable);
+            return withEngagement(viewerId, cachedFeed(viewerId, page, PostFeedCache.key("status", postStatus, page, size), () -> {
+                Page<PostSummary> postPage = findExcludingBlocked(viewerId, page, size,
+                        (excludedOwnerIds, pageable) -> postRepository.findByStatusOrderByDeadlineAtAsc(postStatus, excludedOwnerIds, pageable));
 
-            return convertToListResponse(postPage);
+                return convertSummariesToListResponse(postPage);
+            }));
         } catch (IllegalArgumentException e) {
             log.error("잘못된 상태 값 입력 {}: {}", e.getClass().getSimpleName(), status);
             throw PostException.invalidStatus("올바른 상태를 입력하세요 (OPEN, CLOSED, PROCESSING, COMPLETED, CANCELLED)");
@@ -195,23 +232,20 @@ public class PostService {
         log.info("카테고리별 게시글 목록 조회 - viewerId: {}, 카테고리: {}, 페이지: {}, 크기: {}, 정렬: {}", viewerId, categories, page, size, sort);
 
         boolean isDeadline = "deadline".equalsIgnoreCase(sort);
-        Pageable pageable = PageRequest.of(page, size);
-        Page<GroupPost> postPage;
-        if (isDeadline) {
-            postPage = (viewerId != null)
-                    ? postRepository.findByCategoriesAndStatusExcludingBlockedOrderByDeadline(viewerId, categories, PostStatus.OPEN, pageable)
-                    : postRepository.findByCategoriesAndStatusOrderByDeadlineAtAsc(categories, PostStatus.OPEN, pageable);
-        } else {
-            pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-            postPage = (viewerId != null)
-                    ? postRepository.findByCategoriesAndStatusExcludingBlocked(viewerId, categories, PostStatus.OPEN, pageable)
-                    : postRepository.findByCategoriesAndStatusOrderByCreatedAtDesc(categories, PostStatus.OPEN, pageable);
-        }
-
-        log.info("DB 조회 결과 - 카테고리: {}, 전체: {}, 현재 페이지: {}, 총 페이지: {}",
-                 categories, postPage.getTotalElements(), postPage.getNumberOfElements(), postPage.getTotalPages());
-
-        return convertToListResponse(postPage);
+        String category = categories.trim();
+        String cacheKey = PostFeedCache.key("category", category, isDeadline ? "deadline" : "latest", page, size);
+        return withEngagement(viewerId, cachedFeed(viewerId, page, cacheKey, () -> {
+            // 정렬은 쿼리의 post_category.created_at / deadline_at 인덱스 순서를 사용
+            Page<PostSummary> postPage = findExcludingBlocked(viewerId, page, size,
+                    (excludedOwnerIds, pageable) -> isDeadline
+                            ? postRepository.findByCategoriesAndStatusOrderByDeadlineAtAsc(category, PostStatus.OPEN, excludedOwnerIds, pageable)
+                            : postRepository.findByCategoriesAndStatusOrderByCreatedAtDesc(category, PostStatus.OPEN, excludedOwnerIds, pageable));
+
+            log.info("DB 조회 결과 - 카테고리: {}, 전체: {}, 현재 페이지: {}, 총 페이지: {}",
+                     categories, postPage.getTotalElements(), postPage.getNumberOfElements(), postPage.getTotalPages());
+
+            return convertSummariesToListResponse(postPage);
+        }));
     }
 
     /**
@@ -226,27 +260,368 @@ public class PostService {
     public PostListResponse getPostsByMultipleCategories(Long viewerId, List<String> categoriesList, int page, int size, String sort) {
         log.info("여러 카테고리 게시글 목록 조회 - viewerId: {}, 카테고리: {}, 페이지: {}, 크기: {}, 정렬: {}", viewerId, categoriesList, page, size, sort);
 
-        // REGEXP 패턴 생성: "0001|0002|0003" 형태
-        String categoryPattern = String.join("|", categoriesList);
-        log.info("생성된 REGEXP 패턴: {}", categoryPattern);
+        List<String> categoryCodes = categoriesList.stream()
+                .map(String::trim)
+                .filter(code -> !code.isEmpty())
+                .distinct()
+                .toList();
+        if (categoryCodes.isEmpty()) {
+            return convertToListResponse(Page.empty(PageRequest.of(page, size)));
+        }
 
         boolean isDeadline = "deadline".equalsIgnoreCase(sort);
-        Pageable pageable = PageRequest.of(page, size);
-        Page<GroupPost> postPage;
-        if (isDeadline) {
-            postPage = (viewerId != null)
-                    ? postRepository.findByCategoriesInAndStatusExcludingBlockedOrderByDeadline(viewerId, categoryPattern, PostStatus.OPEN.name(), pageable)
-                    : postRepository.findByCategoriesInAndStatusOrderByDeadline(categoryPattern, PostStatus.OPEN.name(), pageable);
+        String cacheKey = PostFeedCache.key("categories", String.join(",", categoryCodes.stream().sorted().toList()),
+                isDeadline ? "deadline" : "latest", page, size);
+        return withEngagement(viewerId, cachedFeed(viewerId, page, cacheKey, () -> {
+            Page<PostSummary> postPage = findExcludingBlocked(viewerId, page, size,
+                    (excludedOwnerIds, pageable) -> isDeadline
+                            ? postRepository.findByCategoriesInAndStatusOrderByDeadline(categoryCodes, PostStatus.OPEN, excludedOwnerIds, pageable)
+                            : postRepository.findByCategoriesInAndStatus(categoryCodes, PostStatus.OPEN, excludedOwnerIds, pageable));
+
+            log.info("DB 조회 결과 - 카테고리: {}, 전체: {}, 현재 페이지: {}, 총 페이지: {}",
+                     categoryCodes, postPage.getTotalElements(), postPage.getNumberOfElements(), postPage.getTotalPages());
+
+            return convertSummariesToListResponse(postPage);
+        }));
+    }
+
+    /**
+     * 게시글 커서 피드 조회 (무한 스크롤)
+     *
+     * (createdAt, id) 또는 (deadlineAt, id) keyset으로 조회하므로 페이지 깊이와 무관하게 비용이 같고,
+     * 전체 개수는 withTotal=true일 때만 계산합니다.
+     * - categories가 있으면 모집 중(OPEN) 게시글 중 해당 카테고리
+     * - status가 있으면 해당 상태의 게시글
+     * - 둘 다 없으면 CANCELLED를 제외한 전체 게시글
+     *
+     * @param viewerId 조회자 ID (nullable, 로그인 시 차단 유저 게시글 제외)
+     * @param sort latest(최신순) 또는 deadline(마감임박순)
+     * @param status 게시글 상태 (nullable)
+     * @param categories 카테고리 코드 목록 (nullable)
+     * @param cursor 이전 응답의 cursor.next (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param withTotal 전체 개수 포함 여부
+     * @return 커서 페이지
+     */
+    public CursorPageResponse<PostResponse> getPostFeed(Long viewerId, String sort, String status,
+                                                        List<String> categories, String cursor,
+                                                        int size, boolean withTotal) {
+        log.info("게시글 피드 조회 - viewerId: {}, 정렬: {}, 상태: {}, 카테고리: {}, 크기: {}", viewerId, sort, status, categories, size);
+
+        if (cursor != null && !cursor.isBlank()) {
+            return withEngagement(viewerId, loadPostFeed(viewerId, sort, status, categories, cursor, size, withTotal));
+        }
+        // 첫 페이지만 캐싱
+        String cacheKey = PostFeedCache.key("feed", sort.toLowerCase(), status == null ? "" : status.trim().toUpperCase(),
+                categories == null ? "" : String.join(",", categories), size, withTotal);
+        return withEngagement(viewerId, cachedFeed(viewerId, 0, cacheKey,
+                () -> loadPostFeed(viewerId, sort, status, categories, null, size, withTotal)));
+    }
+
+    private CursorPageResponse<PostResponse> loadPostFeed(Long viewerId, String sort, String status,
+                                                          List<String> categories, String cursor,
+                                                          int size, boolean withTotal) {
+        boolean isDeadline = "deadline".equalsIgnoreCase(sort);
+        PostFeedCursor feedCursor = PostFeedCursor.decode(cursor);
+        LocalDateTime cursorAt;
+        Long cursorId;
+        if (feedCursor != null) {
+            cursorAt = feedCursor.sortKey();
+            cursorId = feedCursor.id();
         } else {
-            postPage = (viewerId != null)
-                    ? postRepository.findByCategoriesInAndStatusExcludingBlocked(viewerId, categoryPattern, PostStatus.OPEN.name(), pageable)
-                    : postRepository.findByCategoriesInAndStatus(categoryPattern, PostStatus.OPEN.name(), pageable);
+            cursorAt = isDeadline ? FEED_MIN_TIME : FEED_MAX_TIME;
+            cursorId = isDeadline ? 0L : Long.MAX_VALUE;
         }
 
-        log.info("DB 조회 결과 - 카테고리 패턴: {}, 전체: {}, 현재 페이지: {}, 총 페이지: {}",
-                 categoryPattern, postPage.getTotalElements(), postPage.getNumberOfElements(), postPage.getTotalPages());
+        List<String> categoryCodes = categories == null ? List.of() : categories.stream()
+                .map(String::trim)
+                .filter(code -> !code.isEmpty())
+                .distinct()
+                .toList();
+        PostStatus postStatus = parseFeedStatus(status);
+        Set<Long> blockedIds = blockedUserCache.getBlockedIds(viewerId);
+
+        FeedQuery query;
+        Long totalElements = null;
+        if (!categoryCodes.isEmpty()) {
+            query = (at, id, limit) -> isDeadline
+                    ? postRepository.findFeedByCategoriesDeadline(categoryCodes, PostStatus.OPEN, at, id, limit)
+                    : postRepository.findFeedByCategoriesLatest(categoryCodes, PostStatus.OPEN, at, id, limit);
+            if (withTotal) {
+                totalElements = postRepository.countFeedByCategories(categoryCodes, PostStatus.OPEN)
+                        - (blockedIds.isEmpty() ? 0 : postRepository.countByCategoriesInAndStatusAndOwnerIdIn(categoryCodes, PostStatus.OPEN, blockedIds));
+            }
+        } else if (postStatus != null) {
+            query = (at, id, limit) -> isDeadline
+                    ? postRepository.findFeedByStatusDeadline(postStatus, at, id, limit)
+                    : postRepository.findFeedByStatusLatest(postStatus, at, id, limit);
+            if (withTotal) {
+                totalElements = postRepository.countFeedByStatus(postStatus)
+                        - (blockedIds.isEmpty() ? 0 : postRepository.countByOwnerIdInAndStatus(blockedIds, postStatus));
+            }
+        } else {
+            query = (at, id, limit) -> isDeadline
+                    ? postRepository.findFeedByDeadline(at, id, limit)
+                    : postRepository.findFeedLatest(at, id, limit);
+            if (withTotal) {
+                totalElements = postRepository.countFeed()
+                        - (blockedIds.isEmpty() ? 0 : postRepository.countByOwnerIdInAndStatusNot(blockedIds, PostStatus.CANCELLED));
+            }
+        }
 
-        return convertToListResponse(postPage);
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단, 차단 유저가 있으면 제외될 만큼 더 조회
+        int fetchSize = size + 1 + (blockedIds.isEmpty() ? 0 : size);
+        List<PostSummary> pagePosts = new ArrayList<>(size + 1);
+        boolean exhausted = false;
+        for (int round = 0; round < FEED_MAX_FETCH_ROUNDS && pagePosts.size() <= size && !exhausted; round++) {
+            List<PostSummary> rows = query.fetch(cursorAt, cursorId, PageRequest.of(0, fetchSize));
+            exhausted = rows.size() < fetchSize;
+            for (PostSummary post : rows) {
+                cursorAt = isDeadline ? post.deadlineAt() : post.createdAt();
+                cursorId = post.id();
+                if (!blockedIds.contains(post.ownerId())) {
+                    pagePosts.add(post);
+                    if (pagePosts.size() > size) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        boolean hasNext;
+        String nextCursor = null;
+        if (pagePosts.size() > size) {
+            hasNext = true;
+            pagePosts = pagePosts.subList(0, size);
+            PostSummary last = pagePosts.get(pagePosts.size() - 1);
+            nextCursor = new PostFeedCursor(isDeadline ? last.deadlineAt() : last.createdAt(), last.id()).encode();
+        } else {
+            // 조회 횟수 한도에 걸린 경우 마지막으로 확인한 위치부터 이어서 조회
+            hasNext = !exhausted;
+            if (hasNext) {
+                nextCursor = new PostFeedCursor(cursorAt, cursorId).encode();
+            }
+        }
+
+        return CursorPageResponse.<PostResponse>builder()
+                .content(pagePosts.stream().map(PostResponse::from).toList())
+                .cursor(CursorPageResponse.CursorInfo.builder()
+                        .next(nextCursor)
+                        .hasNext(hasNext)
+                        .totalElements(totalElements)
+                        .build())
+                .build();
+    }
+
+    /**
+     * 앞쪽 페이지이고 차단 목록이 없는 조회자(비로그인 포함)면 PostFeedCache를 거쳐 조회
+     *
+     * 차단 목록이 있는 조회자는 결과가 사람마다 다르므로 항상 loader를 직접 실행합니다.
+     */
+    private <T> T cachedFeed(Long viewerId, int page, String cacheKey, Supplier<T> loader) {
+        if (page >= PostFeedCache.CACHEABLE_PAGES || !blockedUserCache.getBlockedIds(viewerId).isEmpty()) {
+            return loader.get();
+        }
+        return postFeedCache.get(cacheKey, loader);
+    }
+
+    // ── 피드 카드 부가 정보 (저장 여부 / 저장 수 / 댓글 수) ───────────────────
+
+    private PostListResponse withEngagement(Long viewerId, PostListResponse response) {
+        return PostListResponse.builder()
+                .posts(withEngagement(viewerId, response.getPosts()))
+                .pageInfo(response.getPageInfo())
+                .build();
+    }
+
+    private CursorPageResponse<PostResponse> withEngagement(Long viewerId, CursorPageResponse<PostResponse> response) {
+        return CursorPageResponse.<PostResponse>builder()
+                .content(withEngagement(viewerId, response.getContent()))
+                .cursor(response.getCursor())
+                .build();
+    }
+
+    /**
+     * 목록 응답에 saved / saveCount / commentCount를 채운 사본 반환
+     *
+     * 페이지당 IN 쿼리 한 번으로 조회하므로 카드마다 저장 여부 확인(GET /api/v1/posts/saved/check)을
+     * 따로 호출할 필요가 없습니다. PostFeedCache에 보관된 응답은 조회자와 무관하게 공유되므로
+     * 원본은 수정하지 않고 사본에만 값을 채웁니다. saved는 로그인 사용자에게만 포함됩니다.
+     */
+    private List<PostResponse> withEngagement(Long viewerId, List<PostResponse> posts) {
+        if (posts == null || posts.isEmpty()) {
+            return posts;
+        }
+        Map<Long, PostEngagement> engagements = postRepository.findEngagementsByIdIn(
+                        posts.stream().map(PostResponse::getId).toList(), viewerId == null ? 0L : viewerId)
+                .stream()
+                .collect(Collectors.toMap(PostEngagement::postId, Function.identity()));
+
+        List<PostResponse> decorated = new ArrayList<>(posts.size());
+        for (PostResponse post : posts) {
+            PostEngagement engagement = engagements.get(post.getId());
+            if (engagement == null) {
+                decorated.add(post);
+                continue;
+            }
+            decorated.add(post.toBuilder()
+                    .saved(viewerId == null ? null : engagement.savedByViewer() > 0)
+                    .saveCount(engagement.saveCount())
+                    .commentCount(engagement.commentCount().longValue())
+                    .build());
+        }
+        return decorated;
+    }
+
+    /**
+     * 피드 keyset 조회 쿼리 (정렬 키, ID 이후 limit건)
+     */
+    @FunctionalInterface
+    private interface FeedQuery {
+        List<PostSummary> fetch(LocalDateTime cursorAt, Long cursorId, Pageable limit);
+    }
+
+    /**
+     * 차단 유저 게시글을 DB에서 제외한 page번째 페이지 조회
+     *
+     * 차단 목록을 NOT IN 조건으로 넘기므로 totalElements도 같은 조건으로 계산되고,
+     * 페이지 깊이와 무관하게 쿼리 한 번으로 조회합니다.
+     * 차단 목록이 비어 있으면(대부분의 사용자) NO_EXCLUDED_OWNERS를 넘깁니다.
+     *
+     * @param viewerId 조회자 ID (nullable)
+     * @param pageQuery 제외할 작성자 ID 목록을 받는 페이지 쿼리
+     */
+    private Page<PostSummary> findExcludingBlocked(Long viewerId, int page, int size,
+                                                   BiFunction<Collection<Long>, Pageable, Page<PostSummary>> pageQuery) {
+        Set<Long> blockedIds = blockedUserCache.getBlockedIds(viewerId);
+        return pageQuery.apply(blockedIds.isEmpty() ? NO_EXCLUDED_OWNERS : blockedIds, PageRequest.of(page, size));
+    }
+
+    /**
+     * 피드 상태 필터 파싱 (CANCELLED는 조회 불가)
+     */
+    private PostStatus parseFeedStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            PostStatus postStatus = PostStatus.valueOf(status.trim().toUpperCase());
+            if (postStatus != PostStatus.CANCELLED) {
+                return postStatus;
+            }
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 상태 값 입력 {}: {}", e.getClass().getSimpleName(), status);
+        }
+        throw PostException.invalidStatus("올바른 상태를 입력하세요 (OPEN, CLOSED, PROCESSING, COMPLETED)");
+    }
+
+    /**
+     * 주변 OPEN 게시글 조회 (가까운 순, 커서 기반)
+     *
+     * 반경을 덮는 지오해시 셀(최대 9개)마다 인덱스 범위 안에서 반경 / 커서 조건을 DB에서 적용해
+     * 가까운 순 (size + 1)건만 조회하고, 이를 (거리, ID) 순으로 합쳐 size건을 반환합니다.
+     * 위도·경도를 생략하면 로그인 사용자가 위치 인증 때 저장한 좌표를 사용합니다.
+     *
+     * @param viewerId 조회자 ID (nullable, 비로그인)
+     * @param latitude 기준 위도 (nullable)
+     * @param longitude 기준 경도 (nullable)
+     * @param radiusMeters 반경 (미터, 최대 NEARBY_MAX_RADIUS_METERS)
+     * @param cursor 이전 응답의 cursor.next (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 커서 페이지 (각 게시글에 distanceMeters 포함)
+     */
+    public CursorPageResponse<PostResponse> getNearbyPosts(Long viewerId, Double latitude, Double longitude,
+                                                           int radiusMeters, String cursor, int size) {
+        log.info("주변 게시글 조회 - viewerId: {}, 반경: {}m, 크기: {}", viewerId, radiusMeters, size);
+
+        if ((latitude == null) != (longitude == null)) {
+            throw PostException.badRequest("위도와 경도는 함께 입력해야 합니다.");
+        }
+        if (latitude == null) {
+            User viewer = viewerId == null ? null : userRepository.findById(viewerId).orElse(null);
+            if (viewer == null || viewer.getLatitude() == null || viewer.getLongitude() == null) {
+                throw PostException.badRequest("위치 정보가 없습니다. 위도·경도를 입력하거나 위치 인증을 먼저 해주세요.");
+            }
+            latitude = viewer.getLatitude();
+            longitude = viewer.getLongitude();
+        }
+        if (latitude < -90 || latitude > 90) {
+            throw PostException.badRequest("위도는 -90 ~ 90 사이여야 합니다.");
+        }
+        if (longitude < -180 || longitude > 180) {
+            throw PostException.badRequest("경도는 -180 ~ 180 사이여야 합니다.");
+        }
+        if (radiusMeters <= 0 || radiusMeters > NEARBY_MAX_RADIUS_METERS) {
+            throw PostException.badRequest("반경은 1 ~ " + NEARBY_MAX_RADIUS_METERS + "m 사이여야 합니다.");
+        }
+
+        PostNearbyCursor nearbyCursor = PostNearbyCursor.decode(cursor);
+        double cursorDistance = nearbyCursor != null ? nearbyCursor.distance() : -1;
+        Long cursorId = nearbyCursor != null ? nearbyCursor.id() : 0L;
+        Set<Long> blockedIds = blockedUserCache.getBlockedIds(viewerId);
+        Collection<Long> excludedOwnerIds = blockedIds.isEmpty() ? NO_EXCLUDED_OWNERS : blockedIds;
+
+        // 셀마다 커서 이후 가까운 순 (size + 1)건만 조회 → 합쳐서 다시 정렬해도 전체 상위 (size + 1)건이 보장됨
+        double latDelta = GeoHashUtil.latitudeDelta(radiusMeters);
+        double lonDelta = GeoHashUtil.longitudeDelta(latitude, radiusMeters);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<PostLocation> candidates = new ArrayList<>();
+        for (String cell : GeoHashUtil.coveringCells(latitude, longitude, radiusMeters)) {
+            candidates.addAll(postRepository.findNearestInCell(PostStatus.OPEN,
+                    cell, GeoHashUtil.prefixUpperBound(cell),
+                    latitude - latDelta, latitude + latDelta, longitude - lonDelta, longitude + lonDelta,
+                    latitude, longitude, radiusMeters, excludedOwnerIds, cursorDistance, cursorId, limit));
+        }
+
+        // 한 건 더 남겨서 다음 페이지 존재 여부 판단
+        List<PostLocation> page = candidates.stream()
+                .sorted(Comparator.comparingDouble(PostLocation::distanceMeters).thenComparing(PostLocation::id))
+                .limit(size + 1L)
+                .collect(Collectors.toCollection(ArrayList::new));
+        boolean hasNext = page.size() > size;
+        if (hasNext) {
+            page = page.subList(0, size);
+        }
+
+        Map<Long, PostSummary> byId = page.isEmpty() ? Map.of()
+                : postRepository.findSummariesByIdIn(page.stream().map(PostLocation::id).toList()).stream()
+                        .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        List<PostResponse> content = new ArrayList<>(page.size());
+        for (PostLocation candidate : page) {
+            PostSummary summary = byId.get(candidate.id());
+            if (summary != null) {
+                PostResponse response = PostResponse.from(summary);
+                response.setDistanceMeters(Math.round(candidate.distanceMeters()));
+                content.add(response);
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostLocation last = page.get(page.size() - 1);
+            nextCursor = new PostNearbyCursor(last.distanceMeters(), last.id()).encode();
+        }
+
+        return CursorPageResponse.<PostResponse>builder()
+                .content(withEngagement(viewerId, content))
+                .cursor(CursorPageResponse.CursorInfo.builder()
+                        .next(nextCursor)
+                        .hasNext(hasNext)
+                        .build())
+                .build();
+    }
+
+    /**
+     * 게시글 위치 반영 (위도·경도는 함께 입력해야 하며, 지오해시를 다시 계산)
+     */
+    private void applyLocation(GroupPost post, Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw PostException.badRequest("위도와 경도는 함께 입력해야 합니다.");
+        }
+        post.setLatitude(latitude);
+        post.setLongitude(longitude);
+        post.setGeohash(latitude == null ? null
+                : GeoHashUtil.encode(latitude, longitude, GeoHashUtil.STORED_PRECISION));
     }
 
     /**
@@ -292,6 +667,8 @@ public class PostService {
         }
 
         // 3. 수정 (null이 아닌 필드만 업데이트)
+        String previousTitle = post.getTitle();
+        PostStatus previousStatus = post.getStatus();
         if (request.getTitle() != null) {
             post.setTitle(request.getTitle());
         }
@@ -307,6 +684,9 @@ public class PostService {
         if (request.getLocationName() != null) {
             post.setLocationName(request.getLocationName());
         }
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            applyLocation(post, request.getLatitude(), request.getLongitude());
+        }
         if (request.getMeetAt() != null) {
             post.setMeetAt(request.getMeetAt());
         }
@@ -328,6 +708,17 @@ public class PostService {
             }
         }
 
+        // 4. 카테고리 인덱스 반영 (카테고리 / 마감일 / 상태 변경 시)
+        if (request.getCategories() != null || request.getDeadlineAt() != null || request.getStatus() != null) {
+            postCategoryIndexer.reindex(post);
+        }
+        searchTermIndexer.reindex(post, previousTitle, previousStatus);
+        postFeedCache.invalidateAll();
+        userProfileCache.invalidate(userId);
+        if (post.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(UserStatsChangedEvent.of(userId));
+        }
+
         log.info("[사용자 작동] 게시글 수정 완료 - 게시글 ID: {}, 사용자 ID: {}", postId, userId);
         return convertToResponse(post);
     }
@@ -363,7 +754,12 @@ public class PostService {
         }
 
         // 4. 상태를 CANCELLED로 변경 (소프트 삭제)
+        searchTermIndexer.remove(post);
         post.setStatus(PostStatus.CANCELLED);
+        postCategoryIndexer.updateStatus(postId, PostStatus.CANCELLED);
+        postFeedCache.invalidateAll();
+        userProfileCache.invalidate(userId);
+        eventPublisher.publishEvent(UserStatsChangedEvent.of(userId));
 
         // 5. 해당 게시글을 저장한 모든 SavedPost 레코드 삭제
         savedPostRepository.deleteByPostId(postId);
@@ -392,6 +788,8 @@ public class PostService {
                 .itemsText(post.getItemsText())
                 .notesText(post.getNotesText())
                 .locationName(post.getLocationName())
+                .latitude(post.getLatitude())
+                .longitude(post.getLongitude())
                 .meetAt(post.getMeetAt())
                 .deadlineAt(post.getDeadlineAt())
                 .minMembers(post.getMinMembers())
@@ -407,19 +805,28 @@ public class PostService {
      * Page<GroupPost>를 PostListResponse DTO로 변환
      */
     private PostListResponse convertToListResponse(Page<GroupPost> postPage) {
+        return buildListResponse(postPage.map(this::convertToResponse));
+    }
+
+    /**
+     * 목록 프로젝션 페이지를 PostListResponse DTO로 변환
+     */
+    private PostListResponse convertSummariesToListResponse(Page<PostSummary> summaryPage) {
+        return buildListResponse(summaryPage.map(PostResponse::from));
+    }
+
+    private PostListResponse buildListResponse(Page<PostResponse> responsePage) {
         return PostListResponse.builder()
-                .posts(postPage.getContent().stream()
-                        .map(this::convertToResponse)
-                        .toList())
+                .posts(responsePage.getContent())
                 .pageInfo(PostListResponse.PageInfo.builder()
-                        .currentPage(postPage.getNumber())
-                        .pageSize(postPage.getSize())
-                        .totalElements(postPage.getTotalElements())
-                        .totalPages(postPage.getTotalPages())
-                        .first(postPage.isFirst())
-                        .last(postPage.isLast())
-                        .hasNext(postPage.hasNext())
-                        .hasPrevious(postPage.hasPrevious())
+                        .currentPage(responsePage.getNumber())
+                        .pageSize(responsePage.getSize())
+                        .totalElements(responsePage.getTotalElements())
+                        .totalPages(responsePage.getTotalPages())
+                        .first(responsePage.isFirst())
+                        .last(responsePage.isLast())
+                        .hasNext(responsePage.hasNext())
+                        .hasPrevious(responsePage.hasPrevious())
                         .build())
                 .build();
     }
@@ -0,0 +1,59 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.application.chat.ChatMessageService;
+import com.sobunsobun.backend.domain.chat.ChatMessageType;
+import com.sobunsobun.backend.domain.chat.ChatRoom;
+import com.sobunsobun.backend.infrastructure.redis.PostFeedCache;
+import com.sobunsobun.backend.repository.chat.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 게시글 상태 변경 이벤트 처리
+ *
+ * 상태 변경 트랜잭션이 커밋된 뒤에만 실행되므로, 롤백된 변경으로 캐시를 비우거나 안내 메시지를 보내지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostStatusEventListener {
+
+    static final String DEADLINE_CLOSED_MESSAGE = "모집 마감 시간이 지나 모집이 마감되었습니다.";
+
+    private final PostFeedCache postFeedCache;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageService chatMessageService;
+
+    /**
+     * 자동 마감 후 처리
+     * 1. 피드 캐시 무효화
+     * 2. 게시글 단체 채팅방에 마감 안내 시스템 메시지 발송 (발신자: 게시글 작성자)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPostsClosed(PostsClosedEvent event) {
+        postFeedCache.invalidateAll();
+
+        List<ChatRoom> rooms = chatRoomRepository.findGroupRoomsByGroupPostIds(event.postIds());
+        for (ChatRoom room : rooms) {
+            try {
+                chatMessageService.publishSystemMessage(
+                        room.getId(),
+                        room.getGroupPost().getOwner(),
+                        ChatMessageType.SYSTEM,
+                        DEADLINE_CLOSED_MESSAGE
+                );
+            } catch (Exception e) {
+                log.warn(" [게시글 마감] 채팅방 안내 메시지 발송 실패 - roomId: {}, error: {}", room.getId(), e.getMessage());
+            }
+        }
+        log.debug(" [게시글 마감] 후처리 완료 - posts: {}, rooms: {}", event.postIds().size(), rooms.size());
+    }
+}
@@ -0,0 +1,13 @@
+package com.sobunsobun.backend.application.post;
+
+import java.util.List;
+
+/**
+ * 마감 시간이 지나 게시글이 자동으로 마감(OPEN → CLOSED)되었음을 알리는 이벤트
+ *
+ * 트랜잭션 커밋 후 PostStatusEventListener가 피드 캐시 무효화와 채팅방 안내 메시지를 처리합니다.
+ *
+ * @param postIds 마감된 게시글 ID 목록
+ */
+public record PostsClosedEvent(List<Long> postIds) {
+}
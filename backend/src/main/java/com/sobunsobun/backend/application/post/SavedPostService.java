@@ -6,6 +6,7 @@ import com.sobunsobun.backend.domain.SavedPost;
 import com.sobunsobun.backend.domain.User;
 import com.sobunsobun.backend.dto.post.PostListResponse;
 import com.sobunsobun.backend.dto.post.PostResponse;
+import com.sobunsobun.backend.dto.post.PostStatusCount;
 import com.sobunsobun.backend.dto.post.SavedPostDto;
 import com.sobunsobun.backend.repository.GroupPostRepository;
 import com.sobunsobun.backend.repository.SavedPostRepository;
@@ -133,10 +134,11 @@ public class SavedPostService {
 
     /**
      * 게시글 저장 여부 확인
+     * 목록 화면은 피드 응답의 saved 필드를 사용 (PostService 참고)
      */
     @Transactional(readOnly = true)
     public boolean isSaved(Long userId, Long postId) {
-        return savedPostRepository.findByUserIdAndPostId(userId, postId).isPresent();
+        return savedPostRepository.existsByUserIdAndPostId(userId, postId);
     }
 
     /**
@@ -157,23 +159,17 @@ public class SavedPostService {
 
     /**
      * 저장된 게시글 통계
+     * 상태별 개수를 GROUP BY 한 번으로 집계 (저장 개수와 무관하게 상태 수만큼의 행만 조회)
      */
     @Transactional(readOnly = true)
     public SavedPostDto.StatisticsResponse getSavedPostStatistics(Long userId) {
-        long totalSavedPosts = savedPostRepository.countByUserId(userId);
-
-        // 활성 게시글과 종료된 게시글 개수 집계
-        Page<SavedPost> savedPosts = savedPostRepository.findByUserIdOrderByCreatedAtDesc(userId,
-                org.springframework.data.domain.PageRequest.of(0, Integer.MAX_VALUE));
-
+        long totalSavedPosts = 0;
         long activePosts = 0;
-        long closedPosts = 0;
 
-        for (SavedPost saved : savedPosts) {
-            if ("OPEN".equals(saved.getPost().getStatus().name())) {
-                activePosts++;
-            } else {
-                closedPosts++;
+        for (PostStatusCount statusCount : savedPostRepository.countByUserIdGroupByPostStatus(userId)) {
+            totalSavedPosts += statusCount.count();
+            if (statusCount.status() == PostStatus.OPEN) {
+                activePosts += statusCount.count();
             }
         }
 
@@ -181,7 +177,7 @@ public class SavedPostService {
                 .userId(userId)
                 .totalSavedPosts(totalSavedPosts)
                 .activePosts(activePosts)
-                .closedPosts(closedPosts)
+                .closedPosts(totalSavedPosts - activePosts)
                 .build();
     }
 
@@ -0,0 +1,181 @@
+package com.sobunsobun.backend.application.search;
+
+import com.sobunsobun.backend.dto.search.SearchTermWeight;
+import com.sobunsobun.backend.repository.search.SearchTermDailyStatsRepository;
+import com.sobunsobun.backend.support.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검색어 자동완성 인덱스 (인메모리 접두사 트라이)
+ *
+ * 최근 7일 단어 빈도 통계(search_term_daily_stats)로 두 개의 트라이를 만듭니다.
+ * - 자모 트라이: "치킨" → "ㅊㅣㅋㅣㄴ" (입력 중인 글자 "칰"도 접두사로 매칭)
+ * - 초성 트라이: "치킨" → "ㅊㅋ" (자음만 입력한 경우)
+ * 각 노드에 빈도 상위 MAX_SUGGESTIONS개 단어를 미리 저장하므로 조회는 O(접두사 길이 + limit)입니다.
+ *
+ * 5분마다 백그라운드(스케줄러 스레드)에서 새 스냅샷을 만들어 참조만 교체하므로,
+ * 조회는 락 없이 항상 완성된 스냅샷 하나를 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchAutocompleteIndex {
+
+    /** 자동완성 최대 반환 개수 (노드별 저장 개수) */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int WINDOW_DAYS = 7;
+    private static final int MAX_TERMS = 5_000;
+
+    private final SearchTermDailyStatsRepository searchTermDailyStatsRepository;
+
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+
+    // ── 통계 ──────────────────────────────────────────────────────────────────
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder lookupNanos = new LongAdder();
+
+    /**
+     * 접두사로 자동완성 단어 조회 (빈도 내림차순)
+     *
+     * @param prefix 입력 중인 검색어 (자음만 입력하면 초성 검색)
+     * @param limit 반환할 개수 (최대 MAX_SUGGESTIONS)
+     * @return 자동완성 단어 목록
+     */
+    public List<String> suggest(String prefix, int limit) {
+        long start = System.nanoTime();
+        List<String> result = snapshot.suggest(prefix, limit);
+        lookups.increment();
+        lookupNanos.add(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * 5분마다 통계에서 인덱스를 다시 만들어 교체
+     */
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.MINUTES)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<SearchTermWeight> terms = searchTermDailyStatsRepository.findTermWeights(
+                    LocalDate.now().minusDays(WINDOW_DAYS), PageRequest.of(0, MAX_TERMS));
+            snapshot = Snapshot.build(terms);
+            log.debug(" [자동완성] 인덱스 교체 - terms: {}, {}ms", terms.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 이전 스냅샷을 계속 사용
+            log.error(" [자동완성] 인덱스 구축 실패 - 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 10분마다 조회 수 / 평균 조회 시간 로깅
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void logStats() {
+        long count = lookups.sum();
+        log.info(" [자동완성 통계] terms: {}, lookups: {}, avg: {}µs",
+                snapshot.size(), count, count == 0 ? 0 : lookupNanos.sum() / count / 1_000);
+    }
+
+    // ── 스냅샷 ────────────────────────────────────────────────────────────────
+
+    /**
+     * 불변 인덱스 스냅샷 (구축 후 수정하지 않음)
+     */
+    static final class Snapshot {
+
+        private final String[] terms;
+        private final Node jamoRoot = new Node();
+        private final Node choseongRoot = new Node();
+
+        private Snapshot(String[] terms) {
+            this.terms = terms;
+        }
+
+        /**
+         * 빈도 내림차순으로 정렬된 단어 목록으로 스냅샷 생성
+         * 빈도 순으로 삽입하므로 각 노드에 먼저 들어온 MAX_SUGGESTIONS개가 곧 상위 단어입니다.
+         */
+        static Snapshot build(List<SearchTermWeight> weights) {
+            String[] terms = weights.stream().map(SearchTermWeight::term).toArray(String[]::new);
+            Snapshot snapshot = new Snapshot(terms);
+            for (int rank = 0; rank < terms.length; rank++) {
+                snapshot.jamoRoot.insert(HangulUtil.decompose(terms[rank]), rank);
+                snapshot.choseongRoot.insert(HangulUtil.choseong(terms[rank]), rank);
+            }
+            return snapshot;
+        }
+
+        List<String> suggest(String prefix, int limit) {
+            if (prefix == null || prefix.isBlank() || limit <= 0) {
+                return List.of();
+            }
+            String normalized = prefix.replaceAll("\\s+", "");
+            Node node = HangulUtil.isChoseongOnly(normalized)
+                    ? choseongRoot.find(normalized)
+                    : jamoRoot.find(HangulUtil.decompose(normalized));
+            if (node == null) {
+                return List.of();
+            }
+
+            int count = Math.min(Math.min(limit, MAX_SUGGESTIONS), node.topSize);
+            List<String> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(terms[node.top[i]]);
+            }
+            return result;
+        }
+
+        int size() {
+            return terms.length;
+        }
+    }
+
+    /**
+     * 트라이 노드 (빈도 상위 단어 순위를 최대 MAX_SUGGESTIONS개 보관)
+     */
+    private static final class Node {
+
+        private Map<Character, Node> children;
+        private final int[] top = new int[MAX_SUGGESTIONS];
+        private int topSize;
+
+        void insert(String key, int rank) {
+            Node node = this;
+            node.addTop(rank);
+            for (int i = 0; i < key.length(); i++) {
+                if (node.children == null) {
+                    node.children = new HashMap<>(4);
+                }
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.addTop(rank);
+            }
+        }
+
+        Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children == null ? null : node.children.get(key.charAt(i));
+            }
+            return node;
+        }
+
+        private void addTop(int rank) {
+            if (topSize < MAX_SUGGESTIONS) {
+                top[topSize++] = rank;
+            }
+        }
+    }
+}
@@ -1,19 +1,28 @@
 package com.sobunsobun.backend.application.search;
 
-import com.sobunsobun.backend.domain.GroupPost;
 import com.sobunsobun.backend.domain.PostStatus;
 import com.sobunsobun.backend.dto.post.PostListResponse;
 import com.sobunsobun.backend.dto.post.PostResponse;
 import com.sobunsobun.backend.dto.post.PostSearchRequest;
+import com.sobunsobun.backend.dto.post.PostSummary;
 import com.sobunsobun.backend.repository.search.SearchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 검색 서비스
  * 공동구매 게시글 검색 비즈니스 로직 담당
@@ -26,6 +35,14 @@ public class SearchService {
 
     private final SearchRepository searchRepository;
 
+    /** FULLTEXT ngram 토큰 길이 (MySQL ngram_token_size 기본값), 이보다 짧은 검색어는 LIKE로 검색 */
+    private static final int MIN_FULLTEXT_TERM_LENGTH = 2;
+    private static final int MAX_SEARCH_TERMS = 5;
+
+    /** 마감일 필터가 없을 때의 범위 */
+    private static final LocalDateTime DEADLINE_MIN = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime DEADLINE_MAX = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     /**
      * 검색어로 게시글 검색 (OPEN 상태만)
      * title, categories, itemsText, locationName 중 하나라도 포함되면 검색됨
@@ -34,29 +51,11 @@ public class SearchService {
      * @return 검색 결과 (페이징)
      */
     public PostListResponse searchPosts(PostSearchRequest request) {
-        log.info("[검색] 게시글 검색 시작 (OPEN 상태만) - 키워드: '{}', 정렬: {}, 페이지: {}, 크기: {}",
-                request.getKeyword(), request.getSortBy(), request.getPage(), request.getSize());
-
-        Pageable pageable = PageRequest.of(
-                request.getPage(),
-                request.getSize()
-        );
-
-        Page<GroupPost> postPage;
-        if ("deadline".equalsIgnoreCase(request.getSortBy())) {
-            // 마감임박순
-            postPage = searchRepository.searchByKeywordOrderByDeadline(request.getKeyword(), pageable);
-        } else {
-            // 최신순 (기본값)
-            postPage = searchRepository.searchByKeyword(request.getKeyword(), pageable);
-        }
-
-        log.info("[검색] 검색 완료 - 총 {}건 발견, 현재 페이지: {}/{}",
-                postPage.getTotalElements(),
-                postPage.getNumber() + 1,
-                postPage.getTotalPages());
+        log.info("[검색] 게시글 검색 시작 (OPEN 상태만) - 키워드: '{}', 정렬: {}, 마감 {}시간 이내, 페이지: {}, 크기: {}",
+                request.getKeyword(), request.getSortBy(), request.getDeadlineWithinHours(), request.getPage(), request.getSize());
 
-        return convertToListResponse(postPage);
+        return search(request.getKeyword(), PostStatus.OPEN, request.getSortBy(),
+                request.getDeadlineWithinHours(), request.getPage(), request.getSize());
     }
 
     /**
@@ -64,70 +63,123 @@ public class SearchService {
      *
      * @param keyword 검색 키워드
      * @param status 게시글 상태 (OPEN, CLOSED, CANCELLED)
-     * @param sortBy 정렬 기준 (latest: 최신순, deadline: 마감임박순)
+     * @param sortBy 정렬 기준 (latest: 최신순, deadline: 마감임박순, relevance: 관련도순)
+     * @param deadlineWithinHours 지금부터 N시간 안에 마감되는 게시글만 (nullable)
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @return 검색 결과 (페이징)
      */
-    public PostListResponse searchPostsByStatus(String keyword, String status, String sortBy, int page, int size) {
-        log.info("[검색] 상태별 게시글 검색 시작 - 키워드: '{}', 상태: {}, 정렬: {}, 페이지: {}, 크기: {}",
-                keyword, status, sortBy, page, size);
+    public PostListResponse searchPostsByStatus(String keyword, String status, String sortBy,
+                                                Integer deadlineWithinHours, int page, int size) {
+        log.info("[검색] 상태별 게시글 검색 시작 - 키워드: '{}', 상태: {}, 정렬: {}, 마감 {}시간 이내, 페이지: {}, 크기: {}",
+                keyword, status, sortBy, deadlineWithinHours, page, size);
 
-        Pageable pageable = PageRequest.of(page, size);
         PostStatus postStatus = PostStatus.valueOf(status.toUpperCase());
-        Page<GroupPost> postPage;
+        return search(keyword, postStatus, sortBy, deadlineWithinHours, page, size);
+    }
+
+    /**
+     * 게시글 검색 공통 처리
+     *
+     * 모든 검색어 단어가 2글자 이상이면 FULLTEXT 인덱스로 ID를 찾고 목록 컬럼을 한 번에 조회합니다.
+     * 1글자 단어가 섞인 검색어(예: "쌀")는 ngram 인덱스로 찾을 수 없으므로 기존 LIKE 검색을 사용합니다.
+     * 단어가 MAX_SEARCH_TERMS개를 넘는 검색어도 LIKE 검색을 사용합니다.
+     */
+    private PostListResponse search(String keyword, PostStatus status, String sortBy,
+                                    Integer deadlineWithinHours, int page, int size) {
+        long start = System.nanoTime();
+        Pageable pageable = PageRequest.of(page, size);
+
+        LocalDateTime deadlineFrom = DEADLINE_MIN;
+        LocalDateTime deadlineTo = DEADLINE_MAX;
+        if (deadlineWithinHours != null && deadlineWithinHours > 0) {
+            deadlineFrom = LocalDateTime.now();
+            deadlineTo = deadlineFrom.plusHours(deadlineWithinHours);
+        }
 
-        if ("deadline".equalsIgnoreCase(sortBy)) {
-            // 마감임박순
-            postPage = searchRepository.searchByKeywordAndStatusOrderByDeadline(keyword, postStatus, pageable);
+        String query = toBooleanModeQuery(keyword);
+        Page<PostSummary> postPage;
+        if (query != null) {
+            Page<Long> idPage;
+            if ("deadline".equalsIgnoreCase(sortBy)) {
+                // 마감임박순
+                idPage = searchRepository.searchIdsOrderByDeadline(query, status.name(), deadlineFrom, deadlineTo, pageable);
+            } else if ("relevance".equalsIgnoreCase(sortBy)) {
+                // 관련도순
+                idPage = searchRepository.searchIdsByRelevance(query, status.name(), deadlineFrom, deadlineTo, pageable);
+            } else {
+                // 최신순 (기본값)
+                idPage = searchRepository.searchIdsOrderByCreatedAt(query, status.name(), deadlineFrom, deadlineTo, pageable);
+            }
+            postPage = loadSummaries(idPage);
         } else {
-            // 최신순 (기본값)
-            postPage = searchRepository.searchByKeywordAndStatus(keyword, postStatus, pageable);
+            String likeKeyword = keyword == null ? "" : keyword.trim();
+            postPage = "deadline".equalsIgnoreCase(sortBy)
+                    ? searchRepository.searchByKeywordAndStatusOrderByDeadline(likeKeyword, status, deadlineFrom, deadlineTo, pageable)
+                    : searchRepository.searchByKeywordAndStatus(likeKeyword, status, deadlineFrom, deadlineTo, pageable);
         }
 
-        log.info("[검색] 검색 완료 - 총 {}건 발견, 현재 페이지: {}/{}",
+        log.info("[검색] 검색 완료 - 방식: {}, 총 {}건 발견, 현재 페이지: {}/{}, {}ms",
+                query != null ? "FULLTEXT" : "LIKE",
                 postPage.getTotalElements(),
                 postPage.getNumber() + 1,
-                postPage.getTotalPages());
+                postPage.getTotalPages(),
+                (System.nanoTime() - start) / 1_000_000);
 
         return convertToListResponse(postPage);
     }
 
     /**
-     * GroupPost 엔티티를 PostResponse DTO로 변환
+     * 검색어를 BOOLEAN MODE 검색식으로 변환 (모든 단어 필수 포함)
+     * 예: "치킨 강남" → +"치킨" +"강남"
+     *
+     * 연산자 문자를 제거한 뒤 빈 단어는 버립니다 (예: "치킨 +" → +"치킨").
+     * 단어가 MAX_SEARCH_TERMS개를 넘으면 일부만 검색하지 않고 LIKE 검색으로 넘깁니다.
+     *
+     * @return 검색식, FULLTEXT로 검색할 수 없는 검색어(빈 값, 2글자 미만 단어 포함, 단어 수 초과)면 null
      */
-    private PostResponse convertToResponse(GroupPost post) {
-        return PostResponse.builder()
-                .id(post.getId())
-                .owner(PostResponse.OwnerInfo.builder()
-                        .id(post.getOwner().getId())
-                        .nickname(post.getOwner().getNickname())
-                        .profileImageUrl(post.getOwner().getProfileImageUrl())
-                        .build())
-                .title(post.getTitle())
-                .categoryCode(post.getCategories())
-                .content(post.getContent())
-                .itemsText(post.getItemsText())
-                .notesText(post.getNotesText())
-                .locationName(post.getLocationName())
-                .meetAt(post.getMeetAt())
-                .deadlineAt(post.getDeadlineAt())
-                .minMembers(post.getMinMembers())
-                .maxMembers(post.getMaxMembers())
-                .joinedMembers(post.getJoinedMembers())
-                .status(post.getStatus())
-                .createdAt(post.getCreatedAt())
-                .updatedAt(post.getUpdatedAt())
-                .build();
+    private String toBooleanModeQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        List<String> terms = Arrays.stream(keyword.trim().split("\\s+"))
+                .map(term -> term.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(term -> !term.isEmpty())
+                .toList();
+        if (terms.isEmpty() || terms.size() > MAX_SEARCH_TERMS
+                || terms.stream().anyMatch(term -> term.length() < MIN_FULLTEXT_TERM_LENGTH)) {
+            return null;
+        }
+        return terms.stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * 검색된 ID 페이지를 목록 프로젝션 페이지로 변환 (검색 순서 유지)
+     */
+    private Page<PostSummary> loadSummaries(Page<Long> idPage) {
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
+        }
+        Map<Long, PostSummary> byId = searchRepository.findSummariesByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        List<PostSummary> ordered = idPage.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ordered, idPage.getPageable(), idPage.getTotalElements());
     }
 
     /**
-     * Page<GroupPost>를 PostListResponse DTO로 변환
+     * 목록 프로젝션 페이지를 PostListResponse DTO로 변환
+     * 작성자 정보는 쿼리에서 함께 조회하므로 게시글마다 작성자를 지연 로딩하지 않음
      */
-    private PostListResponse convertToListResponse(Page<GroupPost> postPage) {
+    private PostListResponse convertToListResponse(Page<PostSummary> postPage) {
         return PostListResponse.builder()
                 .posts(postPage.getContent().stream()
-                        .map(this::convertToResponse)
+                        .map(PostResponse::from)
                         .toList())
                 .pageInfo(PostListResponse.PageInfo.builder()
                         .currentPage(postPage.getNumber())
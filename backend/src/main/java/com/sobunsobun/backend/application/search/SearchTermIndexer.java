@@ -0,0 +1,218 @@
+package com.sobunsobun.backend.application.search;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.SearchTermDailyStats;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.search.SearchTermDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 검색어 단어 빈도 통계(search_term_daily_stats) 관리
+ *
+ * OPEN 게시글 제목의 단어 빈도를 게시글 생성일 버킷에 누적합니다.
+ * 게시글이 생성되거나 OPEN으로 바뀌면 +, 마감·취소·삭제되거나 제목이 바뀌면 이전 제목만큼 - 반영합니다.
+ * 게시글의 title / status를 바꾸는 모든 곳에서 호출해야 하며,
+ * 누락이나 일괄 변경으로 생긴 오차는 SearchTermStatsScheduler가 매일 재집계하여 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchTermIndexer {
+
+    /** 통계 보관 기간 (일), 추천어 조회 기간은 이 값을 넘을 수 없음 */
+    public static final int MAX_WINDOW_DAYS = 30;
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final SearchTermDailyStatsRepository searchTermDailyStatsRepository;
+    private final GroupPostRepository groupPostRepository;
+
+    /**
+     * 불용어 목록 (한글 조사, 조동사, 일반 불용어, 의미 없는 단어)
+     */
+    private static final Set<String> STOP_WORDS = Set.of(
+            // 조사
+            "이", "그", "저", "것", "수", "등", "같", "때",
+            "에", "에서", "에게", "에게서", "으로", "로", "와", "과", "이랑",
+            "도", "만", "까지", "부터", "마다", "보다", "같이", "처럼",
+            // 조동사/보조동사
+            "있", "없", "되", "하", "된", "하다", "있다", "없다", "되다",
+            "가", "오", "들", "나", "드", "군", "야", "어",
+            // 일반 불용어
+            "공동구매", "공구", "구매", "상품", "가능", "합니다", "됩니다",
+            "맡깁니다", "물품", "사람", "명", "개", "개월", "주", "일",
+            // 의미 없는 단어 (모임/참여 관련)
+            "하실분", "모임", "참여", "신청", "테스트", "테스트모임", "관심", "환영",
+            "구인", "구직", "채용", "지원", "몇", "정도", "약", "정말",
+            "꼭", "무조건", "반드시", "왕", "초", "완전", "진짜", "진정",
+            // 짧은 단어들 (음식명 제외하고 의미 없는 단어)
+            "아", "응", "음", "네", "예", "안", "줄", "단", "검"
+    );
+
+    /**
+     * 특수문자를 제거하는 정규표현식
+     */
+    private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile("[^가-힣a-zA-Z0-9 ]");
+
+    /**
+     * 공백 패턴
+     */
+    private static final Pattern SPACE_PATTERN = Pattern.compile("\\s+");
+
+    /**
+     * 텍스트를 토큰화 (공백/특수문자 기준 분리)
+     *
+     * 처리 과정:
+     * 1. 특수문자 제거
+     * 2. 공백으로 분리
+     * 3. 2글자 이상, term 컬럼 길이(SearchTermDailyStats.TERM_MAX_LENGTH) 이하만 유지
+     *    (공백 없는 긴 제목이 UPSERT를 실패시켜 게시글 저장이 롤백되지 않도록 긴 토큰은 건너뜀)
+     * 4. 불용어 제거
+     * 5. 소문자로 변환
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 특수문자 제거
+        String cleaned = SPECIAL_CHAR_PATTERN.matcher(text).replaceAll("");
+
+        // 2. 공백으로 분리
+        String[] tokens = SPACE_PATTERN.split(cleaned.trim());
+
+        // 3. 2글자 이상 / 최대 길이 이하, 불용어 제외
+        return Arrays.stream(tokens)
+                .filter(token -> token.length() >= 2 && token.length() <= SearchTermDailyStats.TERM_MAX_LENGTH)
+                .filter(token -> !STOP_WORDS.contains(token.toLowerCase()))
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
+    }
+
+    // ── 증분 반영 ─────────────────────────────────────────────────────────────
+
+    /**
+     * 게시글 생성 반영 (OPEN 상태일 때만 집계)
+     */
+    @Transactional
+    public void add(GroupPost post) {
+        if (post.getStatus() == PostStatus.OPEN) {
+            apply(post.getTitle(), post.getCreatedAt(), 1);
+        }
+    }
+
+    /**
+     * 게시글 마감·취소·삭제 반영
+     * 상태를 바꾸거나 삭제하기 전에 호출 (현재 OPEN 상태일 때만 차감)
+     */
+    @Transactional
+    public void remove(GroupPost post) {
+        if (post.getStatus() == PostStatus.OPEN) {
+            apply(post.getTitle(), post.getCreatedAt(), -1);
+        }
+    }
+
+    /**
+     * 여러 게시글 마감 일괄 반영 (마감 스케줄러용)
+     * 같은 (날짜, 단어)는 한 번의 UPSERT로 합쳐서 차감
+     */
+    @Transactional
+    public void removeAll(Collection<GroupPost> posts) {
+        Map<LocalDate, Map<String, Integer>> buckets = new HashMap<>();
+        for (GroupPost post : posts) {
+            if (post.getStatus() != PostStatus.OPEN) {
+                continue;
+            }
+            LocalDate bucketDate = post.getCreatedAt() != null ? post.getCreatedAt().toLocalDate() : LocalDate.now();
+            Map<String, Integer> bucket = buckets.computeIfAbsent(bucketDate, date -> new HashMap<>());
+            countTerms(post.getTitle()).forEach((term, count) -> bucket.merge(term, count, Integer::sum));
+        }
+        buckets.forEach((date, terms) ->
+                terms.forEach((term, count) -> searchTermDailyStatsRepository.upsertCount(date, term, -count)));
+    }
+
+    /**
+     * 게시글 수정 반영 (제목 / 상태 변경)
+     *
+     * @param post 수정된 게시글
+     * @param previousTitle 수정 전 제목
+     * @param previousStatus 수정 전 상태
+     */
+    @Transactional
+    public void reindex(GroupPost post, String previousTitle, PostStatus previousStatus) {
+        boolean wasCounted = previousStatus == PostStatus.OPEN;
+        boolean isCounted = post.getStatus() == PostStatus.OPEN;
+        if (wasCounted && isCounted && Objects.equals(previousTitle, post.getTitle())) {
+            return;
+        }
+
+        if (wasCounted) {
+            apply(previousTitle, post.getCreatedAt(), -1);
+        }
+        if (isCounted) {
+            apply(post.getTitle(), post.getCreatedAt(), 1);
+        }
+    }
+
+    private void apply(String title, LocalDateTime createdAt, int sign) {
+        LocalDate bucketDate = createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+        countTerms(title).forEach((term, count) ->
+                searchTermDailyStatsRepository.upsertCount(bucketDate, term, sign * count));
+    }
+
+    private static Map<String, Integer> countTerms(String title) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String term : tokenize(title)) {
+            counts.merge(term, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    // ── 재집계 ────────────────────────────────────────────────────────────────
+
+    /**
+     * 보관 기간 내 통계를 group_post 기준으로 다시 집계하고 기간이 지난 버킷을 삭제
+     * (증분 반영 누락, 회원 탈퇴 등 일괄 삭제로 생긴 오차 보정)
+     *
+     * @return 재집계한 게시글 수
+     */
+    @Transactional
+    public int rebuild() {
+        LocalDate from = LocalDate.now().minusDays(MAX_WINDOW_DAYS);
+
+        Map<LocalDate, Map<String, Integer>> buckets = new HashMap<>();
+        int postCount = 0;
+        long lastId = 0L;
+        List<GroupPost> posts;
+        do {
+            posts = groupPostRepository.findOpenPostsCreatedSince(
+                    from.atStartOfDay(), lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            for (GroupPost post : posts) {
+                Map<String, Integer> bucket = buckets.computeIfAbsent(
+                        post.getCreatedAt().toLocalDate(), date -> new HashMap<>());
+                countTerms(post.getTitle()).forEach((term, count) -> bucket.merge(term, count, Integer::sum));
+                lastId = post.getId();
+            }
+            postCount += posts.size();
+        } while (posts.size() == REBUILD_CHUNK_SIZE);
+
+        searchTermDailyStatsRepository.deleteByBucketDateFrom(from);
+        buckets.forEach((date, terms) ->
+                terms.forEach((term, count) -> searchTermDailyStatsRepository.upsertCount(date, term, count)));
+        int expired = searchTermDailyStatsRepository.deleteExpired(from);
+
+        log.info(" [추천어 통계] 재집계 완료 - posts: {}, buckets: {}, 만료 삭제: {}", postCount, buckets.size(), expired);
+        return postCount;
+    }
+}
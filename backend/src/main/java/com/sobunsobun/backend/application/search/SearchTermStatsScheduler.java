@@ -0,0 +1,46 @@
+package com.sobunsobun.backend.application.search;
+
+import com.sobunsobun.backend.application.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 추천 검색어 단어 빈도 통계 재집계 스케줄러
+ *
+ * 증분 반영으로 유지되는 search_term_daily_stats를 매일 group_post 기준으로 다시 집계합니다.
+ * - 매일 새벽 4시에 실행 (탈퇴 사용자 정리 스케줄러 이후)
+ * - 보관 기간(30일)이 지난 버킷 삭제
+ * - scheduler_lock 임대로 여러 인스턴스 중 하나만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchTermStatsScheduler {
+
+    static final String LOCK_NAME = "search-term-stats-rebuild";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(30);
+
+    private final SearchTermIndexer searchTermIndexer;
+    private final SchedulerLockService schedulerLockService;
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void rebuildTermStats() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            int postCount = searchTermIndexer.rebuild();
+            log.info(" 추천어 통계 재집계 완료 - posts: {}, {}ms", postCount, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error(" 추천어 통계 재집계 실패 - 오류: {}", e.getMessage(), e);
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+}
@@ -1,42 +1,57 @@
 package com.sobunsobun.backend.application.user;
 
+import com.sobunsobun.backend.application.post.PostCategoryIndexer;
+import com.sobunsobun.backend.application.search.SearchTermIndexer;
 import com.sobunsobun.backend.domain.GroupPost;
-import com.sobunsobun.backend.domain.MannerReview;
 import com.sobunsobun.backend.domain.MannerTag;
 import com.sobunsobun.backend.domain.PostStatus;
 import com.sobunsobun.backend.domain.User;
 import com.sobunsobun.backend.dto.manner.MannerReviewRequest;
+import com.sobunsobun.backend.dto.manner.ReviewedTag;
+import com.sobunsobun.backend.infrastructure.redis.PostFeedCache;
 import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.MannerReviewBatchRepository;
 import com.sobunsobun.backend.repository.MannerReviewRepository;
-import com.sobunsobun.backend.repository.UserTagStatsRepository;
 import com.sobunsobun.backend.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 매너 평가 서비스
  *
  * [트랜잭션 설계]
  * submitMannerReviews() 하나의 @Transactional 안에서:
- *   1. 각 평가 대상(receiver)마다 MannerReview(로그) 저장
- *   2. UserTagStats(통계) UPSERT
+ *   1. 평가 대상 매너 점수 집계 행 잠금 + 증분 갱신 (MannerScoreService)
+ *   2. 평가 대상 전체의 MannerReview(로그) 일괄 저장
+ *   3. UserTagStats(통계) 일괄 UPSERT
+ *   4. 게시글 COMPLETED 처리
  * 모든 대상이 하나의 트랜잭션으로 묶여 일관성을 보장합니다.
+ * 같은 대상을 동시에 평가하는 요청은 1단계의 집계 행 잠금에서 순서대로 처리되며,
+ * 잠금을 리뷰 INSERT보다 먼저 잡아야 외래 키 공유 잠금과 엇갈려 데드락이 나지 않습니다.
  *
- * [통계 동기화 전략 - Best Practice]
- * Dirty Checking 방식 (find → count++ → save) 대신
- * 네이티브 UPSERT (INSERT ... ON DUPLICATE KEY UPDATE count = count + 1) 사용:
- * - 단 1쿼리로 원자적 처리
- * - SELECT 없이 동작하므로 동시 요청(race condition) 안전
- * - 대량 트래픽에서도 DB 레벨 락 최소화
+ * [일괄 처리 - 대상 수 / 태그 수와 무관한 쿼리 수]
+ * - 평가자 + 평가 대상 존재 확인: findAllById 1회
+ * - 중복 평가 확인: (대상, 태그) 쌍 조회 1회
+ * - 리뷰 로그 저장: JDBC batch INSERT 1회
+ * - 태그 통계: 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 1회
+ *   (SELECT 없이 원자적으로 증가하므로 동시 요청에도 안전)
  */
 @Slf4j
 @Service
@@ -45,20 +60,25 @@ import java.util.Map;
 public class MannerReviewService {
 
     private final MannerReviewRepository mannerReviewRepository;
-    private final UserTagStatsRepository userTagStatsRepository;
+    private final MannerReviewBatchRepository mannerReviewBatchRepository;
+    private final MannerScoreService mannerScoreService;
     private final UserRepository userRepository;
     private final GroupPostRepository groupPostRepository;
+    private final PostCategoryIndexer postCategoryIndexer;
+    private final SearchTermIndexer searchTermIndexer;
+    private final PostFeedCache postFeedCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 매너 평가 제출 (여러 명 일괄 처리)
      *
      * 처리 순서:
-     * 1. 공통 검증 (거래 존재 여부, sender 존재 여부)
-     * 2. 각 대상(receiver)마다:
-     *    a. 자기 자신 평가 불가 검증
-     *    b. receiver 존재 여부 검증
-     *    c. 각 태그에 대해 중복 체크 후 MannerReview 로그 저장
-     *    d. UserTagStats UPSERT로 통계 즉시 반영
+     * 1. 요청 검증 (자기 자신 평가 불가, 태그 코드 변환) - DB 조회 전 실패
+     * 2. 거래 게시글 조회, 평가자 + 평가 대상 존재 여부 일괄 확인
+     * 3. 이미 남긴 (대상, 태그) 쌍을 한 번에 조회하여 제외
+     * 4. 평가 대상의 매너 점수 집계 행을 잠그고 증분 갱신
+     * 5. 남은 평가를 MannerReview 로그로 일괄 저장
+     * 6. UserTagStats 다중 행 UPSERT로 통계 반영
      *
      * @param request  평가 요청 DTO (groupPostId + reviews 목록)
      * @param senderId 평가를 남기는 현재 로그인 사용자 ID
@@ -69,14 +89,8 @@ public class MannerReviewService {
         log.info("매너 평가 요청 - senderId: {}, postId: {}, 대상 수: {}",
             senderId, request.getGroupPostId(), request.getReviews().size());
 
-        User sender = userRepository.findById(senderId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
-
-        GroupPost groupPost = groupPostRepository.findById(request.getGroupPostId())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "거래 게시글을 찾을 수 없습니다."));
-
-        Map<Long, List<String>> result = new LinkedHashMap<>();
-
+        // 1. 요청 검증 + 대상별 태그 정리 (같은 대상/태그가 반복되면 한 번만 반영)
+        Map<Long, Set<MannerTag>> requested = new LinkedHashMap<>();
         for (MannerReviewRequest.ReviewItem item : request.getReviews()) {
             Long receiverId = item.getReceiverId();
 
@@ -85,51 +99,86 @@ public class MannerReviewService {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "자기 자신을 평가할 수 없습니다.");
             }
 
-            User receiver = userRepository.findById(receiverId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-                    "평가 대상 사용자를 찾을 수 없습니다. receiverId: " + receiverId));
-
-            List<String> savedTagCodes = new ArrayList<>();
-
+            Set<MannerTag> tags = requested.computeIfAbsent(receiverId, id -> new LinkedHashSet<>());
             for (String tagCodeStr : item.getTagCodes()) {
-                MannerTag tag;
                 try {
-                    tag = MannerTag.fromCode(tagCodeStr);
+                    tags.add(MannerTag.fromCode(tagCodeStr));
                 } catch (IllegalArgumentException e) {
                     log.warn("유효하지 않은 태그 코드 요청 - tagCode: {}", tagCodeStr);
                     throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 태그 코드입니다: " + tagCodeStr);
                 }
+            }
+        }
 
-                // 동일 거래 + 동일 태그 중복 평가 방지 (DB UNIQUE 제약의 사전 방어)
-                if (mannerReviewRepository.existsBySenderIdAndReceiverIdAndGroupPostIdAndTagCode(
-                        senderId, receiverId, request.getGroupPostId(), tag)) {
-                    log.info("중복 태그 평가 스킵 - senderId: {}, receiverId: {}, tag: {}", senderId, receiverId, tag);
-                    continue;
-                }
+        // 2. 거래 게시글 / 평가자 / 평가 대상 존재 확인
+        GroupPost groupPost = groupPostRepository.findById(request.getGroupPostId())
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "거래 게시글을 찾을 수 없습니다."));
 
-                // 1단계: 리뷰 로그 저장
-                MannerReview review = MannerReview.builder()
-                    .sender(sender)
-                    .receiver(receiver)
-                    .groupPost(groupPost)
-                    .tagCode(tag)
-                    .build();
-                mannerReviewRepository.save(review);
+        Set<Long> userIds = new HashSet<>(requested.keySet());
+        userIds.add(senderId);
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (!users.containsKey(senderId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
+        for (Long receiverId : requested.keySet()) {
+            if (!users.containsKey(receiverId)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "평가 대상 사용자를 찾을 수 없습니다. receiverId: " + receiverId);
+            }
+        }
 
-                // 2단계: 통계 UPSERT (atomic, 1쿼리)
-                userTagStatsRepository.upsertCount(receiverId, tag.name());
+        // 3. 동일 거래 + 동일 태그 중복 평가 제외 (DB UNIQUE 제약의 사전 방어)
+        Set<ReviewedTag> alreadyReviewed = new HashSet<>(mannerReviewRepository.findReviewedTags(
+            senderId, groupPost.getId(), requested.keySet()));
 
+        Map<Long, List<String>> result = new LinkedHashMap<>();
+        List<ReviewedTag> newReviews = new ArrayList<>();
+        Map<Long, Map<MannerTag, Integer>> tagDeltas = new LinkedHashMap<>();
+        requested.forEach((receiverId, tags) -> {
+            List<String> savedTagCodes = new ArrayList<>();
+            for (MannerTag tag : tags) {
+                ReviewedTag review = new ReviewedTag(receiverId, tag);
+                if (alreadyReviewed.contains(review)) {
+                    log.info("중복 태그 평가 스킵 - senderId: {}, receiverId: {}, tag: {}", senderId, receiverId, tag);
+                    continue;
+                }
+                newReviews.add(review);
+                tagDeltas.computeIfAbsent(receiverId, id -> new EnumMap<>(MannerTag.class)).merge(tag, 1, Integer::sum);
                 savedTagCodes.add(tag.name());
-                log.debug("매너 태그 저장 완료@ - tag: {}, receiverId: {}", tag, receiverId);
             }
-
             result.put(receiverId, savedTagCodes);
+        });
+
+        // 4. 매너 점수 증분 갱신 (같은 트랜잭션, 집계 행 잠금으로 같은 대상 동시 제출 직렬화)
+        Set<Long> previouslyReviewedIds = alreadyReviewed.stream()
+            .map(ReviewedTag::receiverId)
+            .collect(Collectors.toSet());
+        mannerScoreService.applyReviewBatch(tagDeltas, previouslyReviewedIds);
+
+        // 5. 리뷰 로그 일괄 저장 + 6. 통계 다중 행 UPSERT
+        try {
+            mannerReviewBatchRepository.insertReviews(senderId, groupPost.getId(), newReviews);
+        } catch (DuplicateKeyException e) {
+            // 같은 평가를 동시에 제출한 경우 (사전 중복 체크 이후 다른 요청이 먼저 저장)
+            log.warn("매너 평가 동시 제출 감지 - senderId: {}, postId: {}", senderId, groupPost.getId());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 처리된 매너 평가입니다.");
         }
+        mannerReviewBatchRepository.upsertTagCounts(tagDeltas);
+        log.debug("매너 태그 일괄 저장 완료 - 리뷰 수: {}, 대상 수: {}", newReviews.size(), tagDeltas.size());
 
         // 매너 평가 완료 → 게시글 상태를 COMPLETED로 변경
+        searchTermIndexer.remove(groupPost);
         groupPost.setStatus(PostStatus.COMPLETED);
+        postCategoryIndexer.updateStatus(groupPost.getId(), PostStatus.COMPLETED);
+        postFeedCache.invalidateAll();
         log.info("게시글 상태 COMPLETED 변경 - postId: {}", groupPost.getId());
 
+        // 받은 태그 수(평가 대상) / 완료 게시글 수(작성자) 통계 갱신
+        List<Long> statsUserIds = new ArrayList<>(result.keySet());
+        statsUserIds.add(groupPost.getOwner().getId());
+        eventPublisher.publishEvent(new UserStatsChangedEvent(statsUserIds));
+
         log.info("매너 평가 완료 - senderId: {}, result: {}", senderId, result);
         return result;
     }
@@ -0,0 +1,78 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.application.SchedulerLockService;
+import com.sobunsobun.backend.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+/**
+ * 매너 점수 재집계 스케줄러
+ *
+ * 증분 갱신되는 user_manner_score를 manner_review 기준으로 다시 만들고, 새 평가가 없어 갱신되지 않은
+ * 사용자의 시간 감쇠를 user.manner_score에 반영합니다.
+ * - 매일 새벽 5시에 실행 (유저 통계 정합성 점검 이후)
+ * - 사용자 ID 범위(1,000명) 단위 트랜잭션을 워커 AsyncConfig.MANNER_SCORE_WORKERS개가 나눠 병렬 처리
+ *   (워커 k는 k, k + 워커 수, k + 2 × 워커 수, ... 번째 범위를 순서대로 처리)
+ * - scheduler_lock 임대로 여러 인스턴스 중 하나만 실행
+ */
+@Slf4j
+@Component
+public class MannerScoreRebuildScheduler {
+
+    static final String LOCK_NAME = "manner-score-rebuild";
+    private static final Duration LOCK_LEASE = Duration.ofHours(1);
+
+    private final MannerScoreService mannerScoreService;
+    private final SchedulerLockService schedulerLockService;
+    private final Executor mannerScoreTaskExecutor;
+
+    public MannerScoreRebuildScheduler(MannerScoreService mannerScoreService,
+                                       SchedulerLockService schedulerLockService,
+                                       @Qualifier("mannerScoreTaskExecutor") Executor mannerScoreTaskExecutor) {
+        this.mannerScoreService = mannerScoreService;
+        this.schedulerLockService = schedulerLockService;
+        this.mannerScoreTaskExecutor = mannerScoreTaskExecutor;
+    }
+
+    @Scheduled(cron = "0 0 5 * * *")
+    public void rebuildMannerScores() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            long maxUserId = mannerScoreService.maxUserId();
+            int workers = AsyncConfig.MANNER_SCORE_WORKERS;
+            long stride = (long) workers * MannerScoreService.RANGE_SIZE;
+
+            List<CompletableFuture<Integer>> futures = IntStream.range(0, workers)
+                    .mapToObj(worker -> CompletableFuture.supplyAsync(() -> {
+                        int changed = 0;
+                        for (long fromId = (long) worker * MannerScoreService.RANGE_SIZE; fromId < maxUserId; fromId += stride) {
+                            changed += mannerScoreService.rebuildRange(fromId);
+                        }
+                        return changed;
+                    }, mannerScoreTaskExecutor))
+                    .toList();
+
+            // 실패한 워커가 있어도 나머지 워커가 끝날 때까지 기다린 뒤 잠금 해제
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            int changed = futures.stream().mapToInt(CompletableFuture::join).sum();
+            log.info(" 매너 점수 재집계 완료 - 점수 변경: {}, maxUserId: {}, {}ms",
+                    changed, maxUserId, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error(" 매너 점수 재집계 실패 - 오류: {}", e.getMessage(), e);
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.domain.MannerTag;
+import com.sobunsobun.backend.domain.UserMannerScore;
+import com.sobunsobun.backend.dto.manner.MannerReviewRow;
+import com.sobunsobun.backend.dto.manner.UserMannerScoreValue;
+import com.sobunsobun.backend.repository.MannerReviewBatchRepository;
+import com.sobunsobun.backend.repository.MannerReviewRepository;
+import com.sobunsobun.backend.repository.user.UserMannerScoreRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 매너 점수 계산 서비스
+ *
+ * 증분: 매너 평가 제출 트랜잭션 안에서 applyReviewBatch()가 평가 대상의 누적 집계(user_manner_score)를
+ *       현재 시점까지 감쇠시킨 뒤 새 평가를 더하고, user.manner_score를 갱신합니다 (대상당 쿼리 없이 일괄 처리).
+ * 재집계: MannerScoreRebuildScheduler가 사용자 ID 범위 단위로 rebuildRange()를 병렬 호출하여
+ *         manner_review 기준으로 누적값을 다시 만들고, 새 평가가 없는 사용자의 감쇠도 점수에 반영합니다.
+ *
+ * user.manner_score는 User 엔티티 변경 감지 대신 MannerReviewBatchRepository.updateMannerScores로
+ * 해당 컬럼만 갱신합니다 (행 전체 UPDATE가 동시에 커밋된 프로필 변경을 덮어쓰지 않도록).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MannerScoreService {
+
+    public static final int RANGE_SIZE = 1_000;
+
+    private final UserMannerScoreRepository userMannerScoreRepository;
+    private final MannerReviewRepository mannerReviewRepository;
+    private final MannerReviewBatchRepository mannerReviewBatchRepository;
+    private final UserRepository userRepository;
+
+    // ── 증분 반영 ─────────────────────────────────────────────────────────────
+
+    /**
+     * 평가 묶음 증분 반영 (MannerReviewService.submitMannerReviews 트랜잭션 안에서 호출)
+     *
+     * @param tagDeltas             평가 대상별 새로 저장된 태그 수
+     * @param previouslyReviewedIds 이 거래에서 같은 평가자에게 이미 평가받은 대상 (평가 수를 늘리지 않음)
+     */
+    @Transactional
+    public void applyReviewBatch(Map<Long, Map<MannerTag, Integer>> tagDeltas,
+                                 Set<Long> previouslyReviewedIds) {
+        if (tagDeltas.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // 첫 평가 대상도 잠글 행이 있도록 빈 집계 행을 먼저 만든 뒤 잠금 조회
+        mannerReviewBatchRepository.insertMissingMannerScores(tagDeltas.keySet(), now);
+        Map<Long, UserMannerScore> aggregates = userMannerScoreRepository.findAllForUpdate(tagDeltas.keySet()).stream()
+                .collect(Collectors.toMap(UserMannerScore::getUserId, Function.identity()));
+
+        Map<Long, BigDecimal> scores = new HashMap<>();
+        tagDeltas.forEach((receiverId, tags) -> {
+            UserMannerScore aggregate = aggregates.get(receiverId);
+            double weight = tags.entrySet().stream()
+                    .mapToDouble(entry -> entry.getKey().getWeight() * entry.getValue())
+                    .sum();
+            aggregate.addReviews(weight, previouslyReviewedIds.contains(receiverId) ? 0 : 1, now);
+            scores.put(receiverId, aggregate.score());
+        });
+        mannerReviewBatchRepository.updateMannerScores(scores);
+        log.debug("매너 점수 증분 반영 - 대상 수: {}", tagDeltas.size());
+    }
+
+    // ── 재집계 ────────────────────────────────────────────────────────────────
+
+    public long maxUserId() {
+        return userRepository.findMaxId();
+    }
+
+    /**
+     * 사용자 ID 범위 (fromId, fromId + RANGE_SIZE]의 누적 집계를 manner_review 기준으로 다시 만들고 점수 갱신
+     * 받은 평가가 사라진 사용자(탈퇴 등)는 0점 집계로 교체합니다.
+     *
+     * @return 매너 점수가 바뀐 사용자 수
+     */
+    @Transactional
+    public int rebuildRange(long fromId) {
+        long toId = fromId + RANGE_SIZE;
+        LocalDateTime now = LocalDateTime.now();
+
+        // 집계 행을 먼저 잠근 뒤 평가 행을 읽어야 동시에 반영된 증분을 놓치지 않음
+        Map<Long, UserMannerScore> stored = userMannerScoreRepository.findByUserIdRangeForUpdate(fromId, toId).stream()
+                .collect(Collectors.toMap(UserMannerScore::getUserId, Function.identity()));
+        Map<Long, UserMannerScore> rebuilt = aggregate(mannerReviewRepository.findRowsByReceiverIdRange(fromId, toId), now);
+        stored.keySet().forEach(userId -> rebuilt.computeIfAbsent(userId, id -> UserMannerScore.empty(id, now)));
+        if (rebuilt.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, BigDecimal> currentScores = new HashMap<>();
+        for (UserMannerScoreValue value : userRepository.findMannerScoresByIdIn(rebuilt.keySet())) {
+            currentScores.put(value.userId(), value.mannerScore());
+        }
+
+        Map<Long, BigDecimal> changedScores = new HashMap<>();
+        for (UserMannerScore aggregate : rebuilt.values()) {
+            Long userId = aggregate.getUserId();
+            if (!currentScores.containsKey(userId)) {
+                continue;
+            }
+            UserMannerScore row = stored.get(userId);
+            if (row == null) {
+                userMannerScoreRepository.save(aggregate);
+            } else {
+                row.copyFrom(aggregate);
+            }
+
+            BigDecimal score = aggregate.score();
+            BigDecimal current = currentScores.get(userId);
+            if (current == null || current.compareTo(score) != 0) {
+                changedScores.put(userId, score);
+            }
+        }
+        mannerReviewBatchRepository.updateMannerScores(changedScores);
+        return changedScores.size();
+    }
+
+    /**
+     * 평가 행으로 사용자별 누적 집계 생성 (now 기준 감쇠)
+     *
+     * 태그마다 가중치 × 감쇠를 더하고, (평가자, 거래) 묶음을 평가 1건으로 보아 가장 먼저 남긴 시각 기준으로 감쇠합니다.
+     * applyReviewBatch()를 시간순으로 반복 적용한 결과와 같습니다.
+     */
+    static Map<Long, UserMannerScore> aggregate(List<MannerReviewRow> rows, LocalDateTime now) {
+        Map<Long, UserMannerScore> result = new HashMap<>();
+        Map<ReviewKey, LocalDateTime> firstReviewedAt = new HashMap<>();
+        for (MannerReviewRow row : rows) {
+            UserMannerScore aggregate = result.computeIfAbsent(row.receiverId(), id -> UserMannerScore.empty(id, now));
+            aggregate.setWeightedTagSum(aggregate.getWeightedTagSum()
+                    + row.tagCode().getWeight() * UserMannerScore.decayFactor(row.createdAt(), now));
+            firstReviewedAt.merge(new ReviewKey(row.receiverId(), row.senderId(), row.groupPostId()),
+                    row.createdAt(), (a, b) -> a.isBefore(b) ? a : b);
+        }
+        firstReviewedAt.forEach((key, reviewedAt) -> {
+            UserMannerScore aggregate = result.get(key.receiverId());
+            aggregate.setDecayedReviewCount(aggregate.getDecayedReviewCount()
+                    + UserMannerScore.decayFactor(reviewedAt, now));
+            aggregate.setReviewCount(aggregate.getReviewCount() + 1);
+        });
+        return result;
+    }
+
+    /**
+     * 평가 1건의 기준: 한 거래에서 한 평가자가 한 대상에게 남긴 태그 묶음
+     */
+    private record ReviewKey(Long receiverId, Long senderId, Long groupPostId) {
+    }
+}
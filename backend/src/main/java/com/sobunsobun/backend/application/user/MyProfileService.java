@@ -2,17 +2,19 @@ package com.sobunsobun.backend.application.user;
 
 import com.sobunsobun.backend.domain.PostStatus;
 import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.domain.UserStats;
 import com.sobunsobun.backend.dto.mypage.MyProfileResponse;
 import com.sobunsobun.backend.dto.mypage.ProfileUpdateRequestDto;
 import com.sobunsobun.backend.dto.mypage.ProfileUpdateResponse;
+import com.sobunsobun.backend.dto.post.PostSummary;
 import com.sobunsobun.backend.dto.user.UserProfileResponse;
+import com.sobunsobun.backend.infrastructure.redis.UserProfileCache;
 import com.sobunsobun.backend.repository.GroupPostRepository;
-import com.sobunsobun.backend.repository.UserReportRepository;
 import com.sobunsobun.backend.repository.UserTagStatsRepository;
-import com.sobunsobun.backend.repository.chat.ChatMemberRepository;
 import com.sobunsobun.backend.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,8 +38,11 @@ public class MyProfileService {
     private final UserRepository userRepository;
     private final GroupPostRepository groupPostRepository;
     private final UserTagStatsRepository userTagStatsRepository;
-    private final UserReportRepository userReportRepository;
-    private final ChatMemberRepository chatMemberRepository;
+    private final UserStatsService userStatsService;
+    private final UserProfileCache userProfileCache;
+
+    /** 다른 사용자 프로필에 표시하는 최근 게시글 수 */
+    private static final int PROFILE_POST_LIMIT = 20;
 
     /**
      * 사용자 프로필 조회
@@ -64,20 +69,15 @@ public class MyProfileService {
                         .build())
                 .toList();
 
-        int hostCount = (int) groupPostRepository.countByOwnerIdAndStatusNot(user.getId(), PostStatus.CANCELLED);
-        int completedHostCount = (int) groupPostRepository.countByOwnerIdAndStatus(user.getId(), PostStatus.COMPLETED);
-        int participationCount = (int) chatMemberRepository.countParticipationByUserId(userId);
-        int tagCount = userTagStatsRepository.sumCountByReceiverId(userId);
-        int reportedCount = (int) userReportRepository.countByTargetUserId(userId);
-        int activityScore = completedHostCount * 8 + participationCount * 3 + tagCount - reportedCount * 7;
+        UserStats stats = userStatsService.getStats(userId);
 
         MyProfileResponse profile = MyProfileResponse.builder()
                 .userId(user.getId())
                 .nickname(user.getNickname())
                 .profileImageUrl(user.getProfileImageUrl())
-                .activityScore(activityScore)
-                .participationCount(participationCount)
-                .hostCount(hostCount)
+                .activityScore(stats.activityScore())
+                .participationCount(stats.getParticipationCount())
+                .hostCount(stats.getHostCount())
                 .mannerTags(mannerTags)
                 .build();
 
@@ -97,57 +97,14 @@ public class MyProfileService {
     public UserProfileResponse getUserProfile(Long userId) {
         log.info("다른 사용자 프로필 조회 시작 - userId: {}", userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.error("사용자를 찾을 수 없음 - userId: {}", userId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다");
-                });
-
-        List<UserProfileResponse.MannerTagDto> mannerTags = userTagStatsRepository
-                .findTop5ByReceiverIdOrderByCountDesc(userId)
-                .stream()
-                .map(stats -> UserProfileResponse.MannerTagDto.builder()
-                        .tagId(stats.getTagCode().getId())
-                        .label(stats.getTagCode().getLabel())
-                        .count(stats.getCount())
-                        .build())
-                .toList();
-
-        var posts = groupPostRepository.findByOwnerIdAndStatusNotOrderByCreatedAtDesc(user.getId(), PostStatus.CANCELLED);
-        List<UserProfileResponse.PostItemDto> postItems = posts.stream()
-                .map(post -> UserProfileResponse.PostItemDto.builder()
-                        .postId(post.getId())
-                        .title(post.getTitle())
-                        .thumbnailUrl(null)  // TODO: 게시글 이미지 기능 구현 후 추가
-                        .status(post.getStatus().toString())
-                        .totalAmount(null)  // TODO: 가격 정보 필드 추가 후 구현
-                        .unitAmount(null)  // TODO: 1인당 가격 필드 추가 후 구현
-                        .currentParticipants(post.getJoinedMembers())
-                        .maxParticipants(post.getMaxMembers())
-                        .region(null)  // TODO: 지역 필드 추가 후 구현
-                        .createdAt(post.getCreatedAt())
-                        .deadline(post.getDeadlineAt())
-                        .viewCount(0)  // TODO: 조회수 기능 구현
-                        .bookmarkCount(0)  // TODO: 북마크 수 조회 구현
-                        .build())
-                .toList();
-
-        long postCountValue = groupPostRepository.countByOwnerIdAndStatusNot(user.getId(), PostStatus.CANCELLED);
-
-        UserProfileResponse profile = UserProfileResponse.builder()
-                .userId(user.getId())
-                .nickname(user.getNickname())
-                .profileImageUrl(user.getProfileImageUrl())
-                .mannerScore(user.getMannerScore() != null ? user.getMannerScore().doubleValue() : 0.0)
-                .participationCount(0)  // TODO: 참여 엔티티 구현 후 조회
-                .hostCount((int) postCountValue)
-                .postCount((int) postCountValue)
-                .mannerTags(mannerTags)
-                .posts(postItems)
-                .introduction(null)  // TODO: 향후 사용자 소개 필드 추가 시 구현
-                .build();
+        UserProfileResponse profile = userProfileCache.get(userId, () -> buildUserProfile(
+                userRepository.findById(userId)
+                        .orElseThrow(() -> {
+                            log.error("사용자를 찾을 수 없음 - userId: {}", userId);
+                            return new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다");
+                        })));
 
-        log.info("다른 사용자 프로필 조회 완료 - userId: {}, nickname: {}, postCount: {}", userId, user.getNickname(), postItems.size());
+        log.info("다른 사용자 프로필 조회 완료 - userId: {}, nickname: {}, postCount: {}", userId, profile.getNickname(), profile.getPosts().size());
 
         return profile;
     }
@@ -169,6 +126,20 @@ public class MyProfileService {
                     return new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다");
                 });
 
+        UserProfileResponse profile = userProfileCache.get(user.getId(), () -> buildUserProfile(user));
+
+        log.info("닉네임으로 다른 사용자 프로필 조회 완료 - nickname: {}, userId: {}, postCount: {}", nickname, user.getId(), profile.getPosts().size());
+
+        return profile;
+    }
+
+    /**
+     * 다른 사용자 프로필 응답 생성 (UserProfileCache 미스 시에만 호출)
+     *
+     * 게시글은 최신 PROFILE_POST_LIMIT개만 프로젝션으로 조회하고,
+     * 참여 수 / 작성 글 수는 user_stats에서 읽으므로 사용자의 전체 게시글을 읽지 않습니다.
+     */
+    private UserProfileResponse buildUserProfile(User user) {
         List<UserProfileResponse.MannerTagDto> mannerTags = userTagStatsRepository
                 .findTop5ByReceiverIdOrderByCountDesc(user.getId())
                 .stream()
@@ -179,43 +150,40 @@ public class MyProfileService {
                         .build())
                 .toList();
 
-        var posts = groupPostRepository.findByOwnerIdAndStatusNotOrderByCreatedAtDesc(user.getId(), PostStatus.CANCELLED);
+        List<PostSummary> posts = groupPostRepository.findRecentSummariesByOwnerId(
+                user.getId(), PostStatus.CANCELLED, PageRequest.of(0, PROFILE_POST_LIMIT));
         List<UserProfileResponse.PostItemDto> postItems = posts.stream()
                 .map(post -> UserProfileResponse.PostItemDto.builder()
-                        .postId(post.getId())
-                        .title(post.getTitle())
+                        .postId(post.id())
+                        .title(post.title())
                         .thumbnailUrl(null)  // TODO: 게시글 이미지 기능 구현 후 추가
-                        .status(post.getStatus().toString())
+                        .status(post.status().toString())
                         .totalAmount(null)  // TODO: 가격 정보 필드 추가 후 구현
                         .unitAmount(null)  // TODO: 1인당 가격 필드 추가 후 구현
-                        .currentParticipants(post.getJoinedMembers())
-                        .maxParticipants(post.getMaxMembers())
+                        .currentParticipants(post.joinedMembers())
+                        .maxParticipants(post.maxMembers())
                         .region(null)  // TODO: 지역 필드 추가 후 구현
-                        .createdAt(post.getCreatedAt())
-                        .deadline(post.getDeadlineAt())
+                        .createdAt(post.createdAt())
+                        .deadline(post.deadlineAt())
                         .viewCount(0)  // TODO: 조회수 기능 구현
                         .bookmarkCount(0)  // TODO: 북마크 수 조회 구현
                         .build())
                 .toList();
 
-        long postCountValue = groupPostRepository.countByOwnerIdAndStatusNot(user.getId(), PostStatus.CANCELLED);
+        UserStats stats = userStatsService.getStats(user.getId());
 
-        UserProfileResponse profile = UserProfileResponse.builder()
+        return UserProfileResponse.builder()
                 .userId(user.getId())
                 .nickname(user.getNickname())
                 .profileImageUrl(user.getProfileImageUrl())
                 .mannerScore(user.getMannerScore() != null ? user.getMannerScore().doubleValue() : 0.0)
-                .participationCount(0)  // TODO: 참여 엔티티 구현 후 조회
-                .hostCount((int) postCountValue)
-                .postCount((int) postCountValue)
+                .participationCount(stats.getParticipationCount())
+                .hostCount(stats.getHostCount())
+                .postCount(stats.getHostCount())
                 .mannerTags(mannerTags)
                 .posts(postItems)
                 .introduction(null)  // TODO: 향후 사용자 소개 필드 추가 시 구현
                 .build();
-
-        log.info("닉네임으로 다른 사용자 프로필 조회 완료 - nickname: {}, userId: {}, postCount: {}", nickname, user.getId(), postItems.size());
-
-        return profile;
     }
 
 //    /**
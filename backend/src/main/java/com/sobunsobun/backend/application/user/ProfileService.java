@@ -5,8 +5,10 @@ import com.sobunsobun.backend.domain.GroupPost;
 import com.sobunsobun.backend.domain.PostStatus;
 import com.sobunsobun.backend.domain.SavedPost;
 import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.domain.UserStats;
 import com.sobunsobun.backend.dto.post.PostListResponse;
 import com.sobunsobun.backend.dto.post.PostResponse;
+import com.sobunsobun.backend.dto.post.PostSummary;
 import com.sobunsobun.backend.dto.profile.MyCommentResponse;
 import com.sobunsobun.backend.dto.profile.MyProfileDetailResponse;
 import com.sobunsobun.backend.dto.profile.PublicUserProfileResponse;
@@ -14,9 +16,7 @@ import com.sobunsobun.backend.repository.BlockedUserRepository;
 import com.sobunsobun.backend.repository.CommentRepository;
 import com.sobunsobun.backend.repository.GroupPostRepository;
 import com.sobunsobun.backend.repository.SavedPostRepository;
-import com.sobunsobun.backend.repository.UserReportRepository;
 import com.sobunsobun.backend.repository.UserTagStatsRepository;
-import com.sobunsobun.backend.repository.chat.ChatMemberRepository;
 import com.sobunsobun.backend.repository.user.UserRepository;
 import com.sobunsobun.backend.support.exception.BusinessException;
 import com.sobunsobun.backend.support.exception.ErrorCode;
@@ -51,10 +51,9 @@ public class ProfileService {
     private final GroupPostRepository groupPostRepository;
     private final SavedPostRepository savedPostRepository;
     private final UserTagStatsRepository userTagStatsRepository;
-    private final UserReportRepository userReportRepository;
     private final BlockedUserRepository blockedUserRepository;
     private final CommentRepository commentRepository;
-    private final ChatMemberRepository chatMemberRepository;
+    private final UserStatsService userStatsService;
 
     /**
      * 내 프로필 조회 (탭별 페이징)
@@ -71,8 +70,9 @@ public class ProfileService {
         PostListResponse posts = switch (tab.toLowerCase()) {
             case "commented" -> {
                 Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-                Page<GroupPost> result = groupPostRepository.findPostsCommentedByUser(userId, pageable);
-                yield toPostListResponse(result);
+                // 작성자가 게시글마다 다르므로 작성자 컬럼을 함께 읽는 목록 프로젝션 사용
+                Page<PostSummary> result = groupPostRepository.findPostsCommentedByUser(userId, pageable);
+                yield toPostListResponse(result.map(PostResponse::from));
             }
             case "saved" -> {
                 Pageable pageable = PageRequest.of(page, size);
@@ -82,24 +82,19 @@ public class ProfileService {
             default -> { // "posts"
                 Pageable pageable = PageRequest.of(page, size);
                 Page<GroupPost> result = groupPostRepository.findByOwnerIdAndStatusNotOrderByCreatedAtDesc(userId, PostStatus.CANCELLED, pageable);
-                yield toPostListResponse(result);
+                yield toPostListResponse(result.map(this::toPostResponse));
             }
         };
 
-        int hostCount = (int) groupPostRepository.countByOwnerIdAndStatusNot(userId, PostStatus.CANCELLED);
-        int completedHostCount = (int) groupPostRepository.countByOwnerIdAndStatus(userId, PostStatus.COMPLETED);
-        int participationCount = (int) chatMemberRepository.countParticipationByUserId(userId);
-        int tagCount = userTagStatsRepository.sumCountByReceiverId(userId);
-        int reportedCount = (int) userReportRepository.countByTargetUserId(userId);
-        int activityScore = completedHostCount * 8 + participationCount * 3 + tagCount - reportedCount * 7;
+        UserStats stats = userStatsService.getStats(userId);
 
         List<MyProfileDetailResponse.MannerTagDto> mannerTags = userTagStatsRepository
                 .findTop5ByReceiverIdOrderByCountDesc(userId)
                 .stream()
-                .map(stats -> MyProfileDetailResponse.MannerTagDto.builder()
-                        .tagId(stats.getTagCode().getId())
-                        .label(stats.getTagCode().getLabel())
-                        .count(stats.getCount())
+                .map(tagStats -> MyProfileDetailResponse.MannerTagDto.builder()
+                        .tagId(tagStats.getTagCode().getId())
+                        .label(tagStats.getTagCode().getLabel())
+                        .count(tagStats.getCount())
                         .build())
                 .toList();
 
@@ -124,9 +119,9 @@ public class ProfileService {
                 .userId(user.getId())
                 .nickname(user.getNickname())
                 .profileImageUrl(user.getProfileImageUrl())
-                .activityScore(activityScore)
-                .hostCount(hostCount)
-                .participationCount(participationCount)
+                .activityScore(stats.activityScore())
+                .hostCount(stats.getHostCount())
+                .participationCount(stats.getParticipationCount())
                 .mannerTags(mannerTags)
                 .tab(tab.toLowerCase())
                 .posts(posts)
@@ -145,20 +140,15 @@ public class ProfileService {
         User user = userRepository.findById(targetUserId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        int hostCount = (int) groupPostRepository.countByOwnerIdAndStatusNot(targetUserId, PostStatus.CANCELLED);
-        int completedHostCount = (int) groupPostRepository.countByOwnerIdAndStatus(targetUserId, PostStatus.COMPLETED);
-        int participationCount = (int) chatMemberRepository.countParticipationByUserId(targetUserId);
-        int tagCount = userTagStatsRepository.sumCountByReceiverId(targetUserId);
-        int reportedCount = (int) userReportRepository.countByTargetUserId(targetUserId);
-        int activityScore = completedHostCount * 8 + participationCount * 3 + tagCount - reportedCount * 7;
+        UserStats stats = userStatsService.getStats(targetUserId);
 
         List<PublicUserProfileResponse.MannerTagDto> mannerTags = userTagStatsRepository
                 .findTop5ByReceiverIdOrderByCountDesc(targetUserId)
                 .stream()
-                .map(stats -> PublicUserProfileResponse.MannerTagDto.builder()
-                        .tagId(stats.getTagCode().getId())
-                        .label(stats.getTagCode().getLabel())
-                        .count(stats.getCount())
+                .map(tagStats -> PublicUserProfileResponse.MannerTagDto.builder()
+                        .tagId(tagStats.getTagCode().getId())
+                        .label(tagStats.getTagCode().getLabel())
+                        .count(tagStats.getCount())
                         .build())
                 .toList();
 
@@ -178,20 +168,20 @@ public class ProfileService {
                 .userId(user.getId())
                 .nickname(user.getNickname())
                 .profileImageUrl(user.getProfileImageUrl())
-                .activityScore(activityScore)
-                .hostCount(hostCount)
-                .participationCount(participationCount)
+                .activityScore(stats.activityScore())
+                .hostCount(stats.getHostCount())
+                .participationCount(stats.getParticipationCount())
                 .mannerTags(mannerTags)
                 .isBlocked(isBlocked)
-                .posts(toPostListResponse(postPage))
+                .posts(toPostListResponse(postPage.map(this::toPostResponse)))
                 .build();
     }
 
     // ─── Private helpers ────────────────────────────────────────────────────
 
-    private PostListResponse toPostListResponse(Page<GroupPost> page) {
+    private PostListResponse toPostListResponse(Page<PostResponse> page) {
         return PostListResponse.builder()
-                .posts(page.getContent().stream().map(this::toPostResponse).toList())
+                .posts(page.getContent())
                 .pageInfo(PostListResponse.PageInfo.builder()
                         .currentPage(page.getNumber())
                         .pageSize(page.getSize())
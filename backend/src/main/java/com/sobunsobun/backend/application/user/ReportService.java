@@ -1,8 +1,11 @@
 package com.sobunsobun.backend.application.user;
 
 import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.ReportStatus;
 import com.sobunsobun.backend.domain.User;
 import com.sobunsobun.backend.domain.UserReport;
+import com.sobunsobun.backend.dto.report.ReportStatusCount;
+import com.sobunsobun.backend.dto.user.UserReportDto;
 import com.sobunsobun.backend.dto.user.UserReportRequest;
 import com.sobunsobun.backend.repository.GroupPostRepository;
 import com.sobunsobun.backend.repository.UserReportRepository;
@@ -12,9 +15,20 @@ import com.sobunsobun.backend.support.exception.ReportException;
 import com.sobunsobun.backend.support.exception.UserException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 유저 신고 비즈니스 로직 서비스
  */
@@ -27,6 +41,7 @@ public class ReportService {
     private final UserRepository userRepository;
     private final UserReportRepository userReportRepository;
     private final GroupPostRepository groupPostRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 유저 신고
@@ -60,8 +75,68 @@ public class ReportService {
 
         UserReport report = UserReport.of(reporter, targetUser, groupPost, request.getReason(), request.getDescription());
         userReportRepository.save(report);
+        eventPublisher.publishEvent(UserStatsChangedEvent.of(targetUserId));
 
         log.info("유저 신고 완료 - reporterId: {}, targetUserId: {}, groupPostId: {}, reason: {}",
                 reporterId, targetUserId, request.getGroupPostId(), request.getReason());
     }
+
+    /**
+     * 유저 신고 처리 대기열 조회 (관리자)
+     * PENDING → REVIEWING, 같은 상태 안에서는 오래된 신고부터 조회합니다.
+     *
+     * @param pageable 페이지 정보 (정렬은 (status, created_at) 인덱스 순서를 따르므로 Sort 없이 전달)
+     */
+    public Page<UserReportDto.ListResponse> getModerationQueue(Pageable pageable) {
+        Page<Long> ids = userReportRepository.findQueueIds(ReportStatus.MODERATION_QUEUE, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<Long, UserReport> reports = userReportRepository.findAllWithUsersByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(UserReport::getId, Function.identity()));
+        List<UserReportDto.ListResponse> content = ids.getContent().stream()
+                .map(reports::get)
+                .filter(Objects::nonNull)
+                .map(this::toListResponse)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    /**
+     * 특정 사용자가 받은 신고 통계 (관리자)
+     * 상태별 개수를 GROUP BY 한 번으로 집계합니다.
+     *
+     * @param targetUserId 신고 대상 ID
+     */
+    public UserReportDto.StatisticsResponse getUserReportStatistics(Long targetUserId) {
+        Map<ReportStatus, Long> counts = new EnumMap<>(ReportStatus.class);
+        long totalReports = 0;
+        for (ReportStatusCount statusCount : userReportRepository.countByTargetUserIdGroupByStatus(targetUserId)) {
+            counts.put(statusCount.status(), statusCount.count());
+            totalReports += statusCount.count();
+        }
+
+        return UserReportDto.StatisticsResponse.builder()
+                .targetUserId(targetUserId)
+                .totalReports(totalReports)
+                .pendingReports(counts.getOrDefault(ReportStatus.PENDING, 0L))
+                .reviewingReports(counts.getOrDefault(ReportStatus.REVIEWING, 0L))
+                .resolvedReports(counts.getOrDefault(ReportStatus.RESOLVED, 0L))
+                .build();
+    }
+
+    private UserReportDto.ListResponse toListResponse(UserReport report) {
+        return UserReportDto.ListResponse.builder()
+                .id(report.getId())
+                .reporterId(report.getReporter().getId())
+                .reporterName(report.getReporter().getNickname())
+                .targetUserId(report.getTargetUser().getId())
+                .targetUserName(report.getTargetUser().getNickname())
+                .groupPostId(report.getGroupPost().getId())
+                .reason(report.getReason())
+                .status(report.getStatus())
+                .createdAt(report.getCreatedAt())
+                .build();
+    }
 }
@@ -1,6 +1,8 @@
 package com.sobunsobun.backend.application.user;
 
+import com.sobunsobun.backend.application.chat.ChatMessageArchiveService;
 import com.sobunsobun.backend.application.file.FileStorageService;
+import com.sobunsobun.backend.application.search.SearchTermIndexer;
 import com.sobunsobun.backend.domain.User;
 import com.sobunsobun.backend.domain.UserStatus;
 import com.sobunsobun.backend.domain.WithdrawalReason;
@@ -8,10 +10,16 @@ import com.sobunsobun.backend.dto.account.WithdrawRequest;
 import com.sobunsobun.backend.dto.account.WithdrawResponse;
 import com.sobunsobun.backend.domain.GroupPost;
 import com.sobunsobun.backend.infrastructure.oauth.AppleOAuthClient;
+import com.sobunsobun.backend.infrastructure.redis.ChatMembershipCache;
+import com.sobunsobun.backend.infrastructure.redis.PostFeedCache;
+import com.sobunsobun.backend.infrastructure.redis.UserProfileCache;
 import com.sobunsobun.backend.repository.AuthProviderRepository;
 import com.sobunsobun.backend.repository.WithdrawalReasonRepository;
 import com.sobunsobun.backend.repository.user.UserRepository;
+import com.sobunsobun.backend.repository.user.UserMannerScoreRepository;
+import com.sobunsobun.backend.repository.user.UserStatsRepository;
 import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.PostCategoryRepository;
 import com.sobunsobun.backend.repository.CommentRepository;
 import com.sobunsobun.backend.repository.SavedPostRepository;
 import com.sobunsobun.backend.repository.UserDeviceRepository;
@@ -52,10 +60,13 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserStatsRepository userStatsRepository;
+    private final UserMannerScoreRepository userMannerScoreRepository;
     private final AuthProviderRepository authProviderRepository;
     private final AppleOAuthClient appleOAuthClient;
     private final WithdrawalReasonRepository withdrawalReasonRepository;
     private final GroupPostRepository groupPostRepository;
+    private final PostCategoryRepository postCategoryRepository;
     private final CommentRepository commentRepository;
     private final SavedPostRepository savedPostRepository;
     private final UserDeviceRepository userDeviceRepository;
@@ -66,6 +77,11 @@ public class UserService {
     private final NotificationRepository notificationRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatMemberRepository chatMemberRepository;
+    private final ChatMembershipCache chatMembershipCache;
+    private final PostFeedCache postFeedCache;
+    private final UserProfileCache userProfileCache;
+    private final SearchTermIndexer searchTermIndexer;
+    private final ChatMessageArchiveService chatMessageArchiveService;
     private final ChatInviteRepository chatInviteRepository;
     private final NicknameNormalizer nicknameNormalizer;
     private final FileStorageService fileStorageService;
@@ -147,6 +163,7 @@ public class UserService {
 
         try {
             userRepository.saveAndFlush(user); // 즉시 DB 반영하여 유니크 제약 조건 위반 감지
+            userProfileCache.invalidate(userId);
             log.info("[사용자 작동] 닉네임 업데이트 완료 - 사용자 ID: {}, {} -> {}", userId, oldNickname, normalizedNickname);
         } catch (DataIntegrityViolationException e) {
             log.error("닉네임 중복 DB 오류 {}: 사용자 ID: {}, 닉네임: {}", e.getClass().getSimpleName(), userId, normalizedNickname);
@@ -247,6 +264,7 @@ public class UserService {
 
         try {
             userRepository.saveAndFlush(user);
+            userProfileCache.invalidate(userId);
             log.info("[사용자 작동] 프로필 업데이트 완료 - 사용자 ID: {}, 닉네임: {} -> {}, 이미지: {}",
                     userId, oldNickname, normalizedNickname, user.getProfileImageUrl());
         } catch (DataIntegrityViolationException e) {
@@ -293,6 +311,7 @@ public class UserService {
 
         user.setProfileImageUrl(newImageUrl);
         userRepository.saveAndFlush(user);
+        userProfileCache.invalidate(userId);
 
         log.info("DB 업데이트 완료 - 프로필 이미지 URL이 {}로 변경됨", newImageUrl);
 
@@ -358,14 +377,20 @@ public class UserService {
      * 위치 인증 업데이트
      *
      * 사용자의 주소와 위치 인증 시간을 업데이트합니다.
+     * 위도·경도를 함께 보내면 주변 게시글 조회의 기본 위치로 저장합니다.
      * 위치 인증은 24시간 동안 유효합니다.
      *
      * @param userId 사용자 ID
      * @param address 주소
-     * @throws ResponseStatusException 사용자 없음
+     * @param latitude 위도 (nullable)
+     * @param longitude 경도 (nullable)
+     * @throws ResponseStatusException 사용자 없음, 위도·경도 중 하나만 입력
      */
     @Transactional
-    public void updateLocationVerification(Long userId, String address) {
+    public void updateLocationVerification(Long userId, String address, Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "위도와 경도는 함께 입력해야 합니다.");
+        }
         log.info("[사용자 작동] 위치 인증 업데이트 - 사용자 ID: {}, 주소: {}", userId, address);
 
         User user = userRepository.findById(userId)
@@ -375,6 +400,10 @@ public class UserService {
                 });
 
         user.setAddress(address);
+        if (latitude != null) {
+            user.setLatitude(latitude);
+            user.setLongitude(longitude);
+        }
         user.setLocationVerifiedAt(java.time.LocalDateTime.now());
         userRepository.saveAndFlush(user);
 
@@ -423,13 +452,16 @@ public class UserService {
             chatInviteRepository.deleteByInviteeId(userId);
             chatInviteRepository.deleteByInviterId(userId);
 
-            // 3-3. 채팅 메시지 삭제 (보낸 모든 메시지)
+            // 3-3. 채팅 메시지 삭제 (보낸 모든 메시지, 아카이브된 메시지 포함)
             log.debug("채팅 메시지 삭제 중...");
+            List<Long> memberRoomIds = chatMemberRepository.findRoomIdsByUserId(userId);
             chatMessageRepository.deleteBySenderId(userId);
+            chatMessageArchiveService.purgeSender(userId, memberRoomIds);
 
             // 3-4. 채팅방 멤버 정보 삭제
             log.debug("채팅방 멤버 정보 삭제 중...");
             chatMemberRepository.deleteByUserId(userId);
+            memberRoomIds.forEach(chatMembershipCache::invalidate);
 
             // 3-5. 버그 신고 삭제
             log.debug("버그 신고 삭제 중...");
@@ -450,6 +482,10 @@ public class UserService {
             // 3-9. 사용자가 작성한 게시글의 연관 데이터 삭제 (FK 순서 중요)
             // 게시글을 삭제하기 전에 게시글을 참조하는 데이터를 먼저 삭제해야 함
             List<GroupPost> userPosts = groupPostRepository.findByOwnerIdOrderByCreatedAtDesc(userId);
+            // 댓글 수 재계산 대상 (내 게시글에 댓글을 단 사용자 / 내가 댓글을 단 게시글)
+            List<Long> commenterIds = userPosts.isEmpty() ? List.of()
+                    : commentRepository.findDistinctUserIdsByPostIdIn(userPosts.stream().map(GroupPost::getId).toList());
+            List<Long> commentedPostIds = commentRepository.findDistinctPostIdsByUserId(userId);
             for (GroupPost post : userPosts) {
                 Long postId = post.getId();
                 // 게시글에 달린 신고 삭제
@@ -459,6 +495,10 @@ public class UserService {
                 savedPostRepository.deleteByPostId(postId);
                 // 게시글에 달린 댓글의 신고 삭제 후 댓글 삭제
                 commentRepository.deleteByPostId(postId);
+                // 게시글 카테고리 인덱스 삭제
+                postCategoryRepository.deleteByPostId(postId);
+                // 추천 검색어 통계 차감
+                searchTermIndexer.remove(post);
             }
 
             // 3-10. 저장한 게시글 삭제 (다른 사람 게시글 저장)
@@ -472,11 +512,26 @@ public class UserService {
             // 3-13. 게시글 삭제 (작성한 모든 게시글)
             log.debug("게시글 삭제 중...");
             groupPostRepository.deleteByOwnerId(userId);
+            postFeedCache.invalidateAll();
+
+            // 3-13-1. 일괄 삭제된 댓글만큼 댓글 수 재계산
+            if (!commentedPostIds.isEmpty()) {
+                groupPostRepository.recountCommentCounts(commentedPostIds);
+            }
+            if (!commenterIds.isEmpty()) {
+                userRepository.recountCommentCounts(commenterIds);
+            }
 
             // 3-14. 사용자 디바이스 정보 삭제 (FCM 토큰 등)
             log.debug("디바이스 정보 삭제 중...");
             userDeviceRepository.deleteByUserId(userId);
 
+            // 3-15. 프로필 통계 삭제
+            userStatsRepository.deleteByUserId(userId);
+
+            // 3-16. 매너 점수 누적 집계 삭제
+            userMannerScoreRepository.deleteByUserId(userId);
+
             log.info(" 사용자 관련 데이터 삭제 완료 - 사용자 ID: {}", userId);
         } catch (Exception e) {
             log.error(" 사용자 관련 데이터 삭제 중 오류 발생 - 사용자 ID: {}", userId, e);
@@ -537,9 +592,12 @@ public class UserService {
         user.setNickname("회원탈퇴_" + userId);
         user.setProfileImageUrl(null);
         user.setAddress(null);
+        user.setLatitude(null);
+        user.setLongitude(null);
         user.setLocationVerifiedAt(null);
 
         userRepository.saveAndFlush(user);
+        userProfileCache.invalidate(userId);
 
         log.info(" 사용자 상태 변경 및 개인정보 익명화 완료 - 사용자 ID: {}, 탈퇴 일시: {}, 재가입 가능 일시: {}",
                 userId, withdrawnAt, reactivatableAt);
@@ -0,0 +1,18 @@
+package com.sobunsobun.backend.application.user;
+
+import java.util.List;
+
+/**
+ * 유저 프로필 통계(user_stats)에 영향을 주는 변경이 있었음을 알리는 이벤트
+ *
+ * 게시글 생성·상태 변경, 단체 채팅방 참여·강퇴, 매너 태그 수신, 신고 접수 시 발행하며,
+ * 트랜잭션 커밋 후 UserStatsEventListener가 해당 사용자의 통계를 다시 계산합니다.
+ *
+ * @param userIds 통계를 다시 계산할 사용자 ID 목록
+ */
+public record UserStatsChangedEvent(List<Long> userIds) {
+
+    public static UserStatsChangedEvent of(Long... userIds) {
+        return new UserStatsChangedEvent(List.of(userIds));
+    }
+}
@@ -0,0 +1,37 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.infrastructure.redis.UserProfileCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 유저 프로필 통계 변경 이벤트 처리
+ *
+ * 변경 트랜잭션이 커밋된 뒤 별도 트랜잭션에서 통계를 다시 계산하므로, 롤백된 변경은 반영되지 않고
+ * 재계산 실패가 원래 요청에 영향을 주지 않습니다. 실패한 갱신은 새벽 정합성 점검에서 보정됩니다.
+ * 통계와 매너 태그가 프로필 응답에 포함되므로, 재계산 트랜잭션이 끝난 뒤 UserProfileCache도 무효화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStatsEventListener {
+
+    private final UserStatsService userStatsService;
+    private final UserProfileCache userProfileCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserStatsChanged(UserStatsChangedEvent event) {
+        try {
+            userStatsService.refresh(event.userIds());
+        } catch (Exception e) {
+            log.warn(" [유저 통계] 갱신 실패 - userIds: {}, error: {}", event.userIds(), e.getMessage());
+        }
+        userProfileCache.invalidate(event.userIds());
+    }
+}
@@ -0,0 +1,51 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.application.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 유저 프로필 통계 정합성 점검 스케줄러
+ *
+ * 이벤트로 유지되는 user_stats를 원본 테이블(group_post, chat_member, user_tag_stats, user_report) 기준으로 다시 계산하여
+ * 다른 행만 보정합니다.
+ * - 매일 새벽 4시 45분에 실행 (채팅 메시지 아카이브 이후)
+ * - 사용자 ID 범위(1,000명) 단위 트랜잭션
+ * - scheduler_lock 임대로 여러 인스턴스 중 하나만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStatsReconcileScheduler {
+
+    static final String LOCK_NAME = "user-stats-reconcile";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(30);
+
+    private final UserStatsService userStatsService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Scheduled(cron = "0 45 4 * * *")
+    public void reconcileUserStats() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int repaired = 0;
+        try {
+            long maxUserId = userStatsService.maxUserId();
+            for (long fromId = 0; fromId < maxUserId; fromId += UserStatsService.RANGE_SIZE) {
+                repaired += userStatsService.reconcileRange(fromId);
+            }
+            log.info(" 유저 통계 정합성 점검 완료 - 보정: {}, {}ms", repaired, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error(" 유저 통계 정합성 점검 실패 - 보정: {}, 오류: {}", repaired, e.getMessage(), e);
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+}
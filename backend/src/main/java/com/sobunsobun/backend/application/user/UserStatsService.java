@@ -0,0 +1,154 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.UserStats;
+import com.sobunsobun.backend.dto.user.UserCount;
+import com.sobunsobun.backend.dto.user.UserHostCount;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.UserReportRepository;
+import com.sobunsobun.backend.repository.UserTagStatsRepository;
+import com.sobunsobun.backend.repository.chat.ChatMemberRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import com.sobunsobun.backend.repository.user.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 유저 프로필 통계(user_stats) 서비스
+ *
+ * 조회: 기본 키 한 번으로 통계 행을 읽습니다. 행이 아직 없으면(활동 이력이 없거나 백필 전) 즉석에서 계산합니다.
+ * 갱신: UserStatsChangedEvent를 받은 UserStatsEventListener가 refresh()로 해당 사용자만 다시 계산합니다.
+ * 점검: UserStatsReconcileScheduler가 사용자 ID 범위 단위로 reconcileRange()를 호출합니다.
+ *
+ * 재계산은 증감이 아니라 원본 테이블 기준 전체 값으로 교체하므로, 같은 이벤트가 여러 번 처리되어도 결과가 같습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserStatsService {
+
+    public static final int RANGE_SIZE = 1_000;
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserRepository userRepository;
+    private final GroupPostRepository groupPostRepository;
+    private final ChatMemberRepository chatMemberRepository;
+    private final UserTagStatsRepository userTagStatsRepository;
+    private final UserReportRepository userReportRepository;
+
+    /**
+     * 사용자 통계 조회
+     *
+     * @param userId 사용자 ID
+     * @return 통계 (저장된 행이 없으면 계산한 값, 저장하지 않음)
+     */
+    public UserStats getStats(Long userId) {
+        return userStatsRepository.findById(userId)
+                .orElseGet(() -> calculate(userId - 1, userId).getOrDefault(userId, UserStats.empty(userId)));
+    }
+
+    /**
+     * 지정한 사용자들의 통계를 원본 테이블 기준으로 다시 계산하여 저장
+     */
+    @Transactional
+    public void refresh(Collection<Long> userIds) {
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            if (userId == null) {
+                continue;
+            }
+            UserStats calculated = calculate(userId - 1, userId).getOrDefault(userId, UserStats.empty(userId));
+            UserStats stats = userStatsRepository.findById(userId).orElse(null);
+            if (stats == null) {
+                calculated.setUpdatedAt(LocalDateTime.now());
+                userStatsRepository.save(calculated);
+            } else if (!stats.hasSameCounts(calculated)) {
+                stats.copyCounts(calculated);
+            }
+        }
+    }
+
+    /**
+     * 회원 탈퇴 시 통계 행 삭제
+     */
+    @Transactional
+    public void delete(Long userId) {
+        userStatsRepository.deleteByUserId(userId);
+    }
+
+    public long maxUserId() {
+        return userRepository.findMaxId();
+    }
+
+    /**
+     * 사용자 ID 범위 (fromId, fromId + RANGE_SIZE]의 통계를 원본 테이블과 비교하여 다른 행만 보정
+     * 활동 이력이 있는데 행이 없는 사용자는 새로 만듭니다.
+     *
+     * @return 보정하거나 새로 만든 행 수
+     */
+    @Transactional
+    public int reconcileRange(long fromId) {
+        long toId = fromId + RANGE_SIZE;
+        Map<Long, UserStats> calculated = calculate(fromId, toId);
+        Map<Long, UserStats> stored = userStatsRepository.findByUserIdRange(fromId, toId).stream()
+                .collect(Collectors.toMap(UserStats::getUserId, Function.identity()));
+
+        int repaired = 0;
+        for (UserStats actual : calculated.values()) {
+            UserStats stats = stored.get(actual.getUserId());
+            if (stats == null) {
+                actual.setUpdatedAt(LocalDateTime.now());
+                userStatsRepository.save(actual);
+                repaired++;
+            } else if (!stats.hasSameCounts(actual)) {
+                log.debug(" [유저 통계] 불일치 보정 - userId: {}", actual.getUserId());
+                stats.copyCounts(actual);
+                repaired++;
+            }
+        }
+        for (UserStats stats : stored.values()) {
+            if (!calculated.containsKey(stats.getUserId())) {
+                UserStats empty = UserStats.empty(stats.getUserId());
+                if (!stats.hasSameCounts(empty)) {
+                    stats.copyCounts(empty);
+                    repaired++;
+                }
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * 사용자 ID 범위 (fromId, toId]의 통계를 원본 테이블에서 GROUP BY로 계산 (범위당 쿼리 4번)
+     * 집계 대상이 하나라도 있는 사용자만 결과에 포함됩니다.
+     */
+    private Map<Long, UserStats> calculate(long fromId, long toId) {
+        Map<Long, UserStats> result = new HashMap<>();
+        for (UserHostCount row : groupPostRepository.countHostPostsByOwnerIdRange(
+                fromId, toId, PostStatus.CANCELLED, PostStatus.COMPLETED)) {
+            UserStats stats = result.computeIfAbsent(row.userId(), UserStats::empty);
+            stats.setHostCount(row.hostCount().intValue());
+            stats.setCompletedHostCount(row.completedHostCount().intValue());
+        }
+        for (UserCount row : chatMemberRepository.countParticipationByUserIdRange(fromId, toId)) {
+            result.computeIfAbsent(row.userId(), UserStats::empty).setParticipationCount(row.count().intValue());
+        }
+        for (UserCount row : userTagStatsRepository.sumCountByReceiverIdRange(fromId, toId)) {
+            result.computeIfAbsent(row.userId(), UserStats::empty).setTagCount(row.count().intValue());
+        }
+        for (UserCount row : userReportRepository.countByTargetUserIdRange(fromId, toId)) {
+            result.computeIfAbsent(row.userId(), UserStats::empty).setReportedCount(row.count().intValue());
+        }
+        return result;
+    }
+}
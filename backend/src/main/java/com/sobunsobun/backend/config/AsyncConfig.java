@@ -11,6 +11,9 @@ import java.util.concurrent.Executor;
 @Configuration
 public class AsyncConfig {
 
+    /** 매너 점수 재집계 워커 수 (동시에 사용하는 DB 커넥션 수) */
+    public static final int MANNER_SCORE_WORKERS = 4;
+
     @Bean(name = "fcmTaskExecutor")
     public Executor fcmTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -21,4 +24,18 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 매너 점수 재집계 병렬 실행용 (MannerScoreRebuildScheduler, 사용자 ID 범위를 워커 수만큼 나눠 처리)
+     */
+    @Bean(name = "mannerScoreTaskExecutor")
+    public Executor mannerScoreTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(MANNER_SCORE_WORKERS);
+        executor.setMaxPoolSize(MANNER_SCORE_WORKERS);
+        executor.setQueueCapacity(MANNER_SCORE_WORKERS);
+        executor.setThreadNamePrefix("manner-score-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,60 @@
+package com.sobunsobun.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 전문 검색용 FULLTEXT 인덱스를 생성합니다.
+ *
+ * JPA @Index로는 FULLTEXT / ngram 파서를 지정할 수 없으므로
+ * 애플리케이션 시작 시 MySQL인 경우에만 인덱스 존재 여부를 확인하고 없으면 추가합니다.
+ * 한국어는 띄어쓰기만으로 토큰화가 안 되므로 ngram 파서(ngram_token_size 기본값 2)를 사용합니다.
+ * H2 등 다른 DB에서는 건너뜁니다.
+ */
+@Slf4j
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class ChatMessageFullTextIndexInitializer implements ApplicationRunner {
+
+    static final String INDEX_NAME = "ft_chat_message_content";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            if (productName == null || !productName.toLowerCase().contains("mysql")) {
+                log.info(" [전문 검색 인덱스] MySQL이 아니므로 건너뜀 - db: {}", productName);
+                return;
+            }
+
+            Integer count = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM information_schema.statistics
+                    WHERE table_schema = DATABASE()
+                    AND table_name = 'chat_message'
+                    AND index_name = ?
+                    """, Integer.class, INDEX_NAME);
+            if (count != null && count > 0) {
+                log.debug(" [전문 검색 인덱스] 이미 존재 - {}", INDEX_NAME);
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            jdbcTemplate.execute("ALTER TABLE chat_message ADD FULLTEXT INDEX "
+                    + INDEX_NAME + " (content) WITH PARSER ngram");
+            log.info(" [전문 검색 인덱스] 생성 완료 - {}, {}ms", INDEX_NAME, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 인덱스가 없으면 검색 API만 실패하므로 애플리케이션 기동은 계속 진행
+            log.error(" [전문 검색 인덱스] 생성 실패 - {}", INDEX_NAME, e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.sobunsobun.backend.config;
+
+import com.sobunsobun.backend.application.comment.CommentCountReconcileScheduler;
+import com.sobunsobun.backend.repository.CommentRepository;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 수(comment_count) 백필
+ *
+ * 활성 댓글이 있는데 게시글 댓글 수 합계가 0이면(컬럼 추가 후 최초 배포) 애플리케이션 시작 시 한 번 보정합니다.
+ * 이미 채워진 경우 조회 두 번으로 종료되며, 이후 보정은 CommentCountReconcileScheduler가 담당합니다.
+ */
+@Slf4j
+@Component
+@Order(6)
+@RequiredArgsConstructor
+public class CommentCountBackfillInitializer implements ApplicationRunner {
+
+    private final CommentRepository commentRepository;
+    private final GroupPostRepository groupPostRepository;
+    private final CommentCountReconcileScheduler commentCountReconcileScheduler;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (!commentRepository.existsByDeletedFalse() || groupPostRepository.sumCommentCount() > 0) {
+                return;
+            }
+            log.info(" [댓글 수 백필] 시작");
+            commentCountReconcileScheduler.reconcileCommentCounts();
+        } catch (Exception e) {
+            // 댓글 수만 0으로 보이므로 기동은 계속 진행 (새벽 정합성 점검에서 보정)
+            log.error(" [댓글 수 백필] 실패", e);
+        }
+    }
+}
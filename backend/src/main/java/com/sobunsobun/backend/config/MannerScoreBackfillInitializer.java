@@ -0,0 +1,42 @@
+package com.sobunsobun.backend.config;
+
+import com.sobunsobun.backend.application.user.MannerScoreRebuildScheduler;
+import com.sobunsobun.backend.repository.MannerReviewRepository;
+import com.sobunsobun.backend.repository.user.UserMannerScoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매너 점수 누적 집계(user_manner_score) 백필
+ *
+ * 매너 평가가 있는데 user_manner_score가 비어 있으면(테이블 추가 후 최초 배포) 애플리케이션 시작 시
+ * 전체 사용자 점수를 병렬 재집계로 한 번 채웁니다. 이후 갱신은 평가 제출 시 증분 반영과
+ * MannerScoreRebuildScheduler가 담당합니다.
+ */
+@Slf4j
+@Component
+@Order(8)
+@RequiredArgsConstructor
+public class MannerScoreBackfillInitializer implements ApplicationRunner {
+
+    private final UserMannerScoreRepository userMannerScoreRepository;
+    private final MannerReviewRepository mannerReviewRepository;
+    private final MannerScoreRebuildScheduler mannerScoreRebuildScheduler;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (userMannerScoreRepository.count() > 0 || mannerReviewRepository.count() == 0) {
+                return;
+            }
+            log.info(" [매너 점수 백필] 시작");
+            mannerScoreRebuildScheduler.rebuildMannerScores();
+        } catch (Exception e) {
+            log.error(" [매너 점수 백필] 실패", e);
+        }
+    }
+}
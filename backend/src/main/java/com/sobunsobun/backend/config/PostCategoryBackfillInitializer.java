@@ -0,0 +1,65 @@
+package com.sobunsobun.backend.config;
+
+import com.sobunsobun.backend.application.SchedulerLockService;
+import com.sobunsobun.backend.application.post.PostCategoryIndexer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 카테고리 인덱스(post_category) 백필
+ *
+ * post_category 도입 이전에 생성된 게시글을 애플리케이션 시작 시 청크 단위로 색인합니다.
+ * 매핑이 없는 게시글만 대상으로 하므로 이미 백필이 끝났으면 조회 한 번으로 종료되며,
+ * 중간에 중단되어도 다음 기동 시 이어서 진행합니다.
+ * 여러 인스턴스가 동시에 기동하면 같은 게시글을 색인하다 (post_id, category) UNIQUE 제약에 걸리므로,
+ * scheduler_lock 임대를 잡은 인스턴스 하나만 실행합니다.
+ */
+@Slf4j
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class PostCategoryBackfillInitializer implements ApplicationRunner {
+
+    static final String LOCK_NAME = "post-category-backfill";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(30);
+    private static final int CHUNK_SIZE = 500;
+
+    private final PostCategoryIndexer postCategoryIndexer;
+    private final SchedulerLockService schedulerLockService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        long lastId = 0L;
+        int chunks = 0;
+
+        try {
+            Long next;
+            while ((next = postCategoryIndexer.backfillChunk(lastId, CHUNK_SIZE)) != null) {
+                lastId = next;
+                chunks++;
+            }
+        } catch (Exception e) {
+            // 백필이 끝나지 않은 게시글은 카테고리 목록에서만 빠지므로 기동은 계속 진행
+            log.error(" [카테고리 인덱스 백필] 실패 - lastId: {}", lastId, e);
+            return;
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+
+        if (chunks > 0) {
+            log.info(" [카테고리 인덱스 백필] 완료 - chunks: {}, lastId: {}, {}ms",
+                    chunks, lastId, System.currentTimeMillis() - start);
+        }
+    }
+}
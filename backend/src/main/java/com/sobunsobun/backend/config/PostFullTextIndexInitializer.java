@@ -0,0 +1,70 @@
+package com.sobunsobun.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 검색용 FULLTEXT 인덱스를 생성합니다.
+ *
+ * group_post(title, categories, items_text, location_name)에 ngram 파서 FULLTEXT 인덱스를 추가하여
+ * 검색 API가 LIKE '%keyword%' 전체 스캔 대신 인덱스로 후보를 찾도록 합니다.
+ * MySQL인 경우에만 동작하며, 인덱스가 없을 때만 추가합니다.
+ *
+ * 재구축: --rebuild-post-search-index 옵션으로 기동하면 인덱스를 삭제 후 다시 생성합니다.
+ * (ngram_token_size 변경, 대량 삭제 후 인덱스 정리 등)
+ */
+@Slf4j
+@Component
+@Order(4)
+@RequiredArgsConstructor
+public class PostFullTextIndexInitializer implements ApplicationRunner {
+
+    static final String INDEX_NAME = "ft_group_post_search";
+    static final String REBUILD_OPTION = "rebuild-post-search-index";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            if (productName == null || !productName.toLowerCase().contains("mysql")) {
+                log.info(" [게시글 검색 인덱스] MySQL이 아니므로 건너뜀 - db: {}", productName);
+                return;
+            }
+
+            Integer count = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM information_schema.statistics
+                    WHERE table_schema = DATABASE()
+                    AND table_name = 'group_post'
+                    AND index_name = ?
+                    """, Integer.class, INDEX_NAME);
+            boolean exists = count != null && count > 0;
+
+            if (exists && args.containsOption(REBUILD_OPTION)) {
+                log.info(" [게시글 검색 인덱스] 재구축 요청 - {} 삭제", INDEX_NAME);
+                jdbcTemplate.execute("ALTER TABLE group_post DROP INDEX " + INDEX_NAME);
+                exists = false;
+            }
+            if (exists) {
+                log.debug(" [게시글 검색 인덱스] 이미 존재 - {}", INDEX_NAME);
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            jdbcTemplate.execute("ALTER TABLE group_post ADD FULLTEXT INDEX " + INDEX_NAME
+                    + " (title, categories, items_text, location_name) WITH PARSER ngram");
+            log.info(" [게시글 검색 인덱스] 생성 완료 - {}, {}ms", INDEX_NAME, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 인덱스가 없으면 검색 API만 실패하므로 애플리케이션 기동은 계속 진행
+            log.error(" [게시글 검색 인덱스] 생성 실패 - {}", INDEX_NAME, e);
+        }
+    }
+}
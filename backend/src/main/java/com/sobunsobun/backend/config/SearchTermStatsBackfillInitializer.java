@@ -0,0 +1,41 @@
+package com.sobunsobun.backend.config;
+
+import com.sobunsobun.backend.application.search.SearchTermStatsScheduler;
+import com.sobunsobun.backend.repository.search.SearchTermDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 검색어 단어 빈도 통계(search_term_daily_stats) 백필
+ *
+ * 통계 테이블이 비어 있으면(최초 배포) 애플리케이션 시작 시 최근 30일 OPEN 게시글로 집계합니다.
+ * 이미 집계된 경우 조회 한 번으로 종료되며, 이후 보정은 SearchTermStatsScheduler가 담당합니다.
+ * 여러 인스턴스가 동시에 기동해도 한 곳만 집계하도록 스케줄러 잠금을 거쳐 실행합니다.
+ */
+@Slf4j
+@Component
+@Order(5)
+@RequiredArgsConstructor
+public class SearchTermStatsBackfillInitializer implements ApplicationRunner {
+
+    private final SearchTermDailyStatsRepository searchTermDailyStatsRepository;
+    private final SearchTermStatsScheduler searchTermStatsScheduler;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (searchTermDailyStatsRepository.count() > 0) {
+                return;
+            }
+            log.info(" [추천어 통계 백필] 시작");
+            searchTermStatsScheduler.rebuildTermStats();
+        } catch (Exception e) {
+            // 통계가 없으면 추천어만 비어 있으므로 기동은 계속 진행
+            log.error(" [추천어 통계 백필] 실패", e);
+        }
+    }
+}
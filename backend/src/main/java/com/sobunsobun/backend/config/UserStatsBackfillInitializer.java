@@ -0,0 +1,41 @@
+package com.sobunsobun.backend.config;
+
+import com.sobunsobun.backend.application.user.UserStatsReconcileScheduler;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 프로필 통계(user_stats) 백필
+ *
+ * 게시글이 있는데 user_stats가 비어 있으면(테이블 추가 후 최초 배포) 애플리케이션 시작 시 한 번 채웁니다.
+ * 백필 전에도 프로필 조회는 즉석 계산으로 동작하며, 이후 보정은 UserStatsReconcileScheduler가 담당합니다.
+ */
+@Slf4j
+@Component
+@Order(7)
+@RequiredArgsConstructor
+public class UserStatsBackfillInitializer implements ApplicationRunner {
+
+    private final UserStatsRepository userStatsRepository;
+    private final GroupPostRepository groupPostRepository;
+    private final UserStatsReconcileScheduler userStatsReconcileScheduler;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (userStatsRepository.count() > 0 || groupPostRepository.findMaxId() == 0) {
+                return;
+            }
+            log.info(" [유저 통계 백필] 시작");
+            userStatsReconcileScheduler.reconcileUserStats();
+        } catch (Exception e) {
+            log.error(" [유저 통계 백필] 실패", e);
+        }
+    }
+}
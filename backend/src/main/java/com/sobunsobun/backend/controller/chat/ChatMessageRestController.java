@@ -2,6 +2,7 @@ package com.sobunsobun.backend.controller.chat;
 
 import com.sobunsobun.backend.application.chat.ChatMessageService;
 import com.sobunsobun.backend.domain.chat.ChatMessageType;
+import com.sobunsobun.backend.infrastructure.redis.ChatMembershipCache;
 import com.sobunsobun.backend.infrastructure.redis.ChatRedisService;
 import com.sobunsobun.backend.domain.chat.ChatRoom;
 import com.sobunsobun.backend.dto.chat.MessageResponse;
@@ -54,6 +55,7 @@ public class ChatMessageRestController {
     private final ChatMemberRepository chatMemberRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRedisService chatRedisService;
+    private final ChatMembershipCache chatMembershipCache;
 
     // ──────────────────────────────────────────────────────────────────────────
     // POST /api/messages  —  메시지 전송
@@ -178,7 +180,7 @@ public class ChatMessageRestController {
         log.info(" [메시지 목록 조회] roomId: {}, userId: {}, page: {}, size: {}", groupChatRoomId, userId, page, size);
 
         // 채팅방 멤버 검증
-        if (!chatMemberRepository.isActiveMember(groupChatRoomId, userId)) {
+        if (!chatMembershipCache.isActiveMember(groupChatRoomId, userId)) {
             log.warn(" [메시지 목록 조회 실패] 접근 권한 없음 - roomId: {}, userId: {}", groupChatRoomId, userId);
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(ApiResponse.error("FORBIDDEN", "채팅방에 접근 권한이 없습니다."));
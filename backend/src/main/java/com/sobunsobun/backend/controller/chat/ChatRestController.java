@@ -1035,4 +1035,75 @@ public class ChatRestController {
                     .body(ApiResponse.error(500, "GET_CHAT_MESSAGES_FAILED", e.getMessage()));
         }
     }
+
+    /**
+     * 채팅방 메시지 검색
+     *
+     * API: GET /api/v1/chat/rooms/{roomId}/messages/search?q=
+     *
+     * TEXT 메시지를 전문 검색합니다. 공백으로 구분된 모든 단어를 포함하는 메시지가 검색되며,
+     * 2글자 미만 단어는 무시됩니다. 각 결과의 jumpCursor를 messages/cursor API의 cursor로 넘기면
+     * 검색된 메시지 위치로 이동할 수 있습니다.
+     */
+    @Operation(
+        summary = "메시지 검색",
+        description = """
+            채팅방의 TEXT 메시지를 키워드로 검색합니다.
+            - sort=relevance(기본): 관련도순, sort=time: 최신순
+            - 각 결과의 jumpCursor를 GET /rooms/{roomId}/messages/cursor 의 cursor로 사용하면 해당 메시지부터 이전 대화를 조회합니다.
+            """
+    )
+    @GetMapping("/rooms/{roomId}/messages/search")
+    public ResponseEntity<ApiResponse<PageResponse<ChatMessageSearchResponse>>> searchMessages(
+            @PathVariable("roomId") Long roomId,
+            @Parameter(description = "검색어", example = "정산") @RequestParam("q") String query,
+            @Parameter(description = "정렬 (relevance | time)", example = "relevance")
+            @RequestParam(defaultValue = "relevance") String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Principal principal
+    ) {
+        Long userId = extractUserIdFromPrincipal(principal);
+        log.info(" [REST] 메시지 검색 API 요청 - roomId: {}, userId: {}, sort: {}, page: {}, size: {}",
+                roomId, userId, sort, page, size);
+
+        if (page < 0 || size < 1 || size > 100) {
+            throw new ChatException(ErrorCode.INVALID_REQUEST);
+        }
+        boolean sortByTime = "time".equalsIgnoreCase(sort);
+
+        PageResponse<ChatMessageSearchResponse> result =
+                chatMessageService.searchMessages(roomId, userId, query, sortByTime, page, size);
+
+        return ResponseEntity.ok(ApiResponse.success(result, "메시지 검색 성공"));
+    }
+
+    /**
+     * 메시지 델타 동기화
+     *
+     * API: POST /api/v1/chat/sync
+     *
+     * WebSocket 재연결 시 채팅방별 워터마크 이후의 메시지만 받아옵니다.
+     * 전체 페이지를 다시 조회하지 않으므로 배포 직후처럼 재연결이 몰릴 때 부하가 적습니다.
+     */
+    @Operation(
+        summary = "메시지 델타 동기화",
+        description = """
+            채팅방별 마지막 수신 위치(lastCreatedAt, lastMessageId) 이후의 메시지를 STOMP와 같은 형식으로 반환합니다.
+            - 채팅방당 limitPerRoom(기본 50, 최대 100), 요청당 최대 500개까지 반환합니다.
+            - 응답의 lastCreatedAt / lastMessageId를 다음 요청의 워터마크로 사용합니다.
+            - hasMore가 true이면 갱신된 워터마크로 다시 요청합니다.
+            """
+    )
+    @PostMapping("/sync")
+    public ResponseEntity<ApiResponse<ChatSyncResponse>> syncMessages(
+            @jakarta.validation.Valid @RequestBody ChatSyncRequest request,
+            Principal principal
+    ) {
+        Long userId = extractUserIdFromPrincipal(principal);
+        log.info(" [REST] 메시지 동기화 API 요청 - userId: {}, roomCount: {}", userId, request.getRooms().size());
+
+        ChatSyncResponse result = chatMessageService.syncMessages(userId, request);
+        return ResponseEntity.ok(ApiResponse.success(result, "메시지 동기화 성공"));
+    }
 }
@@ -6,6 +6,7 @@ import com.sobunsobun.backend.dto.comment.CommentCountResponse;
 import com.sobunsobun.backend.dto.comment.CommentResponse;
 import com.sobunsobun.backend.dto.comment.CreateCommentRequest;
 import com.sobunsobun.backend.dto.comment.UpdateCommentRequest;
+import com.sobunsobun.backend.dto.common.CursorPageResponse;
 import com.sobunsobun.backend.repository.GroupPostRepository;
 import com.sobunsobun.backend.repository.user.UserRepository;
 import com.sobunsobun.backend.security.JwtUserPrincipal;
@@ -35,6 +36,7 @@ import java.util.List;
  * 제공 기능:
  * - 댓글 생성 (대댓글 포함)
  * - 댓글 목록 조회 (트리 구조)
+ * - 댓글 페이지 조회 (부모 댓글 커서 페이징 + 대댓글 미리보기), 대댓글 더보기
  * - 댓글 수정
  * - 댓글 삭제 (Soft Delete)
  */
@@ -48,6 +50,9 @@ public class CommentController {
     private final UserRepository userRepository;
     private final GroupPostRepository postRepository;
 
+    /** 댓글 개수 일괄 조회 최대 게시글 수 */
+    private static final int MAX_COUNT_IDS = 100;
+
     /**
      * 1. 댓글 작성
      * POST /api/posts/{postId}/comments
@@ -156,6 +161,41 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 3-1. 여러 게시글 댓글 개수 일괄 조회
+     * GET /api/posts/comments/counts?ids=1,2,3
+     *
+     * 피드 카드의 댓글 배지용으로 여러 게시글의 댓글 개수를 한 번의 쿼리로 조회합니다
+     * (존재하지 않는 게시글 ID는 결과에서 제외, 최대 100개)
+     *
+     * @param ids 게시글 ID 목록 (콤마 구분)
+     * @return 게시글별 댓글 개수 (요청 순서)
+     */
+    @GetMapping("/posts/comments/counts")
+    @Operation(summary = "댓글 개수 일괄 조회", description = "여러 게시글의 활성 댓글 개수를 한 번에 조회합니다 (최대 100개).")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "ID 개수 초과")
+    })
+    public ResponseEntity<List<CommentCountResponse>> getCommentCounts(
+        @RequestParam @Parameter(description = "게시글 ID 목록 (콤마 구분)", example = "1,2,3") List<Long> ids) {
+
+        List<Long> postIds = ids.stream().distinct().toList();
+        if (postIds.size() > MAX_COUNT_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "게시글 ID는 최대 " + MAX_COUNT_IDS + "개까지 조회할 수 있습니다");
+        }
+        log.info("댓글 개수 일괄 조회 - 게시글 수: {}", postIds.size());
+
+        List<CommentCountResponse> response = commentService.getCommentCountsByPostIds(postIds).entrySet().stream()
+                .map(entry -> CommentCountResponse.builder()
+                        .postId(entry.getKey())
+                        .commentCount(entry.getValue())
+                        .build())
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 4. 댓글 수정
      * PATCH /api/comments/{commentId}
@@ -234,5 +274,74 @@ public class CommentController {
 
         return ResponseEntity.ok(com.sobunsobun.backend.support.response.ApiResponse.ok());
     }
+
+    /**
+     * 6. 댓글 페이지 조회 (인기 게시글용)
+     * GET /api/posts/{postId}/comments/page
+     *
+     * 부모 댓글을 오래된순 커서 페이징으로 조회하고, 부모 댓글마다 대댓글을 replies개까지 포함합니다.
+     * 나머지 대댓글은 부모 댓글의 replyCursor로 7번 API에서 이어서 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param cursor 이전 응답의 cursor.next (첫 페이지는 생략)
+     * @param size 부모 댓글 페이지 크기 (기본값: 20, 최대 50)
+     * @param replies 부모 댓글마다 포함할 대댓글 수 (기본값: 3, 최대 10)
+     * @return 부모 댓글 커서 페이지
+     */
+    @GetMapping("/posts/{postId}/comments/page")
+    @Operation(summary = "댓글 페이지 조회",
+        description = "부모 댓글을 커서 기반으로 조회하고 부모 댓글마다 대댓글 일부를 포함합니다. " +
+            "replyCount가 childComments보다 많으면 replyCursor로 대댓글 더보기를 호출하세요.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 cursor"),
+        @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+    })
+    public ResponseEntity<CursorPageResponse<CommentResponse>> getCommentPage(
+        @PathVariable @Parameter(description = "게시글 ID") Long postId,
+        @RequestParam(required = false) @Parameter(description = "이전 응답의 cursor.next (첫 페이지는 생략)") String cursor,
+        @RequestParam(defaultValue = "20") @Parameter(description = "부모 댓글 페이지 크기 (최대 50)") int size,
+        @RequestParam(defaultValue = "3") @Parameter(description = "부모 댓글마다 포함할 대댓글 수 (최대 10)") int replies,
+        @AuthenticationPrincipal JwtUserPrincipal principal) {
+
+        Long viewerId = (principal != null) ? principal.id() : null;
+        int pageSize = Math.max(1, Math.min(size, 50));
+        int replyLimit = Math.max(0, Math.min(replies, 10));
+        log.info("댓글 페이지 조회 - postId: {}, viewerId: {}, size: {}, replies: {}", postId, viewerId, pageSize, replyLimit);
+
+        return ResponseEntity.ok(commentService.getCommentPage(postId, viewerId, cursor, pageSize, replyLimit));
+    }
+
+    /**
+     * 7. 대댓글 더보기
+     * GET /api/comments/{commentId}/replies
+     *
+     * 부모 댓글의 대댓글을 오래된순 커서 페이징으로 조회합니다.
+     * 첫 호출의 cursor는 6번 API 응답의 replyCursor를 사용합니다.
+     *
+     * @param commentId 부모 댓글 ID
+     * @param cursor replyCursor 또는 이전 응답의 cursor.next
+     * @param size 페이지 크기 (기본값: 20, 최대 50)
+     * @return 대댓글 커서 페이지
+     */
+    @GetMapping("/comments/{commentId}/replies")
+    @Operation(summary = "대댓글 더보기", description = "부모 댓글의 대댓글을 커서 기반으로 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 cursor 또는 대댓글 ID"),
+        @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음")
+    })
+    public ResponseEntity<CursorPageResponse<CommentResponse>> getReplies(
+        @PathVariable @Parameter(description = "부모 댓글 ID") Long commentId,
+        @RequestParam(required = false) @Parameter(description = "replyCursor 또는 이전 응답의 cursor.next") String cursor,
+        @RequestParam(defaultValue = "20") @Parameter(description = "페이지 크기 (최대 50)") int size,
+        @AuthenticationPrincipal JwtUserPrincipal principal) {
+
+        Long viewerId = (principal != null) ? principal.id() : null;
+        int pageSize = Math.max(1, Math.min(size, 50));
+        log.info("대댓글 조회 - commentId: {}, viewerId: {}, size: {}", commentId, viewerId, pageSize);
+
+        return ResponseEntity.ok(commentService.getReplies(commentId, viewerId, cursor, pageSize));
+    }
 }
 
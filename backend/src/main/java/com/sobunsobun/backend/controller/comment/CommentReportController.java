@@ -57,6 +57,49 @@ public class CommentReportController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "신고 상태별 목록 (관리자)", description = "신고 상태별 신고 목록을 조회합니다")
+    public ResponseEntity<Page<CommentReportDto.ListResponse>> getReportsByStatus(
+            @RequestParam ReportStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<CommentReportDto.ListResponse> response = commentReportService.getReportsByStatus(status, pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/queue")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "신고 처리 대기열 (관리자)", description = "대기 중 → 검토 중 순, 오래된 신고부터 조회합니다")
+    public ResponseEntity<Page<CommentReportDto.ListResponse>> getModerationQueue(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<CommentReportDto.ListResponse> response = commentReportService.getModerationQueue(PageRequest.of(page, size));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/comment/{commentId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "댓글별 신고 목록 (관리자)", description = "특정 댓글에 대한 신고를 조회합니다")
+    public ResponseEntity<Page<CommentReportDto.ListResponse>> getCommentReports(
+            @PathVariable Long commentId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<CommentReportDto.ListResponse> response = commentReportService.getCommentReports(commentId, pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/comment/{commentId}/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "댓글별 신고 통계 (관리자)", description = "댓글의 신고 통계를 조회합니다")
+    public ResponseEntity<CommentReportDto.StatisticsResponse> getCommentReportStatistics(
+            @PathVariable Long commentId) {
+        CommentReportDto.StatisticsResponse response = commentReportService.getCommentReportStatistics(commentId);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{reportId}/status")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "신고 상태 업데이트 (관리자)", description = "신고 상태를 업데이트합니다")
@@ -1,6 +1,7 @@
 package com.sobunsobun.backend.controller.post;
 
 import com.sobunsobun.backend.application.post.PostService;
+import com.sobunsobun.backend.dto.common.CursorPageResponse;
 import com.sobunsobun.backend.dto.post.*;
 import com.sobunsobun.backend.support.response.ApiResponse;
 import com.sobunsobun.backend.security.JwtUserPrincipal;
@@ -28,6 +29,8 @@ import java.util.stream.Collectors;
  * 엔드포인트:
  * - POST   /api/posts                          : 게시글 생성 (인증 필요)
  * - GET    /api/posts                          : 전체 게시글 목록 조회 (공개)
+ * - GET    /api/posts/feed                     : 게시글 커서 피드 조회 (무한 스크롤)
+ * - GET    /api/posts/nearby                   : 주변 게시글 조회 (가까운 순, 커서 기반)
  * - GET    /api/posts/{id}                     : 게시글 단건 조회 (공개)
  * - PUT    /api/posts/{id}                     : 게시글 수정 (인증 필요, 작성자만)
  * - DELETE /api/posts/{id}                     : 게시글 삭제 (인증 필요, 작성자만)
@@ -122,6 +125,91 @@ public class PostController {
     }
 
 
+    /**
+     * 게시글 커서 피드 조회 (무한 스크롤)
+     *
+     * offset 페이징(GET /api/posts)과 달리 마지막 게시글의 (정렬 키, id) 이후부터 조회하므로
+     * 깊은 페이지에서도 응답 속도가 일정합니다.
+     *
+     * @param sort 정렬 방식 (latest: 최신순, deadline: 마감임박순)
+     * @param status 게시글 상태 필터 (선택)
+     * @param categories 카테고리 코드 목록 (선택, 콤마 구분, 모집 중인 게시글만)
+     * @param cursor 이전 응답의 cursor.next (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20, 최대 50)
+     * @param withTotal 전체 개수 포함 여부 (기본값: false)
+     * @return 200 OK, 커서 페이지
+     */
+    @GetMapping("/feed")
+    @Operation(
+            summary = "게시글 커서 피드 조회",
+            description = "커서 기반으로 게시글 목록을 조회합니다. 응답의 cursor.next를 다음 요청의 cursor로 전달하세요. " +
+                    "전체 개수는 withTotal=true일 때만 포함됩니다."
+    )
+    public ResponseEntity<CursorPageResponse<PostResponse>> getPostFeed(
+            @AuthenticationPrincipal JwtUserPrincipal principal,
+            @Parameter(description = "정렬 방식 (latest: 최신순, deadline: 마감임박순)", example = "latest")
+            @RequestParam(defaultValue = "latest") String sort,
+            @Parameter(description = "게시글 상태 (OPEN, CLOSED, PROCESSING, COMPLETED)")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "카테고리 코드 (콤마 구분)", example = "0001,0002")
+            @RequestParam(required = false) List<String> categories,
+            @Parameter(description = "이전 응답의 cursor.next (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        Long viewerId = (principal != null) ? principal.id() : null;
+        int pageSize = Math.max(1, Math.min(size, 50));
+        log.info("게시글 피드 조회 요청 - viewerId: {}, 정렬: {}, 상태: {}, 카테고리: {}, 크기: {}", viewerId, sort, status, categories, pageSize);
+        CursorPageResponse<PostResponse> response =
+                postService.getPostFeed(viewerId, sort, status, categories, cursor, pageSize, withTotal);
+        return ResponseEntity.ok(response);
+    }
+
+
+    /**
+     * 주변 게시글 조회 (가까운 순, 무한 스크롤)
+     *
+     * 모집 중(OPEN)이고 만남 장소 좌표가 있는 게시글 중 반경 안의 게시글을 거리순으로 반환합니다.
+     * 위도·경도를 생략하면 위치 인증 때 저장한 좌표를 기준으로 합니다.
+     *
+     * @param latitude 기준 위도 (선택)
+     * @param longitude 기준 경도 (선택)
+     * @param radius 반경 (미터, 기본값: 3000, 최대 20000)
+     * @param cursor 이전 응답의 cursor.next (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20, 최대 50)
+     * @return 200 OK, 커서 페이지 (각 게시글에 distanceMeters 포함)
+     */
+    @GetMapping("/nearby")
+    @Operation(
+            summary = "주변 게시글 조회",
+            description = "기준 위치에서 반경(미터) 안의 모집 중인 게시글을 가까운 순으로 조회합니다. " +
+                    "lat/lng를 생략하면 위치 인증 때 저장한 좌표를 사용합니다. 응답의 cursor.next를 다음 요청의 cursor로 전달하세요."
+    )
+    public ResponseEntity<CursorPageResponse<PostResponse>> getNearbyPosts(
+            @AuthenticationPrincipal JwtUserPrincipal principal,
+            @Parameter(description = "기준 위도", example = "37.4979")
+            @RequestParam(name = "lat", required = false) Double latitude,
+            @Parameter(description = "기준 경도", example = "127.0276")
+            @RequestParam(name = "lng", required = false) Double longitude,
+            @Parameter(description = "반경 (미터, 최대 20000)", example = "3000")
+            @RequestParam(defaultValue = "3000") int radius,
+            @Parameter(description = "이전 응답의 cursor.next (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long viewerId = (principal != null) ? principal.id() : null;
+        int pageSize = Math.max(1, Math.min(size, 50));
+        log.info("주변 게시글 조회 요청 - viewerId: {}, 반경: {}m, 크기: {}", viewerId, radius, pageSize);
+        CursorPageResponse<PostResponse> response =
+                postService.getNearbyPosts(viewerId, latitude, longitude, radius, cursor, pageSize);
+        return ResponseEntity.ok(response);
+    }
+
+
     /**
      * 상태별 게시글 목록 조회
      *
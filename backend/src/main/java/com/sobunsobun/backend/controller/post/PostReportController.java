@@ -90,6 +90,21 @@ public class PostReportController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 신고 처리 대기열 조회 (관리자)
+     * GET /api/v1/posts/reports/queue
+     */
+    @GetMapping("/queue")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "신고 처리 대기열 (관리자)", description = "대기 중 → 검토 중 순, 오래된 신고부터 조회합니다 (관리자만)")
+    public ResponseEntity<Page<PostReportDto.ListResponse>> getModerationQueue(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        // 정렬은 (status, created_at) 인덱스 순서를 따르므로 Sort를 지정하지 않음
+        Page<PostReportDto.ListResponse> response = postReportService.getModerationQueue(PageRequest.of(page, size));
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 특정 게시글의 신보 목록 조회
      * GET /api/v1/posts/{postId}/reports
@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
  * - GET /api/search                           : 게시글 검색 (공개)
  * - GET /api/search/status/{status}           : 상태별 게시글 검색 (공개)
  * - GET /api/search/suggestions/default       : 기본 추천 검색어 (공개)
+ * - GET /api/search/suggestions/autocomplete  : 검색어 자동완성 (공개)
  */
 @Slf4j
 @RestController
@@ -38,7 +39,8 @@ public class SearchController {
      * title, categories, itemsText, locationName 중 하나라도 포함되면 검색됨
      *
      * @param keyword 검색 키워드
-     * @param sortBy 정렬 기준 (latest: 최신순, deadline: 마감임박순)
+     * @param sortBy 정렬 기준 (latest: 최신순, deadline: 마감임박순, relevance: 관련도순)
+     * @param deadlineWithinHours 지금부터 N시간 안에 마감되는 게시글만 (선택)
      * @param page 페이지 번호 (0부터 시작, 기본값: 0)
      * @param size 페이지 크기 (기본값: 20)
      * @return 200 OK, 검색 결과 목록
@@ -51,8 +53,10 @@ public class SearchController {
     public ResponseEntity<PostListResponse> searchPosts(
             @Parameter(description = "검색 키워드", required = true, example = "치킨")
             @RequestParam String keyword,
-            @Parameter(description = "정렬 기준 (latest: 최신순, deadline: 마감임박순)", example = "latest")
+            @Parameter(description = "정렬 기준 (latest: 최신순, deadline: 마감임박순, relevance: 관련도순)", example = "latest")
             @RequestParam(defaultValue = "latest") String sortBy,
+            @Parameter(description = "지금부터 N시간 안에 마감되는 게시글만 검색 (미입력 시 전체)", example = "24")
+            @RequestParam(required = false) Integer deadlineWithinHours,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "20")
@@ -64,6 +68,7 @@ public class SearchController {
         PostSearchRequest request = PostSearchRequest.builder()
                 .keyword(keyword)
                 .sortBy(sortBy)
+                .deadlineWithinHours(deadlineWithinHours)
                 .page(page)
                 .size(size)
                 .build();
@@ -86,7 +91,8 @@ public class SearchController {
      *
      * @param status 게시글 상태 (OPEN, CLOSED, CANCELLED)
      * @param keyword 검색 키워드
-     * @param sortBy 정렬 기준 (latest: 최신순, deadline: 마감임박순)
+     * @param sortBy 정렬 기준 (latest: 최신순, deadline: 마감임박순, relevance: 관련도순)
+     * @param deadlineWithinHours 지금부터 N시간 안에 마감되는 게시글만 (선택)
      * @param page 페이지 번호 (0부터 시작, 기본값: 0)
      * @param size 페이지 크기 (기본값: 20)
      * @return 200 OK, 검색 결과 목록
@@ -101,8 +107,10 @@ public class SearchController {
             @PathVariable String status,
             @Parameter(description = "검색 키워드", required = true, example = "치킨")
             @RequestParam String keyword,
-            @Parameter(description = "정렬 기준 (latest: 최신순, deadline: 마감임박순)", example = "latest")
+            @Parameter(description = "정렬 기준 (latest: 최신순, deadline: 마감임박순, relevance: 관련도순)", example = "latest")
             @RequestParam(defaultValue = "latest") String sortBy,
+            @Parameter(description = "지금부터 N시간 안에 마감되는 게시글만 검색 (미입력 시 전체)", example = "24")
+            @RequestParam(required = false) Integer deadlineWithinHours,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "20")
@@ -111,7 +119,7 @@ public class SearchController {
         log.info("[API 호출] GET /api/search/status/{} - 키워드: '{}', 정렬: {}, 페이지: {}, 크기: {}",
                 status, keyword, sortBy, page, size);
 
-        PostListResponse response = searchService.searchPostsByStatus(keyword, status, sortBy, page, size);
+        PostListResponse response = searchService.searchPostsByStatus(keyword, status, sortBy, deadlineWithinHours, page, size);
 
         log.info("[API 응답] 검색 결과 - 게시글 수: {}, 전체: {}, 페이지: {}/{}",
                 response.getPosts() == null ? 0 : response.getPosts().size(),
@@ -161,5 +169,31 @@ public class SearchController {
 
         return ResponseEntity.ok(response);
     }
-}
 
+    /**
+     * 검색어 자동완성 (입력 중 추천)
+     *
+     * 동작:
+     * 최근 7일 OPEN 게시글 제목 단어 중 입력값으로 시작하는 단어를 빈도 순으로 반환
+     * - 입력 중인 글자도 매칭 ("칰" → "치킨")
+     * - 자음만 입력하면 초성 검색 ("ㅊㅋ" → "치킨")
+     *
+     * @param keyword 입력 중인 검색어
+     * @param limit 반환할 개수 (기본값: 10, 최대 10)
+     * @return 200 OK, 자동완성 응답
+     */
+    @GetMapping("/suggestions/autocomplete")
+    @Operation(
+            summary = "검색어 자동완성",
+            description = "입력 중인 검색어로 시작하는 단어를 빈도 순으로 반환합니다. 초성(ㅊㅋ)과 입력 중인 글자(칰)도 지원합니다."
+    )
+    public ResponseEntity<SearchSuggestionsResponse> autocomplete(
+            @Parameter(description = "입력 중인 검색어", required = true, example = "치")
+            @RequestParam String keyword,
+            @Parameter(description = "반환할 개수 (최대 10)", example = "10")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        java.util.List<String> suggestions = searchSuggestionsService.autocomplete(keyword, limit);
+        return ResponseEntity.ok(SearchSuggestionsResponse.of(keyword, suggestions));
+    }
+}
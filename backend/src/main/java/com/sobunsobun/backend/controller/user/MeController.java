@@ -124,7 +124,7 @@ public class MeController {
      * 위치 인증은 24시간 동안 유효하며, 이후에는 재인증이 필요합니다.
      *
      * @param authentication 현재 로그인한 사용자 인증 정보
-     * @param request 위치 인증 요청 (주소만 포함)
+     * @param request 위치 인증 요청 (주소, 선택 위도·경도)
      * @return 업데이트된 위치 인증 정보
      */
     @Operation(
@@ -142,7 +142,7 @@ public class MeController {
             log.info(" 위치 인증 업데이트 요청 - 사용자 ID: {}, 주소: {}", principal.id(), address);
 
             // 위치 인증 업데이트
-            userService.updateLocationVerification(principal.id(), address);
+            userService.updateLocationVerification(principal.id(), address, request.getLatitude(), request.getLongitude());
 
             // 업데이트된 정보 조회 후 반환
             LocationVerificationResponse response = userService.getLocationVerification(principal.id());
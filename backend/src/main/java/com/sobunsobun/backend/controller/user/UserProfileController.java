@@ -5,6 +5,7 @@ import com.sobunsobun.backend.application.user.ReportService;
 import com.sobunsobun.backend.dto.common.ApiResponse;
 import com.sobunsobun.backend.dto.profile.MyProfileDetailResponse;
 import com.sobunsobun.backend.dto.profile.PublicUserProfileResponse;
+import com.sobunsobun.backend.dto.user.UserReportDto;
 import com.sobunsobun.backend.dto.user.UserReportRequest;
 import com.sobunsobun.backend.security.JwtUserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,8 +15,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,6 +30,8 @@ import org.springframework.web.bind.annotation.*;
  * - GET  /api/v1/users/me/profile           : 내 프로필 조회 (탭별 게시글)
  * - GET  /api/v1/users/{userId}/profile     : 타 유저 프로필 조회
  * - POST /api/v1/users/{userId}/report      : 유저 신고
+ * - GET  /api/v1/users/reports/queue        : 유저 신고 처리 대기열 (관리자)
+ * - GET  /api/v1/users/{userId}/reports/statistics : 유저가 받은 신고 통계 (관리자)
  */
 @Slf4j
 @RestController
@@ -125,4 +131,47 @@ public class UserProfileController {
         reportService.reportUser(principal.id(), userId, request);
         return ResponseEntity.ok(com.sobunsobun.backend.support.response.ApiResponse.ok());
     }
+
+    /**
+     * 유저 신고 처리 대기열 조회 (관리자)
+     *
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     */
+    @GetMapping("/reports/queue")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "유저 신고 처리 대기열 (관리자)",
+            description = "대기 중 → 검토 중 순, 오래된 신고부터 조회합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ApiResponse<Page<UserReportDto.ListResponse>>> getReportQueue(
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Page<UserReportDto.ListResponse> response = reportService.getModerationQueue(PageRequest.of(page, size));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 유저가 받은 신고 통계 (관리자)
+     *
+     * @param userId 신고 대상 사용자 ID
+     */
+    @GetMapping("/{userId}/reports/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "유저 신고 통계 (관리자)",
+            description = "사용자가 받은 신고의 상태별 개수를 조회합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ApiResponse<UserReportDto.StatisticsResponse>> getUserReportStatistics(
+            @Parameter(description = "신고 대상 사용자 ID", required = true)
+            @PathVariable Long userId
+    ) {
+        UserReportDto.StatisticsResponse response = reportService.getUserReportStatistics(userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
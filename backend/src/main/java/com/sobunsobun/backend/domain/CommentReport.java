@@ -19,8 +19,8 @@ import java.time.LocalDateTime;
 @Table(name = "comment_report",
        indexes = {
            @Index(name = "idx_comment_report_user", columnList = "user_id"),
-           @Index(name = "idx_comment_report_comment", columnList = "comment_id"),
-           @Index(name = "idx_comment_report_status", columnList = "status"),
+           @Index(name = "idx_comment_report_comment_status", columnList = "comment_id, status"),
+           @Index(name = "idx_comment_report_status_created", columnList = "status, created_at"),
            @Index(name = "idx_comment_report_created_at", columnList = "created_at")
        })
 public class CommentReport {
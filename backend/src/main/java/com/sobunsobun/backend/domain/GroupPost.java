@@ -17,7 +17,12 @@ import java.time.LocalDateTime;
     name = "group_post",
     indexes = {
         @Index(name = "idx_post_status_deadline", columnList = "status, deadline_at"),
-        @Index(name = "idx_post_owner", columnList = "owner_user_id")
+        @Index(name = "idx_post_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_post_created_at", columnList = "created_at"),
+        @Index(name = "idx_post_deadline_at", columnList = "deadline_at"),
+        @Index(name = "idx_post_owner", columnList = "owner_user_id"),
+        @Index(name = "idx_post_owner_created", columnList = "owner_user_id, created_at"),
+        @Index(name = "idx_post_status_geohash", columnList = "status, geohash")
     }
 )
 public class GroupPost {
@@ -68,6 +73,23 @@ public class GroupPost {
     @Column(name = "location_name", length = 120)
     private String locationName;
 
+    /**
+     * 만남 장소 위도 (선택)
+     */
+    @Column(name = "latitude")
+    private Double latitude;
+
+    /**
+     * 만남 장소 경도 (선택)
+     */
+    @Column(name = "longitude")
+    private Double longitude;
+
+    /**
+     * 만남 장소 지오해시 (위도·경도로 계산, 주변 게시글 조회용)
+     */
+    @Column(name = "geohash", length = 12)
+    private String geohash;
 
     /**
      * 만남 일시
@@ -99,6 +121,13 @@ public class GroupPost {
     @Column(name = "joined_members", nullable = false)
     private Integer joinedMembers;
 
+    /**
+     * 활성 댓글 수 (대댓글 포함)
+     * 댓글 작성 / 삭제 시 GroupPostRepository.addCommentCount로만 변경 (updatable = false로 엔티티 저장 시 덮어쓰지 않음)
+     */
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private Integer commentCount;
+
     /**
      * 게시글 상태
      */
@@ -133,6 +162,9 @@ public class GroupPost {
         if (this.joinedMembers == null) {
             this.joinedMembers = 1;
         }
+        if (this.commentCount == null) {
+            this.commentCount = 0;
+        }
         if (this.status == null) {
             this.status = PostStatus.OPEN;
         }
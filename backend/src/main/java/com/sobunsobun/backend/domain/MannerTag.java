@@ -15,12 +15,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum MannerTag {
 
-    TAG001(1, "시간 약속을 잘 지켜요"),
-    TAG002(2, "친절하고 매너가 좋아요"),
-    TAG003(3, "응답이 빨라요"),
-    TAG004(4, "물건 상태가 설명과 같았어요"),
-    TAG005(5, "거래 장소를 잘 알려줬어요"),
-    TAG006(6, "가격이 투명하고 합리적이에요");
+    TAG001(1, "시간 약속을 잘 지켜요", 1.2),
+    TAG002(2, "친절하고 매너가 좋아요", 1.0),
+    TAG003(3, "응답이 빨라요", 0.8),
+    TAG004(4, "물건 상태가 설명과 같았어요", 1.2),
+    TAG005(5, "거래 장소를 잘 알려줬어요", 0.8),
+    TAG006(6, "가격이 투명하고 합리적이에요", 1.0);
 
     /** 프론트엔드 tagId와 1:1 매핑되는 숫자 ID */
     private final int id;
@@ -28,6 +28,9 @@ public enum MannerTag {
     /** 사용자에게 노출되는 태그 라벨 */
     private final String label;
 
+    /** 매너 점수 가중치 (거래 신뢰와 직결되는 태그일수록 큼, UserMannerScore 참고) */
+    private final double weight;
+
     /**
      * 숫자 ID로 MannerTag 조회
      */
@@ -0,0 +1,67 @@
+package com.sobunsobun.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글-카테고리 매핑 엔티티
+ *
+ * group_post.categories 문자열을 카테고리 코드 단위로 정규화한 인덱스 테이블입니다.
+ * 목록 조회가 LIKE / REGEXP 전체 스캔 없이 (category, status, created_at) 인덱스 범위 스캔으로
+ * 정렬과 COUNT까지 처리할 수 있도록 게시글의 status / created_at / deadline_at을 함께 저장합니다.
+ * 게시글의 카테고리·상태·마감일이 바뀌면 PostCategoryIndexer로 함께 갱신해야 합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "post_category",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_post_category", columnNames = {"post_id", "category"})
+       },
+       indexes = {
+           @Index(name = "idx_post_category_status_created", columnList = "category, status, created_at"),
+           @Index(name = "idx_post_category_status_deadline", columnList = "category, status, deadline_at")
+       })
+public class PostCategory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 게시글
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(name = "fk_post_category_post"))
+    private GroupPost post;
+
+    /**
+     * 카테고리 코드 ('01', '02' 등)
+     */
+    @Column(nullable = false, length = 20)
+    private String category;
+
+    /**
+     * 게시글 상태 (group_post.status 복사본)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PostStatus status;
+
+    /**
+     * 게시글 생성 일시 (group_post.created_at 복사본)
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 게시글 모집 마감 일시 (group_post.deadline_at 복사본)
+     */
+    @Column(name = "deadline_at", nullable = false)
+    private LocalDateTime deadlineAt;
+}
@@ -18,8 +18,8 @@ import java.time.LocalDateTime;
 @Table(name = "post_report",
        indexes = {
            @Index(name = "idx_post_report_user", columnList = "user_id"),
-           @Index(name = "idx_post_report_post", columnList = "post_id"),
-           @Index(name = "idx_post_report_status", columnList = "status"),
+           @Index(name = "idx_post_report_post_status", columnList = "post_id, status"),
+           @Index(name = "idx_post_report_status_created", columnList = "status, created_at"),
            @Index(name = "idx_post_report_created_at", columnList = "created_at")
        })
 public class PostReport {
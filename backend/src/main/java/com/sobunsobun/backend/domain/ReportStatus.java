@@ -1,5 +1,7 @@
 package com.sobunsobun.backend.domain;
 
+import java.util.List;
+
 /**
  * 신고 상태 열거형
  */
@@ -10,6 +12,12 @@ public enum ReportStatus {
     REJECTED("거절됨"),
     CLOSED("종료됨");
 
+    /**
+     * 처리 대기열(모더레이션 큐)에 남아 있는 상태
+     * 상태는 문자열로 저장되므로 (status, created_at) 인덱스 순서대로 PENDING → REVIEWING 순으로 조회됩니다.
+     */
+    public static final List<ReportStatus> MODERATION_QUEUE = List.of(PENDING, REVIEWING);
+
     private final String description;
 
     ReportStatus(String description) {
@@ -0,0 +1,41 @@
+package com.sobunsobun.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 실행 잠금 엔티티 (scheduler_lock 테이블)
+ *
+ * 여러 인스턴스에서 같은 스케줄 작업이 동시에 실행되지 않도록 작업 이름별 임대(lease)를 기록합니다.
+ * locked_until이 지난 잠금만 조건부 UPDATE로 가져갈 수 있으므로, 잠금을 잡은 인스턴스가
+ * 비정상 종료되어도 임대 시간이 지나면 다른 인스턴스가 이어서 실행합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "scheduler_lock")
+public class SchedulerLock {
+
+    /**
+     * 작업 이름
+     */
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /**
+     * 임대 만료 일시 (이 시각 이전에는 다른 인스턴스가 잠금을 가져갈 수 없음)
+     */
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    /**
+     * 잠금을 잡은 인스턴스
+     */
+    @Column(name = "locked_by", nullable = false, length = 100)
+    private String lockedBy;
+}
@@ -0,0 +1,60 @@
+package com.sobunsobun.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 추천 검색어 단어 빈도 통계 엔티티 (search_term_daily_stats 테이블)
+ *
+ * 추천 검색어를 조회할 때마다 group_post를 읽어 토큰화하지 않고,
+ * 게시글 생성·수정·마감 시점에 제목 단어의 빈도를 게시글 생성일 버킷에 +/- 반영합니다.
+ * 최근 N일 추천어는 N일치 버킷만 합산하여 계산합니다.
+ *
+ * UPSERT 전략:
+ * - INSERT ... ON DUPLICATE KEY UPDATE count = count + :delta
+ * - UNIQUE(bucket_date, term) 제약 조건이 UPSERT의 기준입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+    name = "search_term_daily_stats",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_search_term_daily_stats_bucket_term",
+            columnNames = {"bucket_date", "term"}
+        )
+    }
+)
+public class SearchTermDailyStats {
+
+    /** 단어 최대 길이 (이보다 긴 토큰은 집계하지 않음) */
+    public static final int TERM_MAX_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 집계 버킷 (게시글 생성일)
+     */
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    /**
+     * 단어 (소문자)
+     */
+    @Column(nullable = false, length = TERM_MAX_LENGTH)
+    private String term;
+
+    /**
+     * 해당 날짜에 생성된 OPEN 게시글 제목에서 단어가 나타난 횟수
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private int count = 0;
+}
@@ -53,6 +53,18 @@ public class User {
     @Column(name = "location_verified_at")
     private LocalDateTime locationVerifiedAt;
 
+    /**
+     * 인증한 위치 위도 (주변 게시글 조회 기본 위치)
+     */
+    @Column(name = "latitude")
+    private Double latitude;
+
+    /**
+     * 인증한 위치 경도
+     */
+    @Column(name = "longitude")
+    private Double longitude;
+
     /**
      * 매너 점수 (0.00 ~ 5.00)
      */
@@ -107,6 +119,13 @@ public class User {
     @Column(name = "reactivatable_at")
     private LocalDateTime reactivatableAt;
 
+    /**
+     * 작성한 활성 댓글 수
+     * 댓글 작성 / 삭제 시 UserRepository.addCommentCount로만 변경 (updatable = false로 엔티티 저장 시 덮어쓰지 않음)
+     */
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private Integer commentCount;
+
     /**
      * OAuth 제공자 추가 헬퍼 메서드
      */
@@ -129,5 +148,8 @@ public class User {
         if (this.status == null) {
             this.status = UserStatus.ACTIVE;
         }
+        if (this.commentCount == null) {
+            this.commentCount = 0;
+        }
     }
 }
@@ -0,0 +1,139 @@
+package com.sobunsobun.backend.domain;
+
+import com.sobunsobun.backend.support.constant.AppConstants;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 유저별 매너 점수 누적 집계 엔티티 (user_manner_score 테이블)
+ *
+ * 받은 매너 평가를 매번 다시 읽지 않고, 시간 감쇠를 적용한 누적값만 보관하여
+ * 평가가 들어올 때마다 점수를 증분 갱신합니다 (user.manner_score에 반영).
+ *
+ * 감쇠: 누적값은 decayedAt 기준이며, 반감기(HALF_LIFE)마다 절반으로 줄어듭니다.
+ *       갱신 시 decayTo(now)로 현재 시점까지 감쇠시킨 뒤 새 평가를 더합니다.
+ *
+ * 점수 (0.00 ~ 5.00):
+ *   평가 1건당 평균 가중치를 기준 가중치(REFERENCE_WEIGHT_PER_REVIEW) 대비 비율로 환산하고,
+ *   사전 평가(PRIOR_REVIEWS건, 평가당 PRIOR_WEIGHT_PER_REVIEW)로 평활화합니다.
+ *   score = 5 × (가중치 합 + 사전 가중치) / ((평가 수 + 사전 평가 수) × 기준 가중치)
+ *   → 평가가 적거나 오래되면 2.50에 가까워지고, 받은 평가가 없으면 0.00입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "user_manner_score")
+public class UserMannerScore {
+
+    public static final Duration HALF_LIFE = Duration.ofDays(180);
+
+    private static final double REFERENCE_WEIGHT_PER_REVIEW = 3.0;
+    private static final double PRIOR_REVIEWS = 3.0;
+    private static final double PRIOR_WEIGHT_PER_REVIEW = 1.5;
+
+    /**
+     * 사용자 ID (users.id와 1:1)
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 받은 태그 가중치 합 (decayedAt 기준 감쇠 적용)
+     */
+    @Column(name = "weighted_tag_sum", nullable = false)
+    private double weightedTagSum;
+
+    /**
+     * 받은 평가 수 (decayedAt 기준 감쇠 적용, 평가 = 한 거래에서 한 평가자가 남긴 태그 묶음)
+     */
+    @Column(name = "decayed_review_count", nullable = false)
+    private double decayedReviewCount;
+
+    /**
+     * 받은 평가 수 (감쇠 없음)
+     */
+    @Column(name = "review_count", nullable = false)
+    private int reviewCount;
+
+    /**
+     * 누적값의 감쇠 기준 시각
+     */
+    @Column(name = "decayed_at", nullable = false)
+    private LocalDateTime decayedAt;
+
+    /**
+     * 받은 평가가 없는 사용자의 집계
+     */
+    public static UserMannerScore empty(Long userId, LocalDateTime now) {
+        return UserMannerScore.builder().userId(userId).decayedAt(now).build();
+    }
+
+    /**
+     * from 시점의 값이 to 시점까지 남는 비율 (0 ~ 1)
+     */
+    public static double decayFactor(LocalDateTime from, LocalDateTime to) {
+        long elapsedSeconds = Duration.between(from, to).getSeconds();
+        if (elapsedSeconds <= 0) {
+            return 1.0;
+        }
+        return Math.pow(0.5, (double) elapsedSeconds / HALF_LIFE.getSeconds());
+    }
+
+    /**
+     * 누적값을 now 시점까지 감쇠
+     */
+    public void decayTo(LocalDateTime now) {
+        double factor = decayFactor(decayedAt, now);
+        if (factor < 1.0) {
+            weightedTagSum *= factor;
+            decayedReviewCount *= factor;
+            decayedAt = now;
+        }
+    }
+
+    /**
+     * 평가 반영 (now 시점까지 감쇠 후 더함)
+     *
+     * @param weight  새로 받은 태그 가중치 합
+     * @param reviews 새로 받은 평가 수 (같은 거래 / 평가자의 추가 태그면 0)
+     */
+    public void addReviews(double weight, int reviews, LocalDateTime now) {
+        decayTo(now);
+        weightedTagSum += weight;
+        decayedReviewCount += reviews;
+        reviewCount += reviews;
+    }
+
+    /**
+     * 매너 점수 (user.manner_score 정밀도: 소수 둘째 자리)
+     */
+    public BigDecimal score() {
+        if (reviewCount == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        double ratio = (weightedTagSum + PRIOR_REVIEWS * PRIOR_WEIGHT_PER_REVIEW)
+                / ((decayedReviewCount + PRIOR_REVIEWS) * REFERENCE_WEIGHT_PER_REVIEW);
+        double score = Math.max(AppConstants.MannerScore.MIN_SCORE,
+                Math.min(AppConstants.MannerScore.MAX_SCORE, AppConstants.MannerScore.MAX_SCORE * ratio));
+        return BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 재집계한 값으로 교체
+     */
+    public void copyFrom(UserMannerScore other) {
+        this.weightedTagSum = other.weightedTagSum;
+        this.decayedReviewCount = other.decayedReviewCount;
+        this.reviewCount = other.reviewCount;
+        this.decayedAt = other.decayedAt;
+    }
+}
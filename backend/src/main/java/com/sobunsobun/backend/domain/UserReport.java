@@ -21,8 +21,8 @@ import java.time.LocalDateTime;
 @Table(name = "user_report",
        indexes = {
            @Index(name = "idx_user_report_reporter", columnList = "reporter_id"),
-           @Index(name = "idx_user_report_target", columnList = "target_user_id"),
-           @Index(name = "idx_user_report_status", columnList = "status")
+           @Index(name = "idx_user_report_target_status", columnList = "target_user_id, status"),
+           @Index(name = "idx_user_report_status_created", columnList = "status, created_at")
        },
        uniqueConstraints = {
            @UniqueConstraint(
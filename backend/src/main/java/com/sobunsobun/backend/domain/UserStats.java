@@ -0,0 +1,103 @@
+package com.sobunsobun.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저 프로필 통계 엔티티 (user_stats 테이블)
+ *
+ * 프로필 조회마다 게시글 / 채팅 멤버 / 매너 태그 / 신고 테이블을 각각 집계하지 않고,
+ * 값이 바뀌는 시점(UserStatsChangedEvent)에 다시 계산해 둔 행을 기본 키로 한 번에 읽습니다.
+ * 누락된 이벤트로 생긴 오차는 UserStatsReconcileScheduler가 매일 보정합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "user_stats")
+public class UserStats {
+
+    /**
+     * 사용자 ID (users.id와 1:1)
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 개설한 게시글 수 (CANCELLED 제외)
+     */
+    @Column(name = "host_count", nullable = false)
+    private int hostCount;
+
+    /**
+     * 거래 완료(COMPLETED)된 개설 게시글 수
+     */
+    @Column(name = "completed_host_count", nullable = false)
+    private int completedHostCount;
+
+    /**
+     * 공동구매 참여 횟수 (본인이 방장이 아닌 단체 채팅방, 강퇴 제외)
+     */
+    @Column(name = "participation_count", nullable = false)
+    private int participationCount;
+
+    /**
+     * 받은 매너 태그 총 횟수
+     */
+    @Column(name = "tag_count", nullable = false)
+    private int tagCount;
+
+    /**
+     * 받은 신고 수
+     */
+    @Column(name = "reported_count", nullable = false)
+    private int reportedCount;
+
+    /**
+     * 마지막 재계산 시각
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 집계 대상이 하나도 없는 사용자의 통계
+     */
+    public static UserStats empty(Long userId) {
+        return UserStats.builder().userId(userId).build();
+    }
+
+    /**
+     * 활동 점수 = 거래 완료 × 8 + 참여 × 3 + 받은 태그 - 받은 신고 × 7
+     */
+    public int activityScore() {
+        return completedHostCount * 8 + participationCount * 3 + tagCount - reportedCount * 7;
+    }
+
+    /**
+     * 다시 계산한 값과 같은지 비교
+     */
+    public boolean hasSameCounts(UserStats other) {
+        return hostCount == other.hostCount
+                && completedHostCount == other.completedHostCount
+                && participationCount == other.participationCount
+                && tagCount == other.tagCount
+                && reportedCount == other.reportedCount;
+    }
+
+    /**
+     * 다시 계산한 값으로 교체
+     */
+    public void copyCounts(UserStats other) {
+        this.hostCount = other.hostCount;
+        this.completedHostCount = other.completedHostCount;
+        this.participationCount = other.participationCount;
+        this.tagCount = other.tagCount;
+        this.reportedCount = other.reportedCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
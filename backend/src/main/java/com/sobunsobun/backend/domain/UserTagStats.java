@@ -7,10 +7,11 @@ import lombok.*;
  * 유저별 태그 카운트 통계 엔티티 (user_tag_stats 테이블)
  *
  * 프로필 조회 성능을 위해 manner_review를 매번 집계하지 않고,
- * 리뷰 저장 시점에 카운트를 +1하여 이 테이블을 최신 상태로 유지합니다.
+ * 리뷰 저장 시점에 카운트를 증가시켜 이 테이블을 최신 상태로 유지합니다.
  *
  * UPSERT 전략:
- * - INSERT ... ON DUPLICATE KEY UPDATE count = count + 1
+ * - 평가 제출 1회당 다중 행 INSERT ... ON DUPLICATE KEY UPDATE count = count + VALUES(count)
+ *   (MannerReviewBatchRepository.upsertTagCounts)
  * - UNIQUE(receiver_id, tag_code) 제약 조건이 UPSERT의 기준입니다.
  */
 @Getter
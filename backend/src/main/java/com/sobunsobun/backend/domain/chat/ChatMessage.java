@@ -13,7 +13,8 @@ import java.util.UUID;
 @Table(name = "chat_message", indexes = {
         @Index(name = "idx_chat_room_id", columnList = "chat_room_id"),
         @Index(name = "idx_sender_id", columnList = "sender_id"),
-        @Index(name = "idx_created_at", columnList = "created_at")
+        @Index(name = "idx_created_at", columnList = "created_at"),
+        @Index(name = "idx_chat_room_created_at", columnList = "chat_room_id, created_at, id")
 })
 @Getter
 @Setter
@@ -0,0 +1,55 @@
+package com.sobunsobun.backend.domain.chat;
+
+import com.sobunsobun.backend.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 아카이브 세그먼트
+ *
+ * 보관 기간이 지난 chat_message 행을 채팅방 단위로 묶어 gzip 압축한 JSON으로 저장합니다.
+ * 한 세그먼트는 같은 채팅방의 연속된 메시지(firstCreatedAt ~ lastCreatedAt)를 담으며,
+ * 과거 메시지 조회가 hot 테이블을 넘어가면 이 세그먼트를 풀어서 이어 붙입니다.
+ */
+@Entity
+@Table(name = "chat_message_archive", indexes = {
+        @Index(name = "idx_archive_room_last_created", columnList = "chat_room_id, last_created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessageArchive extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 채팅방 ID (채팅방 삭제와 무관하게 보관하므로 FK 없이 저장)
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    // 세그먼트 내 가장 오래된 메시지 생성 시간
+    @Column(name = "first_created_at", nullable = false)
+    private LocalDateTime firstCreatedAt;
+
+    // 세그먼트 내 가장 최근 메시지 생성 시간
+    @Column(name = "last_created_at", nullable = false)
+    private LocalDateTime lastCreatedAt;
+
+    // 세그먼트 메시지 수
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    // 압축 전 JSON 크기 (bytes)
+    @Column(name = "raw_size", nullable = false)
+    private Integer rawSize;
+
+    // gzip 압축된 메시지 JSON 배열
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+}
@@ -0,0 +1,31 @@
+package com.sobunsobun.backend.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 메시지 검색 결과 항목
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "채팅 메시지 검색 결과")
+public class ChatMessageSearchResponse {
+
+    @Schema(description = "검색된 메시지")
+    private MessageResponse message;
+
+    /**
+     * 검색된 메시지로 이동하기 위한 커서
+     *
+     * GET /api/v1/chat/rooms/{roomId}/messages/cursor?cursor={jumpCursor} 로 조회하면
+     * 검색된 메시지를 포함한 이전 대화가 반환됩니다.
+     */
+    @Schema(description = "메시지 위치로 이동하기 위한 커서 (messages/cursor API의 cursor 값)",
+            example = "2026-01-10T15:30:00.000001")
+    private String jumpCursor;
+}
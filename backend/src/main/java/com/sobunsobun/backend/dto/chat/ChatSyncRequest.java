@@ -0,0 +1,61 @@
+package com.sobunsobun.backend.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 메시지 델타 동기화 요청 DTO
+ *
+ * 재연결한 클라이언트가 채팅방별로 마지막으로 받은 메시지 위치(워터마크)를 보내면
+ * 그 이후 메시지만 내려받습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "메시지 델타 동기화 요청")
+public class ChatSyncRequest {
+
+    @Valid
+    @NotEmpty(message = "동기화할 채팅방이 없습니다.")
+    @Size(max = 50, message = "한 번에 최대 50개 채팅방까지 동기화할 수 있습니다.")
+    @Schema(description = "채팅방별 워터마크 목록")
+    private List<RoomWatermark> rooms;
+
+    @Schema(description = "채팅방당 최대 메시지 수 (기본 50, 최대 100)", example = "50")
+    private Integer limitPerRoom;
+
+    /**
+     * 채팅방별 마지막 수신 위치
+     *
+     * lastCreatedAt / lastMessageId는 이전 동기화 응답의 워터마크를 그대로 사용합니다.
+     * STOMP로 받은 메시지의 createdAt(초 단위)을 보내도 되며, 이 경우 같은 초의 메시지가
+     * 중복으로 내려갈 수 있으므로 클라이언트는 id 기준으로 중복을 제거해야 합니다.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RoomWatermark {
+
+        @NotNull(message = "roomId는 필수입니다.")
+        @Schema(description = "채팅방 ID", example = "1")
+        private Long roomId;
+
+        @Schema(description = "마지막으로 받은 메시지의 생성 시간 (없으면 최신 메시지부터)",
+                example = "2026-02-25T15:51:51.123456")
+        private String lastCreatedAt;
+
+        @Schema(description = "마지막으로 받은 메시지 ID", example = "3f1c2a9e-8b7d-4c1e-9a3f-2b6d5e4c1a7b")
+        private String lastMessageId;
+    }
+}
@@ -0,0 +1,55 @@
+package com.sobunsobun.backend.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 메시지 델타 동기화 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "메시지 델타 동기화 응답")
+public class ChatSyncResponse {
+
+    @Schema(description = "채팅방별 동기화 결과")
+    private List<RoomSync> rooms;
+
+    @Schema(description = "아직 내려받지 않은 메시지가 남은 채팅방이 있는지 여부")
+    private boolean hasMore;
+
+    /**
+     * 채팅방별 동기화 결과
+     *
+     * messages는 STOMP로 전달되는 ChatMessageDto와 같은 형식이며 오래된 순으로 정렬됩니다.
+     * hasMore가 true이면 갱신된 워터마크로 다시 요청해야 합니다.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RoomSync {
+
+        @Schema(description = "채팅방 ID", example = "1")
+        private Long roomId;
+
+        @Schema(description = "워터마크 이후 메시지 (오래된 순)")
+        private List<ChatMessageDto> messages;
+
+        @Schema(description = "갱신된 워터마크 - 마지막 메시지 생성 시간 (마이크로초 정밀도)",
+                example = "2026-02-25T15:52:10.654321")
+        private String lastCreatedAt;
+
+        @Schema(description = "갱신된 워터마크 - 마지막 메시지 ID")
+        private String lastMessageId;
+
+        @Schema(description = "이 채팅방에 아직 내려받지 않은 메시지가 남았는지 여부")
+        private boolean hasMore;
+    }
+}
@@ -0,0 +1,7 @@
+package com.sobunsobun.backend.dto.comment;
+
+/**
+ * 부모 댓글별 활성 대댓글 수 (GROUP BY 프로젝션)
+ */
+public record CommentReplyCount(Long parentCommentId, Long count) {
+}
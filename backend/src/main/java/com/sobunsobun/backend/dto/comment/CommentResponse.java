@@ -10,7 +10,6 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +37,17 @@ public class CommentResponse {
     @Builder.Default
     private List<CommentResponse> childComments = new ArrayList<>();
 
+    /**
+     * 활성 대댓글 전체 개수 (페이지 조회에서 부모 댓글에만 포함)
+     */
+    private Long replyCount;
+
+    /**
+     * childComments 이후 대댓글 조회 커서 (GET /api/comments/{commentId}/replies의 cursor)
+     * 더 볼 대댓글이 없으면 null
+     */
+    private String replyCursor;
+
     /**
      * 삭제 여부
      * true: 삭제됨, false: 활성
@@ -91,143 +101,28 @@ public class CommentResponse {
     }
 
     /**
-     * 부모 댓글 기준 대댓글 포함하여 변환 (차단 유저 제외)
-     * blockedUserIds에 포함된 작성자의 대댓글은 응답에서 제외됩니다.
+     * 스레드 조회 프로젝션 변환 (대댓글은 서비스에서 childComments에 추가)
      */
-    public static CommentResponse fromWithChildren(Comment comment, Set<Long> blockedUserIds) {
-        if (comment.getParentComment() != null) {
-            return CommentResponse.builder()
-                .id(comment.getId())
-                .postId(comment.getPost().getId())
-                .userId(comment.getUser().getId())
-                .userNickname(comment.getUser().getNickname())
-                .userProfileImageUrl(
-                    comment.getUser().getProfileImageUrl() != null && !comment.getUser().getProfileImageUrl().isEmpty()
-                        ? comment.getUser().getProfileImageUrl()
-                        : null
-                )
-                .userAddress(comment.getUser().getAddress())
-                .content(comment.getContent())
-                .parentCommentId(comment.getParentComment().getId())
-                .childComments(new ArrayList<>())
-                .deleted(comment.getDeleted())
-                .edited(comment.getEdited())
-                .createdAt(comment.getCreatedAt())
-                .updatedAt(comment.getUpdatedAt())
-                .build();
-        } else {
-            return CommentResponse.builder()
-                .id(comment.getId())
-                .postId(comment.getPost().getId())
-                .userId(comment.getUser().getId())
-                .userNickname(comment.getUser().getNickname())
-                .userProfileImageUrl(
-                    comment.getUser().getProfileImageUrl() != null && !comment.getUser().getProfileImageUrl().isEmpty()
-                        ? comment.getUser().getProfileImageUrl()
-                        : null
-                )
-                .userAddress(comment.getUser().getAddress())
-                .content(comment.getContent())
-                .parentCommentId(null)
-                .childComments(comment.getChildComments().stream()
-                    .filter(Comment::isActive)
-                    .filter(child -> !blockedUserIds.contains(child.getUser().getId()))
-                    .map(child -> CommentResponse.builder()
-                        .id(child.getId())
-                        .postId(child.getPost().getId())
-                        .userId(child.getUser().getId())
-                        .userNickname(child.getUser().getNickname())
-                        .userProfileImageUrl(
-                            child.getUser().getProfileImageUrl() != null && !child.getUser().getProfileImageUrl().isEmpty()
-                                ? child.getUser().getProfileImageUrl()
-                                : null
-                        )
-                        .userAddress(child.getUser().getAddress())
-                        .content(child.getContent())
-                        .parentCommentId(comment.getId())
-                        .childComments(new ArrayList<>())
-                        .deleted(child.getDeleted())
-                        .edited(child.getEdited())
-                        .createdAt(child.getCreatedAt())
-                        .updatedAt(child.getUpdatedAt())
-                        .build())
-                    .collect(Collectors.toList()))
-                .deleted(comment.getDeleted())
-                .edited(comment.getEdited())
-                .createdAt(comment.getCreatedAt())
-                .updatedAt(comment.getUpdatedAt())
-                .build();
-        }
-    }
-
-    /**
-     * 부모 댓글 기준 대댓글 포함하여 변환
-     */
-    public static CommentResponse fromWithChildren(Comment comment) {
-        if (comment.getParentComment() != null) {
-            // 대댓글인 경우
-            return CommentResponse.builder()
-                .id(comment.getId())
-                .postId(comment.getPost().getId())
-                .userId(comment.getUser().getId())
-                .userNickname(comment.getUser().getNickname())
-                .userProfileImageUrl(
-                    comment.getUser().getProfileImageUrl() != null && !comment.getUser().getProfileImageUrl().isEmpty()
-                        ? comment.getUser().getProfileImageUrl()
-                        : null
-                )
-                .userAddress(comment.getUser().getAddress())
-                .content(comment.getContent())
-                .parentCommentId(comment.getParentComment().getId())
-                .childComments(new ArrayList<>())
-                .deleted(comment.getDeleted())
-                .edited(comment.getEdited())
-                .createdAt(comment.getCreatedAt())
-                .updatedAt(comment.getUpdatedAt())
-                .build();
-        } else {
-            // 부모 댓글인 경우
-            return CommentResponse.builder()
-                .id(comment.getId())
-                .postId(comment.getPost().getId())
-                .userId(comment.getUser().getId())
-                .userNickname(comment.getUser().getNickname())
-                .userProfileImageUrl(
-                    comment.getUser().getProfileImageUrl() != null && !comment.getUser().getProfileImageUrl().isEmpty()
-                        ? comment.getUser().getProfileImageUrl()
-                        : null
-                )
-                .userAddress(comment.getUser().getAddress())
-                .content(comment.getContent())
-                .parentCommentId(null)
-                .childComments(comment.getChildComments().stream()
-                    .filter(Comment::isActive)
-                    .map(child -> CommentResponse.builder()
-                        .id(child.getId())
-                        .postId(child.getPost().getId())
-                        .userId(child.getUser().getId())
-                        .userNickname(child.getUser().getNickname())
-                        .userProfileImageUrl(
-                            child.getUser().getProfileImageUrl() != null && !child.getUser().getProfileImageUrl().isEmpty()
-                                ? child.getUser().getProfileImageUrl()
-                                : null
-                        )
-                        .userAddress(child.getUser().getAddress())
-                        .content(child.getContent())
-                        .parentCommentId(comment.getId())
-                        .childComments(new ArrayList<>())
-                        .deleted(child.getDeleted())
-                        .edited(child.getEdited())
-                        .createdAt(child.getCreatedAt())
-                        .updatedAt(child.getUpdatedAt())
-                        .build())
-                    .collect(Collectors.toList()))
-                .deleted(comment.getDeleted())
-                .edited(comment.getEdited())
-                .createdAt(comment.getCreatedAt())
-                .updatedAt(comment.getUpdatedAt())
-                .build();
-        }
+    public static CommentResponse from(CommentRow row) {
+        return CommentResponse.builder()
+            .id(row.id())
+            .postId(row.postId())
+            .userId(row.userId())
+            .userNickname(row.userNickname())
+            .userProfileImageUrl(
+                row.userProfileImageUrl() != null && !row.userProfileImageUrl().isEmpty()
+                    ? row.userProfileImageUrl()
+                    : null
+            )
+            .userAddress(row.userAddress())
+            .content(row.content())
+            .parentCommentId(row.parentCommentId())
+            .childComments(new ArrayList<>())
+            .deleted(row.deleted())
+            .edited(row.edited())
+            .createdAt(row.createdAt())
+            .updatedAt(row.updatedAt())
+            .build();
     }
 }
 
@@ -0,0 +1,25 @@
+package com.sobunsobun.backend.dto.comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 스레드 조회용 프로젝션
+ *
+ * 게시글의 부모 댓글과 대댓글을 작성자 컬럼과 함께 한 번의 쿼리로 평면 조회합니다.
+ * 트리 구성은 서비스에서 parentCommentId 기준으로 처리하므로 지연 로딩(childComments / user / post)이 발생하지 않습니다.
+ */
+public record CommentRow(
+        Long id,
+        Long postId,
+        Long parentCommentId,
+        Long userId,
+        String userNickname,
+        String userProfileImageUrl,
+        String userAddress,
+        String content,
+        Boolean deleted,
+        Boolean edited,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.sobunsobun.backend.dto.comment;
+
+/**
+ * 게시글별 활성 댓글 수 프로젝션 (group_post.comment_count)
+ */
+public record PostCommentCount(Long postId, Integer commentCount) {
+}
@@ -0,0 +1,17 @@
+package com.sobunsobun.backend.dto.manner;
+
+import com.sobunsobun.backend.domain.MannerTag;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매너 점수 재집계용 평가 행 프로젝션 (manner_review의 FK / 태그 / 작성 시각만 조회)
+ */
+public record MannerReviewRow(
+        Long receiverId,
+        Long senderId,
+        Long groupPostId,
+        MannerTag tagCode,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.sobunsobun.backend.dto.manner;
+
+import com.sobunsobun.backend.domain.MannerTag;
+
+/**
+ * 매너 평가 (평가 대상, 태그) 쌍
+ *
+ * 한 거래에서 이미 남긴 평가 조회 결과이자, 새로 저장할 평가 행의 단위입니다.
+ */
+public record ReviewedTag(Long receiverId, MannerTag tagCode) {
+}
@@ -0,0 +1,9 @@
+package com.sobunsobun.backend.dto.manner;
+
+import java.math.BigDecimal;
+
+/**
+ * 사용자별 현재 매너 점수 프로젝션 (재집계 시 변경 여부 비교용, User 엔티티를 로딩하지 않음)
+ */
+public record UserMannerScoreValue(Long userId, BigDecimal mannerScore) {
+}
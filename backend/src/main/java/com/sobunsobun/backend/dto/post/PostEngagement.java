@@ -0,0 +1,12 @@
+package com.sobunsobun.backend.dto.post;
+
+/**
+ * 피드 카드 부가 정보 프로젝션 (GROUP BY)
+ *
+ * @param postId 게시글 ID
+ * @param commentCount 활성 댓글 수 (group_post.comment_count)
+ * @param saveCount 저장 수
+ * @param savedByViewer 조회자의 저장 건수 (0 또는 1)
+ */
+public record PostEngagement(Long postId, Integer commentCount, Long saveCount, Long savedByViewer) {
+}
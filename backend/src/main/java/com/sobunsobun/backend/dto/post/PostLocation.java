@@ -0,0 +1,24 @@
+package com.sobunsobun.backend.dto.post;
+
+import com.sobunsobun.backend.support.util.GeoHashUtil;
+
+/**
+ * 주변 게시글 후보 프로젝션
+ *
+ * 지오해시 셀 범위로 찾은 후보의 ID와 기준 위치(:lat, :lon)로부터의 거리만 조회합니다.
+ * 페이지에 포함된 게시글의 목록 컬럼은 PostSummary로 따로 조회합니다.
+ */
+public record PostLocation(
+        Long id,
+        Double distanceMeters
+) {
+
+    /**
+     * 기준 위치(:lat, :lon)와 게시글 좌표 사이 거리 (미터, 하버사인 공식)
+     * GeoHashUtil.distanceMeters와 같은 식이며, 커서 비교도 이 값으로 합니다.
+     */
+    public static final String DISTANCE =
+            "(2 * " + GeoHashUtil.EARTH_RADIUS_METERS + " * asin(least(1, sqrt(" +
+            "power(sin(radians(p.latitude - :lat) / 2), 2) + " +
+            "cos(radians(:lat)) * cos(radians(p.latitude)) * power(sin(radians(p.longitude - :lon) / 2), 2)))))";
+}
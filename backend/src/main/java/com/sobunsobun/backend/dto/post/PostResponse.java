@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostResponse {
 
     /**
@@ -40,18 +40,21 @@ public class PostResponse {
     private String categoryCode;
 
     /**
-     * 게시글 내용
+     * 게시글 내용 (피드·검색 목록 조회 시 미포함)
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String content;
 
     /**
-     * 구매 예정 품목
+     * 구매 예정 품목 (피드·검색 목록 조회 시 미포함)
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String itemsText;
 
     /**
-     * 전달 사항
+     * 전달 사항 (피드·검색 목록 조회 시 미포함)
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String notesText;
 
     /**
@@ -59,6 +62,42 @@ public class PostResponse {
      */
     private String locationName;
 
+    /**
+     * 만남 장소 위도 (입력한 경우만)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double latitude;
+
+    /**
+     * 만남 장소 경도 (입력한 경우만)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double longitude;
+
+    /**
+     * 조회 위치로부터의 거리 (미터, 주변 게시글 조회에서만)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long distanceMeters;
+
+    /**
+     * 조회자의 저장 여부 (로그인 사용자의 목록 조회에서만)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean saved;
+
+    /**
+     * 저장 수 (목록 조회에서만)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long saveCount;
+
+    /**
+     * 활성 댓글 수 (목록 조회에서만)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long commentCount;
+
     /**
      * 내가 이 게시글에 남긴 최신 댓글 (프로필 조회 시에만 포함, 없으면 미포함)
      */
@@ -105,6 +144,34 @@ public class PostResponse {
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * 목록 조회 프로젝션 변환 (content / itemsText / notesText 미포함)
+     */
+    public static PostResponse from(PostSummary summary) {
+        return PostResponse.builder()
+                .id(summary.id())
+                .owner(OwnerInfo.builder()
+                        .id(summary.ownerId())
+                        .nickname(summary.ownerNickname())
+                        .profileImageUrl(summary.ownerProfileImageUrl())
+                        .address(summary.ownerAddress())
+                        .build())
+                .title(summary.title())
+                .categoryCode(summary.categories())
+                .locationName(summary.locationName())
+                .latitude(summary.latitude())
+                .longitude(summary.longitude())
+                .meetAt(summary.meetAt())
+                .deadlineAt(summary.deadlineAt())
+                .minMembers(summary.minMembers())
+                .maxMembers(summary.maxMembers())
+                .joinedMembers(summary.joinedMembers())
+                .status(summary.status())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+
     /**
      * 작성자 정보 (중첩 클래스)
      */
@@ -21,11 +21,16 @@ public class PostSearchRequest {
     private String keyword;
 
     /**
-     * 정렬 기준 (latest: 최신순, deadline: 마감임박순, 기본값: latest)
+     * 정렬 기준 (latest: 최신순, deadline: 마감임박순, relevance: 관련도순, 기본값: latest)
      */
     @Builder.Default
     private String sortBy = "latest";
 
+    /**
+     * 지금부터 N시간 안에 마감되는 게시글만 검색 (null이면 마감일 필터 없음)
+     */
+    private Integer deadlineWithinHours;
+
     /**
      * 페이지 번호 (0부터 시작, 기본값: 0)
      */
@@ -0,0 +1,9 @@
+package com.sobunsobun.backend.dto.post;
+
+import com.sobunsobun.backend.domain.PostStatus;
+
+/**
+ * 게시글 상태별 개수 (GROUP BY 프로젝션)
+ */
+public record PostStatusCount(PostStatus status, Long count) {
+}
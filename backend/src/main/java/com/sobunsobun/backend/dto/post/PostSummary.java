@@ -0,0 +1,43 @@
+package com.sobunsobun.backend.dto.post;
+
+import com.sobunsobun.backend.domain.PostStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 프로젝션
+ *
+ * 목록 쿼리에서 JPQL 생성자 표현식(SELECT new ...)으로 게시글과 작성자 컬럼을 한 번에 조회합니다.
+ * 작성자를 지연 로딩하지 않고, 목록에 표시하지 않는 content / itemsText / notesText(TEXT)는 조회하지 않습니다.
+ */
+public record PostSummary(
+        Long id,
+        Long ownerId,
+        String ownerNickname,
+        String ownerProfileImageUrl,
+        String ownerAddress,
+        String title,
+        String categories,
+        String locationName,
+        Double latitude,
+        Double longitude,
+        LocalDateTime meetAt,
+        LocalDateTime deadlineAt,
+        Integer minMembers,
+        Integer maxMembers,
+        Integer joinedMembers,
+        PostStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * JPQL 생성자 표현식 (별칭: 게시글 p, 작성자 o)
+     *
+     * 예: "SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o WHERE ..."
+     */
+    public static final String SELECT = "new com.sobunsobun.backend.dto.post.PostSummary(" +
+            "p.id, o.id, o.nickname, o.profileImageUrl, o.address, p.title, p.categories, " +
+            "p.locationName, p.latitude, p.longitude, " +
+            "p.meetAt, p.deadlineAt, p.minMembers, p.maxMembers, p.joinedMembers, p.status, p.createdAt, p.updatedAt)";
+}
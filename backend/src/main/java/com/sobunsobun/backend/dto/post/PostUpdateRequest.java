@@ -1,5 +1,7 @@
 package com.sobunsobun.backend.dto.post;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -47,6 +49,20 @@ public class PostUpdateRequest {
     @Size(max = 120, message = "장소명은 120자 이내여야 합니다")
     private String locationName;
 
+    /**
+     * 만남 장소 위도 (선택, 경도와 함께 입력)
+     */
+    @DecimalMin(value = "-90.0", message = "위도는 -90 ~ 90 사이여야 합니다")
+    @DecimalMax(value = "90.0", message = "위도는 -90 ~ 90 사이여야 합니다")
+    private Double latitude;
+
+    /**
+     * 만남 장소 경도 (선택, 위도와 함께 입력)
+     */
+    @DecimalMin(value = "-180.0", message = "경도는 -180 ~ 180 사이여야 합니다")
+    @DecimalMax(value = "180.0", message = "경도는 -180 ~ 180 사이여야 합니다")
+    private Double longitude;
+
 
     /**
      * 만남 일시
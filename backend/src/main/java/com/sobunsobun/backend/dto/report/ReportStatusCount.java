@@ -0,0 +1,9 @@
+package com.sobunsobun.backend.dto.report;
+
+import com.sobunsobun.backend.domain.ReportStatus;
+
+/**
+ * 신고 상태별 개수 (GROUP BY 프로젝션)
+ */
+public record ReportStatusCount(ReportStatus status, Long count) {
+}
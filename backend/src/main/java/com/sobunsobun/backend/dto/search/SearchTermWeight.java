@@ -0,0 +1,10 @@
+package com.sobunsobun.backend.dto.search;
+
+/**
+ * 단어별 빈도 합계 (자동완성 인덱스 구축용 JPQL 프로젝션)
+ *
+ * @param term   단어 (소문자)
+ * @param weight 기간 내 빈도 합계
+ */
+public record SearchTermWeight(String term, Long weight) {
+}
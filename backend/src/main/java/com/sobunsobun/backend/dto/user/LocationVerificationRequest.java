@@ -1,5 +1,7 @@
 package com.sobunsobun.backend.dto.user;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,7 +10,8 @@ import lombok.NoArgsConstructor;
 /**
  * 위치 인증 요청 DTO
  *
- * 주소 정보만 저장합니다.
+ * 주소와 (선택) 위도·경도를 저장합니다.
+ * 위도·경도는 주변 게시글 조회의 기본 위치로 사용됩니다.
  */
 @Data
 @NoArgsConstructor
@@ -19,5 +22,19 @@ public class LocationVerificationRequest {
      */
     @NotBlank(message = "주소는 필수입니다.")
     private String address;
+
+    /**
+     * 위도 (선택, 경도와 함께 입력)
+     */
+    @DecimalMin(value = "-90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+    @DecimalMax(value = "90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+    private Double latitude;
+
+    /**
+     * 경도 (선택, 위도와 함께 입력)
+     */
+    @DecimalMin(value = "-180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+    @DecimalMax(value = "180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+    private Double longitude;
 }
 
@@ -0,0 +1,7 @@
+package com.sobunsobun.backend.dto.user;
+
+/**
+ * 사용자별 개수 (GROUP BY 프로젝션)
+ */
+public record UserCount(Long userId, Long count) {
+}
@@ -0,0 +1,11 @@
+package com.sobunsobun.backend.dto.user;
+
+/**
+ * 사용자별 개설 게시글 수 (GROUP BY 프로젝션)
+ *
+ * @param userId 작성자 ID
+ * @param hostCount 개설한 게시글 수 (CANCELLED 제외)
+ * @param completedHostCount 그중 COMPLETED 게시글 수
+ */
+public record UserHostCount(Long userId, Long hostCount, Long completedHostCount) {
+}
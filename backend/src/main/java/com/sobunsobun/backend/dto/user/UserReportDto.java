@@ -0,0 +1,50 @@
+package com.sobunsobun.backend.dto.user;
+
+import com.sobunsobun.backend.domain.ReportReason;
+import com.sobunsobun.backend.domain.ReportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저 신고 조회 DTO (관리자)
+ */
+public class UserReportDto {
+
+    /**
+     * 신고 목록 응답 DTO
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ListResponse {
+        private Long id;
+        private Long reporterId;
+        private String reporterName;
+        private Long targetUserId;
+        private String targetUserName;
+        private Long groupPostId;
+        private ReportReason reason;
+        private ReportStatus status;
+        private LocalDateTime createdAt;
+    }
+
+    /**
+     * 신고 통계 DTO
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StatisticsResponse {
+        private Long targetUserId;
+        private long totalReports;
+        private long pendingReports;
+        private long reviewingReports;
+        private long resolvedReports;
+    }
+}
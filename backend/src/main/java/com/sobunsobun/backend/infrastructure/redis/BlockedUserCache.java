@@ -0,0 +1,158 @@
+package com.sobunsobun.backend.infrastructure.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sobunsobun.backend.repository.BlockedUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회자별 차단 유저 ID 캐시
+ *
+ * 게시글 목록 조회는 이 집합을 NOT IN 조건으로 넘겨 DB에서 차단 유저 게시글을 제외하고,
+ * 커서 피드는 조회한 페이지에서 메모리로 제외합니다.
+ * 대부분의 사용자는 차단 목록이 비어 있거나 매우 작으므로 요청마다 blocked_users를 조인하지 않고 캐시합니다.
+ *
+ * 조회 순서:
+ * 1. L1 : Caffeine (인스턴스 로컬)  blockerId → blockedId 집합
+ * 2. DB : blocked_user
+ *
+ * 무효화:
+ * - 차단/차단 해제 시 BlockService가 invalidate(blockerId) 호출
+ * - 트랜잭션 안에서 호출되면 트랜잭션 종료 후(afterCompletion) 한 번 더 무효화
+ * - Redis "block:invalidate" 채널로 다른 인스턴스의 L1도 무효화
+ *
+ * Redis가 없는 환경에서는 TTL(5분) 안에서만 인스턴스 간 차이가 생길 수 있습니다.
+ */
+@Slf4j
+@Component
+public class BlockedUserCache implements MessageListener {
+
+    /** 다른 인스턴스의 L1 무효화를 위한 Pub/Sub 채널 (payload: blockerId) */
+    public static final String INVALIDATE_CHANNEL = "block:invalidate";
+
+    private static final long LOCAL_MAX_VIEWERS = 50_000;
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(5);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BlockedUserRepository blockedUserRepository;
+    private final Cache<Long, Set<Long>> localCache;
+
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public BlockedUserCache(
+            @Autowired(required = false) RedisTemplate<String, String> redisTemplate,
+            @Autowired(required = false) RedisMessageListenerContainer listenerContainer,
+            BlockedUserRepository blockedUserRepository
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.blockedUserRepository = blockedUserRepository;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAX_VIEWERS)
+                .expireAfterWrite(LOCAL_TTL)
+                .recordStats()
+                .build();
+
+        if (listenerContainer != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+            log.info(" BlockedUserCache - 차단 무효화 채널 구독: {}", INVALIDATE_CHANNEL);
+        } else {
+            log.warn(" BlockedUserCache - Redis 미사용, 로컬 캐시만 사용합니다 (인스턴스 간 무효화 없음)");
+        }
+    }
+
+    // ── 조회 ──────────────────────────────────────────────────────────────────
+
+    /**
+     * 조회자가 차단한 유저 ID 집합 (읽기 전용 Set)
+     *
+     * @param viewerId 조회자 ID (null이면 비로그인 → 빈 Set)
+     * @return 차단한 유저 ID 집합 (없으면 빈 Set)
+     */
+    public Set<Long> getBlockedIds(Long viewerId) {
+        if (viewerId == null) {
+            return Set.of();
+        }
+        return localCache.get(viewerId, this::loadBlockedIds);
+    }
+
+    private Set<Long> loadBlockedIds(Long viewerId) {
+        Set<Long> blockedIds = Set.copyOf(blockedUserRepository.findBlockedIdsByBlockerId(viewerId));
+        log.debug(" [차단 캐시] DB 로딩 - viewerId: {}, blockedCount: {}", viewerId, blockedIds.size());
+        return blockedIds;
+    }
+
+    // ── 무효화 ────────────────────────────────────────────────────────────────
+
+    /**
+     * 차단 목록 캐시 무효화 (차단/차단 해제 직후 호출)
+     */
+    public void invalidate(Long blockerId) {
+        evict(blockerId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(blockerId);
+                }
+            });
+        }
+    }
+
+    private void evict(Long blockerId) {
+        localCache.invalidate(blockerId);
+        invalidations.increment();
+
+        if (redisTemplate == null) return;
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(blockerId));
+        } catch (Exception e) {
+            log.warn(" [차단 캐시] Redis 무효화 발행 실패 - blockerId: {}, error: {}", blockerId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지 수신 → L1만 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long blockerId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", ""));
+            localCache.invalidate(blockerId);
+        } catch (Exception e) {
+            log.warn(" [차단 캐시] 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    // ── 통계 ──────────────────────────────────────────────────────────────────
+
+    /**
+     * 10분마다 캐시 히트/미스 통계 로깅
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void logStats() {
+        CacheStats stats = localCache.stats();
+        log.info(" [차단 캐시 통계] hit: {}, miss: {}, invalidate: {}, size: {}, hitRatio: {}",
+                stats.hitCount(), stats.missCount(), invalidations.sum(), localCache.estimatedSize(),
+                String.format("%.3f", stats.hitRate()));
+    }
+}
@@ -0,0 +1,304 @@
+package com.sobunsobun.backend.infrastructure.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sobunsobun.backend.repository.chat.ChatMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 ACTIVE 멤버십 캐시
+ *
+ * 메시지 전송 / 과거 메시지 조회 / 읽음 처리 / 초대 등 거의 모든 채팅 요청이
+ * 멤버 여부를 확인하므로, 방별 ACTIVE 멤버 ID 집합을 2단계로 캐싱합니다.
+ *
+ * 조회 순서:
+ * 1. L1 : Caffeine (인스턴스 로컬)        roomId → userId 집합
+ * 2. L2 : Redis Set "chat:members:{roomId}" (인스턴스 간 공유)
+ * 3. DB : chat_member (status = ACTIVE)
+ *
+ * 무효화:
+ * - 입장/퇴장/강퇴 시 ChatRoomService, ChatMemberService, ChatInviteService가 invalidate(roomId) 호출
+ * - 트랜잭션 안에서 호출되면 즉시 + 트랜잭션 종료 후(afterCompletion) 한 번 더 무효화
+ *   → 커밋 전 상태가 캐싱된 채로 남는 것을 방지
+ * - Redis "chat:members:invalidate" 채널로 다른 인스턴스의 L1도 무효화
+ *
+ * 경쟁 조건:
+ * - L1: Caffeine은 같은 key의 로딩과 invalidate를 직렬화하므로 로딩 도중 무효화된 값은 남지 않음
+ * - L2: 무효화 시 버전 키 "chat:members:{roomId}:ver"를 INCR하고,
+ *       DB 로딩 결과는 로딩 시작 시점의 버전이 그대로일 때만 Lua 스크립트로 기록
+ *
+ * Redis가 없는 환경에서는 L1 + DB만으로 동작합니다 (graceful degradation).
+ */
+@Slf4j
+@Component
+public class ChatMembershipCache implements MessageListener {
+
+    // ── Key 상수 ──────────────────────────────────────────────────────────────
+    /** Set key: "chat:members:{roomId}"  /  member: "{userId}" */
+    private static final String MEMBERS_KEY_PREFIX = "chat:members:";
+    private static final String VERSION_KEY_SUFFIX = ":ver";
+
+    /** 다른 인스턴스의 L1 무효화를 위한 Pub/Sub 채널 (payload: roomId) */
+    public static final String INVALIDATE_CHANNEL = "chat:members:invalidate";
+
+    // ── 크기 / TTL ────────────────────────────────────────────────────────────
+    private static final long LOCAL_MAX_ROOMS = 10_000;
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(5);
+    private static final long REDIS_EXPIRE_MINUTES = 30;
+
+    /**
+     * 버전이 로딩 시작 시점과 같을 때만 멤버 Set을 교체
+     *
+     * KEYS[1] = members key, KEYS[2] = version key
+     * ARGV[1] = 로딩 시작 시점 버전, ARGV[2] = TTL(초), ARGV[3..] = userId
+     */
+    private static final RedisScript<Long> REPLACE_IF_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[2])
+            if (current or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV do
+                redis.call('SADD', KEYS[1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatMemberRepository chatMemberRepository;
+    private final Cache<Long, Set<Long>> localCache;
+
+    // ── 통계 ──────────────────────────────────────────────────────────────────
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder dbLoads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public ChatMembershipCache(
+            @Autowired(required = false) RedisTemplate<String, String> redisTemplate,
+            @Autowired(required = false) RedisMessageListenerContainer listenerContainer,
+            ChatMemberRepository chatMemberRepository
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.chatMemberRepository = chatMemberRepository;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAX_ROOMS)
+                .expireAfterWrite(LOCAL_TTL)
+                .recordStats()
+                .build();
+
+        if (listenerContainer != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+            log.info(" ChatMembershipCache - 멤버십 무효화 채널 구독: {}", INVALIDATE_CHANNEL);
+        } else {
+            log.warn(" ChatMembershipCache - Redis 미사용, 로컬 캐시만 사용합니다 (인스턴스 간 무효화 없음)");
+        }
+    }
+
+    // ── 조회 ──────────────────────────────────────────────────────────────────
+
+    /**
+     * 채팅방의 ACTIVE 멤버 ID 집합 조회 (읽기 전용 Set)
+     *
+     * @param roomId 채팅방 ID
+     * @return ACTIVE 멤버 userId 집합 (없으면 빈 Set)
+     */
+    public Set<Long> getActiveMemberIds(Long roomId) {
+        return localCache.get(roomId, this::loadActiveMemberIds);
+    }
+
+    /**
+     * 사용자가 채팅방의 ACTIVE 멤버인지 확인
+     *
+     * ChatMemberRepository.isActiveMember()의 COUNT 쿼리를 대체합니다.
+     */
+    public boolean isActiveMember(Long roomId, Long userId) {
+        return userId != null && getActiveMemberIds(roomId).contains(userId);
+    }
+
+    /**
+     * L1 Miss 시 로더: Redis Set → DB 순서로 조회
+     */
+    private Set<Long> loadActiveMemberIds(Long roomId) {
+        if (redisTemplate != null) {
+            try {
+                Set<String> cached = redisTemplate.opsForSet().members(buildMembersKey(roomId));
+                if (cached != null && !cached.isEmpty()) {
+                    redisHits.increment();
+                    return cached.stream()
+                            .map(Long::valueOf)
+                            .collect(Collectors.toUnmodifiableSet());
+                }
+            } catch (Exception e) {
+                log.warn(" [멤버십 캐시] Redis 조회 실패, DB 폴백 - roomId: {}, error: {}", roomId, e.getMessage());
+            }
+        }
+
+        // 버전은 반드시 DB 조회 전에 읽어야 함 (조회 도중 무효화되면 Redis 기록을 건너뜀)
+        String version = readVersion(roomId);
+        Set<Long> memberIds = Set.copyOf(chatMemberRepository.findActiveMemberIdsByRoomId(roomId));
+        dbLoads.increment();
+        log.debug(" [멤버십 캐시] DB 로딩 - roomId: {}, memberCount: {}", roomId, memberIds.size());
+
+        if (version != null && !memberIds.isEmpty()) {
+            writeIfVersionUnchanged(roomId, version, memberIds);
+        }
+        return memberIds;
+    }
+
+    // ── 무효화 ────────────────────────────────────────────────────────────────
+
+    /**
+     * 채팅방 멤버십 캐시 무효화 (입장/퇴장/강퇴 직후 호출)
+     *
+     * 트랜잭션 안에서 호출된 경우 트랜잭션 종료(커밋/롤백) 후 한 번 더 무효화하여,
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐싱하더라도 최종적으로 제거되도록 합니다.
+     */
+    public void invalidate(Long roomId) {
+        evict(roomId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(roomId);
+                }
+            });
+        }
+    }
+
+    private void evict(Long roomId) {
+        localCache.invalidate(roomId);
+        invalidations.increment();
+
+        if (redisTemplate == null) return;
+
+        try {
+            String versionKey = buildVersionKey(roomId);
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, REDIS_EXPIRE_MINUTES, TimeUnit.MINUTES);
+            redisTemplate.delete(buildMembersKey(roomId));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(roomId));
+            log.debug(" [멤버십 캐시 무효화] roomId: {}", roomId);
+        } catch (Exception e) {
+            log.warn(" [멤버십 캐시] Redis 무효화 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지 수신 → L1만 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long roomId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", ""));
+            localCache.invalidate(roomId);
+        } catch (Exception e) {
+            log.warn(" [멤버십 캐시] 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    // ── Redis 보조 ────────────────────────────────────────────────────────────
+
+    /** 현재 버전 조회 (키 없으면 "0", Redis 미사용/실패 시 null) */
+    private String readVersion(Long roomId) {
+        if (redisTemplate == null) return null;
+        try {
+            String version = redisTemplate.opsForValue().get(buildVersionKey(roomId));
+            return version != null ? version : "0";
+        } catch (Exception e) {
+            log.warn(" [멤버십 캐시] 버전 조회 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeIfVersionUnchanged(Long roomId, String version, Set<Long> memberIds) {
+        try {
+            List<String> args = new ArrayList<>(memberIds.size() + 2);
+            args.add(version);
+            args.add(String.valueOf(TimeUnit.MINUTES.toSeconds(REDIS_EXPIRE_MINUTES)));
+            memberIds.forEach(id -> args.add(String.valueOf(id)));
+
+            Long written = redisTemplate.execute(
+                    REPLACE_IF_VERSION_SCRIPT,
+                    List.of(buildMembersKey(roomId), buildVersionKey(roomId)),
+                    args.toArray());
+            if (written == null || written == 0L) {
+                log.debug(" [멤버십 캐시] 로딩 중 무효화 감지, Redis 기록 생략 - roomId: {}", roomId);
+            }
+        } catch (Exception e) {
+            log.warn(" [멤버십 캐시] Redis 기록 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+        }
+    }
+
+    // ── 통계 ──────────────────────────────────────────────────────────────────
+
+    /**
+     * 캐시 통계 스냅샷
+     *
+     * @param localHits     L1 히트 수
+     * @param localMisses   L1 미스 수 (= Redis 히트 + DB 로딩)
+     * @param redisHits     L2 히트 수
+     * @param dbLoads       DB 로딩 수
+     * @param invalidations 무효화 수
+     */
+    public record Stats(long localHits, long localMisses, long redisHits, long dbLoads, long invalidations) {
+
+        public double hitRatio() {
+            long total = localHits + localMisses;
+            return total == 0 ? 0.0 : (double) (localHits + redisHits) / total;
+        }
+    }
+
+    public Stats stats() {
+        CacheStats local = localCache.stats();
+        return new Stats(local.hitCount(), local.missCount(),
+                redisHits.sum(), dbLoads.sum(), invalidations.sum());
+    }
+
+    /**
+     * 10분마다 캐시 히트/미스 통계 로깅
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void logStats() {
+        Stats stats = stats();
+        log.info(" [멤버십 캐시 통계] L1 hit: {}, L1 miss: {}, Redis hit: {}, DB load: {}, invalidate: {}, hitRatio: {}",
+                stats.localHits(), stats.localMisses(), stats.redisHits(), stats.dbLoads(),
+                stats.invalidations(), String.format("%.3f", stats.hitRatio()));
+    }
+
+    // ── Key 빌더 ──────────────────────────────────────────────────────────────
+
+    /** "chat:members:{roomId}" */
+    private String buildMembersKey(Long roomId) {
+        return MEMBERS_KEY_PREFIX + roomId;
+    }
+
+    /** "chat:members:{roomId}:ver" */
+    private String buildVersionKey(Long roomId) {
+        return MEMBERS_KEY_PREFIX + roomId + VERSION_KEY_SUFFIX;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -157,7 +158,7 @@ public class ChatRedisService {
      * Field    : {roomId}
      * Command  : HINCRBY 1
      */
-    public void addUnreadMessageCount(Long roomId, Long senderId, List<Long> memberIds) {
+    public void addUnreadMessageCount(Long roomId, Long senderId, Collection<Long> memberIds) {
         if (!isRedisAvailable()) {
             log.warn(" Redis 미사용: addUnreadMessageCount 작업 건너뜀");
             return;
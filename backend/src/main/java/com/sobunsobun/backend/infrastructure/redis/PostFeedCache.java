@@ -0,0 +1,222 @@
+package com.sobunsobun.backend.infrastructure.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 공개 게시글 피드 첫 페이지 캐시
+ *
+ * 전체 / 상태별 / 카테고리별 목록의 앞쪽 페이지와 커서 피드 첫 페이지는
+ * 비로그인 사용자와 차단 목록이 없는 사용자에게 모두 같으므로, 변환된 응답 DTO를 짧은 TTL로 캐싱합니다.
+ * 차단 목록이 있는 사용자는 캐시를 거치지 않습니다 (PostService 참고).
+ *
+ * 무효화:
+ * - 게시글 생성/수정/삭제/상태 변경 시 PostService, MannerReviewService, UserService가 invalidateAll() 호출
+ * - 트랜잭션 안에서 호출되면 트랜잭션 종료 후(afterCompletion) 한 번 더 무효화
+ * - Redis "post:feed:invalidate" 채널로 다른 인스턴스의 캐시도 무효화
+ * - 참여 인원, 작성자 프로필 변경은 TTL(30초)로만 반영
+ *
+ * 경쟁 조건:
+ * - 무효화마다 세대(generation)를 올리고, DB 조회 결과는 조회 시작 시점의 세대가 그대로일 때만 저장
+ *   → 무효화 이전에 시작된 조회가 무효화 이후에 오래된 페이지를 다시 넣지 않음
+ */
+@Slf4j
+@Component
+public class PostFeedCache implements MessageListener {
+
+    /** 다른 인스턴스의 캐시 무효화를 위한 Pub/Sub 채널 */
+    public static final String INVALIDATE_CHANNEL = "post:feed:invalidate";
+
+    /** 캐싱하는 앞쪽 페이지 수 (0 ~ CACHEABLE_PAGES - 1) */
+    public static final int CACHEABLE_PAGES = 3;
+
+    private static final long MAX_ENTRIES = 2_000;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    // ── 통계 ──────────────────────────────────────────────────────────────────
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discardedLoads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder servedAgeMillis = new LongAdder();
+    private final LongAccumulator maxServedAgeMillis = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 캐시 항목 (staleness 측정을 위해 적재 시각을 함께 보관)
+     */
+    private record Entry(Object value, long loadedAtMillis) {
+    }
+
+    @Autowired
+    public PostFeedCache(
+            @Autowired(required = false) RedisTemplate<String, String> redisTemplate,
+            @Autowired(required = false) RedisMessageListenerContainer listenerContainer
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(TTL)
+                .build();
+
+        if (listenerContainer != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+            log.info(" PostFeedCache - 피드 무효화 채널 구독: {}", INVALIDATE_CHANNEL);
+        } else {
+            log.warn(" PostFeedCache - Redis 미사용, 로컬 캐시만 사용합니다 (인스턴스 간 무효화 없음)");
+        }
+    }
+
+    // ── 조회 ──────────────────────────────────────────────────────────────────
+
+    /**
+     * 캐시 키 생성 ("all:latest:0:20" 형식)
+     */
+    public static String key(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (Object part : parts) {
+            if (!sb.isEmpty()) {
+                sb.append(':');
+            }
+            sb.append(part);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 캐시된 피드 페이지 조회, 없으면 loader로 생성 후 저장
+     *
+     * @param key 피드 키 (key(...)로 생성)
+     * @param loader DB 조회 + 응답 변환
+     * @return 피드 응답 (여러 요청이 공유하므로 수정 금지)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            long age = System.currentTimeMillis() - entry.loadedAtMillis();
+            hits.increment();
+            servedAgeMillis.add(age);
+            maxServedAgeMillis.accumulate(age);
+            return (T) entry.value();
+        }
+
+        misses.increment();
+        long startGeneration = generation.get();
+        T value = loader.get();
+        if (generation.get() == startGeneration) {
+            cache.put(key, new Entry(value, System.currentTimeMillis()));
+        } else {
+            discardedLoads.increment();
+            log.debug(" [피드 캐시] 조회 중 무효화 감지, 저장 생략 - key: {}", key);
+        }
+        return value;
+    }
+
+    // ── 무효화 ────────────────────────────────────────────────────────────────
+
+    /**
+     * 피드 캐시 전체 무효화 (게시글 생성/수정/삭제/상태 변경 직후 호출)
+     *
+     * 트랜잭션 안에서 호출된 경우 트랜잭션 종료(커밋/롤백) 후 한 번 더 무효화하여,
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐싱하더라도 최종적으로 제거되도록 합니다.
+     */
+    public void invalidateAll() {
+        evictAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictAll();
+                }
+            });
+        }
+    }
+
+    private void evictAll() {
+        clearLocal();
+        invalidations.increment();
+
+        if (redisTemplate == null) return;
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, "all");
+        } catch (Exception e) {
+            log.warn(" [피드 캐시] Redis 무효화 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private void clearLocal() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지 수신 → 로컬 캐시만 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        clearLocal();
+    }
+
+    // ── 통계 ──────────────────────────────────────────────────────────────────
+
+    /**
+     * 캐시 통계 스냅샷
+     *
+     * @param hits               히트 수
+     * @param misses             미스 수
+     * @param discardedLoads     조회 중 무효화되어 저장하지 않은 적재 수
+     * @param invalidations      무효화 수
+     * @param avgServedAgeMillis 히트 시 제공된 항목의 평균 나이 (staleness)
+     * @param maxServedAgeMillis 히트 시 제공된 항목의 최대 나이
+     */
+    public record Stats(long hits, long misses, long discardedLoads, long invalidations,
+                        long avgServedAgeMillis, long maxServedAgeMillis) {
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    public Stats stats() {
+        long hitCount = hits.sum();
+        return new Stats(hitCount, misses.sum(), discardedLoads.sum(), invalidations.sum(),
+                hitCount == 0 ? 0 : servedAgeMillis.sum() / hitCount, maxServedAgeMillis.get());
+    }
+
+    /**
+     * 10분마다 캐시 히트율 / staleness 통계 로깅
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void logStats() {
+        Stats stats = stats();
+        log.info(" [피드 캐시 통계] hit: {}, miss: {}, discarded: {}, invalidate: {}, size: {}, hitRatio: {}, age avg: {}ms, max: {}ms",
+                stats.hits(), stats.misses(), stats.discardedLoads(), stats.invalidations(),
+                cache.estimatedSize(), String.format("%.3f", stats.hitRatio()),
+                stats.avgServedAgeMillis(), stats.maxServedAgeMillis());
+    }
+}
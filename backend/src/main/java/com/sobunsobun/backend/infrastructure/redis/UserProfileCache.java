@@ -0,0 +1,156 @@
+package com.sobunsobun.backend.infrastructure.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sobunsobun.backend.dto.user.UserProfileResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 다른 사용자 프로필 응답 캐시
+ *
+ * 게시글 상세 / 채팅방에서 닉네임·이미지를 누를 때마다 같은 프로필을 반복 조회하므로,
+ * 변환된 UserProfileResponse를 userId 기준으로 짧은 TTL 동안 캐싱합니다.
+ * 닉네임 조회는 닉네임 → userId 변환 후 같은 캐시를 사용합니다.
+ *
+ * 무효화:
+ * - 게시글 생성/수정/삭제 시 PostService가 invalidate(ownerId) 호출
+ * - 닉네임/프로필 이미지 변경, 회원 탈퇴 시 UserService가 invalidate(userId) 호출
+ * - 매너 태그 / 통계 변경은 UserStatsEventListener가 통계 갱신 후 invalidate(userIds) 호출
+ * - 트랜잭션 안에서 호출되면 즉시 + 트랜잭션 종료 후(afterCompletion) 한 번 더 무효화
+ * - Redis "user:profile:invalidate" 채널로 다른 인스턴스의 캐시도 무효화
+ * - 참여 인원, 마감 스케줄러의 일괄 마감은 TTL(1분)로만 반영
+ *
+ * 경쟁 조건:
+ * - Caffeine은 같은 key의 로딩과 invalidate를 직렬화하므로 로딩 도중 무효화된 값은 남지 않음
+ */
+@Slf4j
+@Component
+public class UserProfileCache implements MessageListener {
+
+    /** 다른 인스턴스의 캐시 무효화를 위한 Pub/Sub 채널 (payload: userId) */
+    public static final String INVALIDATE_CHANNEL = "user:profile:invalidate";
+
+    private static final long MAX_ENTRIES = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, UserProfileResponse> cache;
+
+    @Autowired
+    public UserProfileCache(
+            @Autowired(required = false) RedisTemplate<String, String> redisTemplate,
+            @Autowired(required = false) RedisMessageListenerContainer listenerContainer
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+
+        if (listenerContainer != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+            log.info(" UserProfileCache - 프로필 무효화 채널 구독: {}", INVALIDATE_CHANNEL);
+        } else {
+            log.warn(" UserProfileCache - Redis 미사용, 로컬 캐시만 사용합니다 (인스턴스 간 무효화 없음)");
+        }
+    }
+
+    // ── 조회 ──────────────────────────────────────────────────────────────────
+
+    /**
+     * 캐시된 프로필 조회, 없으면 loader로 생성 후 저장
+     *
+     * @param userId 사용자 ID
+     * @param loader DB 조회 + 응답 변환 (예외 발생 시 캐싱하지 않음)
+     * @return 프로필 응답 (여러 요청이 공유하므로 수정 금지)
+     */
+    public UserProfileResponse get(Long userId, Supplier<UserProfileResponse> loader) {
+        return cache.get(userId, id -> loader.get());
+    }
+
+    // ── 무효화 ────────────────────────────────────────────────────────────────
+
+    /**
+     * 사용자 프로필 캐시 무효화 (게시글 / 프로필 변경 직후 호출)
+     *
+     * 트랜잭션 안에서 호출된 경우 트랜잭션 종료(커밋/롤백) 후 한 번 더 무효화하여,
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐싱하더라도 최종적으로 제거되도록 합니다.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) return;
+
+        evict(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 여러 사용자 프로필 캐시 무효화
+     */
+    public void invalidate(Collection<Long> userIds) {
+        userIds.forEach(this::invalidate);
+    }
+
+    private void evict(Long userId) {
+        cache.invalidate(userId);
+
+        if (redisTemplate == null) return;
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn(" [프로필 캐시] Redis 무효화 발행 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지 수신 → 로컬 캐시만 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long userId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", ""));
+            cache.invalidate(userId);
+        } catch (Exception e) {
+            log.warn(" [프로필 캐시] 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    // ── 통계 ──────────────────────────────────────────────────────────────────
+
+    /**
+     * 10분마다 캐시 히트/미스 통계 로깅
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        log.info(" [프로필 캐시 통계] hit: {}, miss: {}, eviction: {}, size: {}, hitRatio: {}",
+                stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                cache.estimatedSize(), String.format("%.3f", stats.hitRate()));
+    }
+}
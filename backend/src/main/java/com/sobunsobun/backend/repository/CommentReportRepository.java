@@ -1,11 +1,18 @@
 package com.sobunsobun.backend.repository;
 
 import com.sobunsobun.backend.domain.CommentReport;
+import com.sobunsobun.backend.domain.ReportStatus;
+import com.sobunsobun.backend.dto.report.ReportStatusCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,10 +22,43 @@ public interface CommentReportRepository extends JpaRepository<CommentReport, Lo
 
     Page<CommentReport> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    /**
+     * 특정 댓글에 대한 신고 목록 (페이징, 신고자 / 댓글 함께 조회)
+     */
+    @EntityGraph(attributePaths = {"user", "comment"})
+    Page<CommentReport> findByCommentIdOrderByCreatedAtDesc(Long commentId, Pageable pageable);
+
+    /**
+     * 신고 상태별 신고 목록 (페이징, 신고자 / 댓글 함께 조회)
+     */
+    @EntityGraph(attributePaths = {"user", "comment"})
+    Page<CommentReport> findByStatusOrderByCreatedAtDesc(ReportStatus status, Pageable pageable);
+
+    /**
+     * 처리 대기열 신고 ID (페이징)
+     * (status, created_at) 인덱스만으로 정렬 / 페이징 / 개수 집계를 끝내고, 엔티티는 findAllWithUserAndCommentByIdIn으로 조회합니다.
+     */
+    @Query(value = "SELECT r.id FROM CommentReport r WHERE r.status IN :statuses ORDER BY r.status, r.createdAt, r.id",
+           countQuery = "SELECT COUNT(r) FROM CommentReport r WHERE r.status IN :statuses")
+    Page<Long> findQueueIds(@Param("statuses") Collection<ReportStatus> statuses, Pageable pageable);
+
+    /**
+     * 신고 ID 목록으로 신고자 / 댓글을 함께 조회
+     */
+    @Query("SELECT r FROM CommentReport r JOIN FETCH r.user JOIN FETCH r.comment WHERE r.id IN :ids")
+    List<CommentReport> findAllWithUserAndCommentByIdIn(@Param("ids") Collection<Long> ids);
+
     long countByUserId(Long userId);
 
     long countByCommentId(Long commentId);
 
+    /**
+     * 특정 댓글에 대한 신고 상태별 개수 (GROUP BY 한 번, (comment_id, status) 인덱스로 처리)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.report.ReportStatusCount(r.status, COUNT(r)) " +
+           "FROM CommentReport r WHERE r.comment.id = :commentId GROUP BY r.status")
+    List<ReportStatusCount> countByCommentIdGroupByStatus(@Param("commentId") Long commentId);
+
     void deleteByUserIdAndCommentId(Long userId, Long commentId);
 
     /**
@@ -2,6 +2,8 @@ package com.sobunsobun.backend.repository;
 
 import com.sobunsobun.backend.domain.BlockedUser;
 import com.sobunsobun.backend.domain.Comment;
+import com.sobunsobun.backend.dto.comment.CommentReplyCount;
+import com.sobunsobun.backend.dto.comment.CommentRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +11,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,6 +62,106 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findActiveParentCommentsByPostIdExcludingBlocked(@Param("postId") Long postId,
                                                                    @Param("viewerId") Long viewerId);
 
+    /**
+     * 게시글의 활성 댓글 스레드 평면 조회 (부모 댓글 + 대댓글, 작성자 컬럼 포함)
+     * 오래된순(createdAt, id)으로 정렬, 트리 구성과 차단 유저 필터는 서비스에서 처리
+     *
+     * @param postId 게시글 ID
+     * @return 활성 댓글 목록 (부모 / 대댓글 혼합)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.comment.CommentRow(" +
+           "c.id, c.post.id, pc.id, u.id, u.nickname, u.profileImageUrl, u.address, " +
+           "c.content, c.deleted, c.edited, c.createdAt, c.updatedAt) " +
+           "FROM Comment c JOIN c.user u LEFT JOIN c.parentComment pc " +
+           "WHERE c.post.id = :postId " +
+           "AND c.deleted = false " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findActiveThreadByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 활성 부모 댓글 keyset 페이지 조회 (오래된순, (createdAt, id) 이후 limit건)
+     *
+     * @param excludedUserIds 제외할 작성자 ID (차단 유저, 비어 있으면 안 됨)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.comment.CommentRow(" +
+           "c.id, c.post.id, pc.id, u.id, u.nickname, u.profileImageUrl, u.address, " +
+           "c.content, c.deleted, c.edited, c.createdAt, c.updatedAt) " +
+           "FROM Comment c JOIN c.user u LEFT JOIN c.parentComment pc " +
+           "WHERE c.post.id = :postId " +
+           "AND c.parentComment IS NULL " +
+           "AND c.deleted = false " +
+           "AND u.id NOT IN :excludedUserIds " +
+           "AND (c.createdAt > :cursorAt OR (c.createdAt = :cursorAt AND c.id > :cursorId)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findActiveParentCommentRowsAfter(@Param("postId") Long postId,
+                                                      @Param("excludedUserIds") Collection<Long> excludedUserIds,
+                                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable limit);
+
+    /**
+     * 부모 댓글의 활성 대댓글 keyset 페이지 조회 (오래된순, (createdAt, id) 이후 limit건)
+     *
+     * @param excludedUserIds 제외할 작성자 ID (차단 유저, 비어 있으면 안 됨)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.comment.CommentRow(" +
+           "c.id, c.post.id, pc.id, u.id, u.nickname, u.profileImageUrl, u.address, " +
+           "c.content, c.deleted, c.edited, c.createdAt, c.updatedAt) " +
+           "FROM Comment c JOIN c.user u JOIN c.parentComment pc " +
+           "WHERE pc.id = :parentCommentId " +
+           "AND c.deleted = false " +
+           "AND u.id NOT IN :excludedUserIds " +
+           "AND (c.createdAt > :cursorAt OR (c.createdAt = :cursorAt AND c.id > :cursorId)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findActiveReplyRowsAfter(@Param("parentCommentId") Long parentCommentId,
+                                              @Param("excludedUserIds") Collection<Long> excludedUserIds,
+                                              @Param("cursorAt") LocalDateTime cursorAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable limit);
+
+    /**
+     * 부모 댓글마다 앞쪽 활성 대댓글 ID를 최대 perParent건씩 조회 (ROW_NUMBER, MySQL 8 / H2)
+     *
+     * @param excludedUserIds 제외할 작성자 ID (차단 유저, 비어 있으면 안 됨)
+     */
+    @Query(value = "SELECT t.id FROM (" +
+                   "SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id " +
+                   "ORDER BY c.created_at ASC, c.id ASC) AS rn " +
+                   "FROM comment c " +
+                   "WHERE c.parent_comment_id IN (:parentIds) " +
+                   "AND c.deleted = false " +
+                   "AND c.user_id NOT IN (:excludedUserIds)) t " +
+                   "WHERE t.rn <= :perParent",
+           nativeQuery = true)
+    List<Long> findReplyPreviewIds(@Param("parentIds") Collection<Long> parentIds,
+                                   @Param("excludedUserIds") Collection<Long> excludedUserIds,
+                                   @Param("perParent") int perParent);
+
+    /**
+     * ID 목록으로 댓글 행 조회 (오래된순)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.comment.CommentRow(" +
+           "c.id, c.post.id, pc.id, u.id, u.nickname, u.profileImageUrl, u.address, " +
+           "c.content, c.deleted, c.edited, c.createdAt, c.updatedAt) " +
+           "FROM Comment c JOIN c.user u LEFT JOIN c.parentComment pc " +
+           "WHERE c.id IN :ids " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 부모 댓글별 활성 대댓글 수
+     *
+     * @param excludedUserIds 제외할 작성자 ID (차단 유저, 비어 있으면 안 됨)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.comment.CommentReplyCount(c.parentComment.id, COUNT(c)) " +
+           "FROM Comment c " +
+           "WHERE c.parentComment.id IN :parentIds " +
+           "AND c.deleted = false " +
+           "AND c.user.id NOT IN :excludedUserIds " +
+           "GROUP BY c.parentComment.id")
+    List<CommentReplyCount> countActiveRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds,
+                                                          @Param("excludedUserIds") Collection<Long> excludedUserIds);
+
     /**
      * 게시글의 댓글 개수 조회 (활성 댓글만, 대댓글 포함)
      *
@@ -131,6 +235,23 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c JOIN FETCH c.post WHERE c.user.id = :userId AND c.post.id IN :postIds AND c.deleted = false ORDER BY c.createdAt DESC")
     List<Comment> findLatestCommentsByUserIdAndPostIds(@Param("userId") Long userId, @Param("postIds") List<Long> postIds);
 
+    /**
+     * 활성 댓글 존재 여부 (comment_count 백필 필요 여부 확인용)
+     */
+    boolean existsByDeletedFalse();
+
+    /**
+     * 사용자가 활성 댓글을 단 게시글 ID 목록 (회원탈퇴 시 게시글 댓글 수 재계산용)
+     */
+    @Query("SELECT DISTINCT c.post.id FROM Comment c WHERE c.user.id = :userId AND c.deleted = false")
+    List<Long> findDistinctPostIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 게시글들에 활성 댓글을 단 사용자 ID 목록 (회원탈퇴 시 작성자 댓글 수 재계산용)
+     */
+    @Query("SELECT DISTINCT c.user.id FROM Comment c WHERE c.post.id IN :postIds AND c.deleted = false")
+    List<Long> findDistinctUserIdsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
     /**
      * 특정 사용자의 모든 댓글 삭제 (회원탈퇴용)
      */
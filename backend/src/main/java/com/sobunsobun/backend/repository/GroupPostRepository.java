@@ -1,17 +1,26 @@
 package com.sobunsobun.backend.repository;
 
-import com.sobunsobun.backend.domain.BlockedUser;
 import com.sobunsobun.backend.domain.GroupPost;
 import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.dto.comment.PostCommentCount;
+import com.sobunsobun.backend.dto.post.PostEngagement;
+import com.sobunsobun.backend.dto.post.PostLocation;
+import com.sobunsobun.backend.dto.post.PostSummary;
+import com.sobunsobun.backend.dto.user.UserHostCount;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 공동구매 게시글 리포지토리
@@ -32,7 +41,13 @@ public interface GroupPostRepository extends JpaRepository<GroupPost, Long> {
     /**
      * 상태별 게시글 조회 (마감일 오름차순)
      */
-    Page<GroupPost> findByStatusOrderByDeadlineAtAsc(PostStatus status, Pageable pageable);
+    @Query(value = "SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o " +
+                   "WHERE p.status = :status AND o.id NOT IN :excludedOwnerIds ORDER BY p.deadlineAt ASC",
+           countQuery = "SELECT COUNT(p) FROM GroupPost p " +
+                        "WHERE p.status = :status AND p.owner.id NOT IN :excludedOwnerIds")
+    Page<PostSummary> findByStatusOrderByDeadlineAtAsc(@Param("status") PostStatus status,
+                                                       @Param("excludedOwnerIds") Collection<Long> excludedOwnerIds,
+                                                       Pageable pageable);
 
     /**
      * 작성자별 게시글 조회 (Pageable)
@@ -51,163 +66,334 @@ public interface GroupPostRepository extends JpaRepository<GroupPost, Long> {
     List<GroupPost> findByOwnerIdOrderByCreatedAtDesc(Long ownerId);
 
     /**
-     * 작성자별 게시글 조회 (List - 특정 상태 제외)
+     * 작성자별 최근 게시글 조회 - 특정 상태 제외 (프로필 카드용, 최신순 상위 N개)
+     *
+     * idx_post_owner_created(owner_user_id, created_at)를 역순으로 읽고 pageable 크기에서 멈추며,
+     * 카드에 표시하지 않는 content / itemsText / notesText(TEXT)는 조회하지 않습니다.
      */
-    List<GroupPost> findByOwnerIdAndStatusNotOrderByCreatedAtDesc(Long ownerId, PostStatus status);
+    @Query("SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o " +
+           "WHERE o.id = :ownerId AND p.status <> :status ORDER BY p.createdAt DESC")
+    List<PostSummary> findRecentSummariesByOwnerId(@Param("ownerId") Long ownerId,
+                                                   @Param("status") PostStatus status,
+                                                   Pageable pageable);
 
     /**
-     * 카테고리별 게시글 조회 (모집 중인 것만)
-     * categories 컬럼에 해당 카테고리 코드가 포함된 게시글 검색 (LIKE 검색)
+     * 마감일이 지난 게시글 조회 (마감 스케줄러용, 마감일 오름차순 청크)
+     *
+     * idx_post_status_deadline(status, deadline_at) 범위 스캔으로 읽으며,
+     * 같은 청크를 일괄 UPDATE할 때까지 다른 트랜잭션이 수정하지 못하도록 행 잠금(FOR UPDATE)을 겁니다.
      */
-    @Query("SELECT p FROM GroupPost p WHERE p.categories LIKE CONCAT('%', :categories, '%') AND p.status = :status ORDER BY p.createdAt DESC")
-    Page<GroupPost> findByCategoriesAndStatusOrderByCreatedAtDesc(@Param("categories") String categories,
-                                                                   @Param("status") PostStatus status,
-                                                                   Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<GroupPost> findByStatusAndDeadlineAtBeforeOrderByDeadlineAtAsc(PostStatus status, LocalDateTime dateTime,
+                                                                        Pageable pageable);
 
     /**
-     * 여러 카테고리로 게시글 조회 (모집 중인 것만)
-     * categories 컬럼에 요청한 카테고리 중 하나라도 포함된 게시글 검색
-     *
-     * Native Query 사용: REGEXP를 활용하여 동적으로 여러 카테고리 검색
+     * 게시글 상태 일괄 변경 (현재 상태가 from인 게시글만)
      */
-    @Query(value = "SELECT * FROM group_post WHERE status = :status " +
-                   "AND categories REGEXP :categoryPattern " +
-                   "ORDER BY created_at DESC",
-           countQuery = "SELECT COUNT(*) FROM group_post WHERE status = :status " +
-                        "AND categories REGEXP :categoryPattern",
-           nativeQuery = true)
-    Page<GroupPost> findByCategoriesInAndStatus(@Param("categoryPattern") String categoryPattern,
-                                                  @Param("status") String status,
-                                                  Pageable pageable);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE GroupPost p SET p.status = :to, p.updatedAt = :now WHERE p.id IN :ids AND p.status = :from")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("from") PostStatus from,
+                           @Param("to") PostStatus to,
+                           @Param("now") LocalDateTime now);
+
+    // ── 댓글 수 (comment_count) ─────────────────────────────────────────────
 
     /**
-     * 마감일이 지난 OPEN 상태 게시글 조회
+     * 게시글 활성 댓글 수 조회
      */
-    List<GroupPost> findByStatusAndDeadlineAtBefore(PostStatus status, LocalDateTime dateTime);
+    @Query("SELECT p.commentCount FROM GroupPost p WHERE p.id = :postId")
+    Optional<Integer> findCommentCountById(@Param("postId") Long postId);
 
-    // ── 차단 유저 제외 쿼리 ─────────────────────────────────────────────────
+    /**
+     * 여러 게시글의 활성 댓글 수 한 번에 조회 (피드 카드 배지용)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.comment.PostCommentCount(p.id, p.commentCount) " +
+           "FROM GroupPost p WHERE p.id IN :postIds")
+    List<PostCommentCount> findCommentCountsByIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글 활성 댓글 수 원자적 증감 (댓글 작성 +1, 삭제 -1)
+     */
+    @Modifying
+    @Query("UPDATE GroupPost p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
 
     /**
-     * 전체 게시글 조회 (차단 유저 제외, CANCELLED 제외, 최신순)
+     * 지정한 게시글들의 댓글 수를 comment 테이블 기준으로 다시 계산 (회원 탈퇴로 댓글이 일괄 삭제된 경우)
      */
-    @Query("SELECT p FROM GroupPost p WHERE p.status != 'CANCELLED' AND p.owner.id NOT IN " +
-           "(SELECT b.blocked.id FROM BlockedUser b WHERE b.blocker.id = :viewerId) " +
-           "ORDER BY p.createdAt DESC")
-    Page<GroupPost> findAllExcludingBlocked(@Param("viewerId") Long viewerId, Pageable pageable);
+    @Modifying
+    @Query("UPDATE GroupPost p SET p.commentCount = " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.post.id = p.id AND c.deleted = false) " +
+           "WHERE p.id IN :postIds")
+    int recountCommentCounts(@Param("postIds") Collection<Long> postIds);
 
     /**
-     * 전체 게시글 조회 (차단 유저 제외, CANCELLED 제외, 마감임박순)
+     * ID 범위 (fromId, toId]에서 댓글 수가 실제와 다른 게시글만 보정 (정합성 점검 스케줄러용)
+     *
+     * @return 보정한 게시글 수
      */
-    @Query("SELECT p FROM GroupPost p WHERE p.status != 'CANCELLED' AND p.owner.id NOT IN " +
-           "(SELECT b.blocked.id FROM BlockedUser b WHERE b.blocker.id = :viewerId) " +
-           "ORDER BY p.deadlineAt ASC")
-    Page<GroupPost> findAllExcludingBlockedOrderByDeadline(@Param("viewerId") Long viewerId, Pageable pageable);
+    @Modifying
+    @Query("UPDATE GroupPost p SET p.commentCount = " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.post.id = p.id AND c.deleted = false) " +
+           "WHERE p.id > :fromId AND p.id <= :toId " +
+           "AND p.commentCount <> (SELECT COUNT(c2) FROM Comment c2 WHERE c2.post.id = p.id AND c2.deleted = false)")
+    int repairCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM GroupPost p")
+    long findMaxId();
 
     /**
-     * 전체 게시글 조회 (비로그인, CANCELLED 제외, 최신순)
+     * 전체 게시글 댓글 수 합계 (comment_count 백필 필요 여부 확인용)
      */
-    Page<GroupPost> findAllByStatusNotOrderByCreatedAtDesc(PostStatus status, Pageable pageable);
+    @Query("SELECT COALESCE(SUM(p.commentCount), 0) FROM GroupPost p")
+    long sumCommentCount();
+
+    // ── 피드 카드 부가 정보 ──────────────────────────────────────────────────
 
     /**
-     * 전체 게시글 조회 (비로그인, CANCELLED 제외, 마감임박순)
+     * 여러 게시글의 댓글 수 / 저장 수 / 조회자 저장 여부를 한 번에 조회 (피드 페이지 단위)
+     * 비로그인 조회자는 존재하지 않는 ID(0)를 넘기면 savedByViewer가 항상 0입니다.
      */
-    Page<GroupPost> findAllByStatusNotOrderByDeadlineAtAsc(PostStatus status, Pageable pageable);
+    @Query("SELECT new com.sobunsobun.backend.dto.post.PostEngagement(p.id, p.commentCount, COUNT(sp), " +
+           "COALESCE(SUM(CASE WHEN sp.user.id = :viewerId THEN 1 ELSE 0 END), 0)) " +
+           "FROM GroupPost p LEFT JOIN SavedPost sp ON sp.post = p " +
+           "WHERE p.id IN :postIds " +
+           "GROUP BY p.id, p.commentCount")
+    List<PostEngagement> findEngagementsByIdIn(@Param("postIds") Collection<Long> postIds,
+                                               @Param("viewerId") Long viewerId);
+
+    // ── 전체 / 상태별 조회 ──────────────────────────────────────────────────
+    // 로그인 사용자의 차단 유저 게시글은 excludedOwnerIds (NOT IN)로 DB에서 제외하여
+    // 몇 번째 페이지든 OFFSET 한 번으로 조회합니다. 제외할 작성자가 없으면
+    // PostService가 존재하지 않는 ID 하나를 넘깁니다.
 
     /**
-     * 상태별 게시글 조회 (차단 유저 제외, 마감일 오름차순)
+     * 전체 게시글 조회 (CANCELLED 제외, 최신순)
      */
-    @Query("SELECT p FROM GroupPost p WHERE p.status = :status AND p.owner.id NOT IN " +
-           "(SELECT b.blocked.id FROM BlockedUser b WHERE b.blocker.id = :viewerId) " +
-           "ORDER BY p.deadlineAt ASC")
-    Page<GroupPost> findByStatusExcludingBlocked(@Param("viewerId") Long viewerId,
-                                                 @Param("status") PostStatus status,
-                                                 Pageable pageable);
+    @Query(value = "SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o " +
+                   "WHERE p.status <> :status AND o.id NOT IN :excludedOwnerIds ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM GroupPost p " +
+                        "WHERE p.status <> :status AND p.owner.id NOT IN :excludedOwnerIds")
+    Page<PostSummary> findAllByStatusNotOrderByCreatedAtDesc(@Param("status") PostStatus status,
+                                                             @Param("excludedOwnerIds") Collection<Long> excludedOwnerIds,
+                                                             Pageable pageable);
 
     /**
-     * 단일 카테고리 게시글 조회 (차단 유저 제외, 최신순)
+     * 전체 게시글 조회 (CANCELLED 제외, 마감임박순)
      */
-    @Query("SELECT p FROM GroupPost p WHERE p.categories LIKE CONCAT('%', :categories, '%') " +
-           "AND p.status = :status AND p.owner.id NOT IN " +
-           "(SELECT b.blocked.id FROM BlockedUser b WHERE b.blocker.id = :viewerId) " +
-           "ORDER BY p.createdAt DESC")
-    Page<GroupPost> findByCategoriesAndStatusExcludingBlocked(@Param("viewerId") Long viewerId,
-                                                              @Param("categories") String categories,
-                                                              @Param("status") PostStatus status,
-                                                              Pageable pageable);
+    @Query(value = "SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o " +
+                   "WHERE p.status <> :status AND o.id NOT IN :excludedOwnerIds ORDER BY p.deadlineAt ASC",
+           countQuery = "SELECT COUNT(p) FROM GroupPost p " +
+                        "WHERE p.status <> :status AND p.owner.id NOT IN :excludedOwnerIds")
+    Page<PostSummary> findAllByStatusNotOrderByDeadlineAtAsc(@Param("status") PostStatus status,
+                                                             @Param("excludedOwnerIds") Collection<Long> excludedOwnerIds,
+                                                             Pageable pageable);
 
     /**
-     * 단일 카테고리 게시글 조회 (차단 유저 제외, 마감임박순)
+     * 차단 유저 게시글 수 (전체 커서 피드 totalElements 보정용)
      */
-    @Query("SELECT p FROM GroupPost p WHERE p.categories LIKE CONCAT('%', :categories, '%') " +
-           "AND p.status = :status AND p.owner.id NOT IN " +
-           "(SELECT b.blocked.id FROM BlockedUser b WHERE b.blocker.id = :viewerId) " +
-           "ORDER BY p.deadlineAt ASC")
-    Page<GroupPost> findByCategoriesAndStatusExcludingBlockedOrderByDeadline(@Param("viewerId") Long viewerId,
-                                                                             @Param("categories") String categories,
-                                                                             @Param("status") PostStatus status,
-                                                                             Pageable pageable);
+    long countByOwnerIdInAndStatusNot(Collection<Long> ownerIds, PostStatus status);
 
     /**
-     * 단일 카테고리 게시글 조회 (비로그인, 마감임박순)
+     * 차단 유저 게시글 수 (상태별 커서 피드 totalElements 보정용)
      */
-    @Query("SELECT p FROM GroupPost p WHERE p.categories LIKE CONCAT('%', :categories, '%') AND p.status = :status ORDER BY p.deadlineAt ASC")
-    Page<GroupPost> findByCategoriesAndStatusOrderByDeadlineAtAsc(@Param("categories") String categories,
+    long countByOwnerIdInAndStatus(Collection<Long> ownerIds, PostStatus status);
+
+    // ────────────────────────────────────────────────────────────────────────
+
+    // ── 카테고리 조회 (post_category 인덱스 테이블 사용) ─────────────────────
+    // post_category (category, status, created_at / deadline_at) 인덱스 범위 스캔으로
+    // 정렬과 COUNT를 처리하여 categories 컬럼 LIKE / REGEXP 전체 스캔을 피합니다.
+    // 차단 유저 게시글은 전체 / 상태별 조회와 같이 excludedOwnerIds로 제외합니다.
+
+    /**
+     * 단일 카테고리 게시글 조회 (최신순)
+     */
+    @Query(value = "SELECT " + PostSummary.SELECT + " FROM PostCategory pc JOIN pc.post p JOIN p.owner o " +
+                   "WHERE pc.category = :category AND pc.status = :status AND o.id NOT IN :excludedOwnerIds " +
+                   "ORDER BY pc.createdAt DESC",
+           countQuery = "SELECT COUNT(pc) FROM PostCategory pc JOIN pc.post p " +
+                        "WHERE pc.category = :category AND pc.status = :status AND p.owner.id NOT IN :excludedOwnerIds")
+    Page<PostSummary> findByCategoriesAndStatusOrderByCreatedAtDesc(@Param("category") String category,
+                                                                   @Param("status") PostStatus status,
+                                                                   @Param("excludedOwnerIds") Collection<Long> excludedOwnerIds,
+                                                                   Pageable pageable);
+
+    /**
+     * 단일 카테고리 게시글 조회 (마감임박순)
+     */
+    @Query(value = "SELECT " + PostSummary.SELECT + " FROM PostCategory pc JOIN pc.post p JOIN p.owner o " +
+                   "WHERE pc.category = :category AND pc.status = :status AND o.id NOT IN :excludedOwnerIds " +
+                   "ORDER BY pc.deadlineAt ASC",
+           countQuery = "SELECT COUNT(pc) FROM PostCategory pc JOIN pc.post p " +
+                        "WHERE pc.category = :category AND pc.status = :status AND p.owner.id NOT IN :excludedOwnerIds")
+    Page<PostSummary> findByCategoriesAndStatusOrderByDeadlineAtAsc(@Param("category") String category,
                                                                    @Param("status") PostStatus status,
+                                                                   @Param("excludedOwnerIds") Collection<Long> excludedOwnerIds,
                                                                    Pageable pageable);
 
     /**
-     * 여러 카테고리 게시글 조회 (차단 유저 제외, 최신순, Native Query)
-     */
-    @Query(value = "SELECT * FROM group_post WHERE status = :status " +
-                   "AND categories REGEXP :categoryPattern " +
-                   "AND owner_id NOT IN (SELECT blocked_id FROM blocked_users WHERE blocker_id = :viewerId) " +
-                   "ORDER BY created_at DESC",
-           countQuery = "SELECT COUNT(*) FROM group_post WHERE status = :status " +
-                        "AND categories REGEXP :categoryPattern " +
-                        "AND owner_id NOT IN (SELECT blocked_id FROM blocked_users WHERE blocker_id = :viewerId)",
-           nativeQuery = true)
-    Page<GroupPost> findByCategoriesInAndStatusExcludingBlocked(@Param("viewerId") Long viewerId,
-                                                                @Param("categoryPattern") String categoryPattern,
-                                                                @Param("status") String status,
-                                                                Pageable pageable);
-
-    /**
-     * 여러 카테고리 게시글 조회 (비로그인, 마감임박순, Native Query)
-     */
-    @Query(value = "SELECT * FROM group_post WHERE status = :status " +
-                   "AND categories REGEXP :categoryPattern " +
-                   "ORDER BY deadline_at ASC",
-           countQuery = "SELECT COUNT(*) FROM group_post WHERE status = :status " +
-                        "AND categories REGEXP :categoryPattern",
-           nativeQuery = true)
-    Page<GroupPost> findByCategoriesInAndStatusOrderByDeadline(@Param("categoryPattern") String categoryPattern,
-                                                               @Param("status") String status,
+     * 여러 카테고리에 동시에 속한 게시글을 한 번만 반환하기 위한 조건
+     * 요청한 카테고리 중 코드가 가장 작은 매핑 행만 남깁니다 (uk_post_category로 확인).
+     */
+    String FIRST_REQUESTED_CATEGORY = "NOT EXISTS (SELECT 1 FROM PostCategory pc2 WHERE pc2.post = pc.post " +
+                                      "AND pc2.category IN :categories AND pc2.category < pc.category)";
+
+    /**
+     * 여러 카테고리 게시글 조회 (최신순)
+     * 여러 카테고리에 동시에 속한 게시글은 한 번만 반환
+     */
+    @Query(value = "SELECT " + PostSummary.SELECT + " FROM PostCategory pc JOIN pc.post p JOIN p.owner o " +
+                   "WHERE pc.category IN :categories AND pc.status = :status AND " + FIRST_REQUESTED_CATEGORY + " " +
+                   "AND o.id NOT IN :excludedOwnerIds " +
+                   "ORDER BY pc.createdAt DESC",
+           countQuery = "SELECT COUNT(pc) FROM PostCategory pc JOIN pc.post p " +
+                        "WHERE pc.category IN :categories AND pc.status = :status AND " + FIRST_REQUESTED_CATEGORY + " " +
+                        "AND p.owner.id NOT IN :excludedOwnerIds")
+    Page<PostSummary> findByCategoriesInAndStatus(@Param("categories") Collection<String> categories,
+                                                @Param("status") PostStatus status,
+                                                @Param("excludedOwnerIds") Collection<Long> excludedOwnerIds,
+                                                Pageable pageable);
+
+    /**
+     * 여러 카테고리 게시글 조회 (마감임박순)
+     */
+    @Query(value = "SELECT " + PostSummary.SELECT + " FROM PostCategory pc JOIN pc.post p JOIN p.owner o " +
+                   "WHERE pc.category IN :categories AND pc.status = :status AND " + FIRST_REQUESTED_CATEGORY + " " +
+                   "AND o.id NOT IN :excludedOwnerIds " +
+                   "ORDER BY pc.deadlineAt ASC",
+           countQuery = "SELECT COUNT(pc) FROM PostCategory pc JOIN pc.post p " +
+                        "WHERE pc.category IN :categories AND pc.status = :status AND " + FIRST_REQUESTED_CATEGORY + " " +
+                        "AND p.owner.id NOT IN :excludedOwnerIds")
+    Page<PostSummary> findByCategoriesInAndStatusOrderByDeadline(@Param("categories") Collection<String> categories,
+                                                               @Param("status") PostStatus status,
+                                                               @Param("excludedOwnerIds") Collection<Long> excludedOwnerIds,
                                                                Pageable pageable);
 
     /**
-     * 여러 카테고리 게시글 조회 (차단 유저 제외, 마감임박순, Native Query)
+     * 차단 유저 게시글 수 (카테고리 커서 피드 totalElements 보정용)
+     */
+    @Query("SELECT COUNT(DISTINCT pc.post.id) FROM PostCategory pc " +
+           "WHERE pc.category IN :categories AND pc.status = :status AND pc.post.owner.id IN :ownerIds")
+    long countByCategoriesInAndStatusAndOwnerIdIn(@Param("categories") Collection<String> categories,
+                                                 @Param("status") PostStatus status,
+                                                 @Param("ownerIds") Collection<Long> ownerIds);
+
+    // ── 커서(keyset) 피드 ───────────────────────────────────────────────────
+    // (created_at, id) / (deadline_at, id) 기준으로 마지막 게시글 다음부터 조회하여
+    // OFFSET / COUNT 없이 몇 번째 페이지든 같은 비용으로 조회합니다.
+    // 차단 유저 필터는 PostService에서 적용합니다. 다음 페이지도 마지막 게시글 기준으로
+    // 이어서 조회하므로 앞쪽 페이지를 다시 읽지 않습니다.
+
+    /**
+     * 전체 피드 (CANCELLED 제외, 최신순)
      */
-    @Query(value = "SELECT * FROM group_post WHERE status = :status " +
-                   "AND categories REGEXP :categoryPattern " +
-                   "AND owner_id NOT IN (SELECT blocked_id FROM blocked_users WHERE blocker_id = :viewerId) " +
-                   "ORDER BY deadline_at ASC",
-           countQuery = "SELECT COUNT(*) FROM group_post WHERE status = :status " +
-                        "AND categories REGEXP :categoryPattern " +
-                        "AND owner_id NOT IN (SELECT blocked_id FROM blocked_users WHERE blocker_id = :viewerId)",
-           nativeQuery = true)
-    Page<GroupPost> findByCategoriesInAndStatusExcludingBlockedOrderByDeadline(@Param("viewerId") Long viewerId,
-                                                                               @Param("categoryPattern") String categoryPattern,
-                                                                               @Param("status") String status,
-                                                                               Pageable pageable);
+    @Query("SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o WHERE p.status <> 'CANCELLED' " +
+           "AND (p.createdAt < :cursorAt OR (p.createdAt = :cursorAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findFeedLatest(@Param("cursorAt") LocalDateTime cursorAt,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    /**
+     * 전체 피드 (CANCELLED 제외, 마감임박순)
+     */
+    @Query("SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o WHERE p.status <> 'CANCELLED' " +
+           "AND (p.deadlineAt > :cursorAt OR (p.deadlineAt = :cursorAt AND p.id > :cursorId)) " +
+           "ORDER BY p.deadlineAt ASC, p.id ASC")
+    List<PostSummary> findFeedByDeadline(@Param("cursorAt") LocalDateTime cursorAt,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
+
+    /**
+     * 상태별 피드 (최신순)
+     */
+    @Query("SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o WHERE p.status = :status " +
+           "AND (p.createdAt < :cursorAt OR (p.createdAt = :cursorAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findFeedByStatusLatest(@Param("status") PostStatus status,
+                                           @Param("cursorAt") LocalDateTime cursorAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    /**
+     * 상태별 피드 (마감임박순)
+     */
+    @Query("SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o WHERE p.status = :status " +
+           "AND (p.deadlineAt > :cursorAt OR (p.deadlineAt = :cursorAt AND p.id > :cursorId)) " +
+           "ORDER BY p.deadlineAt ASC, p.id ASC")
+    List<PostSummary> findFeedByStatusDeadline(@Param("status") PostStatus status,
+                                             @Param("cursorAt") LocalDateTime cursorAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    /**
+     * 카테고리 피드 (모집 중만, 최신순)
+     * post_category (category, status, created_at) 인덱스로 seek하며, 여러 카테고리에 속한 게시글은 한 번만 반환
+     */
+    @Query("SELECT " + PostSummary.SELECT + " FROM PostCategory pc JOIN pc.post p JOIN p.owner o " +
+           "WHERE pc.category IN :categories AND pc.status = :status AND " + FIRST_REQUESTED_CATEGORY + " " +
+           "AND (pc.createdAt < :cursorAt OR (pc.createdAt = :cursorAt AND pc.post.id < :cursorId)) " +
+           "ORDER BY pc.createdAt DESC, pc.post.id DESC")
+    List<PostSummary> findFeedByCategoriesLatest(@Param("categories") Collection<String> categories,
+                                               @Param("status") PostStatus status,
+                                               @Param("cursorAt") LocalDateTime cursorAt,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
+
+    /**
+     * 카테고리 피드 (모집 중만, 마감임박순)
+     * post_category (category, status, deadline_at) 인덱스로 seek하며, 여러 카테고리에 속한 게시글은 한 번만 반환
+     */
+    @Query("SELECT " + PostSummary.SELECT + " FROM PostCategory pc JOIN pc.post p JOIN p.owner o " +
+           "WHERE pc.category IN :categories AND pc.status = :status AND " + FIRST_REQUESTED_CATEGORY + " " +
+           "AND (pc.deadlineAt > :cursorAt OR (pc.deadlineAt = :cursorAt AND pc.post.id > :cursorId)) " +
+           "ORDER BY pc.deadlineAt ASC, pc.post.id ASC")
+    List<PostSummary> findFeedByCategoriesDeadline(@Param("categories") Collection<String> categories,
+                                                 @Param("status") PostStatus status,
+                                                 @Param("cursorAt") LocalDateTime cursorAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    /**
+     * 피드 전체 개수 (CANCELLED 제외, totalElements 요청 시에만 사용)
+     */
+    @Query("SELECT COUNT(p) FROM GroupPost p WHERE p.status <> 'CANCELLED'")
+    long countFeed();
+
+    /**
+     * 상태별 피드 전체 개수
+     */
+    @Query("SELECT COUNT(p) FROM GroupPost p WHERE p.status = :status")
+    long countFeedByStatus(@Param("status") PostStatus status);
+
+    /**
+     * 카테고리 피드 전체 개수
+     */
+    @Query("SELECT COUNT(pc) FROM PostCategory pc " +
+           "WHERE pc.category IN :categories AND pc.status = :status AND " + FIRST_REQUESTED_CATEGORY)
+    long countFeedByCategories(@Param("categories") Collection<String> categories,
+                               @Param("status") PostStatus status);
+
+    /**
+     * post_category 매핑이 없는 게시글 조회 (카테고리 인덱스 백필용, id 오름차순 keyset)
+     */
+    @Query("SELECT p FROM GroupPost p WHERE p.id > :lastId AND NOT EXISTS " +
+           "(SELECT pc.id FROM PostCategory pc WHERE pc.post = p) " +
+           "ORDER BY p.id ASC")
+    List<GroupPost> findPostsWithoutCategoryIndex(@Param("lastId") Long lastId, Pageable pageable);
 
     // ────────────────────────────────────────────────────────────────────────
 
     /**
-     * 특정 날짜 이후의 OPEN 상태 게시글 조회 (추천 검색어 수집용)
-     * 생성일 기준 최신순 정렬
+     * 특정 날짜 이후 생성된 OPEN 상태 게시글 조회 (추천 검색어 통계 재집계용, id 오름차순 keyset)
      */
-    @Query("SELECT p FROM GroupPost p WHERE p.status = 'OPEN' AND p.createdAt >= :startDate ORDER BY p.createdAt DESC")
-    List<GroupPost> findRecentOpenPosts(@Param("startDate") LocalDateTime startDate, Pageable pageable);
+    @Query("SELECT p FROM GroupPost p WHERE p.status = 'OPEN' AND p.createdAt >= :startDate AND p.id > :lastId " +
+           "ORDER BY p.id ASC")
+    List<GroupPost> findOpenPostsCreatedSince(@Param("startDate") LocalDateTime startDate,
+                                              @Param("lastId") Long lastId,
+                                              Pageable pageable);
 
     /**
      * 사용자가 작성한 게시글 수 조회 (호스트 수)
@@ -226,6 +412,19 @@ public interface GroupPostRepository extends JpaRepository<GroupPost, Long> {
      */
     long countByOwnerIdAndStatus(Long ownerId, PostStatus status);
 
+    /**
+     * 작성자 ID 범위 (fromId, toId]의 작성자별 개설 게시글 수 / 완료 게시글 수 (user_stats 재계산용)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.user.UserHostCount(p.owner.id, COUNT(p), " +
+           "SUM(CASE WHEN p.status = :completed THEN 1 ELSE 0 END)) " +
+           "FROM GroupPost p " +
+           "WHERE p.owner.id > :fromId AND p.owner.id <= :toId AND p.status <> :excluded " +
+           "GROUP BY p.owner.id")
+    List<UserHostCount> countHostPostsByOwnerIdRange(@Param("fromId") Long fromId,
+                                                    @Param("toId") Long toId,
+                                                    @Param("excluded") PostStatus excluded,
+                                                    @Param("completed") PostStatus completed);
+
     /**
      * 사용자가 참여한 게시글 수 조회
      * TODO: 참여 정보를 저장하는 엔티티/테이블 필요
@@ -233,14 +432,55 @@ public interface GroupPostRepository extends JpaRepository<GroupPost, Long> {
     // long countByParticipantsId(Long userId);
 
     /**
-     * 사용자가 댓글을 단 게시글 조회 (페이징)
+     * 사용자가 댓글을 단 게시글 조회 (페이징, 목록 프로젝션)
      * 중복 없이 게시글 단위로 반환 (한 게시글에 여러 댓글을 달아도 1번만 포함)
      */
-    @Query(value = "SELECT p FROM GroupPost p WHERE p.id IN " +
+    @Query(value = "SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o WHERE p.id IN " +
                    "(SELECT c.post.id FROM Comment c WHERE c.user.id = :userId AND c.deleted = false)",
            countQuery = "SELECT COUNT(DISTINCT p.id) FROM GroupPost p WHERE p.id IN " +
                         "(SELECT c.post.id FROM Comment c WHERE c.user.id = :userId AND c.deleted = false)")
-    Page<GroupPost> findPostsCommentedByUser(@Param("userId") Long userId, Pageable pageable);
+    Page<PostSummary> findPostsCommentedByUser(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 주변 게시글 후보 조회 (지오해시 셀 하나, 커서 이후 가까운 순 limit건)
+     * geohash 접두사 범위로 idx_post_status_geohash를 사용하고, 셀 모서리 밖 후보는 위도·경도 범위로 제외합니다.
+     * 반경 / 커서 / 차단 유저 조건과 정렬·개수 제한까지 DB에서 처리하여
+     * 셀마다 한 페이지 + 1건만 가져옵니다.
+     *
+     * @param geohashFrom 셀 접두사 (포함)
+     * @param geohashTo 셀 접두사 상한 (미포함, GeoHashUtil.prefixUpperBound)
+     * @param cursorDistance 이전 페이지 마지막 게시글 거리 (첫 페이지는 음수)
+     * @param cursorId 이전 페이지 마지막 게시글 ID (첫 페이지는 0)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.post.PostLocation(p.id, " + PostLocation.DISTANCE + ") " +
+           "FROM GroupPost p WHERE p.status = :status " +
+           "AND p.geohash >= :geohashFrom AND p.geohash < :geohashTo " +
+           "AND p.latitude BETWEEN :minLat AND :maxLat AND p.longitude BETWEEN :minLon AND :maxLon " +
+           "AND p.owner.id NOT IN :excludedOwnerIds " +
+           "AND " + PostLocation.DISTANCE + " <= :radius " +
+           "AND (" + PostLocation.DISTANCE + " > :cursorDistance " +
+           "OR (" + PostLocation.DISTANCE + " = :cursorDistance AND p.id > :cursorId)) " +
+           "ORDER BY " + PostLocation.DISTANCE + " ASC, p.id ASC")
+    List<PostLocation> findNearestInCell(@Param("status") PostStatus status,
+                                         @Param("geohashFrom") String geohashFrom,
+                                         @Param("geohashTo") String geohashTo,
+                                         @Param("minLat") double minLat,
+                                         @Param("maxLat") double maxLat,
+                                         @Param("minLon") double minLon,
+                                         @Param("maxLon") double maxLon,
+                                         @Param("lat") double lat,
+                                         @Param("lon") double lon,
+                                         @Param("radius") double radius,
+                                         @Param("excludedOwnerIds") Collection<Long> excludedOwnerIds,
+                                         @Param("cursorDistance") double cursorDistance,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable limit);
+
+    /**
+     * ID 목록으로 목록 컬럼 조회 (순서 보장 안 됨, 호출 측에서 정렬)
+     */
+    @Query("SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * 특정 사용자의 모든 게시글 삭제 (회원탈퇴용)
@@ -0,0 +1,130 @@
+package com.sobunsobun.backend.repository;
+
+import com.sobunsobun.backend.domain.MannerTag;
+import com.sobunsobun.backend.dto.manner.ReviewedTag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 매너 평가 일괄 저장 Repository (JDBC)
+ *
+ * manner_review는 IDENTITY 키라 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * 한 번의 평가 제출에서 생기는 리뷰 행과 태그 통계를 JdbcTemplate으로 직접 씁니다.
+ * user.manner_score도 이 컬럼만 갱신하도록 JDBC batch로 씁니다
+ * (User 엔티티 변경 감지는 행 전체를 UPDATE하여 동시에 커밋된 닉네임 / 프로필 변경을 덮어쓸 수 있음).
+ * 호출한 서비스의 트랜잭션(같은 커넥션) 안에서 실행됩니다.
+ *
+ * MySQL 전용 SQL(ON DUPLICATE KEY UPDATE)을 사용합니다.
+ * 배치 INSERT가 한 번의 다중 행 INSERT로 전송되려면 JDBC URL에 rewriteBatchedStatements=true가 필요합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MannerReviewBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 매너 평가 로그 일괄 INSERT (JDBC batch)
+     *
+     * UNIQUE(sender_id, receiver_id, group_post_id, tag_code) 위반 시 DuplicateKeyException이 발생합니다.
+     */
+    public void insertReviews(Long senderId, Long groupPostId, List<ReviewedTag> reviews) {
+        if (reviews.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO manner_review (sender_id, receiver_id, group_post_id, tag_code, created_at) " +
+                "VALUES (?, ?, ?, ?, ?)",
+                reviews,
+                reviews.size(),
+                (ps, review) -> {
+                    ps.setLong(1, senderId);
+                    ps.setLong(2, review.receiverId());
+                    ps.setLong(3, groupPostId);
+                    ps.setString(4, review.tagCode().name());
+                    ps.setTimestamp(5, now);
+                });
+    }
+
+    /**
+     * 태그 카운트 다중 행 UPSERT (1쿼리)
+     *
+     * UNIQUE(receiver_id, tag_code) 기준으로 없으면 INSERT, 있으면 count에 증가분을 더합니다.
+     *
+     * @param deltas receiverId → (태그 → 증가분)
+     */
+    public void upsertTagCounts(Map<Long, Map<MannerTag, Integer>> deltas) {
+        StringBuilder sql = new StringBuilder("INSERT INTO user_tag_stats (receiver_id, tag_code, count) VALUES ");
+        List<Object> args = new ArrayList<>();
+        deltas.forEach((receiverId, tags) -> tags.forEach((tag, delta) -> {
+            sql.append(args.isEmpty() ? "" : ", ").append("(?, ?, ?)");
+            args.add(receiverId);
+            args.add(tag.name());
+            args.add(delta);
+        }));
+        if (args.isEmpty()) {
+            return;
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE count = count + VALUES(count)");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 매너 점수 집계 행이 없는 사용자에게 빈 집계 행 생성 (다중 행 INSERT, 1쿼리)
+     *
+     * 없는 행은 잠글 수 없으므로 첫 평가가 동시에 들어오면 두 트랜잭션이 모두 INSERT를 시도합니다.
+     * 먼저 빈 행을 만들어 두면 이후 쓰기 잠금 조회가 항상 행을 잠그고, 이미 있는 행은 그대로 둡니다.
+     * 여러 대상을 동시에 평가할 때 잠금 순서가 엇갈리지 않도록 ID 오름차순으로 INSERT합니다.
+     *
+     * @param userIds 평가 대상 사용자 ID
+     * @param now     빈 집계의 감쇠 기준 시각
+     */
+    public void insertMissingMannerScores(Collection<Long> userIds, LocalDateTime now) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO user_manner_score " +
+                "(user_id, weighted_tag_sum, decayed_review_count, review_count, decayed_at) VALUES ");
+        List<Object> args = new ArrayList<>();
+        Timestamp decayedAt = Timestamp.valueOf(now);
+        for (Long userId : new TreeSet<>(userIds)) {
+            sql.append(args.isEmpty() ? "" : ", ").append("(?, 0, 0, 0, ?)");
+            args.add(userId);
+            args.add(decayedAt);
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE user_id = user_id");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 매너 점수 일괄 갱신 (JDBC batch, manner_score 컬럼만 UPDATE)
+     *
+     * @param scores userId → 새 매너 점수
+     */
+    public void updateMannerScores(Map<Long, BigDecimal> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, BigDecimal>> entries = new ArrayList<>(scores.entrySet());
+        jdbcTemplate.batchUpdate(
+                "UPDATE `user` SET manner_score = ? WHERE id = ?",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+}
@@ -1,22 +1,30 @@
 package com.sobunsobun.backend.repository;
 
 import com.sobunsobun.backend.domain.MannerReview;
-import com.sobunsobun.backend.domain.MannerTag;
+import com.sobunsobun.backend.dto.manner.MannerReviewRow;
+import com.sobunsobun.backend.dto.manner.ReviewedTag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface MannerReviewRepository extends JpaRepository<MannerReview, Long> {
 
     /**
-     * 동일 거래에서 특정 태그로 이미 평가했는지 중복 체크
+     * 동일 거래에서 평가 대상들에게 이미 남긴 (대상, 태그) 쌍 조회 (일괄 중복 체크, 1쿼리)
      *
      * @param senderId    평가자 ID
-     * @param receiverId  피평가자 ID
      * @param groupPostId 거래 게시글 ID
-     * @param tagCode     태그 코드
+     * @param receiverIds 피평가자 ID 목록
      */
-    boolean existsBySenderIdAndReceiverIdAndGroupPostIdAndTagCode(
-        Long senderId, Long receiverId, Long groupPostId, MannerTag tagCode
-    );
+    @Query("SELECT new com.sobunsobun.backend.dto.manner.ReviewedTag(r.receiver.id, r.tagCode) " +
+           "FROM MannerReview r " +
+           "WHERE r.sender.id = :senderId AND r.groupPost.id = :groupPostId AND r.receiver.id IN :receiverIds")
+    List<ReviewedTag> findReviewedTags(@Param("senderId") Long senderId,
+                                       @Param("groupPostId") Long groupPostId,
+                                       @Param("receiverIds") Collection<Long> receiverIds);
 
     /**
      * 특정 거래에서 해당 사용자가 리뷰를 하나라도 남겼는지 확인
@@ -34,4 +42,12 @@ public interface MannerReviewRepository extends JpaRepository<MannerReview, Long
      * @param groupPostId 거래 게시글 ID
      */
     boolean existsBySenderIdAndReceiverIdAndGroupPostId(Long senderId, Long receiverId, Long groupPostId);
+
+    /**
+     * 평가 대상 ID 범위 (fromId, toId]가 받은 평가 행 (매너 점수 재집계용, idx_manner_review_receiver 범위 스캔)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.manner.MannerReviewRow(" +
+           "r.receiver.id, r.sender.id, r.groupPost.id, r.tagCode, r.createdAt) " +
+           "FROM MannerReview r WHERE r.receiver.id > :fromId AND r.receiver.id <= :toId")
+    List<MannerReviewRow> findRowsByReceiverIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
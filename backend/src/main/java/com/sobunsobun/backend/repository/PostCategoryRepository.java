@@ -0,0 +1,39 @@
+package com.sobunsobun.backend.repository;
+
+import com.sobunsobun.backend.domain.PostCategory;
+import com.sobunsobun.backend.domain.PostStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * 게시글-카테고리 매핑 리포지토리
+ */
+@Repository
+public interface PostCategoryRepository extends JpaRepository<PostCategory, Long> {
+
+    /**
+     * 게시글의 카테고리 매핑 전체 삭제 (재색인, 게시글 삭제 시)
+     */
+    @Modifying
+    @Query("DELETE FROM PostCategory pc WHERE pc.post.id = :postId")
+    void deleteByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글 상태 변경 반영
+     */
+    @Modifying
+    @Query("UPDATE PostCategory pc SET pc.status = :status WHERE pc.post.id = :postId")
+    int updateStatusByPostId(@Param("postId") Long postId, @Param("status") PostStatus status);
+
+    /**
+     * 여러 게시글 상태 일괄 변경 반영
+     */
+    @Modifying
+    @Query("UPDATE PostCategory pc SET pc.status = :status WHERE pc.post.id IN :postIds")
+    int updateStatusByPostIds(@Param("postIds") Collection<Long> postIds, @Param("status") PostStatus status);
+}
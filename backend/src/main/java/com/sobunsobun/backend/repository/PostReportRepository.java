@@ -2,11 +2,16 @@ package com.sobunsobun.backend.repository;
 
 import com.sobunsobun.backend.domain.PostReport;
 import com.sobunsobun.backend.domain.ReportStatus;
+import com.sobunsobun.backend.dto.report.ReportStatusCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,9 +24,10 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     Optional<PostReport> findByUserIdAndPostId(Long userId, Long postId);
 
     /**
-     * 특정 게시글에 대한 모든 신고 조회
+     * 특정 게시글에 대한 신고 목록 (페이징, 신고자 / 게시글 함께 조회)
      */
-    List<PostReport> findByPostIdOrderByCreatedAtDesc(Long postId);
+    @EntityGraph(attributePaths = {"user", "post"})
+    Page<PostReport> findByPostIdOrderByCreatedAtDesc(Long postId, Pageable pageable);
 
     /**
      * 사용자가 한 신고 목록 (페이징)
@@ -29,10 +35,25 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     Page<PostReport> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
     /**
-     * 신고 상태별 신고 목록 (페이징)
+     * 신고 상태별 신고 목록 (페이징, 신고자 / 게시글 함께 조회)
      */
+    @EntityGraph(attributePaths = {"user", "post"})
     Page<PostReport> findByStatusOrderByCreatedAtDesc(ReportStatus status, Pageable pageable);
 
+    /**
+     * 처리 대기열 신고 ID (페이징)
+     * (status, created_at) 인덱스만으로 정렬 / 페이징 / 개수 집계를 끝내고, 엔티티는 findAllWithUserAndPostByIdIn으로 조회합니다.
+     */
+    @Query(value = "SELECT r.id FROM PostReport r WHERE r.status IN :statuses ORDER BY r.status, r.createdAt, r.id",
+           countQuery = "SELECT COUNT(r) FROM PostReport r WHERE r.status IN :statuses")
+    Page<Long> findQueueIds(@Param("statuses") Collection<ReportStatus> statuses, Pageable pageable);
+
+    /**
+     * 신고 ID 목록으로 신고자 / 게시글을 함께 조회
+     */
+    @Query("SELECT r FROM PostReport r JOIN FETCH r.user JOIN FETCH r.post WHERE r.id IN :ids")
+    List<PostReport> findAllWithUserAndPostByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 특정 상태의 신고 개수
      */
@@ -44,9 +65,11 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     long countByPostId(Long postId);
 
     /**
-     * 특정 게시글에 대한 신고 상태별 개수
+     * 특정 게시글에 대한 신고 상태별 개수 (GROUP BY 한 번, (post_id, status) 인덱스로 처리)
      */
-    long countByPostIdAndStatus(Long postId, ReportStatus status);
+    @Query("SELECT new com.sobunsobun.backend.dto.report.ReportStatusCount(r.status, COUNT(r)) " +
+           "FROM PostReport r WHERE r.post.id = :postId GROUP BY r.status")
+    List<ReportStatusCount> countByPostIdGroupByStatus(@Param("postId") Long postId);
 
     /**
      * 특정 사용자가 한 모든 게시글 신고 삭제 (회원탈퇴용)
@@ -2,6 +2,7 @@ package com.sobunsobun.backend.repository;
 
 import com.sobunsobun.backend.domain.PostStatus;
 import com.sobunsobun.backend.domain.SavedPost;
+import com.sobunsobun.backend.dto.post.PostStatusCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,6 +22,11 @@ public interface SavedPostRepository extends JpaRepository<SavedPost, Long> {
      */
     Optional<SavedPost> findByUserIdAndPostId(Long userId, Long postId);
 
+    /**
+     * 사용자가 특정 게시글을 저장했는지 여부 (엔티티를 로딩하지 않음)
+     */
+    boolean existsByUserIdAndPostId(Long userId, Long postId);
+
     /**
      * 사용자의 저장된 게시글 목록 (페이징)
      */
@@ -36,6 +42,16 @@ public interface SavedPostRepository extends JpaRepository<SavedPost, Long> {
      */
     long countByPostId(Long postId);
 
+    /**
+     * 사용자가 저장한 게시글의 상태별 개수 (저장 통계용)
+     * 저장 목록을 엔티티로 읽지 않고 DB에서 한 번에 집계
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.post.PostStatusCount(gp.status, COUNT(sp)) " +
+           "FROM SavedPost sp JOIN sp.post gp " +
+           "WHERE sp.user.id = :userId " +
+           "GROUP BY gp.status")
+    List<PostStatusCount> countByUserIdGroupByPostStatus(@Param("userId") Long userId);
+
     /**
      * 사용자가 저장한 게시글 삭제
      */
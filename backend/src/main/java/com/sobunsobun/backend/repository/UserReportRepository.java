@@ -1,9 +1,19 @@
 package com.sobunsobun.backend.repository;
 
+import com.sobunsobun.backend.domain.ReportStatus;
 import com.sobunsobun.backend.domain.UserReport;
+import com.sobunsobun.backend.dto.report.ReportStatusCount;
+import com.sobunsobun.backend.dto.user.UserCount;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserReportRepository extends JpaRepository<UserReport, Long> {
 
@@ -12,4 +22,27 @@ public interface UserReportRepository extends JpaRepository<UserReport, Long> {
 
     /** 특정 사용자가 받은 신고 수 */
     long countByTargetUserId(Long targetUserId);
+
+    /** 사용자 ID 범위 (fromId, toId]의 사용자별 받은 신고 수 (user_stats 재계산용) */
+    @Query("SELECT new com.sobunsobun.backend.dto.user.UserCount(r.targetUser.id, COUNT(r)) " +
+           "FROM UserReport r WHERE r.targetUser.id > :fromId AND r.targetUser.id <= :toId " +
+           "GROUP BY r.targetUser.id")
+    List<UserCount> countByTargetUserIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /** 특정 사용자가 받은 신고 상태별 개수 (GROUP BY 한 번, (target_user_id, status) 인덱스로 처리) */
+    @Query("SELECT new com.sobunsobun.backend.dto.report.ReportStatusCount(r.status, COUNT(r)) " +
+           "FROM UserReport r WHERE r.targetUser.id = :targetUserId GROUP BY r.status")
+    List<ReportStatusCount> countByTargetUserIdGroupByStatus(@Param("targetUserId") Long targetUserId);
+
+    /**
+     * 처리 대기열 신고 ID (페이징)
+     * (status, created_at) 인덱스만으로 정렬 / 페이징 / 개수 집계를 끝내고, 엔티티는 findAllWithUsersByIdIn으로 조회합니다.
+     */
+    @Query(value = "SELECT r.id FROM UserReport r WHERE r.status IN :statuses ORDER BY r.status, r.createdAt, r.id",
+           countQuery = "SELECT COUNT(r) FROM UserReport r WHERE r.status IN :statuses")
+    Page<Long> findQueueIds(@Param("statuses") Collection<ReportStatus> statuses, Pageable pageable);
+
+    /** 신고 ID 목록으로 신고자 / 신고 대상을 함께 조회 */
+    @Query("SELECT r FROM UserReport r JOIN FETCH r.reporter JOIN FETCH r.targetUser WHERE r.id IN :ids")
+    List<UserReport> findAllWithUsersByIdIn(@Param("ids") Collection<Long> ids);
 }
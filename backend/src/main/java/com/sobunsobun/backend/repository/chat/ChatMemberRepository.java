@@ -2,6 +2,7 @@ package com.sobunsobun.backend.repository.chat;
 
 import com.sobunsobun.backend.domain.chat.ChatMember;
 import com.sobunsobun.backend.domain.chat.ChatRoom;
+import com.sobunsobun.backend.dto.user.UserCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -153,6 +154,26 @@ public interface ChatMemberRepository extends JpaRepository<ChatMember, Long> {
     """)
     long countParticipationByUserId(@Param("userId") Long userId);
 
+    /**
+     * 사용자 ID 범위 (fromId, toId]의 사용자별 공동구매 참여 횟수 (user_stats 재계산용)
+     * 조건은 countParticipationByUserId와 같습니다.
+     */
+    @Query("""
+        SELECT new com.sobunsobun.backend.dto.user.UserCount(m.user.id, COUNT(m)) FROM ChatMember m
+        WHERE m.user.id > :fromId AND m.user.id <= :toId
+        AND m.chatRoom.roomType = 'GROUP'
+        AND m.chatRoom.owner.id <> m.user.id
+        AND m.status != 'REVOKED'
+        GROUP BY m.user.id
+    """)
+    List<UserCount> countParticipationByUserIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 특정 사용자가 속한 모든 채팅방 ID 조회 (상태 무관, 회원탈퇴 시 멤버십 캐시 무효화용)
+     */
+    @Query("SELECT m.chatRoom.id FROM ChatMember m WHERE m.user.id = :userId")
+    List<Long> findRoomIdsByUserId(@Param("userId") Long userId);
+
     /**
      * 특정 사용자의 모든 채팅 멤버 정보 삭제 (회원탈퇴용)
      */
@@ -0,0 +1,80 @@
+package com.sobunsobun.backend.repository.chat;
+
+import com.sobunsobun.backend.domain.chat.ChatMessageArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatMessageArchive, Long> {
+
+    /**
+     * 커서 이전 메시지를 포함하는 세그먼트를 최신순으로 조회
+     *
+     * @param roomId 채팅방 ID
+     * @param cursor 이 시각 이전 메시지를 담은 세그먼트만 조회 (null이면 전체)
+     * @param pageable 조회할 세그먼트 수
+     */
+    @Query("""
+        SELECT a FROM ChatMessageArchive a
+        WHERE a.chatRoomId = :roomId
+        AND (:cursor IS NULL OR a.firstCreatedAt < :cursor)
+        ORDER BY a.lastCreatedAt DESC
+    """)
+    List<ChatMessageArchive> findSegmentsBefore(
+            @Param("roomId") Long roomId,
+            @Param("cursor") LocalDateTime cursor,
+            Pageable pageable
+    );
+
+    /**
+     * 채팅방의 세그먼트 ID를 id 오름차순으로 조회 (회원탈퇴 시 메시지 제거용)
+     * payload를 읽지 않으므로 세그먼트 수가 많아도 가볍습니다.
+     *
+     * @param afterId 이 ID 이후 세그먼트만 조회 (첫 페이지는 0)
+     * @param pageable 조회할 세그먼트 수
+     */
+    @Query("""
+        SELECT a.id FROM ChatMessageArchive a
+        WHERE a.chatRoomId = :roomId
+        AND a.id > :afterId
+        ORDER BY a.id
+    """)
+    List<Long> findSegmentIdsAfter(
+            @Param("roomId") Long roomId,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * 세그먼트 1개의 압축 payload만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    @Query("SELECT a.payload FROM ChatMessageArchive a WHERE a.id = :id")
+    byte[] findPayloadById(@Param("id") Long id);
+
+    /**
+     * 세그먼트 내용 교체 (회원탈퇴 시 메시지 제거 후 다시 쓴 payload)
+     */
+    @Modifying
+    @Query("""
+        UPDATE ChatMessageArchive a
+        SET a.payload = :payload, a.rawSize = :rawSize, a.messageCount = :messageCount,
+            a.firstCreatedAt = :firstCreatedAt, a.lastCreatedAt = :lastCreatedAt, a.updatedAt = :updatedAt
+        WHERE a.id = :id
+    """)
+    int rewriteSegment(
+            @Param("id") Long id,
+            @Param("payload") byte[] payload,
+            @Param("rawSize") int rawSize,
+            @Param("messageCount") int messageCount,
+            @Param("firstCreatedAt") LocalDateTime firstCreatedAt,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+}
@@ -76,6 +76,112 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, UUID>
             Pageable pageable
     );
 
+    /**
+     * 델타 동기화: 워터마크 (createdAt, id) 이후의 메시지를 오래된 순으로 조회
+     *
+     * createdAt이 같은 메시지는 id로 순서를 정해 페이지 경계에서 누락/중복이 없도록 합니다.
+     * idx_chat_room_created_at (chat_room_id, created_at, id) 인덱스를 사용합니다.
+     * 응답에 발신자 닉네임/프로필이 포함되므로 sender를 함께 조회합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param createdAt 워터마크 생성 시간
+     * @param lastId 워터마크 메시지 ID
+     * @param pageable 조회 개수 제한
+     * @return 워터마크 이후 메시지 (오름차순)
+     */
+    @Query("""
+        SELECT m FROM ChatMessage m
+        LEFT JOIN FETCH m.sender
+        WHERE m.chatRoom.id = :roomId
+        AND (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.id > :lastId))
+        ORDER BY m.createdAt ASC, m.id ASC
+    """)
+    List<ChatMessage> findMessagesAfterWatermark(
+            @Param("roomId") Long roomId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("lastId") UUID lastId,
+            Pageable pageable
+    );
+
+    // ── 아카이브 (보관 기간이 지난 메시지를 chat_message_archive로 이동) ──
+
+    /**
+     * 기준 시각 이전 메시지가 남아 있는 채팅방 ID 조회 (idx_created_at 사용)
+     */
+    @Query("""
+        SELECT DISTINCT m.chatRoom.id FROM ChatMessage m
+        WHERE m.createdAt < :cutoff
+    """)
+    List<Long> findRoomIdsWithMessagesBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 채팅방에서 기준 시각 이전의 가장 오래된 메시지부터 조회 (아카이브 세그먼트 단위)
+     */
+    @Query("""
+        SELECT m FROM ChatMessage m
+        WHERE m.chatRoom.id = :roomId
+        AND m.createdAt < :cutoff
+        ORDER BY m.createdAt ASC, m.id ASC
+    """)
+    List<ChatMessage> findOldestMessagesBefore(
+            @Param("roomId") Long roomId,
+            @Param("cutoff") LocalDateTime cutoff,
+            Pageable pageable
+    );
+
+    // ── 메시지 전문 검색 (MySQL FULLTEXT ngram 인덱스 ft_chat_message_content 사용) ──
+
+    /**
+     * 채팅방 내 TEXT 메시지 전문 검색 - 관련도순
+     *
+     * MATCH ... AGAINST (BOOLEAN MODE)로 역색인을 사용하므로
+     * LIKE '%키워드%' 전체 스캔 없이 검색합니다. 관련도가 같으면 최신순입니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param query  BOOLEAN MODE 검색식 (서비스에서 정제된 값)
+     */
+    @Query(value = """
+        SELECT m.* FROM chat_message m
+        WHERE m.chat_room_id = :roomId
+        AND m.type = 'TEXT'
+        AND MATCH(m.content) AGAINST(:query IN BOOLEAN MODE)
+        ORDER BY MATCH(m.content) AGAINST(:query IN BOOLEAN MODE) DESC, m.created_at DESC
+    """, countQuery = """
+        SELECT COUNT(*) FROM chat_message m
+        WHERE m.chat_room_id = :roomId
+        AND m.type = 'TEXT'
+        AND MATCH(m.content) AGAINST(:query IN BOOLEAN MODE)
+    """, nativeQuery = true)
+    Page<ChatMessage> searchByRelevance(
+            @Param("roomId") Long roomId,
+            @Param("query") String query,
+            Pageable pageable
+    );
+
+    /**
+     * 채팅방 내 TEXT 메시지 전문 검색 - 최신순
+     *
+     * @param roomId 채팅방 ID
+     * @param query  BOOLEAN MODE 검색식 (서비스에서 정제된 값)
+     */
+    @Query(value = """
+        SELECT m.* FROM chat_message m
+        WHERE m.chat_room_id = :roomId
+        AND m.type = 'TEXT'
+        AND MATCH(m.content) AGAINST(:query IN BOOLEAN MODE)
+        ORDER BY m.created_at DESC
+    """, countQuery = """
+        SELECT COUNT(*) FROM chat_message m
+        WHERE m.chat_room_id = :roomId
+        AND m.type = 'TEXT'
+        AND MATCH(m.content) AGAINST(:query IN BOOLEAN MODE)
+    """, nativeQuery = true)
+    Page<ChatMessage> searchByCreatedAt(
+            @Param("roomId") Long roomId,
+            @Param("query") String query,
+            Pageable pageable
+    );
+
     /**
      * 메시지 readCount 1 증가 (읽음 처리 시 호출)
      *
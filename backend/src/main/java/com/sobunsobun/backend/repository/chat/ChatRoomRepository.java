@@ -4,10 +4,14 @@ import com.sobunsobun.backend.domain.chat.ChatRoom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -64,6 +68,19 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     """)
     Optional<ChatRoom> findByGroupPostId(@Param("groupPostId") Long groupPostId);
 
+    /**
+     * 여러 공동구매 게시글의 단체 채팅방 일괄 조회 (게시글 작성자 fetch)
+     * 마감 스케줄러의 채팅방 안내 메시지 발송에 사용
+     */
+    @Query("""
+        SELECT r FROM ChatRoom r
+        JOIN FETCH r.groupPost p
+        JOIN FETCH p.owner
+        WHERE p.id IN :groupPostIds
+        AND r.roomType = 'GROUP'
+    """)
+    List<ChatRoom> findGroupRoomsByGroupPostIds(@Param("groupPostIds") Collection<Long> groupPostIds);
+
     /**
      * 게시글 ID로 단체 채팅방 조회 + ACTIVE 멤버 fetch
      * 정산 참여자 검증에 사용
@@ -76,4 +93,33 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
         AND r.roomType = 'GROUP'
     """)
     Optional<ChatRoom> findByGroupPostIdWithMembers(@Param("groupPostId") Long groupPostId);
+
+    /**
+     * 채팅방 마지막 메시지 정보 갱신 + message_count 1 증가
+     *
+     * 메시지 발송 시 호출. 엔티티를 멤버 그래프와 함께 로드해 merge하는 대신
+     * 단일 벌크 UPDATE로 처리하여 필요한 컬럼만 갱신한다.
+     *
+     * @param roomId        채팅방 ID
+     * @param lastMessageAt 마지막 메시지 생성 시간
+     * @param preview       마지막 메시지 미리보기
+     * @param senderId      마지막 메시지 발신자 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("""
+        UPDATE ChatRoom r
+        SET r.lastMessageAt = :lastMessageAt,
+            r.lastMessagePreview = :preview,
+            r.lastMessageSenderId = :senderId,
+            r.messageCount = COALESCE(r.messageCount, 0) + 1,
+            r.updatedAt = :lastMessageAt
+        WHERE r.id = :roomId
+    """)
+    int updateLastMessage(
+            @Param("roomId") Long roomId,
+            @Param("lastMessageAt") LocalDateTime lastMessageAt,
+            @Param("preview") String preview,
+            @Param("senderId") Long senderId
+    );
 }
@@ -2,6 +2,7 @@ package com.sobunsobun.backend.repository.search;
 
 import com.sobunsobun.backend.domain.GroupPost;
 import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.dto.post.PostSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,49 +10,101 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 검색 전용 리포지토리
  * 공동구매 게시글 검색 기능 담당
+ *
+ * 검색은 group_post(title, categories, items_text, location_name)의 ngram FULLTEXT 인덱스
+ * (ft_group_post_search, PostFullTextIndexInitializer 참고)로 게시글 ID를 찾고,
+ * 목록 컬럼은 findSummariesByIdIn으로 한 번에 조회합니다.
+ * FULLTEXT는 InnoDB가 INSERT/UPDATE/DELETE 시 함께 갱신하므로 별도 동기화가 필요 없습니다.
  */
 @Repository
 public interface SearchRepository extends JpaRepository<GroupPost, Long> {
 
+    // ── FULLTEXT 검색 (MySQL) ───────────────────────────────────────────────
+    // :query는 BOOLEAN MODE 검색식 (예: +"치킨" +"강남"), :status는 PostStatus 이름
+    // 마감일 필터가 없으면 서비스에서 전체 범위를 전달합니다.
+
     /**
-     * 검색어로 게시글 검색 (OPEN 상태만)
-     * title, categories, itemsText, locationName 중 하나라도 포함되면 검색됨
-     *
-     * @param keyword 검색 키워드
-     * @param pageable 페이징 정보
-     * @return 검색된 게시글 목록 (페이징)
+     * 검색어로 게시글 ID 검색 (관련도순, 같으면 최신순)
      */
-    @Query("SELECT p FROM GroupPost p WHERE " +
-           "(p.title LIKE %:keyword% OR " +
-           "p.categories LIKE %:keyword% OR " +
-           "p.itemsText LIKE %:keyword% OR " +
-           "p.locationName LIKE %:keyword%) " +
-           "AND p.status = com.sobunsobun.backend.domain.PostStatus.OPEN " +
-           "ORDER BY p.createdAt DESC")
-    Page<GroupPost> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = """
+        SELECT p.id FROM group_post p
+        WHERE MATCH(p.title, p.categories, p.items_text, p.location_name) AGAINST(:query IN BOOLEAN MODE)
+        AND p.status = :status
+        AND p.deadline_at BETWEEN :deadlineFrom AND :deadlineTo
+        ORDER BY MATCH(p.title, p.categories, p.items_text, p.location_name) AGAINST(:query IN BOOLEAN MODE) DESC,
+                 p.created_at DESC
+    """, countQuery = """
+        SELECT COUNT(*) FROM group_post p
+        WHERE MATCH(p.title, p.categories, p.items_text, p.location_name) AGAINST(:query IN BOOLEAN MODE)
+        AND p.status = :status
+        AND p.deadline_at BETWEEN :deadlineFrom AND :deadlineTo
+    """, nativeQuery = true)
+    Page<Long> searchIdsByRelevance(@Param("query") String query,
+                                    @Param("status") String status,
+                                    @Param("deadlineFrom") LocalDateTime deadlineFrom,
+                                    @Param("deadlineTo") LocalDateTime deadlineTo,
+                                    Pageable pageable);
 
     /**
-     * 검색어로 게시글 검색 (마감임박순, OPEN 상태만)
-     * title, categories, itemsText, locationName 중 하나라도 포함되면 검색됨
-     *
-     * @param keyword 검색 키워드
-     * @param pageable 페이징 정보
-     * @return 검색된 게시글 목록 (페이징)
+     * 검색어로 게시글 ID 검색 (최신순)
+     */
+    @Query(value = """
+        SELECT p.id FROM group_post p
+        WHERE MATCH(p.title, p.categories, p.items_text, p.location_name) AGAINST(:query IN BOOLEAN MODE)
+        AND p.status = :status
+        AND p.deadline_at BETWEEN :deadlineFrom AND :deadlineTo
+        ORDER BY p.created_at DESC
+    """, countQuery = """
+        SELECT COUNT(*) FROM group_post p
+        WHERE MATCH(p.title, p.categories, p.items_text, p.location_name) AGAINST(:query IN BOOLEAN MODE)
+        AND p.status = :status
+        AND p.deadline_at BETWEEN :deadlineFrom AND :deadlineTo
+    """, nativeQuery = true)
+    Page<Long> searchIdsOrderByCreatedAt(@Param("query") String query,
+                                         @Param("status") String status,
+                                         @Param("deadlineFrom") LocalDateTime deadlineFrom,
+                                         @Param("deadlineTo") LocalDateTime deadlineTo,
+                                         Pageable pageable);
+
+    /**
+     * 검색어로 게시글 ID 검색 (마감임박순)
      */
-    @Query("SELECT p FROM GroupPost p WHERE " +
-           "(p.title LIKE %:keyword% OR " +
-           "p.categories LIKE %:keyword% OR " +
-           "p.itemsText LIKE %:keyword% OR " +
-           "p.locationName LIKE %:keyword%) " +
-           "AND p.status = com.sobunsobun.backend.domain.PostStatus.OPEN " +
-           "ORDER BY p.deadlineAt ASC")
-    Page<GroupPost> searchByKeywordOrderByDeadline(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = """
+        SELECT p.id FROM group_post p
+        WHERE MATCH(p.title, p.categories, p.items_text, p.location_name) AGAINST(:query IN BOOLEAN MODE)
+        AND p.status = :status
+        AND p.deadline_at BETWEEN :deadlineFrom AND :deadlineTo
+        ORDER BY p.deadline_at ASC
+    """, countQuery = """
+        SELECT COUNT(*) FROM group_post p
+        WHERE MATCH(p.title, p.categories, p.items_text, p.location_name) AGAINST(:query IN BOOLEAN MODE)
+        AND p.status = :status
+        AND p.deadline_at BETWEEN :deadlineFrom AND :deadlineTo
+    """, nativeQuery = true)
+    Page<Long> searchIdsOrderByDeadline(@Param("query") String query,
+                                        @Param("status") String status,
+                                        @Param("deadlineFrom") LocalDateTime deadlineFrom,
+                                        @Param("deadlineTo") LocalDateTime deadlineTo,
+                                        Pageable pageable);
 
     /**
-     * 특정 상태의 게시글만 검색
+     * 검색된 게시글 ID의 목록 컬럼 조회 (순서는 서비스에서 ID 순서대로 복원)
+     */
+    @Query("SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ── LIKE 검색 (폴백) ────────────────────────────────────────────────────
+    // ngram 토큰(2글자)보다 짧은 검색어(예: "쌀")는 FULLTEXT로 찾을 수 없으므로 LIKE로 검색합니다.
+
+    /**
+     * 특정 상태의 게시글 검색 (최신순)
      * title, categories, itemsText, locationName 중 하나라도 포함되면 검색됨
      *
      * @param keyword 검색 키워드
@@ -59,19 +112,29 @@ public interface SearchRepository extends JpaRepository<GroupPost, Long> {
      * @param pageable 페이징 정보
      * @return 검색된 게시글 목록 (페이징)
      */
-    @Query("SELECT p FROM GroupPost p WHERE " +
-           "(p.title LIKE %:keyword% OR " +
-           "p.categories LIKE %:keyword% OR " +
-           "p.itemsText LIKE %:keyword% OR " +
-           "p.locationName LIKE %:keyword%) " +
-           "AND p.status = :status " +
-           "ORDER BY p.createdAt DESC")
-    Page<GroupPost> searchByKeywordAndStatus(@Param("keyword") String keyword,
+    @Query(value = "SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o WHERE " +
+                   "(p.title LIKE %:keyword% OR " +
+                   "p.categories LIKE %:keyword% OR " +
+                   "p.itemsText LIKE %:keyword% OR " +
+                   "p.locationName LIKE %:keyword%) " +
+                   "AND p.status = :status " +
+                   "AND p.deadlineAt BETWEEN :deadlineFrom AND :deadlineTo " +
+                   "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM GroupPost p WHERE " +
+                        "(p.title LIKE %:keyword% OR " +
+                        "p.categories LIKE %:keyword% OR " +
+                        "p.itemsText LIKE %:keyword% OR " +
+                        "p.locationName LIKE %:keyword%) " +
+                        "AND p.status = :status " +
+                        "AND p.deadlineAt BETWEEN :deadlineFrom AND :deadlineTo")
+    Page<PostSummary> searchByKeywordAndStatus(@Param("keyword") String keyword,
                                               @Param("status") PostStatus status,
+                                              @Param("deadlineFrom") LocalDateTime deadlineFrom,
+                                              @Param("deadlineTo") LocalDateTime deadlineTo,
                                               Pageable pageable);
 
     /**
-     * 특정 상태의 게시글만 검색 (마감임박순)
+     * 특정 상태의 게시글 검색 (마감임박순)
      * title, categories, itemsText, locationName 중 하나라도 포함되면 검색됨
      *
      * @param keyword 검색 키워드
@@ -79,15 +142,24 @@ public interface SearchRepository extends JpaRepository<GroupPost, Long> {
      * @param pageable 페이징 정보
      * @return 검색된 게시글 목록 (페이징)
      */
-    @Query("SELECT p FROM GroupPost p WHERE " +
-           "(p.title LIKE %:keyword% OR " +
-           "p.categories LIKE %:keyword% OR " +
-           "p.itemsText LIKE %:keyword% OR " +
-           "p.locationName LIKE %:keyword%) " +
-           "AND p.status = :status " +
-           "ORDER BY p.deadlineAt ASC")
-    Page<GroupPost> searchByKeywordAndStatusOrderByDeadline(@Param("keyword") String keyword,
+    @Query(value = "SELECT " + PostSummary.SELECT + " FROM GroupPost p JOIN p.owner o WHERE " +
+                   "(p.title LIKE %:keyword% OR " +
+                   "p.categories LIKE %:keyword% OR " +
+                   "p.itemsText LIKE %:keyword% OR " +
+                   "p.locationName LIKE %:keyword%) " +
+                   "AND p.status = :status " +
+                   "AND p.deadlineAt BETWEEN :deadlineFrom AND :deadlineTo " +
+                   "ORDER BY p.deadlineAt ASC",
+           countQuery = "SELECT COUNT(p) FROM GroupPost p WHERE " +
+                        "(p.title LIKE %:keyword% OR " +
+                        "p.categories LIKE %:keyword% OR " +
+                        "p.itemsText LIKE %:keyword% OR " +
+                        "p.locationName LIKE %:keyword%) " +
+                        "AND p.status = :status " +
+                        "AND p.deadlineAt BETWEEN :deadlineFrom AND :deadlineTo")
+    Page<PostSummary> searchByKeywordAndStatusOrderByDeadline(@Param("keyword") String keyword,
                                                              @Param("status") PostStatus status,
+                                                             @Param("deadlineFrom") LocalDateTime deadlineFrom,
+                                                             @Param("deadlineTo") LocalDateTime deadlineTo,
                                                              Pageable pageable);
 }
-
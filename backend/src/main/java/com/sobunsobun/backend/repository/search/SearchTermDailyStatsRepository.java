@@ -0,0 +1,80 @@
+package com.sobunsobun.backend.repository.search;
+
+import com.sobunsobun.backend.domain.SearchTermDailyStats;
+import com.sobunsobun.backend.dto.search.SearchTermWeight;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 추천 검색어 단어 빈도 통계 Repository
+ */
+public interface SearchTermDailyStatsRepository extends JpaRepository<SearchTermDailyStats, Long> {
+
+    /**
+     * 단어 빈도 UPSERT
+     *
+     * UNIQUE(bucket_date, term) 제약 조건을 기준으로 동작:
+     * - 해당 (bucket_date, term) 행이 없으면 count=delta로 INSERT
+     * - 이미 있으면 count에 delta를 더함 (게시글 마감/수정 시 음수)
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO search_term_daily_stats (bucket_date, term, count) " +
+                "VALUES (:bucketDate, :term, :delta) " +
+                "ON DUPLICATE KEY UPDATE count = count + :delta",
+        nativeQuery = true
+    )
+    void upsertCount(@Param("bucketDate") LocalDate bucketDate,
+                     @Param("term") String term,
+                     @Param("delta") int delta);
+
+    /**
+     * 기간 내 빈도 상위 단어 조회 (빈도 내림차순)
+     */
+    @Query("SELECT s.term FROM SearchTermDailyStats s " +
+           "WHERE s.bucketDate >= :from " +
+           "GROUP BY s.term HAVING SUM(s.count) > 0 " +
+           "ORDER BY SUM(s.count) DESC, s.term ASC")
+    List<String> findTopTerms(@Param("from") LocalDate from, Pageable pageable);
+
+    /**
+     * 기간 내 키워드를 포함하는 빈도 상위 단어 조회 (빈도 내림차순)
+     */
+    @Query("SELECT s.term FROM SearchTermDailyStats s " +
+           "WHERE s.bucketDate >= :from AND s.term LIKE CONCAT('%', :keyword, '%') " +
+           "GROUP BY s.term HAVING SUM(s.count) > 0 " +
+           "ORDER BY SUM(s.count) DESC, s.term ASC")
+    List<String> findTopTermsContaining(@Param("keyword") String keyword,
+                                        @Param("from") LocalDate from,
+                                        Pageable pageable);
+
+    /**
+     * 기간 내 단어별 빈도 합계 조회 (빈도 내림차순, 자동완성 인덱스 구축용)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.search.SearchTermWeight(s.term, SUM(s.count)) " +
+           "FROM SearchTermDailyStats s " +
+           "WHERE s.bucketDate >= :from " +
+           "GROUP BY s.term HAVING SUM(s.count) > 0 " +
+           "ORDER BY SUM(s.count) DESC, s.term ASC")
+    List<SearchTermWeight> findTermWeights(@Param("from") LocalDate from, Pageable pageable);
+
+    /**
+     * 특정 날짜 이후 버킷 삭제 (재집계용)
+     */
+    @Modifying
+    @Query("DELETE FROM SearchTermDailyStats s WHERE s.bucketDate >= :from")
+    int deleteByBucketDateFrom(@Param("from") LocalDate from);
+
+    /**
+     * 보관 기간이 지난 버킷과 빈도가 0 이하인 행 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM SearchTermDailyStats s WHERE s.bucketDate < :before OR s.count <= 0")
+    int deleteExpired(@Param("before") LocalDate before);
+}
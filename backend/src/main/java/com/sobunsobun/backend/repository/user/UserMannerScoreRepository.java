@@ -0,0 +1,45 @@
+package com.sobunsobun.backend.repository.user;
+
+import com.sobunsobun.backend.domain.UserMannerScore;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 유저 매너 점수 누적 집계 리포지토리
+ */
+@Repository
+public interface UserMannerScoreRepository extends JpaRepository<UserMannerScore, Long> {
+
+    /**
+     * 평가 대상들의 집계 행을 쓰기 잠금으로 조회 (증분 갱신용)
+     *
+     * 같은 사용자에 대한 평가가 동시에 제출되어도 감쇠 + 누적이 순서대로 반영되도록 행 잠금(FOR UPDATE)을 겁니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserMannerScore s WHERE s.userId IN :userIds")
+    List<UserMannerScore> findAllForUpdate(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 사용자 ID 범위 (fromId, toId]의 집계 행을 쓰기 잠금으로 조회 (재집계용)
+     *
+     * 재집계 도중 들어온 증분 갱신이 재집계 결과에 덮어써지지 않도록, 평가 행을 읽기 전에 먼저 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserMannerScore s WHERE s.userId > :fromId AND s.userId <= :toId")
+    List<UserMannerScore> findByUserIdRangeForUpdate(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 회원 탈퇴 시 집계 행 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM UserMannerScore s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -2,10 +2,15 @@ package com.sobunsobun.backend.repository.user;
 
 import com.sobunsobun.backend.domain.User;
 import com.sobunsobun.backend.domain.UserStatus;
+import com.sobunsobun.backend.dto.manner.UserMannerScoreValue;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,4 +70,50 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 정리 대상 사용자 목록
      */
     List<User> findByStatusAndReactivatableAtBefore(UserStatus status, LocalDateTime dateTime);
+
+    // ── 댓글 수 (comment_count) ─────────────────────────────────────────────
+
+    /**
+     * 작성한 활성 댓글 수 조회
+     */
+    @Query("SELECT u.commentCount FROM User u WHERE u.id = :userId")
+    Optional<Integer> findCommentCountById(@Param("userId") Long userId);
+
+    /**
+     * 작성한 활성 댓글 수 원자적 증감 (댓글 작성 +1, 삭제 -1)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.commentCount = u.commentCount + :delta WHERE u.id = :userId")
+    int addCommentCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    /**
+     * 지정한 사용자들의 댓글 수를 comment 테이블 기준으로 다시 계산 (회원 탈퇴로 댓글이 일괄 삭제된 경우)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.commentCount = " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.user.id = u.id AND c.deleted = false) " +
+           "WHERE u.id IN :userIds")
+    int recountCommentCounts(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * ID 범위 (fromId, toId]에서 댓글 수가 실제와 다른 사용자만 보정 (정합성 점검 스케줄러용)
+     *
+     * @return 보정한 사용자 수
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.commentCount = " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.user.id = u.id AND c.deleted = false) " +
+           "WHERE u.id > :fromId AND u.id <= :toId " +
+           "AND u.commentCount <> (SELECT COUNT(c2) FROM Comment c2 WHERE c2.user.id = u.id AND c2.deleted = false)")
+    int repairCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    long findMaxId();
+
+    /**
+     * 사용자들의 현재 매너 점수 조회 (매너 점수 재집계용)
+     */
+    @Query("SELECT new com.sobunsobun.backend.dto.manner.UserMannerScoreValue(u.id, u.mannerScore) " +
+           "FROM User u WHERE u.id IN :userIds")
+    List<UserMannerScoreValue> findMannerScoresByIdIn(@Param("userIds") Collection<Long> userIds);
 }
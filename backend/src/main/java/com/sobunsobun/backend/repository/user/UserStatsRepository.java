@@ -0,0 +1,30 @@
+package com.sobunsobun.backend.repository.user;
+
+import com.sobunsobun.backend.domain.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 유저 프로필 통계 리포지토리
+ */
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    /**
+     * 사용자 ID 범위 (fromId, toId]의 통계 행 (정합성 점검용)
+     */
+    @Query("SELECT s FROM UserStats s WHERE s.userId > :fromId AND s.userId <= :toId")
+    List<UserStats> findByUserIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 회원 탈퇴 시 통계 행 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM UserStats s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
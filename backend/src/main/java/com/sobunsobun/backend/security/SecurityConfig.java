@@ -199,6 +199,10 @@ public class SecurityConfig {
                     // 댓글 조회: 공개 (GET /api/posts/{postId}/comments)
                     .requestMatchers(HttpMethod.GET, "/api/posts/{postId}/comments").permitAll()
 
+                    // 댓글 페이지 / 대댓글 더보기 조회: 공개
+                    .requestMatchers(HttpMethod.GET, "/api/posts/{postId}/comments/page").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/comments/{commentId}/replies").permitAll()
+
                     // 댓글 작성: 인증 필수 (POST /api/posts/{postId}/comments)
                     .requestMatchers(HttpMethod.POST, "/api/posts/{postId}/comments").authenticated()
 
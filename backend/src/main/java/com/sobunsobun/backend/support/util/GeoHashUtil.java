@@ -0,0 +1,158 @@
+package com.sobunsobun.backend.support.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 지오해시 / 거리 계산 유틸리티
+ *
+ * 위도·경도를 Base32 지오해시 문자열로 인코딩하여 group_post.geohash 컬럼에 저장합니다.
+ * 가까운 지점은 같은 접두사를 공유하므로, 반경 검색은 반경을 덮는 셀 몇 개의
+ * 접두사 범위(geohash >= 'wydm6' AND geohash < 'wydm7')를 B-Tree 인덱스로 조회하는 것으로 바뀝니다.
+ */
+public class GeoHashUtil {
+
+    /** 저장 정밀도 (9자리 ≈ 4.8m × 4.8m) */
+    public static final int STORED_PRECISION = 9;
+
+    /** 지구 반지름 (미터, 주변 게시글 쿼리의 거리 식과 공유) */
+    public static final double EARTH_RADIUS_METERS = 6_371_000d;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private GeoHashUtil() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * 위도·경도를 지오해시로 인코딩
+     * 예: (37.4979, 127.0276) → "wydm6..."
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder sb = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        while (sb.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                sb.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 중심에서 반경 radiusMeters 원을 덮는 지오해시 셀 목록
+     *
+     * 셀 크기가 반경 이상인 가장 작은 셀(최대 STORED_PRECISION자리)을 골라 중심 셀과 주변 8개 셀을 반환합니다.
+     * 원은 중심 셀에서 한 칸 이상 벗어나지 않으므로 9개 셀이 원 전체를 덮습니다.
+     */
+    public static List<String> coveringCells(double latitude, double longitude, double radiusMeters) {
+        double radiusLat = latitudeDelta(radiusMeters);
+        double radiusLon = longitudeDelta(latitude, radiusMeters);
+
+        int precision = 1;
+        for (int p = STORED_PRECISION; p >= 1; p--) {
+            if (cellHeight(p) >= radiusLat && cellWidth(p) >= radiusLon) {
+                precision = p;
+                break;
+            }
+        }
+
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dy = -1; dy <= 1; dy++) {
+            double lat = latitude + dy * height;
+            if (lat > 90 || lat < -90) {
+                continue;
+            }
+            for (int dx = -1; dx <= 1; dx++) {
+                cells.add(encode(lat, wrapLongitude(longitude + dx * width), precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    /**
+     * 접두사 범위 조회의 상한 (prefix 다음 문자열, 미포함)
+     * 예: "wydm6" → "wydm7", "wydmz" → "wydm{"
+     */
+    public static String prefixUpperBound(String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+
+    /**
+     * 두 지점 사이 거리 (미터, 하버사인 공식)
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 반경 거리에 해당하는 위도 차 (도)
+     */
+    public static double latitudeDelta(double radiusMeters) {
+        return Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+    }
+
+    /**
+     * 주어진 위도에서 반경 거리에 해당하는 경도 차 (도)
+     */
+    public static double longitudeDelta(double latitude, double radiusMeters) {
+        double cos = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        return Math.min(180, latitudeDelta(radiusMeters) / cos);
+    }
+
+    private static double cellHeight(int precision) {
+        int latBits = precision * 5 / 2;
+        return 180d / (1L << latBits);
+    }
+
+    private static double cellWidth(int precision) {
+        int lonBits = precision * 5 - precision * 5 / 2;
+        return 360d / (1L << lonBits);
+    }
+
+    private static double wrapLongitude(double longitude) {
+        if (longitude > 180) {
+            return longitude - 360;
+        }
+        if (longitude < -180) {
+            return longitude + 360;
+        }
+        return longitude;
+    }
+}
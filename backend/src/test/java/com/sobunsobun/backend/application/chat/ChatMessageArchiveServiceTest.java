@@ -0,0 +1,143 @@
+package com.sobunsobun.backend.application.chat;
+
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.domain.chat.ChatMessage;
+import com.sobunsobun.backend.domain.chat.ChatMessageArchive;
+import com.sobunsobun.backend.domain.chat.ChatMessageType;
+import com.sobunsobun.backend.domain.chat.ChatRoom;
+import com.sobunsobun.backend.repository.chat.ChatMessageArchiveRepository;
+import com.sobunsobun.backend.repository.chat.ChatMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ChatMessageArchiveService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageArchiveService 테스트")
+class ChatMessageArchiveServiceTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long SEGMENT_ID = 7L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+    @InjectMocks
+    private ChatMessageArchiveService chatMessageArchiveService;
+
+    private List<ChatMessage> oldMessages;
+
+    @BeforeEach
+    void setUp() {
+        ChatRoom room = ChatRoom.builder().id(ROOM_ID).build();
+        User alice = User.builder().id(10L).build();
+        User bob = User.builder().id(20L).build();
+
+        oldMessages = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ChatMessage message = ChatMessage.builder()
+                    .id(UUID.randomUUID())
+                    .chatRoom(room)
+                    .sender(i % 2 == 0 ? alice : bob)
+                    .type(ChatMessageType.TEXT)
+                    .content("메시지 " + i)
+                    .readCount(1)
+                    .build();
+            ReflectionTestUtils.setField(message, "createdAt", BASE_TIME.plusMinutes(i));
+            oldMessages.add(message);
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트로 옮긴 메시지는 hot 테이블에서 삭제되고 압축 해제 후 그대로 조회된다")
+    void testArchiveAndRead() {
+        // Given
+        LocalDateTime cutoff = BASE_TIME.plusDays(1);
+        when(chatMessageRepository.findOldestMessagesBefore(eq(ROOM_ID), eq(cutoff), any(Pageable.class)))
+                .thenReturn(oldMessages);
+
+        // When
+        ChatMessageArchiveService.SegmentResult result = chatMessageArchiveService.archiveNextSegment(ROOM_ID, cutoff);
+
+        // Then
+        ArgumentCaptor<ChatMessageArchive> captor = ArgumentCaptor.forClass(ChatMessageArchive.class);
+        verify(chatMessageArchiveRepository).save(captor.capture());
+        verify(chatMessageRepository).deleteAllByIdInBatch(oldMessages.stream().map(ChatMessage::getId).toList());
+
+        ChatMessageArchive segment = captor.getValue();
+        assertThat(result.messageCount()).isEqualTo(5);
+        assertThat(segment.getMessageCount()).isEqualTo(5);
+        assertThat(segment.getFirstCreatedAt()).isEqualTo(BASE_TIME);
+        assertThat(segment.getLastCreatedAt()).isEqualTo(BASE_TIME.plusMinutes(4));
+        assertThat(segment.getPayload().length).isEqualTo(result.compressedSize());
+
+        // When: 세 번째 메시지 이전부터 2개 조회
+        when(chatMessageArchiveRepository.findSegmentsBefore(eq(ROOM_ID), any(), any(Pageable.class)))
+                .thenReturn(List.of(segment))
+                .thenReturn(List.of());
+        List<ChatMessageArchiveService.ArchivedMessage> archived =
+                chatMessageArchiveService.findMessagesBefore(ROOM_ID, BASE_TIME.plusMinutes(3), 2);
+
+        // Then: 최신순, 커서 이전, 마이크로초 정밀도 유지
+        assertThat(archived).extracting(ChatMessageArchiveService.ArchivedMessage::content)
+                .containsExactly("메시지 2", "메시지 1");
+        assertThat(archived.get(0).id()).isEqualTo(oldMessages.get(2).getId());
+        assertThat(archived.get(0).senderId()).isEqualTo(10L);
+        assertThat(archived.get(0).createdAt()).isEqualTo(BASE_TIME.plusMinutes(2));
+    }
+
+    @Test
+    @DisplayName("탈퇴 사용자의 메시지는 아카이브 세그먼트에서도 제거된다")
+    void testPurgeSender() {
+        // Given
+        LocalDateTime cutoff = BASE_TIME.plusDays(1);
+        when(chatMessageRepository.findOldestMessagesBefore(eq(ROOM_ID), eq(cutoff), any(Pageable.class)))
+                .thenReturn(oldMessages);
+        chatMessageArchiveService.archiveNextSegment(ROOM_ID, cutoff);
+
+        ArgumentCaptor<ChatMessageArchive> captor = ArgumentCaptor.forClass(ChatMessageArchive.class);
+        verify(chatMessageArchiveRepository).save(captor.capture());
+        ChatMessageArchive segment = captor.getValue();
+        when(chatMessageArchiveRepository.findSegmentIdsAfter(eq(ROOM_ID), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(SEGMENT_ID));
+        when(chatMessageArchiveRepository.findPayloadById(SEGMENT_ID)).thenReturn(segment.getPayload());
+
+        // When
+        chatMessageArchiveService.purgeSender(20L, List.of(ROOM_ID));
+
+        // Then: 세그먼트를 엔티티로 올리지 않고 UPDATE 쿼리로 다시 씀
+        ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+        verify(chatMessageArchiveRepository).rewriteSegment(eq(SEGMENT_ID), payload.capture(), anyInt(), eq(3),
+                eq(BASE_TIME), eq(BASE_TIME.plusMinutes(4)), any(LocalDateTime.class));
+        segment.setPayload(payload.getValue());
+        when(chatMessageArchiveRepository.findSegmentsBefore(eq(ROOM_ID), any(), any(Pageable.class)))
+                .thenReturn(List.of(segment))
+                .thenReturn(List.of());
+        assertThat(chatMessageArchiveService.findMessagesBefore(ROOM_ID, null, 10))
+                .extracting(ChatMessageArchiveService.ArchivedMessage::senderId)
+                .containsOnly(10L)
+                .hasSize(3);
+    }
+}
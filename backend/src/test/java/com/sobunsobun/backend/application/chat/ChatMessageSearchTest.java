@@ -0,0 +1,142 @@
+package com.sobunsobun.backend.application.chat;
+
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.domain.chat.ChatMember;
+import com.sobunsobun.backend.domain.chat.ChatMessage;
+import com.sobunsobun.backend.domain.chat.ChatMessageType;
+import com.sobunsobun.backend.domain.chat.ChatRoom;
+import com.sobunsobun.backend.dto.chat.ChatMessageSearchResponse;
+import com.sobunsobun.backend.dto.chat.PageResponse;
+import com.sobunsobun.backend.infrastructure.redis.ChatMembershipCache;
+import com.sobunsobun.backend.repository.chat.ChatMemberRepository;
+import com.sobunsobun.backend.repository.chat.ChatMessageRepository;
+import com.sobunsobun.backend.support.exception.ChatException;
+import com.sobunsobun.backend.support.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 채팅방 메시지 전문 검색 (searchMessages) 단위 테스트
+ *
+ * FULLTEXT 인덱스는 커밋된 행만 검색하므로 쿼리는 목으로 대체하고,
+ * 검색식 정제 / 정렬 선택 / 응답 구성만 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("채팅 메시지 검색 테스트")
+class ChatMessageSearchTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Long ROOM_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMemberRepository chatMemberRepository;
+
+    @Mock
+    private ChatMembershipCache chatMembershipCache;
+
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    private ChatMessage hit;
+
+    @BeforeEach
+    void setUp() {
+        ChatRoom room = ChatRoom.builder().id(ROOM_ID).build();
+        hit = ChatMessage.builder()
+                .id(UUID.randomUUID())
+                .chatRoom(room)
+                .sender(User.builder().id(20L).nickname("보낸사람").build())
+                .type(ChatMessageType.TEXT)
+                .content("내일 코스트코 장보기")
+                .readCount(1)
+                .build();
+        ReflectionTestUtils.setField(hit, "createdAt", BASE_TIME);
+
+        lenient().when(chatMembershipCache.isActiveMember(ROOM_ID, USER_ID)).thenReturn(true);
+        lenient().when(chatMemberRepository.findMember(ROOM_ID, USER_ID)).thenReturn(Optional.of(
+                ChatMember.builder().lastReadAt(BASE_TIME).build()));
+    }
+
+    @Test
+    @DisplayName("검색어는 연산자를 제거하고 두 글자 이상 단어만 모두 포함하는 BOOLEAN MODE 식으로 바뀐다")
+    void testBooleanModeQuery() {
+        // Given
+        when(chatMessageRepository.searchByRelevance(eq(ROOM_ID), anyString(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(hit), PageRequest.of(0, 20), 1));
+
+        // When
+        chatMessageService.searchMessages(ROOM_ID, USER_ID, " 코스트코  -장보기* a \"내일\" ", false, 0, 20);
+
+        // Then
+        verify(chatMessageRepository).searchByRelevance(ROOM_ID, "+\"코스트코\" +\"장보기\" +\"내일\"", PageRequest.of(0, 20));
+        verify(chatMessageRepository, never()).searchByCreatedAt(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("최신순 검색 결과에는 읽음 여부와 해당 메시지를 포함하는 jumpCursor가 담긴다")
+    void testSearchByTime() {
+        // Given
+        when(chatMessageRepository.searchByCreatedAt(eq(ROOM_ID), eq("+\"코스트코\""), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(hit), PageRequest.of(0, 20), 1));
+
+        // When
+        PageResponse<ChatMessageSearchResponse> response =
+                chatMessageService.searchMessages(ROOM_ID, USER_ID, "코스트코", true, 0, 20);
+
+        // Then
+        assertThat(response.getTotalElements()).isEqualTo(1);
+        ChatMessageSearchResponse result = response.getContent().get(0);
+        assertThat(result.getMessage().getId()).isEqualTo(hit.getId());
+        assertThat(result.getMessage().getNickname()).isEqualTo("보낸사람");
+        assertThat(result.getMessage().getReadByMe()).isTrue();
+        // 커서 조회는 createdAt < cursor 조건이므로 검색된 메시지가 첫 결과로 포함되어야 함
+        assertThat(LocalDateTime.parse(result.getJumpCursor())).isEqualTo(BASE_TIME.plusNanos(1_000));
+    }
+
+    @Test
+    @DisplayName("유효한 단어가 없거나 너무 긴 검색어는 거부된다")
+    void testInvalidQuery() {
+        assertThatThrownBy(() -> chatMessageService.searchMessages(ROOM_ID, USER_ID, "a + -", false, 0, 20))
+                .isInstanceOfSatisfying(ChatException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_SEARCH_QUERY));
+        assertThatThrownBy(() -> chatMessageService.searchMessages(ROOM_ID, USER_ID, "가".repeat(101), false, 0, 20))
+                .isInstanceOfSatisfying(ChatException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_SEARCH_QUERY));
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    @Test
+    @DisplayName("채팅방 멤버가 아니면 검색할 수 없다")
+    void testNonMemberDenied() {
+        // Given
+        when(chatMembershipCache.isActiveMember(ROOM_ID, 99L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> chatMessageService.searchMessages(ROOM_ID, 99L, "코스트코", false, 0, 20))
+                .isInstanceOfSatisfying(ChatException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CHAT_ROOM_ACCESS_DENIED));
+        verifyNoInteractions(chatMessageRepository);
+    }
+}
@@ -0,0 +1,184 @@
+package com.sobunsobun.backend.application.chat;
+
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.domain.chat.ChatMember;
+import com.sobunsobun.backend.domain.chat.ChatMessage;
+import com.sobunsobun.backend.domain.chat.ChatMessageType;
+import com.sobunsobun.backend.domain.chat.ChatRoom;
+import com.sobunsobun.backend.dto.chat.ChatMessageDto;
+import com.sobunsobun.backend.dto.chat.ChatSyncRequest;
+import com.sobunsobun.backend.dto.chat.ChatSyncResponse;
+import com.sobunsobun.backend.repository.chat.ChatMemberRepository;
+import com.sobunsobun.backend.repository.chat.ChatMessageRepository;
+import com.sobunsobun.backend.support.exception.ChatException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 메시지 델타 동기화 (syncMessages) 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("메시지 델타 동기화 테스트")
+class ChatMessageSyncTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Long ROOM_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMemberRepository chatMemberRepository;
+
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    private ChatRoom room;
+    private User sender;
+    private List<ChatMessage> messages;
+
+    @BeforeEach
+    void setUp() {
+        room = ChatRoom.builder().id(ROOM_ID).build();
+        sender = User.builder().id(20L).nickname("보낸사람").profileImageUrl("https://img/20.png").build();
+
+        messages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ChatMessage message = ChatMessage.builder()
+                    .id(UUID.randomUUID())
+                    .chatRoom(room)
+                    .sender(sender)
+                    .type(ChatMessageType.TEXT)
+                    .content("메시지 " + i)
+                    .readCount(0)
+                    .build();
+            ReflectionTestUtils.setField(message, "createdAt", BASE_TIME.plusMinutes(i + 1));
+            messages.add(message);
+        }
+
+        // 첫 번째 메시지까지 읽음
+        ChatMember member = ChatMember.builder()
+                .chatRoom(room)
+                .lastReadAt(BASE_TIME.plusMinutes(1))
+                .build();
+        lenient().when(chatMemberRepository.findChatRoomsByUserId(USER_ID)).thenReturn(List.of(member));
+    }
+
+    @Test
+    @DisplayName("워터마크 이후 메시지를 오래된 순으로 반환하고 워터마크를 마지막 메시지로 갱신한다")
+    void testSyncAfterWatermark() {
+        // Given
+        UUID watermarkId = UUID.randomUUID();
+        when(chatMessageRepository.findMessagesAfterWatermark(ROOM_ID, BASE_TIME, watermarkId, PageRequest.of(0, 51)))
+                .thenReturn(messages);
+
+        // When
+        ChatSyncResponse response = chatMessageService.syncMessages(USER_ID,
+                request(BASE_TIME.toString(), watermarkId.toString(), null));
+
+        // Then
+        ChatSyncResponse.RoomSync roomSync = response.getRooms().get(0);
+        assertThat(roomSync.getMessages()).extracting(ChatMessageDto::getContent)
+                .containsExactly("메시지 0", "메시지 1", "메시지 2");
+        assertThat(roomSync.getMessages()).extracting(ChatMessageDto::getReadByMe)
+                .containsExactly(true, false, false);
+        assertThat(roomSync.getLastMessageId()).isEqualTo(messages.get(2).getId().toString());
+        assertThat(LocalDateTime.parse(roomSync.getLastCreatedAt())).isEqualTo(messages.get(2).getCreatedAt());
+        assertThat(roomSync.isHasMore()).isFalse();
+        assertThat(response.isHasMore()).isFalse();
+
+        ChatMessageDto first = roomSync.getMessages().get(0);
+        assertThat(first.getSenderId()).isEqualTo(20L);
+        assertThat(first.getNickname()).isEqualTo("보낸사람");
+        assertThat(first.getProfileImage()).isEqualTo("https://img/20.png");
+        assertThat(first.getCreatedAt()).isEqualTo("2025-01-01T12:01:00+09:00");
+    }
+
+    @Test
+    @DisplayName("한도보다 많이 남아 있으면 한도만큼만 반환하고 hasMore가 true이다")
+    void testSyncHasMore() {
+        // Given
+        when(chatMessageRepository.findMessagesAfterWatermark(eq(ROOM_ID), eq(BASE_TIME), any(UUID.class),
+                eq(PageRequest.of(0, 3)))).thenReturn(messages);
+
+        // When
+        ChatSyncResponse response = chatMessageService.syncMessages(USER_ID,
+                request(BASE_TIME.toString(), null, 2));
+
+        // Then
+        ChatSyncResponse.RoomSync roomSync = response.getRooms().get(0);
+        assertThat(roomSync.getMessages()).hasSize(2);
+        assertThat(roomSync.getLastMessageId()).isEqualTo(messages.get(1).getId().toString());
+        assertThat(roomSync.isHasMore()).isTrue();
+        assertThat(response.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("STOMP 메시지의 KST 오프셋 createdAt도 워터마크로 사용할 수 있다")
+    void testOffsetWatermark() {
+        // Given
+        LocalDateTime watermark = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        when(chatMessageRepository.findMessagesAfterWatermark(eq(ROOM_ID), eq(watermark), any(UUID.class), any()))
+                .thenReturn(List.of());
+
+        // When
+        ChatSyncResponse response = chatMessageService.syncMessages(USER_ID,
+                request("2025-01-01T03:00:00Z", null, null));
+
+        // Then
+        ChatSyncResponse.RoomSync roomSync = response.getRooms().get(0);
+        assertThat(roomSync.getMessages()).isEmpty();
+        assertThat(roomSync.getLastCreatedAt()).isEqualTo("2025-01-01T03:00:00Z");
+    }
+
+    @Test
+    @DisplayName("멤버가 아닌 채팅방은 응답에서 제외된다")
+    void testExcludesNonMemberRoom() {
+        // When
+        ChatSyncResponse response = chatMessageService.syncMessages(USER_ID, ChatSyncRequest.builder()
+                .rooms(List.of(ChatSyncRequest.RoomWatermark.builder().roomId(99L).build()))
+                .build());
+
+        // Then
+        assertThat(response.getRooms()).isEmpty();
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 워터마크는 거부된다")
+    void testInvalidWatermark() {
+        // When & Then
+        assertThatThrownBy(() -> chatMessageService.syncMessages(USER_ID, request("not-a-date", null, null)))
+                .isInstanceOf(ChatException.class);
+        assertThatThrownBy(() -> chatMessageService.syncMessages(USER_ID, request(BASE_TIME.toString(), "not-a-uuid", null)))
+                .isInstanceOf(ChatException.class);
+    }
+
+    private ChatSyncRequest request(String lastCreatedAt, String lastMessageId, Integer limitPerRoom) {
+        return ChatSyncRequest.builder()
+                .rooms(List.of(ChatSyncRequest.RoomWatermark.builder()
+                        .roomId(ROOM_ID)
+                        .lastCreatedAt(lastCreatedAt)
+                        .lastMessageId(lastMessageId)
+                        .build()))
+                .limitPerRoom(limitPerRoom)
+                .build();
+    }
+}
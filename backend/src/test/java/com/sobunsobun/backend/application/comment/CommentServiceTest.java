@@ -4,12 +4,17 @@ import com.sobunsobun.backend.application.notification.NotificationService;
 import com.sobunsobun.backend.domain.Comment;
 import com.sobunsobun.backend.domain.GroupPost;
 import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.comment.CommentReplyCount;
 import com.sobunsobun.backend.dto.comment.CommentResponse;
+import com.sobunsobun.backend.dto.comment.CommentRow;
 import com.sobunsobun.backend.dto.comment.CreateCommentRequest;
+import com.sobunsobun.backend.dto.comment.PostCommentCount;
 import com.sobunsobun.backend.dto.comment.UpdateCommentRequest;
-import com.sobunsobun.backend.repository.BlockedUserRepository;
+import com.sobunsobun.backend.dto.common.CursorPageResponse;
+import com.sobunsobun.backend.infrastructure.redis.BlockedUserCache;
 import com.sobunsobun.backend.repository.CommentRepository;
 import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
 import com.sobunsobun.backend.support.exception.CommentException;
 import com.sobunsobun.backend.support.exception.PostException;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,14 +24,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -43,7 +51,10 @@ class CommentServiceTest {
     private GroupPostRepository postRepository;
 
     @Mock
-    private BlockedUserRepository blockedUserRepository;
+    private UserRepository userRepository;
+
+    @Mock
+    private BlockedUserCache blockedUserCache;
 
     @Mock
     private NotificationService notificationService;
@@ -114,6 +125,8 @@ class CommentServiceTest {
 
         verify(postRepository, times(1)).findById(1L);
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(postRepository, times(1)).addCommentCount(1L, 1);
+        verify(userRepository, times(1)).addCommentCount(testUser.getId(), 1);
     }
 
     @Test
@@ -165,8 +178,9 @@ class CommentServiceTest {
     void getCommentsByPostId_Success() {
         // Given
         when(postRepository.existsById(1L)).thenReturn(true);
-        when(commentRepository.findActiveParentCommentsByPostId(1L))
-            .thenReturn(List.of(parentComment));
+        when(blockedUserCache.getBlockedIds(null)).thenReturn(Set.of());
+        when(commentRepository.findActiveThreadByPostId(1L))
+            .thenReturn(List.of(row(1L, null, testUser, "부모 댓글")));
 
         // When
         List<CommentResponse> responses = commentService.getCommentsByPostId(1L, null);
@@ -177,7 +191,88 @@ class CommentServiceTest {
         assertThat(responses.get(0).getContent()).isEqualTo("부모 댓글");
 
         verify(postRepository, times(1)).existsById(1L);
-        verify(commentRepository, times(1)).findActiveParentCommentsByPostId(1L);
+        verify(commentRepository, times(1)).findActiveThreadByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("댓글 조회 - 평면 조회 결과를 트리로 구성하고 차단 유저 댓글 제외")
+    void getCommentsByPostId_AssemblesTree() {
+        // Given
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(blockedUserCache.getBlockedIds(1L)).thenReturn(Set.of(2L));
+        when(commentRepository.findActiveThreadByPostId(1L)).thenReturn(List.of(
+            row(1L, null, testUser, "부모 댓글"),
+            row(2L, null, otherUser, "차단 유저 댓글"),
+            row(3L, 1L, testUser, "대댓글1"),
+            row(4L, 2L, testUser, "차단 유저 댓글의 대댓글"),
+            row(5L, 1L, otherUser, "차단 유저 대댓글"),
+            row(6L, 99L, testUser, "삭제된 부모의 대댓글"),
+            row(7L, 1L, testUser, "대댓글2")
+        ));
+
+        // When
+        List<CommentResponse> responses = commentService.getCommentsByPostId(1L, 1L);
+
+        // Then
+        assertThat(responses).extracting(CommentResponse::getId).containsExactly(1L);
+        assertThat(responses.get(0).getChildComments())
+            .extracting(CommentResponse::getContent)
+            .containsExactly("대댓글1", "대댓글2");
+        assertThat(responses.get(0).getChildComments())
+            .allMatch(child -> child.getParentCommentId().equals(1L));
+    }
+
+    @Test
+    @DisplayName("댓글 페이지 조회 - 대댓글 미리보기와 replyCursor, 다음 페이지 커서")
+    void getCommentPage_Success() {
+        // Given
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findActiveParentCommentRowsAfter(eq(1L), anyCollection(), any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+            .thenReturn(List.of(
+                row(1L, null, testUser, "부모 댓글1"),
+                row(2L, null, otherUser, "부모 댓글2"),
+                row(3L, null, testUser, "부모 댓글3")));
+        when(commentRepository.countActiveRepliesByParentIds(anyCollection(), anyCollection()))
+            .thenReturn(List.of(new CommentReplyCount(1L, 3L), new CommentReplyCount(2L, 1L)));
+        when(commentRepository.findReplyPreviewIds(anyCollection(), anyCollection(), eq(1)))
+            .thenReturn(List.of(10L, 20L));
+        when(commentRepository.findRowsByIdIn(List.of(10L, 20L)))
+            .thenReturn(List.of(row(10L, 1L, otherUser, "대댓글1-1"), row(20L, 2L, testUser, "대댓글2-1")));
+
+        // When
+        CursorPageResponse<CommentResponse> page = commentService.getCommentPage(1L, null, null, 2, 1);
+
+        // Then
+        assertThat(page.getContent()).extracting(CommentResponse::getId).containsExactly(1L, 2L);
+        assertThat(page.getCursor().getHasNext()).isTrue();
+        assertThat(CommentCursor.decode(page.getCursor().getNext()).id()).isEqualTo(2L);
+
+        CommentResponse first = page.getContent().get(0);
+        assertThat(first.getReplyCount()).isEqualTo(3L);
+        assertThat(first.getChildComments()).extracting(CommentResponse::getId).containsExactly(10L);
+        assertThat(CommentCursor.decode(first.getReplyCursor()).id()).isEqualTo(10L);
+
+        CommentResponse second = page.getContent().get(1);
+        assertThat(second.getReplyCount()).isEqualTo(1L);
+        assertThat(second.getReplyCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("대댓글 더보기 - 대댓글 ID로 조회하면 실패")
+    void getReplies_ChildComment_Failure() {
+        // Given
+        Comment childComment = Comment.builder()
+            .id(2L)
+            .post(testPost)
+            .user(otherUser)
+            .parentComment(parentComment)
+            .content("대댓글")
+            .build();
+        when(commentRepository.findById(2L)).thenReturn(Optional.of(childComment));
+
+        // When & Then
+        assertThatThrownBy(() -> commentService.getReplies(2L, null, null, 20))
+            .isInstanceOf(CommentException.class);
     }
 
     @Test
@@ -260,6 +355,8 @@ class CommentServiceTest {
         assertThat(parentComment.getDeleted()).isTrue();
         verify(commentRepository, times(1)).findById(1L);
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(postRepository, times(1)).addCommentCount(parentComment.getPost().getId(), -1);
+        verify(userRepository, times(1)).addCommentCount(testUser.getId(), -1);
     }
 
     @Test
@@ -291,13 +388,33 @@ class CommentServiceTest {
     @DisplayName("댓글 개수 조회 - 성공")
     void getCommentCountByPostId_Success() {
         // Given
-        when(commentRepository.countActiveCommentsByPostId(1L)).thenReturn(5L);
+        when(postRepository.findCommentCountById(1L)).thenReturn(Optional.of(5));
 
         // When
         long count = commentService.getCommentCountByPostId(1L);
 
         // Then
         assertThat(count).isEqualTo(5L);
-        verify(commentRepository, times(1)).countActiveCommentsByPostId(1L);
+        verify(commentRepository, never()).countActiveCommentsByPostId(anyLong());
+    }
+
+    @Test
+    @DisplayName("댓글 개수 일괄 조회 - 요청 순서 유지, 없는 게시글은 제외")
+    void getCommentCountsByPostIds_Success() {
+        // Given
+        when(postRepository.findCommentCountsByIdIn(List.of(3L, 1L, 2L)))
+            .thenReturn(List.of(new PostCommentCount(1L, 4), new PostCommentCount(3L, 7)));
+
+        // When
+        Map<Long, Long> counts = commentService.getCommentCountsByPostIds(List.of(3L, 1L, 2L));
+
+        // Then
+        assertThat(counts).containsExactly(entry(3L, 7L), entry(1L, 4L));
+    }
+
+    private CommentRow row(Long id, Long parentCommentId, User author, String content) {
+        LocalDateTime now = LocalDateTime.now();
+        return new CommentRow(id, testPost.getId(), parentCommentId, author.getId(), author.getNickname(),
+            null, null, content, false, false, now, now);
     }
 }
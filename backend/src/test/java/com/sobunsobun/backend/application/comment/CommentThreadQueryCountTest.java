@@ -0,0 +1,139 @@
+package com.sobunsobun.backend.application.comment;
+
+import com.sobunsobun.backend.domain.Comment;
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.comment.CommentResponse;
+import com.sobunsobun.backend.repository.CommentRepository;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 댓글 스레드 조회 쿼리 수 테스트
+ *
+ * Hibernate 통계로 getCommentsByPostId의 실행 쿼리 수가 댓글 수와 무관하게 일정한지 확인합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@DisplayName("댓글 스레드 조회 쿼리 수 테스트")
+class CommentThreadQueryCountTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("스레드 크기와 무관하게 쿼리 수가 일정하다")
+    void constantQueryCountRegardlessOfThreadSize() {
+        // Given
+        GroupPost smallPost = createThread("small", 2, 1);
+        GroupPost largePost = createThread("large", 20, 5);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        long smallQueries = countQueries(() -> commentService.getCommentsByPostId(smallPost.getId(), null));
+        long largeQueries = countQueries(() -> commentService.getCommentsByPostId(largePost.getId(), null));
+
+        // Then
+        assertThat(largeQueries).isEqualTo(smallQueries);
+        assertThat(largeQueries).isLessThanOrEqualTo(2);  // 게시글 존재 확인 + 스레드 조회
+    }
+
+    @Test
+    @DisplayName("평면 조회 결과로 부모 댓글 / 대댓글 트리를 구성한다")
+    void assemblesThreadFromFlatRows() {
+        // Given
+        GroupPost post = createThread("tree", 3, 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<CommentResponse> responses = commentService.getCommentsByPostId(post.getId(), null);
+
+        // Then
+        assertThat(responses).hasSize(3);
+        assertThat(responses).allSatisfy(parent -> {
+            assertThat(parent.getParentCommentId()).isNull();
+            assertThat(parent.getUserNickname()).startsWith("tree_user");
+            assertThat(parent.getChildComments()).hasSize(2)
+                .allMatch(child -> child.getParentCommentId().equals(parent.getId()));
+        });
+    }
+
+    private long countQueries(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * parents개의 부모 댓글과 부모 댓글마다 repliesPerParent개의 대댓글을 서로 다른 작성자로 생성
+     */
+    private GroupPost createThread(String prefix, int parents, int repliesPerParent) {
+        User owner = userRepository.save(User.builder()
+            .nickname(prefix + "_owner")
+            .email(prefix + "_owner@example.com")
+            .build());
+        GroupPost post = postRepository.save(GroupPost.builder()
+            .owner(owner)
+            .title(prefix + " post")
+            .categories("0001")
+            .deadlineAt(LocalDateTime.now().plusDays(1))
+            .build());
+
+        int userSeq = 0;
+        for (int i = 0; i < parents; i++) {
+            Comment parent = commentRepository.save(Comment.builder()
+                .post(post)
+                .user(createUser(prefix, userSeq++))
+                .content(prefix + " 부모 댓글 " + i)
+                .build());
+            for (int j = 0; j < repliesPerParent; j++) {
+                commentRepository.save(Comment.builder()
+                    .post(post)
+                    .user(createUser(prefix, userSeq++))
+                    .parentComment(parent)
+                    .content(prefix + " 대댓글 " + i + "-" + j)
+                    .build());
+            }
+        }
+        return post;
+    }
+
+    private User createUser(String prefix, int seq) {
+        return userRepository.save(User.builder()
+            .nickname(prefix + "_user" + seq)
+            .email(prefix + "_user" + seq + "@example.com")
+            .build());
+    }
+}
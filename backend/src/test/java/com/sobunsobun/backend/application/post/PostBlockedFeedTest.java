@@ -0,0 +1,137 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.domain.BlockedUser;
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.post.PostListResponse;
+import com.sobunsobun.backend.dto.post.PostResponse;
+import com.sobunsobun.backend.infrastructure.redis.BlockedUserCache;
+import com.sobunsobun.backend.infrastructure.redis.PostFeedCache;
+import com.sobunsobun.backend.repository.BlockedUserRepository;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로그인 사용자 목록 조회의 차단 유저 게시글 제외 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("차단 유저 게시글 제외 테스트")
+class PostBlockedFeedTest {
+
+    /** 다른 테스트 데이터와 겹치지 않는 카테고리 코드 */
+    private static final String CATEGORY = "9033";
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostCategoryIndexer postCategoryIndexer;
+
+    @Autowired
+    private BlockedUserCache blockedUserCache;
+
+    @Autowired
+    private PostFeedCache postFeedCache;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private BlockedUserRepository blockedUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("차단 유저 게시글은 모든 페이지와 전체 개수에서 제외된다")
+    void excludesBlockedOwnersOnEveryPage() {
+        // Given
+        User viewer = createUser("blocked_feed_viewer");
+        User owner = createUser("blocked_feed_owner");
+        User blocked = createUser("blocked_feed_blocked");
+        List<Long> visibleIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            visibleIds.add(createPost(owner, "보이는 게시글 " + i).getId());
+            createPost(blocked, "차단 유저 게시글 " + i);
+        }
+        blockedUserRepository.save(BlockedUser.of(viewer, blocked));
+        entityManager.flush();
+        entityManager.clear();
+        blockedUserCache.invalidate(viewer.getId());
+        postFeedCache.invalidateAll();
+
+        // When
+        List<Long> pagedIds = new ArrayList<>();
+        PostListResponse firstPage = null;
+        for (int page = 0; page < 3; page++) {
+            PostListResponse response = postService.getPostsByCategories(viewer.getId(), CATEGORY, page, 2, "latest");
+            if (firstPage == null) {
+                firstPage = response;
+            }
+            response.getPosts().stream().map(PostResponse::getId).forEach(pagedIds::add);
+        }
+
+        // Then
+        assertThat(pagedIds).containsExactlyInAnyOrderElementsOf(visibleIds);
+        assertThat(firstPage.getPageInfo().getTotalElements()).isEqualTo(5);
+        assertThat(firstPage.getPageInfo().getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비로그인 조회는 차단 필터 없이 모든 게시글을 반환한다")
+    void guestSeesAllPosts() {
+        // Given
+        User owner = createUser("blocked_feed_guest_owner");
+        User other = createUser("blocked_feed_guest_other");
+        for (int i = 0; i < 3; i++) {
+            createPost(owner, "게시글 " + i);
+            createPost(other, "다른 게시글 " + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        postFeedCache.invalidateAll();
+
+        // When
+        PostListResponse response = postService.getPostsByCategories(null, CATEGORY, 0, 20, "deadline");
+
+        // Then
+        assertThat(response.getPosts()).hasSize(6);
+        assertThat(response.getPageInfo().getTotalElements()).isEqualTo(6);
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+            .nickname(nickname)
+            .email(nickname + "@example.com")
+            .build());
+    }
+
+    private GroupPost createPost(User owner, String title) {
+        GroupPost post = postRepository.save(GroupPost.builder()
+            .owner(owner)
+            .title(title)
+            .categories(CATEGORY)
+            .status(PostStatus.OPEN)
+            .deadlineAt(LocalDateTime.now().plusDays(1))
+            .build());
+        postCategoryIndexer.reindex(post);
+        return post;
+    }
+}
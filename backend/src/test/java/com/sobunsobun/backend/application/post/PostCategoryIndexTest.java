@@ -0,0 +1,123 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.post.PostListResponse;
+import com.sobunsobun.backend.dto.post.PostResponse;
+import com.sobunsobun.backend.infrastructure.redis.PostFeedCache;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * post_category 인덱스 테이블 기반 카테고리 목록 조회 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("카테고리 인덱스 조회 테스트")
+class PostCategoryIndexTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostCategoryIndexer postCategoryIndexer;
+
+    @Autowired
+    private PostFeedCache postFeedCache;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+            .nickname("category_index_owner")
+            .email("category_index_owner@example.com")
+            .build());
+    }
+
+    @Test
+    @DisplayName("categories 문자열은 구분자 기준으로 중복 없이 분리된다")
+    void parsesCategoryCodes() {
+        assertThat(PostCategoryIndexer.parseCategories("01,03, 03|05")).containsExactly("01", "03", "05");
+        assertThat(PostCategoryIndexer.parseCategories(" ")).isEmpty();
+        assertThat(PostCategoryIndexer.parseCategories(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 카테고리 조회는 두 카테고리에 속한 게시글도 한 번만 마감임박순으로 반환한다")
+    void multipleCategoriesReturnEachPostOnce() {
+        // Given
+        createPost("첫 카테고리", "9311", 3);
+        createPost("두 카테고리", "9311,9312", 1);
+        createPost("둘째 카테고리", "9312", 2);
+        createPost("요청하지 않은 카테고리", "9313", 4);
+        flushAndClear();
+
+        // When
+        PostListResponse response = postService.getPostsByMultipleCategories(
+                null, List.of("9311", "9312"), 0, 20, "deadline");
+
+        // Then
+        assertThat(response.getPosts()).extracting(PostResponse::getTitle)
+                .containsExactly("두 카테고리", "둘째 카테고리", "첫 카테고리");
+        assertThat(response.getPageInfo().getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("카테고리 코드는 정확히 일치해야 하며, 모집 중이 아닌 게시글은 제외된다")
+    void singleCategoryMatchesExactCodeAndOpenOnly() {
+        // Given
+        GroupPost exact = createPost("정확히 일치", "931", 1);
+        createPost("접두사만 일치", "9314", 2);
+        GroupPost closed = createPost("마감된 게시글", "931", 3);
+        postCategoryIndexer.updateStatus(closed.getId(), PostStatus.CLOSED);
+        flushAndClear();
+
+        // When
+        PostListResponse response = postService.getPostsByCategories(null, "931", 0, 20, "latest");
+
+        // Then
+        assertThat(response.getPosts()).extracting(PostResponse::getId).containsExactly(exact.getId());
+        assertThat(response.getPageInfo().getTotalElements()).isEqualTo(1);
+    }
+
+    private GroupPost createPost(String title, String categories, int deadlineDays) {
+        GroupPost post = postRepository.save(GroupPost.builder()
+            .owner(owner)
+            .title(title)
+            .categories(categories)
+            .status(PostStatus.OPEN)
+            .deadlineAt(LocalDateTime.now().plusDays(deadlineDays))
+            .build());
+        postCategoryIndexer.reindex(post);
+        return post;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+        postFeedCache.invalidateAll();
+    }
+}
@@ -0,0 +1,132 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.SavedPost;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.post.PostResponse;
+import com.sobunsobun.backend.infrastructure.redis.PostFeedCache;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.SavedPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 피드 카드 부가 정보(saved / saveCount / commentCount) 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("피드 카드 부가 정보 테스트")
+class PostFeedEngagementTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostFeedCache postFeedCache;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private SavedPostRepository savedPostRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("목록 응답에 저장 여부, 저장 수, 댓글 수가 포함된다")
+    void decoratesFeedPage() {
+        // Given
+        User owner = createUser("engagement_owner");
+        User viewer = createUser("engagement_viewer");
+        User other = createUser("engagement_other");
+        GroupPost saved = createPost(owner, "저장한 게시글");
+        GroupPost notSaved = createPost(owner, "저장하지 않은 게시글");
+        save(viewer, saved);
+        save(other, saved);
+        entityManager.flush();
+        postRepository.addCommentCount(saved.getId(), 2);
+        entityManager.clear();
+        postFeedCache.invalidateAll();
+
+        // When
+        List<PostResponse> posts = postService.getAllPosts(viewer.getId(), 0, 50, "latest").getPosts();
+
+        // Then
+        assertThat(find(posts, saved.getId())).satisfies(post -> {
+            assertThat(post.getSaved()).isTrue();
+            assertThat(post.getSaveCount()).isEqualTo(2L);
+            assertThat(post.getCommentCount()).isEqualTo(2L);
+        });
+        assertThat(find(posts, notSaved.getId())).satisfies(post -> {
+            assertThat(post.getSaved()).isFalse();
+            assertThat(post.getSaveCount()).isZero();
+            assertThat(post.getCommentCount()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("캐시된 페이지를 수정하지 않으므로 비로그인 조회에는 saved가 없다")
+    void doesNotLeakViewerStateThroughCache() {
+        // Given
+        User owner = createUser("engagement_cache_owner");
+        User viewer = createUser("engagement_cache_viewer");
+        GroupPost post = createPost(owner, "캐시 게시글");
+        save(viewer, post);
+        entityManager.flush();
+        entityManager.clear();
+        postFeedCache.invalidateAll();
+
+        // When
+        List<PostResponse> viewerPosts = postService.getAllPosts(viewer.getId(), 0, 50, "latest").getPosts();
+        List<PostResponse> anonymousPosts = postService.getAllPosts(null, 0, 50, "latest").getPosts();
+
+        // Then
+        assertThat(find(viewerPosts, post.getId()).getSaved()).isTrue();
+        assertThat(find(anonymousPosts, post.getId()).getSaved()).isNull();
+        assertThat(find(anonymousPosts, post.getId()).getSaveCount()).isEqualTo(1L);
+    }
+
+    private PostResponse find(List<PostResponse> posts, Long postId) {
+        return posts.stream()
+            .filter(post -> post.getId().equals(postId))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+            .nickname(nickname)
+            .email(nickname + "@example.com")
+            .build());
+    }
+
+    private GroupPost createPost(User owner, String title) {
+        return postRepository.save(GroupPost.builder()
+            .owner(owner)
+            .title(title)
+            .categories("0001")
+            .deadlineAt(LocalDateTime.now().plusDays(1))
+            .build());
+    }
+
+    private void save(User user, GroupPost post) {
+        savedPostRepository.save(SavedPost.builder()
+            .user(user)
+            .post(post)
+            .build());
+    }
+}
@@ -0,0 +1,162 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.domain.BlockedUser;
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.common.CursorPageResponse;
+import com.sobunsobun.backend.dto.post.PostResponse;
+import com.sobunsobun.backend.infrastructure.redis.BlockedUserCache;
+import com.sobunsobun.backend.infrastructure.redis.PostFeedCache;
+import com.sobunsobun.backend.repository.BlockedUserRepository;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import com.sobunsobun.backend.support.exception.PostException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 게시글 커서(keyset) 피드 (getPostFeed) 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("게시글 커서 피드 테스트")
+class PostFeedTest {
+
+    /** 다른 테스트 데이터와 겹치지 않는 카테고리 코드 */
+    private static final List<String> CATEGORIES = List.of("9321", "9322");
+    private static final LocalDateTime BASE_DEADLINE = LocalDateTime.of(2099, 1, 1, 12, 0);
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostCategoryIndexer postCategoryIndexer;
+
+    @Autowired
+    private BlockedUserCache blockedUserCache;
+
+    @Autowired
+    private PostFeedCache postFeedCache;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private BlockedUserRepository blockedUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("마감임박순 카테고리 피드는 커서를 따라 모든 게시글을 한 번씩 순서대로 반환한다")
+    void pagesCategoryFeedByDeadline() {
+        // Given: 마감일이 같은 게시글 두 개와 두 카테고리에 속한 게시글 포함
+        User owner = createUser("feed_owner");
+        List<Long> expected = new ArrayList<>();
+        expected.add(createPost(owner, "9321", BASE_DEADLINE).getId());
+        expected.add(createPost(owner, "9322", BASE_DEADLINE).getId());
+        expected.add(createPost(owner, "9321,9322", BASE_DEADLINE.plusHours(1)).getId());
+        expected.add(createPost(owner, "9322", BASE_DEADLINE.plusHours(2)).getId());
+        expected.add(createPost(owner, "9321", BASE_DEADLINE.plusHours(3)).getId());
+        createPost(owner, "9323", BASE_DEADLINE.plusHours(4));
+        flushAndClear();
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        Long totalElements = null;
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<PostResponse> response =
+                    postService.getPostFeed(null, "deadline", null, CATEGORIES, cursor, 2, true);
+            response.getContent().forEach(post -> ids.add(post.getId()));
+            if (totalElements == null) {
+                totalElements = response.getCursor().getTotalElements();
+            }
+            cursor = response.getCursor().getNext();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        // Then: 같은 마감일은 ID 오름차순
+        assertThat(ids).containsExactlyElementsOf(expected);
+        assertThat(totalElements).isEqualTo(5L);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("로그인 사용자의 피드에서는 차단 유저 게시글을 건너뛰고 페이지를 채운다")
+    void skipsBlockedOwners() {
+        // Given
+        User viewer = createUser("feed_viewer");
+        User owner = createUser("feed_visible_owner");
+        User blocked = createUser("feed_blocked_owner");
+        List<Long> visible = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            createPost(blocked, "9321", BASE_DEADLINE.plusMinutes(i * 2));
+            visible.add(createPost(owner, "9321", BASE_DEADLINE.plusMinutes(i * 2 + 1)).getId());
+        }
+        blockedUserRepository.save(BlockedUser.of(viewer, blocked));
+        flushAndClear();
+        blockedUserCache.invalidate(viewer.getId());
+
+        // When
+        CursorPageResponse<PostResponse> first =
+                postService.getPostFeed(viewer.getId(), "deadline", null, CATEGORIES, null, 2, true);
+        CursorPageResponse<PostResponse> second =
+                postService.getPostFeed(viewer.getId(), "deadline", null, CATEGORIES, first.getCursor().getNext(), 2, true);
+
+        // Then
+        assertThat(first.getContent()).extracting(PostResponse::getId).containsExactly(visible.get(0), visible.get(1));
+        assertThat(second.getContent()).extracting(PostResponse::getId).containsExactly(visible.get(2));
+        assertThat(second.getCursor().getHasNext()).isFalse();
+        assertThat(first.getCursor().getTotalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("CANCELLED 또는 알 수 없는 상태 필터는 거부된다")
+    void rejectsInvalidStatus() {
+        assertThatThrownBy(() -> postService.getPostFeed(null, "latest", "CANCELLED", null, null, 20, false))
+                .isInstanceOf(PostException.class);
+        assertThatThrownBy(() -> postService.getPostFeed(null, "latest", "UNKNOWN", null, null, 20, false))
+                .isInstanceOf(PostException.class);
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+            .nickname(nickname)
+            .email(nickname + "@example.com")
+            .build());
+    }
+
+    private GroupPost createPost(User owner, String categories, LocalDateTime deadlineAt) {
+        GroupPost post = postRepository.save(GroupPost.builder()
+            .owner(owner)
+            .title("피드 게시글 " + categories)
+            .categories(categories)
+            .status(PostStatus.OPEN)
+            .deadlineAt(deadlineAt)
+            .build());
+        postCategoryIndexer.reindex(post);
+        return post;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+        postFeedCache.invalidateAll();
+    }
+}
@@ -0,0 +1,113 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.common.CursorPageResponse;
+import com.sobunsobun.backend.dto.post.PostResponse;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import com.sobunsobun.backend.support.exception.PostException;
+import com.sobunsobun.backend.support.util.GeoHashUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주변 게시글 조회 (getNearbyPosts) 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("주변 게시글 조회 테스트")
+class PostNearbyTest {
+
+    /** 다른 테스트 데이터와 겹치지 않는 기준 위치 (남태평양) */
+    private static final double CENTER_LAT = -45.0;
+    private static final double CENTER_LON = -150.0;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("반경 안의 게시글만 가까운 순으로 페이지를 나눠 빠짐없이 반환한다")
+    void pagesNearbyPostsByDistance() {
+        // Given: 북쪽으로 100m 간격 12개 (1.2km 이내) + 반경 밖 1개
+        User owner = createUser("nearby_owner");
+        for (int i = 1; i <= 12; i++) {
+            createPost(owner, "주변 게시글 " + i, CENTER_LAT + GeoHashUtil.latitudeDelta(i * 100), CENTER_LON);
+        }
+        createPost(owner, "반경 밖 게시글", CENTER_LAT + GeoHashUtil.latitudeDelta(5_000), CENTER_LON);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<String> titles = new ArrayList<>();
+        List<Long> distances = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<PostResponse> response =
+                    postService.getNearbyPosts(null, CENTER_LAT, CENTER_LON, 2_000, cursor, 5);
+            response.getContent().forEach(post -> {
+                titles.add(post.getTitle());
+                distances.add(post.getDistanceMeters());
+            });
+            cursor = response.getCursor().getNext();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(titles).hasSize(12).doesNotContain("반경 밖 게시글");
+        assertThat(titles.get(0)).isEqualTo("주변 게시글 1");
+        assertThat(titles.get(11)).isEqualTo("주변 게시글 12");
+        assertThat(distances).isSorted();
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 위도·경도는 거부된다")
+    void rejectsOutOfRangeCoordinates() {
+        assertThatThrownBy(() -> postService.getNearbyPosts(null, 91.0, CENTER_LON, 1_000, null, 20))
+                .isInstanceOf(PostException.class);
+        assertThatThrownBy(() -> postService.getNearbyPosts(null, CENTER_LAT, -180.5, 1_000, null, 20))
+                .isInstanceOf(PostException.class);
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+            .nickname(nickname)
+            .email(nickname + "@example.com")
+            .build());
+    }
+
+    private void createPost(User owner, String title, double latitude, double longitude) {
+        postRepository.save(GroupPost.builder()
+            .owner(owner)
+            .title(title)
+            .categories("0001")
+            .status(PostStatus.OPEN)
+            .deadlineAt(LocalDateTime.now().plusDays(1))
+            .latitude(latitude)
+            .longitude(longitude)
+            .geohash(GeoHashUtil.encode(latitude, longitude, GeoHashUtil.STORED_PRECISION))
+            .build());
+    }
+}
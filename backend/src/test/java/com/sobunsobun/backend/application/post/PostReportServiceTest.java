@@ -0,0 +1,142 @@
+package com.sobunsobun.backend.application.post;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostReport;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.ReportReason;
+import com.sobunsobun.backend.domain.ReportStatus;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.post.PostReportDto;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.PostReportRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 게시글 신고 통계 (GROUP BY) / DB 페이징 / 처리 대기열 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("PostReportService 테스트")
+class PostReportServiceTest {
+
+    @Autowired
+    private PostReportService postReportService;
+
+    @Autowired
+    private PostReportRepository postReportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("상태별 신고 수를 한 번에 집계한다")
+    void countsReportsByStatus() {
+        // Given
+        GroupPost post = createPost("report_stats_owner");
+        createReport("report_stats_1", post, ReportStatus.PENDING, LocalDateTime.now());
+        createReport("report_stats_2", post, ReportStatus.PENDING, LocalDateTime.now());
+        createReport("report_stats_3", post, ReportStatus.REVIEWING, LocalDateTime.now());
+        createReport("report_stats_4", post, ReportStatus.RESOLVED, LocalDateTime.now());
+        createReport("report_stats_5", post, ReportStatus.REJECTED, LocalDateTime.now());
+
+        // When
+        PostReportDto.StatisticsResponse statistics = postReportService.getPostReportStatistics(post.getId());
+
+        // Then
+        assertThat(statistics.getTotalReports()).isEqualTo(5);
+        assertThat(statistics.getPendingReports()).isEqualTo(2);
+        assertThat(statistics.getReviewingReports()).isEqualTo(1);
+        assertThat(statistics.getResolvedReports()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글별 신고 목록을 DB에서 페이징한다")
+    void pagesPostReports() {
+        // Given
+        GroupPost post = createPost("report_page_owner");
+        for (int i = 0; i < 3; i++) {
+            createReport("report_page_" + i, post, ReportStatus.PENDING, LocalDateTime.now().minusMinutes(3 - i));
+        }
+        entityManager.clear();
+
+        // When
+        Page<PostReportDto.ListResponse> page = postReportService.getPostReports(post.getId(), PageRequest.of(1, 2));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(PostReportDto.ListResponse::getUserName)
+                .containsExactly("report_page_0");
+    }
+
+    @Test
+    @DisplayName("처리 대기열은 대기 중 → 검토 중 순, 오래된 신고부터 반환하고 처리된 신고는 제외한다")
+    void ordersModerationQueue() {
+        // Given: 전역 대기열이므로 기존 신고를 비우고 (트랜잭션 롤백) 이 테스트의 신고만 남김
+        postReportRepository.deleteAllInBatch();
+        GroupPost post = createPost("report_queue_owner");
+        LocalDateTime now = LocalDateTime.now();
+        createReport("report_queue_reviewing", post, ReportStatus.REVIEWING, now.minusHours(3));
+        createReport("report_queue_pending_new", post, ReportStatus.PENDING, now.minusHours(1));
+        createReport("report_queue_pending_old", post, ReportStatus.PENDING, now.minusHours(2));
+        createReport("report_queue_resolved", post, ReportStatus.RESOLVED, now.minusHours(4));
+        entityManager.clear();
+
+        // When
+        Page<PostReportDto.ListResponse> queue = postReportService.getModerationQueue(PageRequest.of(0, 20));
+
+        // Then
+        assertThat(queue.getTotalElements()).isEqualTo(3);
+        assertThat(queue.getContent()).extracting(PostReportDto.ListResponse::getUserName).containsExactly(
+                "report_queue_pending_old", "report_queue_pending_new", "report_queue_reviewing");
+    }
+
+    private GroupPost createPost(String ownerNickname) {
+        return postRepository.save(GroupPost.builder()
+            .owner(createUser(ownerNickname))
+            .title("신고 대상 게시글")
+            .categories("0001")
+            .status(PostStatus.OPEN)
+            .deadlineAt(LocalDateTime.now().plusDays(1))
+            .build());
+    }
+
+    private void createReport(String reporterNickname, GroupPost post, ReportStatus status, LocalDateTime createdAt) {
+        PostReport report = postReportRepository.save(PostReport.builder()
+            .user(createUser(reporterNickname))
+            .post(post)
+            .reason(ReportReason.SPAM)
+            .status(status)
+            .build());
+        // created_at은 updatable = false이므로 정렬 검증용 시각은 직접 갱신
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE post_report SET created_at = :createdAt WHERE id = :id")
+            .setParameter("createdAt", createdAt)
+            .setParameter("id", report.getId())
+            .executeUpdate();
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+            .nickname(nickname)
+            .email(nickname + "@example.com")
+            .build());
+    }
+}
@@ -0,0 +1,80 @@
+package com.sobunsobun.backend.application.search;
+
+import com.sobunsobun.backend.dto.search.SearchTermWeight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 자동완성 인덱스 스냅샷 단위 테스트
+ */
+@DisplayName("SearchAutocompleteIndex 테스트")
+class SearchAutocompleteIndexTest {
+
+    private SearchAutocompleteIndex.Snapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        // 빈도 내림차순
+        snapshot = SearchAutocompleteIndex.Snapshot.build(List.of(
+                new SearchTermWeight("치킨", 30L),
+                new SearchTermWeight("치즈", 20L),
+                new SearchTermWeight("닭가슴살", 15L),
+                new SearchTermWeight("휴지", 10L),
+                new SearchTermWeight("ipad", 5L),
+                new SearchTermWeight("치약", 1L)
+        ));
+    }
+
+    @Test
+    @DisplayName("접두사로 시작하는 단어를 빈도 순으로 반환한다")
+    void testPrefix() {
+        assertThat(snapshot.suggest("치", 10)).containsExactly("치킨", "치즈", "치약");
+        assertThat(snapshot.suggest("치", 2)).containsExactly("치킨", "치즈");
+        assertThat(snapshot.suggest("IP", 10)).containsExactly("ipad");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(받침, 겹받침)도 매칭한다")
+    void testPartialSyllable() {
+        assertThat(snapshot.suggest("칰", 10)).containsExactly("치킨");
+        assertThat(snapshot.suggest("치ㅈ", 10)).containsExactly("치즈");
+        assertThat(snapshot.suggest("달", 10)).containsExactly("닭가슴살");
+    }
+
+    @Test
+    @DisplayName("자음만 입력하면 초성으로 검색한다")
+    void testChoseong() {
+        assertThat(snapshot.suggest("ㅊㅋ", 10)).containsExactly("치킨");
+        assertThat(snapshot.suggest("ㅊ", 10)).containsExactly("치킨", "치즈", "치약");
+        assertThat(snapshot.suggest("ㄷㄱㅅ", 10)).containsExactly("닭가슴살");
+    }
+
+    @Test
+    @DisplayName("매칭되는 단어가 없거나 빈 입력이면 빈 목록을 반환한다")
+    void testNoMatch() {
+        assertThat(snapshot.suggest("피자", 10)).isEmpty();
+        assertThat(snapshot.suggest(" ", 10)).isEmpty();
+        assertThat(snapshot.suggest(null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노드별 상위 단어만 저장하므로 limit은 MAX_SUGGESTIONS를 넘지 않는다")
+    void testMaxSuggestions() {
+        List<SearchTermWeight> weights = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            weights.add(new SearchTermWeight("라면" + i, (long) (100 - i)));
+        }
+        SearchAutocompleteIndex.Snapshot large = SearchAutocompleteIndex.Snapshot.build(weights);
+
+        List<String> result = large.suggest("라면", 100);
+
+        assertThat(result).hasSize(SearchAutocompleteIndex.MAX_SUGGESTIONS);
+        assertThat(result.get(0)).isEqualTo("라면0");
+    }
+}
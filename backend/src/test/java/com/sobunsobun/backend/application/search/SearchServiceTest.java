@@ -0,0 +1,67 @@
+package com.sobunsobun.backend.application.search;
+
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.repository.search.SearchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 게시글 검색 방식 선택 (FULLTEXT BOOLEAN MODE / LIKE) 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchService 테스트")
+class SearchServiceTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    @DisplayName("연산자만 남은 단어는 버리고 나머지 단어로 FULLTEXT 검색한다")
+    void dropsEmptyTermsAfterStrippingOperators() {
+        // Given
+        when(searchRepository.searchIdsOrderByCreatedAt(anyString(), anyString(),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Page.empty(PageRequest.of(0, 20)));
+
+        // When
+        searchService.searchPostsByStatus("치킨 + \"\" 강남*", "OPEN", "latest", null, 0, 20);
+
+        // Then
+        verify(searchRepository).searchIdsOrderByCreatedAt(eq("+\"치킨\" +\"강남\""), eq("OPEN"),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
+        verify(searchRepository, never()).searchByKeywordAndStatus(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("단어가 최대 개수를 넘으면 일부만 검색하지 않고 LIKE 검색으로 넘긴다")
+    void fallsBackToLikeWhenTooManyTerms() {
+        // Given
+        String keyword = "치킨 피자 햄버거 족발 보쌈 떡볶이";
+        when(searchRepository.searchByKeywordAndStatus(anyString(), any(PostStatus.class),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Page.empty(PageRequest.of(0, 20)));
+
+        // When
+        searchService.searchPostsByStatus(keyword, "OPEN", "latest", null, 0, 20);
+
+        // Then
+        verify(searchRepository).searchByKeywordAndStatus(eq(keyword), eq(PostStatus.OPEN),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
+        verify(searchRepository, never()).searchIdsOrderByCreatedAt(any(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,144 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.manner.MannerReviewRequest;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 첫 매너 평가 동시 제출 테스트
+ *
+ * 거래 완료 직후 여러 참여자가 아직 점수 집계 행이 없는 방장을 동시에 평가하는 상황입니다.
+ * 각 제출이 별도 트랜잭션으로 커밋되어야 하므로 @Transactional 없이 실행하고, 만든 데이터는 직접 지웁니다.
+ */
+@SpringBootTest
+@DisplayName("첫 매너 평가 동시 제출 테스트")
+class MannerReviewConcurrencyTest {
+
+    private static final int SENDER_COUNT = 8;
+
+    @Autowired
+    private MannerReviewService mannerReviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private User host;
+    private GroupPost post;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+        host = createUser("concurrent_host_" + suffix);
+        post = postRepository.save(GroupPost.builder()
+            .owner(host)
+            .title("동시 평가 게시글")
+            .categories("0001")
+            .status(PostStatus.CLOSED)
+            .deadlineAt(LocalDateTime.now().plusDays(1))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        String ids = userIds.stream().map(String::valueOf).reduce((a, b) -> a + "," + b).orElseThrow();
+        jdbcTemplate.update("DELETE FROM manner_review WHERE group_post_id = ?", post.getId());
+        jdbcTemplate.update("DELETE FROM user_tag_stats WHERE receiver_id IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM user_manner_score WHERE user_id IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM user_stats WHERE user_id IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM group_post WHERE id = ?", post.getId());
+        jdbcTemplate.update("DELETE FROM `user` WHERE id IN (" + ids + ")");
+    }
+
+    @Test
+    @DisplayName("집계 행이 없는 대상을 동시에 평가해도 모든 제출이 반영된다")
+    void concurrentFirstReviewsAllSucceed() throws InterruptedException {
+        // Given
+        String suffix = Long.toString(System.nanoTime(), 36);
+        List<User> senders = new ArrayList<>();
+        for (int i = 0; i < SENDER_COUNT; i++) {
+            senders.add(createUser("concurrent_sender_" + i + "_" + suffix));
+        }
+
+        // When: 모든 참여자가 동시에 방장에게 TAG001 평가
+        ExecutorService executor = Executors.newFixedThreadPool(SENDER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(SENDER_COUNT);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (User sender : senders) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    mannerReviewService.submitMannerReviews(request("TAG001"), sender.getId());
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then
+        assertThat(failures).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT review_count FROM user_manner_score WHERE user_id = ?", Integer.class, host.getId()))
+                .isEqualTo(SENDER_COUNT);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count FROM user_tag_stats WHERE receiver_id = ? AND tag_code = 'TAG001'", Integer.class, host.getId()))
+                .isEqualTo(SENDER_COUNT);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT manner_score FROM `user` WHERE id = ?", BigDecimal.class, host.getId()))
+                .isPositive();
+    }
+
+    private MannerReviewRequest request(String... tagCodes) {
+        return MannerReviewRequest.builder()
+            .groupPostId(post.getId())
+            .reviews(List.of(MannerReviewRequest.ReviewItem.builder()
+                .receiverId(host.getId())
+                .tagCodes(List.of(tagCodes))
+                .build()))
+            .build();
+    }
+
+    private User createUser(String nickname) {
+        User user = userRepository.save(User.builder()
+            .nickname(nickname)
+            .email(nickname + "@example.com")
+            .build());
+        userIds.add(user.getId());
+        return user;
+    }
+}
@@ -0,0 +1,85 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.manner.MannerReviewRequest;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.MannerReviewBatchRepository;
+import com.sobunsobun.backend.repository.MannerReviewRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 매너 평가 동시 제출 (사전 중복 체크 이후 UNIQUE 위반) 단위 테스트
+ *
+ * 두 요청이 동시에 사전 중복 체크를 통과하는 상황은 통합 테스트로 재현하기 어려우므로
+ * 배치 INSERT가 DuplicateKeyException을 던지는 경우만 목으로 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("매너 평가 동시 제출 테스트")
+class MannerReviewConflictTest {
+
+    private static final Long SENDER_ID = 1L;
+    private static final Long RECEIVER_ID = 2L;
+    private static final Long POST_ID = 100L;
+
+    @Mock
+    private MannerReviewRepository mannerReviewRepository;
+
+    @Mock
+    private MannerReviewBatchRepository mannerReviewBatchRepository;
+
+    @Mock
+    private MannerScoreService mannerScoreService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private GroupPostRepository groupPostRepository;
+
+    @InjectMocks
+    private MannerReviewService mannerReviewService;
+
+    @Test
+    @DisplayName("다른 요청이 먼저 저장해 UNIQUE 제약에 걸리면 409를 반환하고 태그 통계는 갱신하지 않는다")
+    void duplicateKeyBecomesConflict() {
+        // Given
+        when(groupPostRepository.findById(POST_ID)).thenReturn(Optional.of(GroupPost.builder().id(POST_ID).build()));
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(
+                User.builder().id(SENDER_ID).build(),
+                User.builder().id(RECEIVER_ID).build()));
+        when(mannerReviewRepository.findReviewedTags(eq(SENDER_ID), eq(POST_ID), anyCollection())).thenReturn(List.of());
+        doThrow(new DuplicateKeyException("uk_manner_review"))
+                .when(mannerReviewBatchRepository).insertReviews(eq(SENDER_ID), eq(POST_ID), anyList());
+
+        MannerReviewRequest request = MannerReviewRequest.builder()
+                .groupPostId(POST_ID)
+                .reviews(List.of(MannerReviewRequest.ReviewItem.builder()
+                        .receiverId(RECEIVER_ID)
+                        .tagCodes(List.of("TAG001"))
+                        .build()))
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> mannerReviewService.submitMannerReviews(request, SENDER_ID))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        verify(mannerReviewBatchRepository, never()).upsertTagCounts(any());
+    }
+}
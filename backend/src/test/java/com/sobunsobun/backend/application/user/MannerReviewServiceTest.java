@@ -0,0 +1,164 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.MannerTag;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.domain.UserTagStats;
+import com.sobunsobun.backend.dto.manner.MannerReviewRequest;
+import com.sobunsobun.backend.dto.manner.UserMannerScoreValue;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.MannerReviewRepository;
+import com.sobunsobun.backend.repository.UserTagStatsRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 매너 평가 일괄 제출 (MannerReviewService + MannerReviewBatchRepository) 통합 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("매너 평가 제출 테스트")
+class MannerReviewServiceTest {
+
+    @Autowired
+    private MannerReviewService mannerReviewService;
+
+    @Autowired
+    private MannerReviewRepository mannerReviewRepository;
+
+    @Autowired
+    private UserTagStatsRepository userTagStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User sender;
+    private User receiverA;
+    private User receiverB;
+    private GroupPost post;
+
+    @BeforeEach
+    void setUp() {
+        sender = createUser("manner_sender");
+        receiverA = createUser("manner_receiver_a");
+        receiverB = createUser("manner_receiver_b");
+        post = postRepository.save(GroupPost.builder()
+            .owner(sender)
+            .title("매너 평가 게시글")
+            .categories("0001")
+            .status(PostStatus.CLOSED)
+            .deadlineAt(LocalDateTime.now().plusDays(1))
+            .build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("여러 대상에게 여러 태그를 한 번에 저장하고, 요청 안의 중복 태그는 한 번만 반영한다")
+    void submitsSeveralReceiversAndTags() {
+        // Given: A에게 TAG002를 두 번, A 항목을 두 번 보냄
+        MannerReviewRequest request = request(
+            item(receiverA, "TAG001", "TAG002", "TAG002"),
+            item(receiverB, "TAG003"),
+            item(receiverA, "TAG001"));
+
+        // When
+        Map<Long, List<String>> result = mannerReviewService.submitMannerReviews(request, sender.getId());
+        flushAndClear();
+
+        // Then
+        assertThat(result.get(receiverA.getId())).containsExactly("TAG001", "TAG002");
+        assertThat(result.get(receiverB.getId())).containsExactly("TAG003");
+        assertThat(mannerReviewRepository.findReviewedTags(sender.getId(), post.getId(),
+                List.of(receiverA.getId(), receiverB.getId()))).hasSize(3);
+
+        assertThat(tagCounts(receiverA)).containsExactlyInAnyOrderEntriesOf(
+            Map.of(MannerTag.TAG001, 1, MannerTag.TAG002, 1));
+        assertThat(tagCounts(receiverB)).containsExactlyInAnyOrderEntriesOf(Map.of(MannerTag.TAG003, 1));
+
+        assertThat(userRepository.findMannerScoresByIdIn(List.of(receiverA.getId(), receiverB.getId())))
+            .extracting(UserMannerScoreValue::mannerScore)
+            .allSatisfy(score -> assertThat(score).isPositive());
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getStatus()).isEqualTo(PostStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("같은 평가를 다시 제출하면 이미 남긴 태그는 건너뛰고 통계와 점수는 그대로다")
+    void resubmissionIsCollapsed() {
+        // Given
+        mannerReviewService.submitMannerReviews(request(
+            item(receiverA, "TAG001", "TAG002"),
+            item(receiverB, "TAG003")), sender.getId());
+        flushAndClear();
+        List<UserMannerScoreValue> scoresBefore =
+            userRepository.findMannerScoresByIdIn(List.of(receiverA.getId(), receiverB.getId()));
+
+        // When: 같은 평가 + A에게 새 태그 하나
+        Map<Long, List<String>> result = mannerReviewService.submitMannerReviews(request(
+            item(receiverA, "TAG001", "TAG002", "TAG004"),
+            item(receiverB, "TAG003")), sender.getId());
+        flushAndClear();
+
+        // Then
+        assertThat(result.get(receiverA.getId())).containsExactly("TAG004");
+        assertThat(result.get(receiverB.getId())).isEmpty();
+        assertThat(tagCounts(receiverA)).containsExactlyInAnyOrderEntriesOf(
+            Map.of(MannerTag.TAG001, 1, MannerTag.TAG002, 1, MannerTag.TAG004, 1));
+        assertThat(tagCounts(receiverB)).containsExactlyInAnyOrderEntriesOf(Map.of(MannerTag.TAG003, 1));
+        assertThat(userRepository.findMannerScoresByIdIn(List.of(receiverB.getId())))
+            .extracting(UserMannerScoreValue::mannerScore)
+            .containsExactly(scoresBefore.stream()
+                .filter(value -> value.userId().equals(receiverB.getId()))
+                .findFirst().orElseThrow().mannerScore());
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Map<MannerTag, Integer> tagCounts(User receiver) {
+        return userTagStatsRepository.findTop5ByReceiverIdOrderByCountDesc(receiver.getId()).stream()
+            .collect(Collectors.toMap(UserTagStats::getTagCode, UserTagStats::getCount));
+    }
+
+    private MannerReviewRequest request(MannerReviewRequest.ReviewItem... items) {
+        return MannerReviewRequest.builder()
+            .groupPostId(post.getId())
+            .reviews(List.of(items))
+            .build();
+    }
+
+    private MannerReviewRequest.ReviewItem item(User receiver, String... tagCodes) {
+        return MannerReviewRequest.ReviewItem.builder()
+            .receiverId(receiver.getId())
+            .tagCodes(List.of(tagCodes))
+            .build();
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+            .nickname(nickname)
+            .email(nickname + "@example.com")
+            .build());
+    }
+}
@@ -0,0 +1,87 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.domain.MannerTag;
+import com.sobunsobun.backend.domain.UserMannerScore;
+import com.sobunsobun.backend.dto.manner.MannerReviewRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 매너 점수 계산 (감쇠 / 증분 / 재집계) 단위 테스트
+ */
+@DisplayName("매너 점수 계산 테스트")
+class MannerScoreEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("반감기가 지나면 누적값이 절반이 된다")
+    void decaysByHalfLife() {
+        UserMannerScore score = UserMannerScore.empty(1L, NOW.minus(UserMannerScore.HALF_LIFE));
+        score.addReviews(4.0, 2, NOW.minus(UserMannerScore.HALF_LIFE));
+
+        score.decayTo(NOW);
+
+        assertThat(score.getWeightedTagSum()).isCloseTo(2.0, within(1e-9));
+        assertThat(score.getDecayedReviewCount()).isCloseTo(1.0, within(1e-9));
+        assertThat(score.getReviewCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("평가가 없으면 0점, 많고 좋은 평가는 5점을 넘지 않고, 오래된 평가는 2.5점으로 수렴한다")
+    void scoreBounds() {
+        assertThat(UserMannerScore.empty(1L, NOW).score()).isEqualByComparingTo("0.00");
+
+        UserMannerScore heavy = UserMannerScore.empty(2L, NOW);
+        heavy.addReviews(600.0, 100, NOW);
+        assertThat(heavy.score()).isEqualByComparingTo("5.00");
+
+        UserMannerScore old = UserMannerScore.empty(3L, NOW.minusYears(20));
+        old.addReviews(30.0, 10, NOW.minusYears(20));
+        old.decayTo(NOW);
+        assertThat(old.score()).isEqualByComparingTo("2.50");
+    }
+
+    @Test
+    @DisplayName("평가 묶음을 시간순으로 증분 반영한 결과는 평가 행 재집계 결과와 같다")
+    void incrementalMatchesRebuild() {
+        Long receiverId = 10L;
+        List<MannerReviewRow> rows = new ArrayList<>();
+        UserMannerScore incremental = UserMannerScore.empty(receiverId, NOW.minusDays(400));
+
+        // (평가자, 거래, 경과일, 태그)
+        Object[][] batches = {
+                {100L, 1L, 400, new MannerTag[]{MannerTag.TAG001, MannerTag.TAG002}},
+                {101L, 1L, 200, new MannerTag[]{MannerTag.TAG004}},
+                {100L, 2L, 30, new MannerTag[]{MannerTag.TAG003, MannerTag.TAG005, MannerTag.TAG006}},
+                {100L, 2L, 10, new MannerTag[]{MannerTag.TAG001}},  // 같은 거래 / 평가자의 추가 태그
+        };
+        for (Object[] batch : batches) {
+            Long senderId = (Long) batch[0];
+            Long postId = (Long) batch[1];
+            LocalDateTime at = NOW.minusDays((int) batch[2]);
+            boolean reviewedBefore = rows.stream()
+                    .anyMatch(row -> row.senderId().equals(senderId) && row.groupPostId().equals(postId));
+            double weight = 0;
+            for (MannerTag tag : (MannerTag[]) batch[3]) {
+                rows.add(new MannerReviewRow(receiverId, senderId, postId, tag, at));
+                weight += tag.getWeight();
+            }
+            incremental.addReviews(weight, reviewedBefore ? 0 : 1, at);
+        }
+        incremental.decayTo(NOW);
+
+        UserMannerScore rebuilt = MannerScoreService.aggregate(rows, NOW).get(receiverId);
+
+        assertThat(rebuilt.getReviewCount()).isEqualTo(3).isEqualTo(incremental.getReviewCount());
+        assertThat(rebuilt.getWeightedTagSum()).isCloseTo(incremental.getWeightedTagSum(), within(1e-9));
+        assertThat(rebuilt.getDecayedReviewCount()).isCloseTo(incremental.getDecayedReviewCount(), within(1e-9));
+        assertThat(rebuilt.score()).isEqualByComparingTo(incremental.score());
+    }
+}
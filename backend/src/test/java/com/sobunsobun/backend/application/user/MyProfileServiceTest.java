@@ -0,0 +1,144 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.domain.UserStats;
+import com.sobunsobun.backend.dto.mypage.MyProfileResponse;
+import com.sobunsobun.backend.dto.user.UserProfileResponse;
+import com.sobunsobun.backend.infrastructure.redis.UserProfileCache;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import com.sobunsobun.backend.repository.user.UserStatsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 다른 사용자 프로필 조회 (최근 게시글 제한 + 프로필 캐시) 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("MyProfileService 테스트")
+class MyProfileServiceTest {
+
+    @Autowired
+    private MyProfileService myProfileService;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("최근 게시글만 최신순으로 반환하고 취소된 게시글은 제외한다")
+    void returnsRecentPostsOnly() {
+        // Given
+        User owner = createUser("profile_recent_owner");
+        for (int i = 0; i < 25; i++) {
+            createPost(owner, "게시글 " + i, PostStatus.OPEN, LocalDateTime.now().minusMinutes(25 - i));
+        }
+        createPost(owner, "취소된 게시글", PostStatus.CANCELLED, LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        UserProfileResponse profile = myProfileService.getUserProfile(owner.getId());
+
+        // Then
+        List<String> titles = profile.getPosts().stream().map(UserProfileResponse.PostItemDto::getTitle).toList();
+        assertThat(titles).hasSize(20)
+                .startsWith("게시글 24", "게시글 23")
+                .doesNotContain("취소된 게시글", "게시글 4");
+        assertThat(profile.getPostCount()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("userId / 닉네임 조회가 같은 캐시 항목을 공유하고 무효화 후 다시 조회한다")
+    void sharesCacheAndReloadsAfterInvalidate() {
+        // Given
+        User owner = createUser("profile_cache_owner");
+        createPost(owner, "첫 게시글", PostStatus.OPEN, LocalDateTime.now().minusMinutes(1));
+        entityManager.flush();
+        userProfileCache.invalidate(owner.getId());
+
+        // When
+        UserProfileResponse first = myProfileService.getUserProfile(owner.getId());
+        UserProfileResponse byNickname = myProfileService.getUserProfileByNickname(owner.getNickname());
+        createPost(owner, "두 번째 게시글", PostStatus.OPEN, LocalDateTime.now());
+        entityManager.flush();
+        UserProfileResponse cached = myProfileService.getUserProfile(owner.getId());
+        userProfileCache.invalidate(owner.getId());
+        UserProfileResponse reloaded = myProfileService.getUserProfile(owner.getId());
+
+        // Then
+        assertThat(byNickname).isSameAs(first);
+        assertThat(cached.getPosts()).hasSize(1);
+        assertThat(reloaded.getPosts()).hasSize(2);
+        assertThat(reloaded.getPosts().get(0).getTitle()).isEqualTo("두 번째 게시글");
+    }
+
+    @Test
+    @DisplayName("다른 사용자 프로필의 참여 수 / 작성 글 수는 내 프로필과 같은 통계 값을 사용한다")
+    void usesStoredStatsCounts() {
+        // Given
+        User owner = createUser("profile_stats_owner");
+        userStatsRepository.save(UserStats.builder()
+            .userId(owner.getId())
+            .participationCount(4)
+            .hostCount(2)
+            .build());
+        entityManager.flush();
+        userProfileCache.invalidate(owner.getId());
+
+        // When
+        UserProfileResponse profile = myProfileService.getUserProfile(owner.getId());
+        MyProfileResponse myProfile = myProfileService.getProfile(owner.getId());
+
+        // Then
+        assertThat(profile.getParticipationCount()).isEqualTo(4).isEqualTo(myProfile.getParticipationCount());
+        assertThat(profile.getHostCount()).isEqualTo(2).isEqualTo(myProfile.getHostCount());
+        assertThat(profile.getPostCount()).isEqualTo(2);
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+            .nickname(nickname)
+            .email(nickname + "@example.com")
+            .build());
+    }
+
+    private void createPost(User owner, String title, PostStatus status, LocalDateTime createdAt) {
+        GroupPost post = postRepository.save(GroupPost.builder()
+            .owner(owner)
+            .title(title)
+            .categories("0001")
+            .status(status)
+            .deadlineAt(LocalDateTime.now().plusDays(1))
+            .build());
+        // created_at은 updatable = false이므로 정렬 검증용 시각은 직접 갱신
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE group_post SET created_at = :createdAt WHERE id = :id")
+            .setParameter("createdAt", createdAt)
+            .setParameter("id", post.getId())
+            .executeUpdate();
+    }
+}
@@ -0,0 +1,108 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.domain.Comment;
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.dto.post.PostResponse;
+import com.sobunsobun.backend.dto.profile.MyProfileDetailResponse;
+import com.sobunsobun.backend.repository.CommentRepository;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 내 프로필 "댓글 단 글" 탭 (목록 프로젝션) 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("ProfileService 테스트")
+class ProfileServiceTest {
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("댓글 단 글 탭은 게시글마다 한 번씩, 작성자 정보와 내 최신 댓글을 함께 반환한다")
+    void returnsCommentedPostsWithOwners() {
+        // Given
+        User me = createUser("profile_commenter");
+        User ownerA = createUser("profile_owner_a");
+        User ownerB = createUser("profile_owner_b");
+        GroupPost postA = createPost(ownerA, "A의 게시글");
+        GroupPost postB = createPost(ownerB, "B의 게시글");
+        GroupPost deletedOnly = createPost(ownerB, "삭제한 댓글만 있는 게시글");
+        createPost(ownerA, "댓글 없는 게시글");
+
+        createComment(me, postA, "첫 댓글", false);
+        createComment(me, postA, "두 번째 댓글", false);
+        createComment(me, postB, "B 댓글", false);
+        createComment(me, deletedOnly, "삭제된 댓글", true);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        MyProfileDetailResponse profile = profileService.getMyProfile(me.getId(), "commented", 0, 20);
+
+        // Then
+        List<PostResponse> posts = profile.getPosts().getPosts();
+        assertThat(posts).extracting(PostResponse::getTitle)
+                .containsExactlyInAnyOrder("A의 게시글", "B의 게시글");
+        assertThat(profile.getPosts().getPageInfo().getTotalElements()).isEqualTo(2);
+
+        PostResponse commentedA = posts.stream()
+                .filter(post -> post.getId().equals(postA.getId()))
+                .findFirst().orElseThrow();
+        assertThat(commentedA.getOwner().getNickname()).isEqualTo("profile_owner_a");
+        assertThat(commentedA.getLatestComment()).isNotNull();
+        assertThat(commentedA.getLatestComment().getPostId()).isEqualTo(postA.getId());
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+            .nickname(nickname)
+            .email(nickname + "@example.com")
+            .build());
+    }
+
+    private GroupPost createPost(User owner, String title) {
+        return postRepository.save(GroupPost.builder()
+            .owner(owner)
+            .title(title)
+            .categories("0001")
+            .status(PostStatus.OPEN)
+            .deadlineAt(LocalDateTime.now().plusDays(1))
+            .build());
+    }
+
+    private void createComment(User user, GroupPost post, String content, boolean deleted) {
+        commentRepository.save(Comment.builder()
+            .user(user)
+            .post(post)
+            .content(content)
+            .deleted(deleted)
+            .build());
+    }
+}
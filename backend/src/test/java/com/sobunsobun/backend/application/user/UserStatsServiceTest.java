@@ -0,0 +1,139 @@
+package com.sobunsobun.backend.application.user;
+
+import com.sobunsobun.backend.domain.GroupPost;
+import com.sobunsobun.backend.domain.PostStatus;
+import com.sobunsobun.backend.domain.ReportReason;
+import com.sobunsobun.backend.domain.User;
+import com.sobunsobun.backend.domain.UserReport;
+import com.sobunsobun.backend.domain.UserStats;
+import com.sobunsobun.backend.repository.GroupPostRepository;
+import com.sobunsobun.backend.repository.UserReportRepository;
+import com.sobunsobun.backend.repository.user.UserRepository;
+import com.sobunsobun.backend.repository.user.UserStatsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 유저 프로필 통계(user_stats) 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("UserStatsService 테스트")
+class UserStatsServiceTest {
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupPostRepository postRepository;
+
+    @Autowired
+    private UserReportRepository userReportRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("저장된 행이 없으면 원본 테이블에서 계산한 값을 반환한다")
+    void calculatesWhenRowMissing() {
+        // Given
+        User host = createUser("stats_host");
+        User reporter = createUser("stats_reporter");
+        GroupPost completed = createPost(host, PostStatus.COMPLETED);
+        createPost(host, PostStatus.OPEN);
+        createPost(host, PostStatus.CANCELLED);
+        userReportRepository.save(UserReport.of(reporter, host, completed, ReportReason.SPAM, null));
+        entityManager.flush();
+
+        // When
+        UserStats stats = userStatsService.getStats(host.getId());
+
+        // Then
+        assertThat(stats.getHostCount()).isEqualTo(2);
+        assertThat(stats.getCompletedHostCount()).isEqualTo(1);
+        assertThat(stats.getReportedCount()).isEqualTo(1);
+        assertThat(stats.activityScore()).isEqualTo(1 * 8 - 1 * 7);
+        assertThat(userStatsRepository.findById(host.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("refresh는 통계 행을 만들고 이후 변경을 반영한다")
+    void refreshCreatesAndUpdatesRow() {
+        // Given
+        User host = createUser("stats_refresh_host");
+        createPost(host, PostStatus.OPEN);
+        entityManager.flush();
+
+        // When
+        userStatsService.refresh(List.of(host.getId()));
+        createPost(host, PostStatus.COMPLETED);
+        entityManager.flush();
+        userStatsService.refresh(List.of(host.getId(), host.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        UserStats stored = userStatsRepository.findById(host.getId()).orElseThrow();
+        assertThat(stored.getHostCount()).isEqualTo(2);
+        assertThat(stored.getCompletedHostCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정합성 점검은 값이 다른 행만 보정한다")
+    void reconcileRepairsDriftedRows() {
+        // Given
+        User host = createUser("stats_drift_host");
+        User idle = createUser("stats_drift_idle");
+        createPost(host, PostStatus.OPEN);
+        entityManager.flush();
+        userStatsService.refresh(List.of(host.getId()));
+        userStatsRepository.save(UserStats.builder().userId(idle.getId()).hostCount(3).build());
+        userStatsRepository.findById(host.getId()).orElseThrow().setHostCount(5);
+        entityManager.flush();
+
+        // When
+        long fromId = Math.min(host.getId(), idle.getId()) - 1;
+        int repaired = userStatsService.reconcileRange(fromId);
+        int repairedAgain = userStatsService.reconcileRange(fromId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(repaired).isGreaterThanOrEqualTo(2);
+        assertThat(repairedAgain).isZero();
+        assertThat(userStatsRepository.findById(host.getId()).orElseThrow().getHostCount()).isEqualTo(1);
+        assertThat(userStatsRepository.findById(idle.getId()).orElseThrow().getHostCount()).isZero();
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+            .nickname(nickname)
+            .email(nickname + "@example.com")
+            .build());
+    }
+
+    private GroupPost createPost(User owner, PostStatus status) {
+        return postRepository.save(GroupPost.builder()
+            .owner(owner)
+            .title(owner.getNickname() + " post")
+            .categories("0001")
+            .status(status)
+            .deadlineAt(LocalDateTime.now().plusDays(1))
+            .build());
+    }
+}
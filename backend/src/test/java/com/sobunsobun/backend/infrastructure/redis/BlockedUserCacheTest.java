@@ -0,0 +1,105 @@
+package com.sobunsobun.backend.infrastructure.redis;
+
+import com.sobunsobun.backend.repository.BlockedUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * BlockedUserCache 단위 테스트 (Redis 미사용, L1 + DB)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlockedUserCache 테스트")
+class BlockedUserCacheTest {
+
+    private static final Long VIEWER_ID = 1L;
+
+    @Mock
+    private BlockedUserRepository blockedUserRepository;
+
+    private BlockedUserCache blockedUserCache;
+
+    /** blocked_users 테이블 역할 (VIEWER_ID가 차단한 userId) */
+    private Set<Long> blockedInDb;
+
+    @BeforeEach
+    void setUp() {
+        blockedInDb = ConcurrentHashMap.newKeySet();
+        lenient().when(blockedUserRepository.findBlockedIdsByBlockerId(anyLong()))
+                .thenAnswer(invocation -> new ArrayList<>(blockedInDb));
+
+        blockedUserCache = new BlockedUserCache(null, null, blockedUserRepository);
+    }
+
+    @Test
+    @DisplayName("비로그인 조회는 DB를 조회하지 않고 빈 집합을 반환한다")
+    void testGuestViewer() {
+        // When
+        Set<Long> blockedIds = blockedUserCache.getBlockedIds(null);
+
+        // Then
+        assertThat(blockedIds).isEmpty();
+        verifyNoInteractions(blockedUserRepository);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 조회하지 않는다")
+    void testCacheHit() {
+        // Given
+        blockedInDb.addAll(List.of(10L, 20L));
+
+        // When
+        Set<Long> first = blockedUserCache.getBlockedIds(VIEWER_ID);
+        Set<Long> second = blockedUserCache.getBlockedIds(VIEWER_ID);
+
+        // Then
+        assertThat(first).containsExactlyInAnyOrder(10L, 20L);
+        assertThat(second).isEqualTo(first);
+        verify(blockedUserRepository, times(1)).findBlockedIdsByBlockerId(VIEWER_ID);
+    }
+
+    @Test
+    @DisplayName("차단 후 무효화하면 다음 조회에서 새 차단 유저가 포함된다")
+    void testInvalidateOnBlock() {
+        // Given
+        blockedInDb.add(10L);
+        assertThat(blockedUserCache.getBlockedIds(VIEWER_ID)).containsExactly(10L);
+
+        // When
+        blockedInDb.add(30L);
+        Set<Long> beforeInvalidate = blockedUserCache.getBlockedIds(VIEWER_ID);
+        blockedUserCache.invalidate(VIEWER_ID);
+        Set<Long> afterInvalidate = blockedUserCache.getBlockedIds(VIEWER_ID);
+
+        // Then
+        assertThat(beforeInvalidate).containsExactly(10L);
+        assertThat(afterInvalidate).containsExactlyInAnyOrder(10L, 30L);
+        verify(blockedUserRepository, times(2)).findBlockedIdsByBlockerId(VIEWER_ID);
+    }
+
+    @Test
+    @DisplayName("반환된 집합은 수정할 수 없다")
+    void testReadOnlySet() {
+        // Given
+        blockedInDb.add(10L);
+
+        // When
+        Set<Long> blockedIds = blockedUserCache.getBlockedIds(VIEWER_ID);
+
+        // Then
+        assertThatThrownBy(() -> blockedIds.add(99L))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,144 @@
+package com.sobunsobun.backend.infrastructure.redis;
+
+import com.sobunsobun.backend.repository.chat.ChatMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * ChatMembershipCache 단위 테스트 (Redis 미사용, L1 + DB)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMembershipCache 테스트")
+class ChatMembershipCacheTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Mock
+    private ChatMemberRepository chatMemberRepository;
+
+    private ChatMembershipCache chatMembershipCache;
+
+    /** chat_member 테이블 역할 (ACTIVE 멤버 userId) */
+    private Set<Long> activeMembersInDb;
+
+    @BeforeEach
+    void setUp() {
+        activeMembersInDb = ConcurrentHashMap.newKeySet();
+        lenient().when(chatMemberRepository.findActiveMemberIdsByRoomId(anyLong()))
+                .thenAnswer(invocation -> new ArrayList<>(activeMembersInDb));
+
+        chatMembershipCache = new ChatMembershipCache(null, null, chatMemberRepository);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 조회하지 않는다")
+    void testCacheHit() {
+        // Given
+        activeMembersInDb.addAll(List.of(10L, 20L));
+
+        // When
+        boolean first = chatMembershipCache.isActiveMember(ROOM_ID, 10L);
+        boolean second = chatMembershipCache.isActiveMember(ROOM_ID, 20L);
+        boolean third = chatMembershipCache.isActiveMember(ROOM_ID, 30L);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        verify(chatMemberRepository, times(1)).findActiveMemberIdsByRoomId(ROOM_ID);
+
+        ChatMembershipCache.Stats stats = chatMembershipCache.stats();
+        assertThat(stats.localMisses()).isEqualTo(1);
+        assertThat(stats.localHits()).isEqualTo(2);
+        assertThat(stats.dbLoads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("퇴장 후 무효화하면 다음 조회에서 멤버가 아니다")
+    void testInvalidateOnLeave() {
+        // Given
+        activeMembersInDb.addAll(List.of(10L, 20L));
+        assertThat(chatMembershipCache.isActiveMember(ROOM_ID, 20L)).isTrue();
+
+        // When
+        activeMembersInDb.remove(20L);
+        chatMembershipCache.invalidate(ROOM_ID);
+
+        // Then
+        assertThat(chatMembershipCache.isActiveMember(ROOM_ID, 20L)).isFalse();
+        assertThat(chatMembershipCache.getActiveMemberIds(ROOM_ID)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("동시 입장 중에도 무효화 이후 조회는 항상 최신 멤버십을 반환한다")
+    void testConsistencyUnderConcurrentJoins() throws Exception {
+        // Given
+        int joinerCount = 200;
+        int readerCount = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch joinersDone = new CountDownLatch(joinerCount);
+        AtomicBoolean readersRunning = new AtomicBoolean(true);
+        Set<Long> staleAfterJoin = ConcurrentHashMap.newKeySet();
+
+        // 읽기 부하: 입장과 동시에 캐시를 계속 다시 채움
+        for (int i = 0; i < readerCount; i++) {
+            executor.submit(() -> {
+                start.await();
+                while (readersRunning.get()) {
+                    chatMembershipCache.getActiveMemberIds(ROOM_ID);
+                }
+                return null;
+            });
+        }
+
+        // 입장: DB 반영 → 무효화 → 본인 멤버십 즉시 확인 (read-your-writes)
+        for (long userId = 1; userId <= joinerCount; userId++) {
+            long joinerId = userId;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    activeMembersInDb.add(joinerId);
+                    chatMembershipCache.invalidate(ROOM_ID);
+                    if (!chatMembershipCache.isActiveMember(ROOM_ID, joinerId)) {
+                        staleAfterJoin.add(joinerId);
+                    }
+                } finally {
+                    joinersDone.countDown();
+                }
+                return null;
+            });
+        }
+
+        // When
+        start.countDown();
+        assertThat(joinersDone.await(30, TimeUnit.SECONDS)).isTrue();
+        readersRunning.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(staleAfterJoin).isEmpty();
+        assertThat(chatMembershipCache.getActiveMemberIds(ROOM_ID))
+                .containsExactlyInAnyOrderElementsOf(activeMembersInDb)
+                .hasSize(joinerCount);
+    }
+}
@@ -0,0 +1,76 @@
+package com.sobunsobun.backend.infrastructure.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PostFeedCache 단위 테스트 (Redis 미사용, 로컬 캐시)
+ */
+@DisplayName("PostFeedCache 테스트")
+class PostFeedCacheTest {
+
+    private static final String KEY = PostFeedCache.key("all", "latest", 0, 20);
+
+    private PostFeedCache postFeedCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        postFeedCache = new PostFeedCache(null, null);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 loader를 실행하지 않는다")
+    void testCacheHit() {
+        // When
+        String first = postFeedCache.get(KEY, () -> "page-" + loads.incrementAndGet());
+        String second = postFeedCache.get(KEY, () -> "page-" + loads.incrementAndGet());
+
+        // Then
+        assertThat(first).isEqualTo("page-1");
+        assertThat(second).isEqualTo("page-1");
+        assertThat(loads.get()).isEqualTo(1);
+
+        PostFeedCache.Stats stats = postFeedCache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("게시글 변경으로 무효화하면 다음 조회에서 다시 적재한다")
+    void testInvalidateAll() {
+        // Given
+        postFeedCache.get(KEY, () -> "page-" + loads.incrementAndGet());
+
+        // When
+        postFeedCache.invalidateAll();
+        String reloaded = postFeedCache.get(KEY, () -> "page-" + loads.incrementAndGet());
+
+        // Then
+        assertThat(reloaded).isEqualTo("page-2");
+        assertThat(postFeedCache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회 결과를 캐시에 저장하지 않는다")
+    void testInvalidateDuringLoad() {
+        // When: 적재 도중 다른 요청이 게시글을 수정
+        String stale = postFeedCache.get(KEY, () -> {
+            postFeedCache.invalidateAll();
+            return "page-" + loads.incrementAndGet();
+        });
+        String fresh = postFeedCache.get(KEY, () -> "page-" + loads.incrementAndGet());
+
+        // Then
+        assertThat(stale).isEqualTo("page-1");
+        assertThat(fresh).isEqualTo("page-2");
+        assertThat(postFeedCache.stats().discardedLoads()).isEqualTo(1);
+    }
+}
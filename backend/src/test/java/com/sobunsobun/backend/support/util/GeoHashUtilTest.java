@@ -0,0 +1,62 @@
+package com.sobunsobun.backend.support.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 지오해시 유틸리티 단위 테스트
+ */
+@DisplayName("GeoHashUtil 테스트")
+class GeoHashUtilTest {
+
+    @Test
+    @DisplayName("위도·경도 인코딩")
+    void testEncode() {
+        assertThat(GeoHashUtil.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHashUtil.encode(37.4979, 127.0276, 5)).isEqualTo("wydm6");
+    }
+
+    @Test
+    @DisplayName("접두사 범위 상한")
+    void testPrefixUpperBound() {
+        assertThat(GeoHashUtil.prefixUpperBound("wydm6")).isEqualTo("wydm7");
+        assertThat(GeoHashUtil.prefixUpperBound("wydmz")).isEqualTo("wydm{");
+    }
+
+    @Test
+    @DisplayName("거리 계산 - 강남역 ~ 서울역 약 8km")
+    void testDistance() {
+        double distance = GeoHashUtil.distanceMeters(37.4979, 127.0276, 37.5547, 126.9707);
+
+        assertThat(distance).isBetween(7_800d, 8_300d);
+    }
+
+    @Test
+    @DisplayName("반경 안의 모든 지점은 커버링 셀 중 하나에 속한다")
+    void testCoveringCellsContainAllPointsInRadius() {
+        Random random = new Random(42);
+        for (int radius : new int[]{100, 1_000, 3_000, 20_000}) {
+            for (int i = 0; i < 200; i++) {
+                double centerLat = 33 + random.nextDouble() * 5;
+                double centerLon = 125 + random.nextDouble() * 5;
+                List<String> cells = GeoHashUtil.coveringCells(centerLat, centerLon, radius);
+                assertThat(cells).hasSizeLessThanOrEqualTo(9);
+
+                for (int j = 0; j < 50; j++) {
+                    double lat = centerLat + (random.nextDouble() * 2 - 1) * GeoHashUtil.latitudeDelta(radius);
+                    double lon = centerLon + (random.nextDouble() * 2 - 1) * GeoHashUtil.longitudeDelta(centerLat, radius);
+                    if (GeoHashUtil.distanceMeters(centerLat, centerLon, lat, lon) > radius) {
+                        continue;
+                    }
+                    String geohash = GeoHashUtil.encode(lat, lon, GeoHashUtil.STORED_PRECISION);
+                    assertThat(cells).anyMatch(geohash::startsWith);
+                }
+            }
+        }
+    }
+}